@@ -12,11 +12,9 @@ import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Predicate;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NonNull;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.server.ResponseStatusException;
@@ -37,17 +35,18 @@ public class CustomIdentityProviderProperties {
     public static CustomIdentityProviderProperties getCustomIdentityProviderProperties(
             @NonNull String accessToken, @NonNull IdentityProviderConfigProperties identityProviderConfigProperties)
             throws JsonProcessingException {
-        final Map<String, Object> tokenClaims = TokenUtil.getTokenClaims(accessToken);
+        final Map<String, Object> tokenClaims =
+                TokenUtil.getTokenClaims(accessToken, Set.of(ISSUER_URL_CLAIM, ALLOWED_TOKEN_CUSTOM_CLAIM));
         final var issuerUrl = (String) tokenClaims.get(ISSUER_URL_CLAIM);
         final var tenantId = (String) tokenClaims.get(ALLOWED_TOKEN_CUSTOM_CLAIM);
 
-        final CustomIdentityProviderProperties foundIdPProperties = identityProviderConfigProperties.getOps().stream()
-                .filter(matchesIssuerAndTenantPredicate(issuerUrl, tenantId))
-                .findFirst()
+        final CustomIdentityProviderProperties foundIdPProperties = identityProviderConfigProperties
+                .findOp(issuerUrl, tenantId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED));
 
         final String clientIdClaim = foundIdPProperties.getClientIdClaim();
-        final var clientId = (String) tokenClaims.get(clientIdClaim);
+        final var clientId =
+                clientIdClaim != null ? (String) TokenUtil.getTokenClaim(accessToken, clientIdClaim) : null;
 
         final boolean hasValidIdPConfiguration = !CollectionUtils.isEmpty(foundIdPProperties.getClients())
                 && foundIdPProperties.getClients().contains(clientId);
@@ -58,11 +57,4 @@ public class CustomIdentityProviderProperties {
 
         return foundIdPProperties;
     }
-
-    private static Predicate<CustomIdentityProviderProperties> matchesIssuerAndTenantPredicate(
-            String issuerUrl, String tenantId) {
-        return customProperties -> StringUtils.equalsIgnoreCase(
-                        issuerUrl, customProperties.getIss().toString())
-                && StringUtils.equalsIgnoreCase(tenantId, customProperties.getTenantId());
-    }
 }
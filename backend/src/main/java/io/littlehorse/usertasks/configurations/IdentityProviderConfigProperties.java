@@ -4,12 +4,25 @@ import static io.littlehorse.usertasks.configurations.CustomIdentityProviderProp
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.littlehorse.usertasks.idp_adapters.IStandardIdentityProviderAdapter;
-import io.littlehorse.usertasks.idp_adapters.IdentityProviderVendor;
-import io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter;
+import io.littlehorse.usertasks.idp_adapters.IdentityProviderAdapterRegistry;
 import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.http.HttpStatus;
@@ -21,14 +34,106 @@ import org.springframework.web.server.ResponseStatusException;
 public class IdentityProviderConfigProperties {
     private List<CustomIdentityProviderProperties> ops = List.of();
 
+    // Configurations indexed by issuer and tenant, and by tenant, rebuilt whenever the configured ops get replaced
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private volatile Map<OpKey, CustomIdentityProviderProperties> opsByIssuerAndTenant = Map.of();
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private volatile Map<String, List<CustomIdentityProviderProperties>> opsByTenant = Map.of();
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private volatile Set<String> configuredTenants = Set.of();
+
+    // Shared by every request so that whatever the adapters cache about the Identity Providers survives across requests
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final IdentityProviderAdapterRegistry adapterRegistry;
+
+    // Autowired so that the ops are still bound through setters, instead of through this constructor
+    @Autowired
+    public IdentityProviderConfigProperties(IdentityProviderAdapterRegistry adapterRegistry) {
+        this.adapterRegistry = adapterRegistry;
+    }
+
+    public void setOps(List<CustomIdentityProviderProperties> ops) {
+        this.ops = ops;
+
+        Map<OpKey, CustomIdentityProviderProperties> indexedOps = new HashMap<>();
+        Map<String, List<CustomIdentityProviderProperties>> indexedOpsByTenant = new HashMap<>();
+        Set<String> tenants = new HashSet<>();
+
+        // The first matching configuration wins, same as when the configurations used to be scanned in order
+        for (CustomIdentityProviderProperties op : ops) {
+            if (op.getIss() != null) {
+                indexedOps.putIfAbsent(OpKey.of(op.getIss().toString(), op.getTenantId()), op);
+            }
+
+            if (op.getTenantId() != null) {
+                indexedOpsByTenant
+                        .computeIfAbsent(op.getTenantId().toLowerCase(Locale.ROOT), key -> new ArrayList<>())
+                        .add(op);
+                tenants.add(op.getTenantId());
+            }
+        }
+
+        this.opsByIssuerAndTenant = Map.copyOf(indexedOps);
+        this.opsByTenant = indexedOpsByTenant.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> List.copyOf(entry.getValue())));
+        this.configuredTenants = Set.copyOf(tenants);
+    }
+
+    /**
+     * @param issuer Issuer claim of the access token
+     * @param tenantId Tenant claim of the access token
+     * @return The configuration that matches both the issuer and the tenant, ignoring case
+     */
+    public Optional<CustomIdentityProviderProperties> findOp(@Nullable String issuer, @Nullable String tenantId) {
+        return Optional.ofNullable(opsByIssuerAndTenant.get(OpKey.of(issuer, tenantId)));
+    }
+
+    /**
+     * @param tenantId Tenant whose configurations are requested
+     * @return Every configuration of the given tenant, ignoring case, in the order that they were configured
+     */
+    public List<CustomIdentityProviderProperties> findOpsByTenant(@NonNull String tenantId) {
+        return opsByTenant.getOrDefault(tenantId.toLowerCase(Locale.ROOT), List.of());
+    }
+
+    /**
+     * @return Ids of the tenants that have at least one configuration, as configured
+     */
+    public Set<String> getConfiguredTenants() {
+        return configuredTenants;
+    }
+
     @Nullable
     public IStandardIdentityProviderAdapter getIdentityProviderHandler(
             @NonNull final String accessToken, boolean strict) throws JsonProcessingException {
-        final CustomIdentityProviderProperties customIdentityProviderProperties =
-                getCustomIdentityProviderProperties(accessToken, this);
+        return getIdentityProviderHandler(getCustomIdentityProviderProperties(accessToken, this), strict);
+    }
+
+    /**
+     * Same as {@link #getIdentityProviderHandler(String, boolean)}, for callers that already matched the configuration
+     * of the token's Identity Provider
+     */
+    @Nullable
+    public IStandardIdentityProviderAdapter getIdentityProviderHandler(
+            @NonNull final CustomIdentityProviderProperties customIdentityProviderProperties, boolean strict) {
+        final Optional<IStandardIdentityProviderAdapter> adapter =
+                adapterRegistry.getAdapter(customIdentityProviderProperties.getVendor());
 
-        if (customIdentityProviderProperties.getVendor() == IdentityProviderVendor.KEYCLOAK) {
-            return new KeycloakAdapter();
+        if (adapter.isPresent()) {
+            return adapter.get();
         } else {
             if (strict) {
                 throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE);
@@ -37,4 +142,12 @@ public class IdentityProviderConfigProperties {
             }
         }
     }
+
+    private record OpKey(String issuer, String tenantId) {
+        private static OpKey of(String issuer, String tenantId) {
+            return new OpKey(
+                    issuer != null ? issuer.toLowerCase(Locale.ROOT) : null,
+                    tenantId != null ? tenantId.toLowerCase(Locale.ROOT) : null);
+        }
+    }
 }
@@ -0,0 +1,173 @@
+package io.littlehorse.usertasks.configurations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.NonNull;
+
+/**
+ * Read-only map of tenant-bound LittleHorse clients that only creates a client the first time its tenant is requested.
+ * <p>
+ * Only tenants present in the configured set are resolvable, any other key behaves as a missing entry. Every configured
+ * tenant is a key of the map, and its client is only created once its value is read, whether through {@link #get} or
+ * through the entries of the map.
+ * <p>
+ * Clients that have not been requested for longer than the idle timeout are dropped and transparently recreated on
+ * their next use. LittleHorse clients of the same server share a single gRPC channel, so eviction does not close any
+ * connection: it only releases the stub and call credentials of tenants that are configured but no longer used.
+ *
+ * @param <T> type of the tenant-bound client
+ */
+public class LazyTenantClientMap<T> extends AbstractMap<String, T> {
+    private final Set<String> configuredTenants;
+    private final Function<String, T> clientFactory;
+    private final long idleTimeoutMillis;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, TenantClient<T>> activeClients = new ConcurrentHashMap<>();
+    private volatile long lastSweepMillis;
+
+    public LazyTenantClientMap(
+            @NonNull Set<String> configuredTenants,
+            @NonNull Function<String, T> clientFactory,
+            @NonNull Duration idleTimeout) {
+        this(configuredTenants, clientFactory, idleTimeout, Clock.systemUTC());
+    }
+
+    LazyTenantClientMap(
+            @NonNull Set<String> configuredTenants,
+            @NonNull Function<String, T> clientFactory,
+            @NonNull Duration idleTimeout,
+            @NonNull Clock clock) {
+        this.configuredTenants = Set.copyOf(configuredTenants);
+        this.clientFactory = clientFactory;
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+        this.clock = clock;
+        this.lastSweepMillis = clock.millis();
+    }
+
+    @Override
+    public T get(Object key) {
+        if (!(key instanceof String tenantId) || !configuredTenants.contains(tenantId)) {
+            return null;
+        }
+
+        long now = clock.millis();
+        evictIdleClientsIfDue(now);
+
+        TenantClient<T> tenantClient =
+                activeClients.computeIfAbsent(tenantId, id -> new TenantClient<>(clientFactory.apply(id), now));
+        tenantClient.lastAccessMillis = now;
+
+        return tenantClient.client;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return configuredTenants.contains(key);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return configuredTenants;
+    }
+
+    @Override
+    public int size() {
+        return configuredTenants.size();
+    }
+
+    /**
+     * Returns an entry per configured tenant. Iterating over the entries never creates clients, reading their values
+     * does.
+     */
+    @Override
+    public Set<Entry<String, T>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, T>> iterator() {
+                Iterator<String> tenantIds = configuredTenants.iterator();
+
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return tenantIds.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, T> next() {
+                        return new LazyEntry(tenantIds.next());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return configuredTenants.size();
+            }
+        };
+    }
+
+    int activeClientsCount() {
+        return activeClients.size();
+    }
+
+    private void evictIdleClientsIfDue(long now) {
+        if (now - lastSweepMillis < idleTimeoutMillis) {
+            return;
+        }
+
+        lastSweepMillis = now;
+        activeClients.values().removeIf(tenantClient -> now - tenantClient.lastAccessMillis >= idleTimeoutMillis);
+    }
+
+    private final class LazyEntry implements Entry<String, T> {
+        private final String tenantId;
+
+        private LazyEntry(String tenantId) {
+            this.tenantId = tenantId;
+        }
+
+        @Override
+        public String getKey() {
+            return tenantId;
+        }
+
+        @Override
+        public T getValue() {
+            return get(tenantId);
+        }
+
+        @Override
+        public T setValue(T value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Entry<?, ?> entry
+                    && tenantId.equals(entry.getKey())
+                    && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return tenantId.hashCode() ^ Objects.hashCode(getValue());
+        }
+    }
+
+    private static final class TenantClient<T> {
+        private final T client;
+        private volatile long lastAccessMillis;
+
+        private TenantClient(T client, long lastAccessMillis) {
+            this.client = client;
+            this.lastAccessMillis = lastAccessMillis;
+        }
+    }
+}
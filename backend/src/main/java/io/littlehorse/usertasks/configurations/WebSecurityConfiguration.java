@@ -5,10 +5,13 @@ import com.c4_soft.springaddons.security.oidc.starter.properties.SpringAddonsOid
 import io.littlehorse.sdk.common.config.LHConfig;
 import io.littlehorse.sdk.common.proto.LittleHorseGrpc;
 import io.littlehorse.sdk.common.proto.TenantId;
+import io.littlehorse.usertasks.idp_adapters.IdentityProviderAdapterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
+import java.time.Duration;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -54,9 +57,18 @@ public class WebSecurityConfiguration {
     @Component
     public static class IssuerStartsWithOpenidProviderPropertiesResolver implements OpenidProviderPropertiesResolver {
         private final SpringAddonsOidcProperties properties;
+        // Configured issuers are bound once, so tokens whose issuer is exactly a configured one are resolved without
+        // scanning every configuration
+        private final Map<String, SpringAddonsOidcProperties.OpenidProviderProperties> opsByIssuer = new HashMap<>();
 
         public IssuerStartsWithOpenidProviderPropertiesResolver(SpringAddonsOidcProperties properties) {
             this.properties = properties;
+
+            for (SpringAddonsOidcProperties.OpenidProviderProperties opProps : properties.getOps()) {
+                if (opProps.getIss() != null && StringUtils.hasText(opProps.getIss().toString())) {
+                    opsByIssuer.putIfAbsent(opProps.getIss().toString(), opProps);
+                }
+            }
         }
 
         @Override
@@ -64,6 +76,12 @@ public class WebSecurityConfiguration {
             final var tokenIss = Optional.ofNullable(claimSet.get(JwtClaimNames.ISS))
                     .map(Object::toString)
                     .orElseThrow(() -> new RuntimeException("Invalid token: missing issuer"));
+            final var exactMatch = opsByIssuer.get(tokenIss);
+
+            if (exactMatch != null) {
+                return Optional.of(exactMatch);
+            }
+
             return properties.getOps().stream()
                     .filter(opProps -> {
                         final var opBaseHref = Optional.ofNullable(opProps.getIss())
@@ -80,38 +98,54 @@ public class WebSecurityConfiguration {
 
     @Bean
     public Map<String, LittleHorseGrpc.LittleHorseBlockingStub> lhClient(
-            IdentityProviderConfigProperties identityProviderConfigProperties) {
+            IdentityProviderConfigProperties identityProviderConfigProperties,
+            @Value("${lhut.tenant-clients.idle-timeout:PT30M}") Duration tenantClientIdleTimeout) {
+        Set<String> configuredTenants = getConfiguredTenants(identityProviderConfigProperties);
+
+        return getPerTenantLHClients(configuredTenants, tenantClientIdleTimeout, Function.identity());
+    }
+
+    @Bean
+    public Map<String, LittleHorseGrpc.LittleHorseFutureStub> lhAsyncClient(
+            IdentityProviderConfigProperties identityProviderConfigProperties,
+            @Value("${lhut.tenant-clients.idle-timeout:PT30M}") Duration tenantClientIdleTimeout) {
         Set<String> configuredTenants = getConfiguredTenants(identityProviderConfigProperties);
 
-        return getPerTenantLHClients(configuredTenants);
+        return getPerTenantLHClients(
+                configuredTenants, tenantClientIdleTimeout, WebSecurityConfiguration::toFutureStub);
     }
 
     @Bean
-    public IdentityProviderConfigProperties identityProviderConfigProperties() {
-        return new IdentityProviderConfigProperties();
+    public IdentityProviderConfigProperties identityProviderConfigProperties(
+            IdentityProviderAdapterRegistry identityProviderAdapterRegistry) {
+        return new IdentityProviderConfigProperties(identityProviderAdapterRegistry);
     }
 
     private Set<String> getConfiguredTenants(IdentityProviderConfigProperties identityProviderConfigProperties) {
-        return identityProviderConfigProperties.getOps().stream()
-                .map(CustomIdentityProviderProperties::getTenantId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+        return identityProviderConfigProperties.getConfiguredTenants();
     }
 
-    private Map<String, LittleHorseGrpc.LittleHorseBlockingStub> getPerTenantLHClients(Set<String> configuredTenants) {
+    private <T> Map<String, T> getPerTenantLHClients(
+            Set<String> configuredTenants,
+            Duration idleTimeout,
+            Function<LittleHorseGrpc.LittleHorseBlockingStub, T> clientMapper) {
         LHConfig lhConfig = new LHConfig();
         String lhServerHost = lhConfig.getApiBootstrapHost();
         int lhServerPort = lhConfig.getApiBootstrapPort();
-        Map<String, LittleHorseGrpc.LittleHorseBlockingStub> perTenantClients = new HashMap<>();
 
-        configuredTenants.forEach(tenantIdFromConfig -> {
-            TenantId tenantId = TenantId.newBuilder().setId(tenantIdFromConfig).build();
-            LittleHorseGrpc.LittleHorseBlockingStub tenantBoundClient =
-                    lhConfig.getBlockingStub(lhServerHost, lhServerPort, tenantId);
-
-            perTenantClients.put(tenantIdFromConfig, tenantBoundClient);
-        });
+        return new LazyTenantClientMap<>(
+                configuredTenants,
+                tenantIdFromConfig -> {
+                    TenantId tenantId = TenantId.newBuilder().setId(tenantIdFromConfig).build();
+                    return clientMapper.apply(lhConfig.getBlockingStub(lhServerHost, lhServerPort, tenantId));
+                },
+                idleTimeout);
+    }
 
-        return Collections.unmodifiableMap(perTenantClients);
+    private static LittleHorseGrpc.LittleHorseFutureStub toFutureStub(
+            LittleHorseGrpc.LittleHorseBlockingStub blockingStub) {
+        // Reusing the channel and call credentials keeps the future stub bound to the same tenant as the blocking one
+        return LittleHorseGrpc.newFutureStub(blockingStub.getChannel())
+                .withCallCredentials(blockingStub.getCallOptions().getCredentials());
     }
 }
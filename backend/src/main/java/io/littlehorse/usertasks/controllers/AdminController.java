@@ -1,25 +1,39 @@
 package io.littlehorse.usertasks.controllers;
 
-import static io.littlehorse.usertasks.configurations.CustomIdentityProviderProperties.getCustomIdentityProviderProperties;
+import static io.littlehorse.usertasks.models.requests.UserTaskRequestFilter.hasSeveralValues;
+import static io.littlehorse.usertasks.models.requests.UserTaskRequestFilter.singleValueOf;
 import static io.littlehorse.usertasks.util.constants.AuthoritiesConstants.LH_USER_TASKS_ADMIN_ROLE;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.littlehorse.usertasks.configurations.CustomIdentityProviderProperties;
 import io.littlehorse.usertasks.configurations.IdentityProviderConfigProperties;
 import io.littlehorse.usertasks.exceptions.CustomUnauthorizedException;
 import io.littlehorse.usertasks.exceptions.NotFoundException;
 import io.littlehorse.usertasks.idp_adapters.IStandardIdentityProviderAdapter;
-import io.littlehorse.usertasks.idp_adapters.IdentityProviderVendor;
 import io.littlehorse.usertasks.models.common.UserDTO;
 import io.littlehorse.usertasks.models.common.UserGroupDTO;
 import io.littlehorse.usertasks.models.common.UserTaskVariableValue;
 import io.littlehorse.usertasks.models.requests.AssignmentRequest;
 import io.littlehorse.usertasks.models.requests.CompleteUserTaskRequest;
+import io.littlehorse.usertasks.models.requests.UserTaskFieldset;
 import io.littlehorse.usertasks.models.requests.UserTaskRequestFilter;
+import io.littlehorse.usertasks.models.requests.bulk_requests.BulkAssignmentRequest;
+import io.littlehorse.usertasks.models.requests.bulk_requests.BulkUserTaskRequest;
 import io.littlehorse.usertasks.models.responses.*;
+import io.littlehorse.usertasks.read_model.UserTaskRunQuery;
+import io.littlehorse.usertasks.read_model.UserTaskRunQueryResult;
+import io.littlehorse.usertasks.read_model.UserTaskRunReadModelService;
+import io.littlehorse.usertasks.services.AsyncUserTaskService;
+import io.littlehorse.usertasks.services.BulkUserTaskService;
+import io.littlehorse.usertasks.services.PrincipalService;
 import io.littlehorse.usertasks.services.TenantService;
 import io.littlehorse.usertasks.services.UserTaskService;
-import io.littlehorse.usertasks.util.TokenUtil;
+import io.littlehorse.usertasks.services.UserTaskStatsService;
+import io.littlehorse.usertasks.util.ETagUtil;
+import io.littlehorse.usertasks.util.FutureUtil;
+import io.littlehorse.usertasks.util.enums.UserTaskEventType;
 import io.littlehorse.usertasks.util.enums.UserTaskStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -27,46 +41,76 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.tomcat.util.codec.binary.Base64;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(
         name = "Admin Controller",
         description =
                 "This is a controller that exposes endpoints in charge of handling requests related to Admin users")
 @RestController
-@CrossOrigin
+@CrossOrigin(exposedHeaders = HttpHeaders.ETAG)
 @PreAuthorize("isAuthenticated() && hasAuthority('" + LH_USER_TASKS_ADMIN_ROLE + "')")
 @Slf4j
 public class AdminController {
     private final TenantService tenantService;
     private final UserTaskService userTaskService;
+    private final AsyncUserTaskService asyncUserTaskService;
+    private final BulkUserTaskService bulkUserTaskService;
+    private final UserTaskRunReadModelService userTaskRunReadModelService;
+    private final UserTaskStatsService userTaskStatsService;
+    private final PrincipalService principalService;
+    private final ObjectMapper objectMapper;
     private final IdentityProviderConfigProperties identityProviderConfigProperties;
 
     public AdminController(
             TenantService tenantService,
             UserTaskService userTaskService,
+            AsyncUserTaskService asyncUserTaskService,
+            BulkUserTaskService bulkUserTaskService,
+            UserTaskRunReadModelService userTaskRunReadModelService,
+            UserTaskStatsService userTaskStatsService,
+            PrincipalService principalService,
+            ObjectMapper objectMapper,
             IdentityProviderConfigProperties identityProviderConfigProperties) {
         this.tenantService = tenantService;
         this.userTaskService = userTaskService;
+        this.asyncUserTaskService = asyncUserTaskService;
+        this.bulkUserTaskService = bulkUserTaskService;
+        this.userTaskRunReadModelService = userTaskRunReadModelService;
+        this.userTaskStatsService = userTaskStatsService;
+        this.principalService = principalService;
+        this.objectMapper = objectMapper;
         this.identityProviderConfigProperties = identityProviderConfigProperties;
     }
 
-    @Operation(summary = "Get UserTasks", description = "Gets all UserTasks from a specific tenant.")
+    @Operation(
+            summary = "Get UserTasks",
+            description = "Gets all UserTasks from a specific tenant. Properties can be limited to the ones listed in "
+                    + "fields, in which case the rest are returned as null.")
     @ApiResponses(
             value = {
                 @ApiResponse(
@@ -79,6 +123,18 @@ public class AdminController {
                                     mediaType = "application/json",
                                     schema = @Schema(implementation = UserTaskRunListDTO.class))
                         }),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "The page did not change since the ETag sent in If-None-Match was returned.",
+                        content = {@Content}),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Field(s) passed in is/are invalid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
                 @ApiResponse(
                         responseCode = "401",
                         description = "Tenant Id is not valid.",
@@ -103,26 +159,29 @@ public class AdminController {
             @RequestParam(name = "latest_start_date", required = false)
                     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
                     LocalDateTime latestStartDate,
-            @RequestParam(name = "status", required = false) UserTaskStatus status,
-            @RequestParam(name = "type") String type,
+            @RequestParam(name = "status", required = false) List<UserTaskStatus> statuses,
+            @RequestParam(name = "type") List<String> types,
             @RequestParam(name = "limit") Integer limit,
             @RequestParam(name = "user_id", required = false) String userId,
             @RequestParam(name = "user_group_id", required = false) String userGroup,
-            @RequestParam(name = "bookmark", required = false) String bookmark) {
+            @RequestParam(name = "bookmark", required = false) String bookmark,
+            @RequestParam(name = "fields", required = false) List<String> fields,
+            WebRequest webRequest) {
         try {
             if (!tenantService.isValidTenant(tenantId, accessToken)) {
                 return ResponseEntity.of(ProblemDetail.forStatus(HttpStatus.UNAUTHORIZED))
                         .build();
             }
 
-            var additionalFilters =
-                    UserTaskRequestFilter.buildUserTaskRequestFilter(earliestStartDate, latestStartDate, status, type);
+            final UserTaskFieldset fieldset = UserTaskFieldset.parse(fields, UserTaskFieldset.LIST_PROPERTIES);
+            var additionalFilters = UserTaskRequestFilter.buildUserTaskRequestFilter(
+                    earliestStartDate, latestStartDate, singleValueOf(statuses), singleValueOf(types));
             byte[] parsedBookmark = Objects.nonNull(bookmark) ? Base64.decodeBase64(bookmark) : null;
 
             final CustomIdentityProviderProperties customIdentityProviderProperties =
-                    getCustomIdentityProviderProperties(accessToken, identityProviderConfigProperties);
+                    principalService.resolvePrincipal(accessToken).identityProviderProperties();
             final IStandardIdentityProviderAdapter identityProviderHandler =
-                    identityProviderConfigProperties.getIdentityProviderHandler(accessToken, false);
+                    principalService.resolveIdentityProviderHandler(accessToken, false);
             boolean hasIdpAdapter = Objects.nonNull(identityProviderHandler);
 
             if (hasIdpAdapter) {
@@ -142,10 +201,27 @@ public class AdminController {
                 }
             }
 
-            UserTaskRunListDTO response = userTaskService.getTasks(
-                    tenantId, userId, userGroup, additionalFilters, limit, parsedBookmark, true);
+            // Several statuses or types take one kernel search per combination, merged under a composite bookmark
+            UserTaskRunListDTO response = hasSeveralValues(statuses) || hasSeveralValues(types)
+                    ? FutureUtil.join(asyncUserTaskService.getTasksMatchingAny(
+                            tenantId,
+                            userId,
+                            userGroup,
+                            additionalFilters,
+                            Objects.requireNonNullElse(statuses, List.of()),
+                            types,
+                            limit,
+                            bookmark,
+                            true,
+                            fieldset))
+                    : userTaskService.getTasks(
+                            tenantId, userId, userGroup, additionalFilters, limit, parsedBookmark, true, fieldset);
 
-            if (!CollectionUtils.isEmpty(response.getUserTasks()) && hasIdpAdapter) {
+            if (webRequest.checkNotModified(ETagUtil.weakETagOf(response))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+
+            if (!CollectionUtils.isEmpty(response.getUserTasks()) && hasIdpAdapter && fieldset.includesAssignment()) {
                 response.addAssignmentDetails(accessToken, identityProviderHandler, customIdentityProviderProperties);
             }
 
@@ -153,12 +229,149 @@ public class AdminController {
         } catch (NotFoundException e) {
             return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage()))
                     .build();
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage()))
                     .build();
         }
     }
 
+    @Operation(
+            summary = "Query UserTasks",
+            description = "Queries the UserTasks of a specific tenant from the bridge's read model, which supports "
+                    + "filters and sorting that LH Kernel's search does not. Only available when the read model is "
+                    + "enabled. New UserTasks show up within one poll interval, while changes to open UserTasks are "
+                    + "re-read in batches and may take up to ceil(open UserTasks / refresh batch size) poll "
+                    + "intervals to show up.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description =
+                                "List of unique UserTasks with some basic attributes. Optionally, it will retrieve a bookmark "
+                                        + "field that is used for pagination purposes.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = UserTaskRunListDTO.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Field(s) passed in is/are invalid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Tenant Id is not valid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "403",
+                        description = "Not enough privileges to access this resource.",
+                        content = {@Content}),
+                @ApiResponse(
+                        responseCode = "503",
+                        description = "Read model is disabled or it is still being backfilled for the tenant.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        })
+            })
+    @GetMapping("/{tenant_id}/admin/tasks/query")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<UserTaskRunListDTO> queryTasks(
+            @RequestHeader("Authorization") String accessToken,
+            @PathVariable(name = "tenant_id") String tenantId,
+            @RequestParam(name = "user_id", required = false) Set<String> userIds,
+            @RequestParam(name = "user_group", required = false) Set<String> userGroups,
+            @RequestParam(name = "status", required = false) Set<UserTaskStatus> statuses,
+            @RequestParam(name = "type", required = false) Set<String> types,
+            @RequestParam(name = "notes", required = false) String notesContaining,
+            @RequestParam(name = "newest_first", defaultValue = "true") boolean newestFirst,
+            @RequestParam(name = "limit") Integer limit,
+            @RequestParam(name = "bookmark", required = false) String bookmark) {
+        if (!tenantService.isValidTenant(tenantId, accessToken)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
+
+        final UserTaskRunQuery query;
+
+        try {
+            // The read model pages by offset, which is what its bookmarks hold
+            query = UserTaskRunQuery.builder()
+                    .userIds(userIds)
+                    .userGroups(userGroups)
+                    .statuses(statuses)
+                    .types(types)
+                    .notesContaining(notesContaining)
+                    .newestFirst(newestFirst)
+                    .offset(Objects.nonNull(bookmark) ? Integer.parseInt(bookmark) : 0)
+                    .limit(limit)
+                    .build();
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        final UserTaskRunQueryResult result = userTaskRunReadModelService
+                .query(tenantId, query)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.SERVICE_UNAVAILABLE, "UserTasks read model is not available for this tenant"));
+
+        final int nextOffset = query.offset() + result.userTaskRuns().size();
+
+        return ResponseEntity.ok(UserTaskRunListDTO.builder()
+                .userTasks(new LinkedHashSet<>(result.userTaskRuns()))
+                .bookmark(nextOffset < result.totalMatches() ? String.valueOf(nextOffset) : null)
+                .build());
+    }
+
+    @Operation(
+            summary = "Get UserTask stats",
+            description = "Gets the number of UserTasks of a specific tenant by status, by UserTaskDef and, when the "
+                    + "read model is enabled, by UserGroup. Counts are cached and may be up to "
+                    + "lhut.task-stats.max-staleness old.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Number of UserTasks, in total and grouped by attribute.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = UserTaskStatsDTO.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Tenant Id is not valid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "403",
+                        description = "Not enough privileges to access this resource.",
+                        content = {@Content})
+            })
+    @GetMapping("/{tenant_id}/admin/tasks/stats")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<UserTaskStatsDTO> getTaskStats(
+            @RequestHeader("Authorization") String accessToken, @PathVariable(name = "tenant_id") String tenantId) {
+        if (!tenantService.isValidTenant(tenantId, accessToken)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
+
+        return ResponseEntity.ok(userTaskStatsService.getStats(tenantId));
+    }
+
     @Operation(summary = "Get UserTaskDef", description = "Gets all UserTaskDef from a specific tenant.")
     @ApiResponses(
             value = {
@@ -210,7 +423,10 @@ public class AdminController {
 
     @Operation(
             summary = "Get UserTask details",
-            description = "Gets a UserTask's details, including its definition (UserTaskDef) and events.")
+            description = "Gets a UserTask's details, including its definition (UserTaskDef) and events. Properties "
+                    + "can be limited to the ones listed in fields, in which case the rest are returned as null. "
+                    + "Listing fields without events leaves the events out, so they can be paged through the "
+                    + "UserTask events endpoint instead.")
     @ApiResponses(
             value = {
                 @ApiResponse(
@@ -223,6 +439,18 @@ public class AdminController {
                                     mediaType = "application/json",
                                     schema = @Schema(implementation = DetailedUserTaskRunDTO.class))
                         }),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "The UserTask did not change since the ETag sent in If-None-Match was returned.",
+                        content = {@Content}),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Field(s) passed in is/are invalid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
                 @ApiResponse(
                         responseCode = "401",
                         description = "Tenant Id is not valid.",
@@ -250,7 +478,9 @@ public class AdminController {
             @RequestHeader("Authorization") String accessToken,
             @PathVariable(name = "tenant_id") String tenantId,
             @PathVariable(name = "wf_run_id") String wfRunId,
-            @PathVariable(name = "user_task_guid") String userTaskRunGuid) {
+            @PathVariable(name = "user_task_guid") String userTaskRunGuid,
+            @RequestParam(name = "fields", required = false) List<String> fields,
+            WebRequest webRequest) {
 
         try {
             if (!tenantService.isValidTenant(tenantId, accessToken)) {
@@ -258,16 +488,23 @@ public class AdminController {
                         .build();
             }
 
+            final UserTaskFieldset fieldset = UserTaskFieldset.parse(fields, UserTaskFieldset.ADMIN_DETAIL_PROPERTIES);
+
             final IStandardIdentityProviderAdapter identityProviderHandler =
-                    identityProviderConfigProperties.getIdentityProviderHandler(accessToken, false);
+                    principalService.resolveIdentityProviderHandler(accessToken, false);
 
             boolean hasIdpAdapter = Objects.nonNull(identityProviderHandler);
 
-            final Optional<DetailedUserTaskRunDTO> optionalUserTaskDetail =
-                    userTaskService.getUserTaskDetails(wfRunId, userTaskRunGuid, tenantId, null, null, true);
+            final Optional<DetailedUserTaskRunDTO> optionalUserTaskDetail = userTaskService.getUserTaskDetails(
+                    wfRunId, userTaskRunGuid, tenantId, null, null, true, fieldset);
+
+            if (optionalUserTaskDetail.isPresent()
+                    && webRequest.checkNotModified(optionalUserTaskDetail.get().getEtag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
 
             optionalUserTaskDetail.ifPresent(detailedUserTaskRunDTO -> {
-                if (hasIdpAdapter) {
+                if (hasIdpAdapter && fieldset.includesAssignment()) {
                     detailedUserTaskRunDTO.addAssignmentDetails(accessToken, identityProviderHandler);
                 }
             });
@@ -279,6 +516,8 @@ public class AdminController {
         } catch (CustomUnauthorizedException e) {
             return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.UNAUTHORIZED, e.getMessage()))
                     .build();
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             log.error(e.getMessage());
             return ResponseEntity.of(ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR))
@@ -286,6 +525,72 @@ public class AdminController {
         }
     }
 
+    @Operation(
+            summary = "Get UserTask events",
+            description = "Gets the events of a UserTask, oldest first, optionally of some types only. The response is "
+                    + "streamed while events are converted, and it includes the cursor of the next page, if any.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Object with the UserTask's events of the page as AuditEventDTOs, under "
+                                + "\"events\", and the cursor of the next page, if any, under \"nextCursor\".",
+                        content = {@Content(mediaType = "application/json")}),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Field(s) passed in is/are invalid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Tenant Id is not valid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "403",
+                        description = "Not enough privileges to access this resource.",
+                        content = {@Content}),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "No UserTask data was found in LH Kernel using the given params.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        })
+            })
+    @GetMapping("/{tenant_id}/admin/tasks/{wf_run_id}/{user_task_guid}/events")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<StreamingResponseBody> getUserTaskEvents(
+            @RequestHeader("Authorization") String accessToken,
+            @PathVariable(name = "tenant_id") String tenantId,
+            @PathVariable(name = "wf_run_id") String wfRunId,
+            @PathVariable(name = "user_task_guid") String userTaskRunGuid,
+            @RequestParam(name = "type", required = false) Set<UserTaskEventType> types,
+            @RequestParam(name = "limit") Integer limit,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        if (!tenantService.isValidTenant(tenantId, accessToken)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
+
+        final AuditEventPage page = userTaskService.getUserTaskEvents(
+                wfRunId, userTaskRunGuid, tenantId, Objects.nonNull(types) ? types : Set.of(), limit, cursor);
+
+        final StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                page.writeTo(generator);
+            }
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     @Operation(
             summary = "Complete UserTask",
             description =
@@ -324,12 +629,7 @@ public class AdminController {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         }
 
-        var tokenClaims = TokenUtil.getTokenClaims(accessToken);
-        final CustomIdentityProviderProperties actualProperties =
-                getCustomIdentityProviderProperties(accessToken, identityProviderConfigProperties);
-
-        final var userIdFromToken =
-                (String) tokenClaims.get(actualProperties.getUserIdClaim().toString());
+        final var userIdFromToken = principalService.resolvePrincipal(accessToken).userId();
         CompleteUserTaskRequest request = CompleteUserTaskRequest.builder()
                 .wfRunId(wfRunId)
                 .userTaskRunGuid(userTaskRunGuid)
@@ -391,35 +691,7 @@ public class AdminController {
         }
 
         try {
-            final CustomIdentityProviderProperties actualProperties =
-                    getCustomIdentityProviderProperties(accessToken, identityProviderConfigProperties);
-            final String userId = requestBody.getUserId();
-
-            // TODO: This condition MUST be updated in the event that we add support to more IdP adapters
-            if (actualProperties.getVendor() == IdentityProviderVendor.KEYCLOAK) {
-                final IStandardIdentityProviderAdapter identityProviderHandler =
-                        identityProviderConfigProperties.getIdentityProviderHandler(accessToken, true);
-
-                Map<String, Object> params = new HashMap<>();
-                params.put("userId", userId);
-                params.put("userGroupId", requestBody.getUserGroup());
-                params.put("accessToken", accessToken);
-
-                identityProviderHandler.validateAssignmentProperties(params);
-
-                if (StringUtils.isNotBlank(requestBody.getUserId())) {
-                    final String userIdFromCustomClaim =
-                            getUserIdFromCustomClaim(identityProviderHandler, params, actualProperties);
-                    requestBody.setUserId(userIdFromCustomClaim);
-                }
-
-                if (StringUtils.isNotBlank(requestBody.getUserGroup())) {
-                    final UserGroupDTO userGroupDTO = identityProviderHandler.getUserGroup(params);
-                    if (Objects.nonNull(userGroupDTO)) {
-                        requestBody.setUserGroup(userGroupDTO.getName());
-                    }
-                }
-            }
+            resolveAssignmentTarget(accessToken, requestBody);
 
             userTaskService.assignUserTask(requestBody, wfRunId, userTaskRunGuid, tenantId);
         } catch (JsonProcessingException e) {
@@ -480,7 +752,7 @@ public class AdminController {
             })
     @PostMapping("/{tenant_id}/admin/tasks/{wf_run_id}/{user_task_guid}/cancel")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void cancelUserTask(
+    public CompletableFuture<Void> cancelUserTask(
             @RequestHeader("Authorization") String accessToken,
             @PathVariable(name = "tenant_id") String tenantId,
             @PathVariable(name = "wf_run_id") String wfRunId,
@@ -489,7 +761,7 @@ public class AdminController {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         }
 
-        userTaskService.cancelUserTask(wfRunId, userTaskRunGuid, tenantId);
+        return asyncUserTaskService.cancelUserTask(wfRunId, userTaskRunGuid, tenantId);
     }
 
     @Operation(
@@ -542,7 +814,7 @@ public class AdminController {
             })
     @PostMapping("/{tenant_id}/admin/tasks/{wf_run_id}/{user_task_guid}/claim")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void claimUserTask(
+    public CompletableFuture<Void> claimUserTask(
             @RequestHeader("Authorization") String accessToken,
             @PathVariable(name = "tenant_id") String tenantId,
             @PathVariable(name = "wf_run_id") String wfRunId,
@@ -552,21 +824,176 @@ public class AdminController {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         }
 
-        final CustomIdentityProviderProperties actualProperties =
-                CustomIdentityProviderProperties.getCustomIdentityProviderProperties(
-                        accessToken, identityProviderConfigProperties);
+        final var userIdFromToken = principalService.resolvePrincipal(accessToken).userId();
+
+        return asyncUserTaskService.claimUserTask(userIdFromToken, null, wfRunId, userTaskRunGuid, tenantId, true);
+    }
+
+    @Operation(
+            summary = "Assign UserTasks in bulk",
+            description =
+                    "Assigns up to a configured amount of UserTaskRuns to the same User and/or UserGroup. The "
+                            + "assignment target is validated once against the identity provider.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description =
+                                "Per-UserTask results, in the same order they were received. Each result carries the "
+                                        + "status that the single UserTask endpoint would have returned.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = BulkOperationResultDTO.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "No UserTasks, too many UserTasks, or no userId nor userGroup are passed in.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Tenant Id is not valid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        })
+            })
+    @PostMapping("/{tenant_id}/admin/tasks/bulk/assign")
+    public ResponseEntity<BulkOperationResultDTO> assignUserTasks(
+            @RequestHeader(name = "Authorization") String accessToken,
+            @PathVariable(name = "tenant_id") String tenantId,
+            @RequestBody @Valid BulkAssignmentRequest requestBody) {
+        if (!tenantService.isValidTenant(tenantId, accessToken)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
+
+        try {
+            AssignmentRequest assignment = requestBody.toAssignmentRequest();
 
-        final Map<String, Object> tokenClaims = TokenUtil.getTokenClaims(accessToken);
+            if (StringUtils.isBlank(assignment.getUserId()) && StringUtils.isBlank(assignment.getUserGroup())) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST, "No valid arguments were received to complete reassignment.");
+            }
 
-        final var userIdFromToken =
-                (String) tokenClaims.get(actualProperties.getUserIdClaim().toString());
+            resolveAssignmentTarget(accessToken, assignment);
 
-        userTaskService.claimUserTask(userIdFromToken, null, wfRunId, userTaskRunGuid, tenantId, true);
+            return ResponseEntity.ok(
+                    bulkUserTaskService.assignUserTasks(requestBody.getUserTasks(), assignment, tenantId));
+        } catch (JsonProcessingException e) {
+            log.error("Something went wrong when getting claims from token while trying to reassign Tasks in bulk");
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR);
+        } catch (ResponseStatusException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Operation(
+            summary = "Cancel UserTasks in bulk",
+            description =
+                    "Cancels up to a configured amount of UserTaskRuns without verifying to whom they are assigned to.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description =
+                                "Per-UserTask results, in the same order they were received. Each result carries the "
+                                        + "status that the single UserTask endpoint would have returned.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = BulkOperationResultDTO.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "No UserTasks or too many UserTasks are passed in.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Tenant Id is not valid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        })
+            })
+    @PostMapping("/{tenant_id}/admin/tasks/bulk/cancel")
+    public ResponseEntity<BulkOperationResultDTO> cancelUserTasks(
+            @RequestHeader(name = "Authorization") String accessToken,
+            @PathVariable(name = "tenant_id") String tenantId,
+            @RequestBody @Valid BulkUserTaskRequest requestBody) {
+        if (!tenantService.isValidTenant(tenantId, accessToken)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
+
+        return ResponseEntity.ok(bulkUserTaskService.cancelUserTasks(requestBody.getUserTasks(), tenantId));
+    }
+
+    @Operation(
+            summary = "Claim UserTasks in bulk",
+            description =
+                    "Claims up to a configured amount of UserTaskRuns by assigning them to the requester Admin user.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description =
+                                "Per-UserTask results, in the same order they were received. Each result carries the "
+                                        + "status that the single UserTask endpoint would have returned.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = BulkOperationResultDTO.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "No UserTasks or too many UserTasks are passed in.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Tenant Id is not valid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        })
+            })
+    @PostMapping("/{tenant_id}/admin/tasks/bulk/claim")
+    public ResponseEntity<BulkOperationResultDTO> claimUserTasks(
+            @RequestHeader(name = "Authorization") String accessToken,
+            @PathVariable(name = "tenant_id") String tenantId,
+            @RequestBody @Valid BulkUserTaskRequest requestBody)
+            throws JsonProcessingException {
+        if (!tenantService.isValidTenant(tenantId, accessToken)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
+
+        final var userIdFromToken = principalService.resolvePrincipal(accessToken).userId();
+
+        return ResponseEntity.ok(
+                bulkUserTaskService.claimUserTasksAsAdmin(userIdFromToken, requestBody.getUserTasks(), tenantId));
     }
 
     @Operation(
             summary = "Get Groups",
-            description = "Gets all Groups from a specific identity provider of a specific tenant.")
+            description = "Gets the Groups from a specific identity provider of a specific tenant. Every Group is "
+                    + "returned unless max_results is passed in, in which case only that many Groups, starting at "
+                    + "first_result, are read from the identity provider.")
     @ApiResponses(
             value = {
                 @ApiResponse(
@@ -609,15 +1036,25 @@ public class AdminController {
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<UserGroupListDTO> getUserGroupsFromIdentityProvider(
             @RequestHeader(name = "Authorization") String accessToken,
-            @PathVariable(name = "tenant_id") String tenantId) {
+            @PathVariable(name = "tenant_id") String tenantId,
+            @RequestParam(name = "first_result", defaultValue = "0") Integer firstResult,
+            @RequestParam(name = "max_results", required = false) Integer maxResults) {
         if (!tenantService.isValidTenant(tenantId, accessToken)) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         }
 
+        if (firstResult < 0 || (Objects.nonNull(maxResults) && maxResults <= 0)) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "first_result must not be negative and max_results must be positive");
+        }
+
         try {
-            Map<String, Object> params = Map.of("accessToken", accessToken);
+            Map<String, Object> params = new HashMap<>();
+            params.put("accessToken", accessToken);
+            params.put("firstResult", firstResult);
+            params.put("maxResults", maxResults);
             final IStandardIdentityProviderAdapter identityProviderHandler =
-                    identityProviderConfigProperties.getIdentityProviderHandler(accessToken, true);
+                    principalService.resolveIdentityProviderHandler(accessToken, true);
 
             final UserGroupListDTO response = identityProviderHandler.getUserGroups(params);
 
@@ -700,7 +1137,7 @@ public class AdminController {
             params.put("maxResults", maxResults);
 
             final IStandardIdentityProviderAdapter identityProviderHandler =
-                    identityProviderConfigProperties.getIdentityProviderHandler(accessToken, true);
+                    principalService.resolveIdentityProviderHandler(accessToken, true);
 
             final UserListDTO response = identityProviderHandler.getUsers(params);
 
@@ -768,7 +1205,7 @@ public class AdminController {
         try {
             final Map<String, Object> params = Map.of("userId", userId, "accessToken", accessToken);
             final IStandardIdentityProviderAdapter identityProviderHandler =
-                    identityProviderConfigProperties.getIdentityProviderHandler(accessToken, true);
+                    principalService.resolveIdentityProviderHandler(accessToken, true);
 
             final UserDTO response = identityProviderHandler.getUserInfo(params);
 
@@ -785,6 +1222,43 @@ public class AdminController {
         }
     }
 
+    /**
+     * Validates the assignment target against the identity provider and replaces the received user and group ids with
+     * the values that LittleHorse Kernel expects (user id from the configured claim and group name).
+     */
+    private void resolveAssignmentTarget(String accessToken, AssignmentRequest requestBody)
+            throws JsonProcessingException {
+        final CustomIdentityProviderProperties actualProperties =
+                principalService.resolvePrincipal(accessToken).identityProviderProperties();
+        final String userId = requestBody.getUserId();
+
+        // Only Identity Providers with a registered adapter can validate and resolve the assignment target
+        final IStandardIdentityProviderAdapter identityProviderHandler =
+                identityProviderConfigProperties.getIdentityProviderHandler(actualProperties, false);
+
+        if (Objects.nonNull(identityProviderHandler)) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("userId", userId);
+            params.put("userGroupId", requestBody.getUserGroup());
+            params.put("accessToken", accessToken);
+
+            identityProviderHandler.validateAssignmentProperties(params);
+
+            if (StringUtils.isNotBlank(requestBody.getUserId())) {
+                final String userIdFromCustomClaim =
+                        getUserIdFromCustomClaim(identityProviderHandler, params, actualProperties);
+                requestBody.setUserId(userIdFromCustomClaim);
+            }
+
+            if (StringUtils.isNotBlank(requestBody.getUserGroup())) {
+                final UserGroupDTO userGroupDTO = identityProviderHandler.getUserGroup(params);
+                if (Objects.nonNull(userGroupDTO)) {
+                    requestBody.setUserGroup(userGroupDTO.getName());
+                }
+            }
+        }
+    }
+
     private String getUserIdFromCustomClaim(
             IStandardIdentityProviderAdapter identityProviderHandler,
             Map<String, Object> params,
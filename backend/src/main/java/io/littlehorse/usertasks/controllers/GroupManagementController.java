@@ -10,6 +10,7 @@ import io.littlehorse.usertasks.idp_adapters.IStandardIdentityProviderAdapter;
 import io.littlehorse.usertasks.models.common.UserGroupDTO;
 import io.littlehorse.usertasks.models.requests.CreateGroupRequest;
 import io.littlehorse.usertasks.models.requests.UpdateGroupRequest;
+import io.littlehorse.usertasks.models.requests.UserTaskFieldset;
 import io.littlehorse.usertasks.models.requests.UserTaskRequestFilter;
 import io.littlehorse.usertasks.models.responses.IDPGroupDTO;
 import io.littlehorse.usertasks.models.responses.IDPGroupListDTO;
@@ -324,8 +325,8 @@ public class GroupManagementController {
                 .status(UserTaskStatus.UNASSIGNED)
                 .build();
 
-        final UserTaskRunListDTO pendingTasks =
-                userTaskService.getTasks(tenantId, null, groupName, requestFilter, 1, null, true);
+        final UserTaskRunListDTO pendingTasks = userTaskService.getTasks(
+                tenantId, null, groupName, requestFilter, 1, null, true, UserTaskFieldset.IDS_ONLY);
 
         if (!CollectionUtils.isEmpty(pendingTasks.getUserTasks())) {
             throw new ValidationException(
@@ -1,10 +1,9 @@
 package io.littlehorse.usertasks.controllers;
 
-import static io.littlehorse.usertasks.configurations.CustomIdentityProviderProperties.getCustomIdentityProviderProperties;
-import static io.littlehorse.usertasks.util.constants.TokenClaimConstants.USER_ID_CLAIM;
+import static io.littlehorse.usertasks.models.requests.UserTaskRequestFilter.hasSeveralValues;
+import static io.littlehorse.usertasks.models.requests.UserTaskRequestFilter.singleValueOf;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import io.littlehorse.usertasks.configurations.CustomIdentityProviderProperties;
 import io.littlehorse.usertasks.configurations.IdentityProviderConfigProperties;
 import io.littlehorse.usertasks.exceptions.CustomUnauthorizedException;
 import io.littlehorse.usertasks.exceptions.NotFoundException;
@@ -13,32 +12,48 @@ import io.littlehorse.usertasks.models.common.UserDTO;
 import io.littlehorse.usertasks.models.common.UserGroupDTO;
 import io.littlehorse.usertasks.models.common.UserTaskVariableValue;
 import io.littlehorse.usertasks.models.requests.CompleteUserTaskRequest;
+import io.littlehorse.usertasks.models.requests.UserTaskFieldset;
 import io.littlehorse.usertasks.models.requests.UserTaskRequestFilter;
+import io.littlehorse.usertasks.models.requests.bulk_requests.BulkCompleteUserTaskRequest;
 import io.littlehorse.usertasks.models.requests.comment_requests.CommentContentRequest;
 import io.littlehorse.usertasks.models.requests.comment_requests.DeleteCommentRequest;
 import io.littlehorse.usertasks.models.requests.comment_requests.EditCommentRequest;
 import io.littlehorse.usertasks.models.requests.comment_requests.PutCommentRequest;
 import io.littlehorse.usertasks.models.responses.AuditEventDTO;
+import io.littlehorse.usertasks.models.responses.BulkOperationResultDTO;
+import io.littlehorse.usertasks.models.responses.CommentListDTO;
 import io.littlehorse.usertasks.models.responses.DetailedUserTaskRunDTO;
+import io.littlehorse.usertasks.models.responses.SimpleUserTaskRunDTO;
 import io.littlehorse.usertasks.models.responses.UserGroupListDTO;
 import io.littlehorse.usertasks.models.responses.UserTaskRunListDTO;
+import io.littlehorse.usertasks.read_model.UserTaskRunQuery;
+import io.littlehorse.usertasks.read_model.UserTaskRunQueryResult;
+import io.littlehorse.usertasks.read_model.UserTaskRunReadModelService;
+import io.littlehorse.usertasks.services.AsyncUserTaskService;
+import io.littlehorse.usertasks.services.BulkUserTaskService;
+import io.littlehorse.usertasks.services.ClaimQueueService;
+import io.littlehorse.usertasks.services.PrincipalService;
 import io.littlehorse.usertasks.services.TenantService;
 import io.littlehorse.usertasks.services.UserTaskService;
-import io.littlehorse.usertasks.util.TokenUtil;
+import io.littlehorse.usertasks.util.ETagUtil;
+import io.littlehorse.usertasks.util.FutureUtil;
 import io.littlehorse.usertasks.util.enums.UserTaskStatus;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tomcat.util.codec.binary.Base64;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -46,6 +61,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 @Tag(
@@ -53,27 +69,45 @@ import org.springframework.web.server.ResponseStatusException;
         description =
                 "This is a controller that exposes endpoints in charge of handling requests related to non-admin users")
 @RestController
-@CrossOrigin
+@CrossOrigin(exposedHeaders = {UserController.NEXT_CURSOR_HEADER, HttpHeaders.ETAG})
 @PreAuthorize("isAuthenticated()")
 @Slf4j
 public class UserController {
+    static final String NEXT_CURSOR_HEADER = "Next-Cursor";
+
     private final TenantService tenantService;
     private final UserTaskService userTaskService;
+    private final AsyncUserTaskService asyncUserTaskService;
+    private final BulkUserTaskService bulkUserTaskService;
+    private final ClaimQueueService claimQueueService;
+    private final PrincipalService principalService;
+    private final UserTaskRunReadModelService userTaskRunReadModelService;
     private final IdentityProviderConfigProperties identityProviderConfigProperties;
     private final String DELIMITER = "::";
 
     public UserController(
             TenantService tenantService,
             UserTaskService userTaskService,
+            AsyncUserTaskService asyncUserTaskService,
+            BulkUserTaskService bulkUserTaskService,
+            ClaimQueueService claimQueueService,
+            PrincipalService principalService,
+            UserTaskRunReadModelService userTaskRunReadModelService,
             IdentityProviderConfigProperties identityProviderConfigProperties) {
         this.tenantService = tenantService;
         this.userTaskService = userTaskService;
+        this.asyncUserTaskService = asyncUserTaskService;
+        this.bulkUserTaskService = bulkUserTaskService;
+        this.claimQueueService = claimQueueService;
+        this.principalService = principalService;
+        this.userTaskRunReadModelService = userTaskRunReadModelService;
         this.identityProviderConfigProperties = identityProviderConfigProperties;
     }
 
     @Operation(
             summary = "Get UserTasks",
-            description = "Gets all UserTasks assigned to a user and/or userGroup that the user belongs to.")
+            description = "Gets all UserTasks assigned to a user and/or userGroup that the user belongs to. Properties "
+                    + "can be limited to the ones listed in fields, in which case the rest are returned as null.")
     @ApiResponses(
             value = {
                 @ApiResponse(
@@ -86,6 +120,18 @@ public class UserController {
                                     mediaType = "application/json",
                                     schema = @Schema(implementation = UserTaskRunListDTO.class))
                         }),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "The page did not change since the ETag sent in If-None-Match was returned.",
+                        content = {@Content}),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Field(s) passed in is/are invalid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
                 @ApiResponse(
                         responseCode = "401",
                         description = "Tenant Id is not valid.",
@@ -106,31 +152,30 @@ public class UserController {
             @RequestParam(name = "latest_start_date", required = false)
                     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
                     LocalDateTime latestStartDate,
-            @RequestParam(name = "status", required = false) UserTaskStatus status,
-            @RequestParam(name = "type", required = false) String type,
+            @RequestParam(name = "status", required = false) List<UserTaskStatus> statuses,
+            @RequestParam(name = "type", required = false) List<String> types,
             @RequestParam(name = "user_group_id", required = false) String userGroupId,
             @RequestParam(name = "limit") Integer limit,
-            @RequestParam(name = "bookmark", required = false) String bookmark) {
+            @RequestParam(name = "bookmark", required = false) String bookmark,
+            @RequestParam(name = "fields", required = false) List<String> fields,
+            WebRequest webRequest) {
         try {
             if (!tenantService.isValidTenant(tenantId, accessToken)) {
                 return ResponseEntity.of(ProblemDetail.forStatus(HttpStatus.UNAUTHORIZED))
                         .build();
             }
 
-            final Map<String, Object> tokenClaims = TokenUtil.getTokenClaims(accessToken);
+            final UserTaskFieldset fieldset = UserTaskFieldset.parse(fields, UserTaskFieldset.LIST_PROPERTIES);
+            final PrincipalService.Principal principal = principalService.resolvePrincipal(accessToken);
 
-            final var additionalFilters =
-                    UserTaskRequestFilter.buildUserTaskRequestFilter(earliestStartDate, latestStartDate, status, type);
+            final var additionalFilters = UserTaskRequestFilter.buildUserTaskRequestFilter(
+                    earliestStartDate, latestStartDate, singleValueOf(statuses), singleValueOf(types));
             final var parsedBookmark = Objects.nonNull(bookmark) ? Base64.decodeBase64(bookmark) : null;
 
-            final CustomIdentityProviderProperties actualProperties =
-                    getCustomIdentityProviderProperties(accessToken, identityProviderConfigProperties);
-
-            var userIdFromToken =
-                    (String) tokenClaims.get(actualProperties.getUserIdClaim().toString());
+            var userIdFromToken = principal.userId();
 
             final IStandardIdentityProviderAdapter identityProviderHandler =
-                    identityProviderConfigProperties.getIdentityProviderHandler(accessToken, false);
+                    principalService.resolveIdentityProviderHandler(accessToken, false);
 
             boolean hasIdPAdapter = Objects.nonNull(identityProviderHandler);
 
@@ -144,11 +189,36 @@ public class UserController {
                 }
             }
 
-            UserTaskRunListDTO response = userTaskService.getTasks(
-                    tenantId, userIdFromToken, userGroupId, additionalFilters, limit, parsedBookmark, false);
+            // Several statuses or types take one kernel search per combination, merged under a composite bookmark
+            UserTaskRunListDTO response = hasSeveralValues(statuses) || hasSeveralValues(types)
+                    ? FutureUtil.join(asyncUserTaskService.getTasksMatchingAny(
+                            tenantId,
+                            userIdFromToken,
+                            userGroupId,
+                            additionalFilters,
+                            Objects.requireNonNullElse(statuses, List.of()),
+                            Objects.requireNonNullElse(types, List.of()),
+                            limit,
+                            bookmark,
+                            false,
+                            fieldset))
+                    : userTaskService.getTasks(
+                            tenantId,
+                            userIdFromToken,
+                            userGroupId,
+                            additionalFilters,
+                            limit,
+                            parsedBookmark,
+                            false,
+                            fieldset);
+
+            if (webRequest.checkNotModified(ETagUtil.weakETagOf(response))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
 
-            if (!CollectionUtils.isEmpty(response.getUserTasks()) && hasIdPAdapter) {
-                response.addAssignmentDetails(accessToken, identityProviderHandler, actualProperties);
+            if (!CollectionUtils.isEmpty(response.getUserTasks()) && hasIdPAdapter && fieldset.includesAssignment()) {
+                response.addAssignmentDetails(
+                        accessToken, identityProviderHandler, principal.identityProviderProperties());
             }
 
             return ResponseEntity.ok(response);
@@ -168,9 +238,185 @@ public class UserController {
         }
     }
 
+    @Operation(
+            summary = "Get inbox",
+            description = "Gets, in a single page ordered by scheduled time, the open UserTasks assigned to the user "
+                    + "along with the claimable UserTasks of every userGroup that the user belongs to. Done and "
+                    + "cancelled UserTasks are left out.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description =
+                                "List of unique UserTasks with some basic attributes. Optionally, it will retrieve a bookmark "
+                                        + "field that is used for pagination purposes.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = UserTaskRunListDTO.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Field(s) passed in is/are invalid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Tenant Id is not valid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        })
+            })
+    @GetMapping("/{tenant_id}/inbox")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<UserTaskRunListDTO> getMyInbox(
+            @RequestHeader("Authorization") String accessToken,
+            @PathVariable(name = "tenant_id") String tenantId,
+            @RequestParam(name = "earliest_start_date", required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    LocalDateTime earliestStartDate,
+            @RequestParam(name = "latest_start_date", required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    LocalDateTime latestStartDate,
+            @RequestParam(name = "type", required = false) String type,
+            @RequestParam(name = "limit") Integer limit,
+            @RequestParam(name = "bookmark", required = false) String bookmark)
+            throws JsonProcessingException {
+        if (!tenantService.isValidTenant(tenantId, accessToken)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
+
+        final PrincipalService.Principal principal = principalService.resolvePrincipal(accessToken);
+        final Set<String> userGroupNames = principalService.resolveUserGroupNames(accessToken);
+        final var additionalFilters =
+                UserTaskRequestFilter.buildUserTaskRequestFilter(earliestStartDate, latestStartDate, null, type);
+
+        final IStandardIdentityProviderAdapter identityProviderHandler =
+                identityProviderConfigProperties.getIdentityProviderHandler(
+                        principal.identityProviderProperties(), false);
+
+        return asyncUserTaskService
+                .getInbox(tenantId, principal.userId(), userGroupNames, additionalFilters, limit, bookmark)
+                .thenApply(response -> {
+                    if (!CollectionUtils.isEmpty(response.getUserTasks()) && Objects.nonNull(identityProviderHandler)) {
+                        response.addAssignmentDetails(
+                                accessToken, identityProviderHandler, principal.identityProviderProperties());
+                    }
+
+                    return response;
+                });
+    }
+
+    @Operation(
+            summary = "Search UserTasks",
+            description = "Searches the UserTasks that the user can see by the words of their notes and comments. A "
+                    + "UserTask matches when its notes or comments contain every word of the query, ignoring case. "
+                    + "Only available when the read model is enabled. New UserTasks show up within one poll interval, "
+                    + "while changes to open UserTasks may take up to ceil(open UserTasks / refresh batch size) poll "
+                    + "intervals to show up.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description =
+                                "List of unique UserTasks with some basic attributes, most recently scheduled first. "
+                                        + "Optionally, it will retrieve a bookmark field that is used for pagination "
+                                        + "purposes.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = UserTaskRunListDTO.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Field(s) passed in is/are invalid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Tenant Id is not valid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "503",
+                        description = "Read model is disabled or it is still being backfilled for the tenant.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        })
+            })
+    @GetMapping("/{tenant_id}/tasks/search")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<UserTaskRunListDTO> searchMyTasks(
+            @RequestHeader("Authorization") String accessToken,
+            @PathVariable(name = "tenant_id") String tenantId,
+            @RequestParam(name = "q") String text,
+            @RequestParam(name = "limit") Integer limit,
+            @RequestParam(name = "bookmark", required = false) String bookmark)
+            throws JsonProcessingException {
+        if (!tenantService.isValidTenant(tenantId, accessToken)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
+
+        if (!StringUtils.hasText(text)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search text cannot be empty");
+        }
+
+        final PrincipalService.Principal principal = principalService.resolvePrincipal(accessToken);
+        final Set<String> userGroupNames = principalService.resolveUserGroupNames(accessToken);
+        final UserTaskRunQuery query;
+
+        try {
+            // The read model pages by offset, which is what its bookmarks hold
+            query = UserTaskRunQuery.builder()
+                    .matchingText(text)
+                    .visibleTo(new UserTaskRunQuery.Viewer(principal.userId(), userGroupNames))
+                    .newestFirst(true)
+                    .offset(Objects.nonNull(bookmark) ? Integer.parseInt(bookmark) : 0)
+                    .limit(limit)
+                    .build();
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        final UserTaskRunQueryResult result = userTaskRunReadModelService
+                .query(tenantId, query)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.SERVICE_UNAVAILABLE, "UserTasks read model is not available for this tenant"));
+
+        final int nextOffset = query.offset() + result.userTaskRuns().size();
+        final UserTaskRunListDTO response = UserTaskRunListDTO.builder()
+                .userTasks(new LinkedHashSet<>(result.userTaskRuns()))
+                .bookmark(nextOffset < result.totalMatches() ? String.valueOf(nextOffset) : null)
+                .build();
+
+        final IStandardIdentityProviderAdapter identityProviderHandler =
+                identityProviderConfigProperties.getIdentityProviderHandler(
+                        principal.identityProviderProperties(), false);
+
+        if (!CollectionUtils.isEmpty(response.getUserTasks()) && Objects.nonNull(identityProviderHandler)) {
+            response.addAssignmentDetails(accessToken, identityProviderHandler, principal.identityProviderProperties());
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "Get UserTask details",
-            description = "Gets a UserTask's details, including its definition (UserTaskDef).")
+            description = "Gets a UserTask's details, including its definition (UserTaskDef). Properties can be "
+                    + "limited to the ones listed in fields, in which case the rest are returned as null.")
     @ApiResponses(
             value = {
                 @ApiResponse(
@@ -183,6 +429,18 @@ public class UserController {
                                     mediaType = "application/json",
                                     schema = @Schema(implementation = DetailedUserTaskRunDTO.class))
                         }),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "The UserTask did not change since the ETag sent in If-None-Match was returned.",
+                        content = {@Content}),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Field(s) passed in is/are invalid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
                 @ApiResponse(
                         responseCode = "401",
                         description =
@@ -208,7 +466,9 @@ public class UserController {
             @RequestHeader("Authorization") String accessToken,
             @PathVariable(name = "tenant_id") String tenantId,
             @PathVariable(name = "wf_run_id") String wfRunId,
-            @PathVariable(name = "user_task_guid") String userTaskRunGuid) {
+            @PathVariable(name = "user_task_guid") String userTaskRunGuid,
+            @RequestParam(name = "fields", required = false) List<String> fields,
+            WebRequest webRequest) {
 
         try {
             if (!tenantService.isValidTenant(tenantId, accessToken)) {
@@ -216,20 +476,20 @@ public class UserController {
                         .build();
             }
 
-            final CustomIdentityProviderProperties actualIdPProperties =
-                    getCustomIdentityProviderProperties(accessToken, identityProviderConfigProperties);
-            final Map<String, Object> tokenClaims = TokenUtil.getTokenClaims(accessToken);
-
-            final var userIdFromToken = (String)
-                    tokenClaims.get(actualIdPProperties.getUserIdClaim().toString());
+            final UserTaskFieldset fieldset = UserTaskFieldset.parse(fields, UserTaskFieldset.DETAIL_PROPERTIES);
+            final var userIdFromToken = principalService.resolvePrincipal(accessToken).userId();
 
             final Optional<DetailedUserTaskRunDTO> optionalUserTaskDetail = userTaskService.getUserTaskDetails(
-                    wfRunId, userTaskRunGuid, tenantId, userIdFromToken, null, false);
+                    wfRunId, userTaskRunGuid, tenantId, userIdFromToken, null, false, fieldset);
 
             if (optionalUserTaskDetail.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
 
+            if (webRequest.checkNotModified(optionalUserTaskDetail.get().getEtag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+
             return ResponseEntity.of(optionalUserTaskDetail);
         } catch (NotFoundException e) {
             return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage()))
@@ -237,6 +497,8 @@ public class UserController {
         } catch (CustomUnauthorizedException e) {
             return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.UNAUTHORIZED, e.getMessage()))
                     .build();
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             log.error(e.getMessage());
             return ResponseEntity.of(ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR))
@@ -284,12 +546,7 @@ public class UserController {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         }
 
-        final Map<String, Object> tokenClaims = TokenUtil.getTokenClaims(accessToken);
-        final CustomIdentityProviderProperties actualIdPProperties =
-                getCustomIdentityProviderProperties(accessToken, identityProviderConfigProperties);
-
-        final var userIdFromToken =
-                (String) tokenClaims.get(actualIdPProperties.getUserIdClaim().toString());
+        final var userIdFromToken = principalService.resolvePrincipal(accessToken).userId();
         CompleteUserTaskRequest request = CompleteUserTaskRequest.builder()
                 .wfRunId(wfRunId)
                 .userTaskRunGuid(userTaskRunGuid)
@@ -299,6 +556,55 @@ public class UserController {
         userTaskService.completeUserTask(userIdFromToken, request, tenantId, false);
     }
 
+    @Operation(
+            summary = "Complete UserTasks in bulk",
+            description =
+                    "Completes up to a configured amount of UserTasks with the same results. Every UserTask is validated "
+                            + "on its own and a failing UserTask does not prevent the rest from being completed.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description =
+                                "Per-UserTask results, in the same order they were received. Each result carries the "
+                                        + "status that the single UserTask endpoint would have returned.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = BulkOperationResultDTO.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "No UserTasks or too many UserTasks are passed in.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Tenant Id is not valid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        })
+            })
+    @PostMapping("/{tenant_id}/tasks/bulk/result")
+    public ResponseEntity<BulkOperationResultDTO> completeUserTasks(
+            @RequestHeader("Authorization") String accessToken,
+            @PathVariable(name = "tenant_id") String tenantId,
+            @RequestBody @Valid BulkCompleteUserTaskRequest requestBody)
+            throws JsonProcessingException {
+        if (!tenantService.isValidTenant(tenantId, accessToken)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
+
+        final var userIdFromToken = principalService.resolvePrincipal(accessToken).userId();
+
+        return ResponseEntity.ok(bulkUserTaskService.completeUserTasks(userIdFromToken, requestBody, tenantId, false));
+    }
+
     @Operation(
             summary = "Cancel UserTask",
             description =
@@ -358,12 +664,7 @@ public class UserController {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         }
 
-        final Map<String, Object> tokenClaims = TokenUtil.getTokenClaims(accessToken);
-        final CustomIdentityProviderProperties actualIdPProperties =
-                getCustomIdentityProviderProperties(accessToken, identityProviderConfigProperties);
-
-        final var userIdFromToken =
-                (String) tokenClaims.get(actualIdPProperties.getUserIdClaim().toString());
+        final var userIdFromToken = principalService.resolvePrincipal(accessToken).userId();
 
         userTaskService.cancelUserTaskForNonAdmin(wfRunId, userTaskRunGuid, tenantId, userIdFromToken);
     }
@@ -424,13 +725,8 @@ public class UserController {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         }
 
-        final Map<String, Object> tokenClaims = TokenUtil.getTokenClaims(accessToken);
-        final CustomIdentityProviderProperties actualIdPProperties =
-                getCustomIdentityProviderProperties(accessToken, identityProviderConfigProperties);
-
-        final var userNameFromToken = (String) tokenClaims.get(actualIdPProperties.getUsernameClaim());
-        final var subFromToken = (String) tokenClaims.get("sub");
-        final String userIdForComment = subFromToken + DELIMITER + userNameFromToken;
+        final PrincipalService.Principal principal = principalService.resolvePrincipal(accessToken);
+        final String userIdForComment = principal.subject() + DELIMITER + principal.username();
 
         PutCommentRequest request = PutCommentRequest.builder()
                 .comment(commentContentRequest.getComment())
@@ -505,13 +801,8 @@ public class UserController {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         }
 
-        final Map<String, Object> tokenClaims = TokenUtil.getTokenClaims(accessToken);
-        final CustomIdentityProviderProperties actualIdPProperties =
-                getCustomIdentityProviderProperties(accessToken, identityProviderConfigProperties);
-
-        final var userNameFromToken = (String) tokenClaims.get(actualIdPProperties.getUsernameClaim());
-        final var subFromToken = (String) tokenClaims.get("sub");
-        final String userIdForComment = subFromToken + DELIMITER + userNameFromToken;
+        final PrincipalService.Principal principal = principalService.resolvePrincipal(accessToken);
+        final String userIdForComment = principal.subject() + DELIMITER + principal.username();
 
         EditCommentRequest request = EditCommentRequest.builder()
                 .comment(commentContentRequest.getComment())
@@ -585,13 +876,8 @@ public class UserController {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         }
 
-        final Map<String, Object> tokenClaims = TokenUtil.getTokenClaims(accessToken);
-        final CustomIdentityProviderProperties actualIdPProperties =
-                getCustomIdentityProviderProperties(accessToken, identityProviderConfigProperties);
-
-        final var userNameFromToken = (String) tokenClaims.get(actualIdPProperties.getUsernameClaim());
-        final var subFromToken = (String) tokenClaims.get("sub");
-        final String userIdForComment = subFromToken + DELIMITER + userNameFromToken;
+        final PrincipalService.Principal principal = principalService.resolvePrincipal(accessToken);
+        final String userIdForComment = principal.subject() + DELIMITER + principal.username();
 
         DeleteCommentRequest request = DeleteCommentRequest.builder()
                 .wfRunId(wfRunId)
@@ -604,12 +890,18 @@ public class UserController {
 
     @Operation(
             summary = "Get comments on a UserTask",
-            description = "Retrieves a list of AuditEventDTO's representing the latest event for a comment.")
+            description = "Retrieves a list of AuditEventDTO's representing the latest event for a comment, in comment "
+                    + "order. When a limit is given, at most that many comments are returned and the cursor of the "
+                    + "next page, if any, is returned in the " + NEXT_CURSOR_HEADER + " header.")
     @ApiResponses(
             value = {
                 @ApiResponse(
                         responseCode = "200",
                         description = "Comments successfully retrieved.",
+                        headers =
+                                @Header(
+                                        name = NEXT_CURSOR_HEADER,
+                                        description = "Cursor to pass in to get the next page of comments."),
                         content =
                                 @Content(
                                         mediaType = "application/json",
@@ -649,15 +941,26 @@ public class UserController {
             @RequestHeader("Authorization") String accessToken,
             @PathVariable(name = "tenant_id") String tenantId,
             @PathVariable(name = "wfRunId") String wfRunId,
-            @PathVariable(name = "userTaskRunGuid") String userTaskRunGuid) {
+            @PathVariable(name = "userTaskRunGuid") String userTaskRunGuid,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        if (Objects.nonNull(limit) && limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be positive");
+        }
 
-        final List<AuditEventDTO> result = userTaskService.getComment(wfRunId, userTaskRunGuid, tenantId);
+        final CommentListDTO result = userTaskService.getComments(wfRunId, userTaskRunGuid, tenantId, limit, cursor);
 
-        if (CollectionUtils.isEmpty(result)) {
+        if (CollectionUtils.isEmpty(result.getComments())) {
             return ResponseEntity.noContent().build();
         }
 
-        return ResponseEntity.ok(result);
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+
+        if (Objects.nonNull(result.getNextCursor())) {
+            response.header(NEXT_CURSOR_HEADER, result.getNextCursor());
+        }
+
+        return response.body(result.getComments());
     }
 
     @Operation(summary = "Claim UserTask", description = "Claims a UserTaskRun by assigning it to the requester user.")
@@ -719,30 +1022,89 @@ public class UserController {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         }
 
-        final CustomIdentityProviderProperties actualProperties =
-                CustomIdentityProviderProperties.getCustomIdentityProviderProperties(
-                        accessToken, identityProviderConfigProperties);
+        final var userIdFromToken = principalService.resolvePrincipal(accessToken).userId();
+        final Set<String> userGroups = principalService.resolveUserGroupNames(accessToken);
 
-        final Map<String, Object> tokenClaims = TokenUtil.getTokenClaims(accessToken);
+        userTaskService.claimUserTask(userIdFromToken, userGroups, wfRunId, userTaskRunGuid, tenantId, false);
+    }
 
-        final var userIdFromToken =
-                (String) tokenClaims.get(actualProperties.getUserIdClaim().toString());
+    @Operation(
+            summary = "Claim next UserTask",
+            description = "Claims the oldest unassigned UserTask of a UserGroup that the requesting user belongs to.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "UserTask that was claimed on behalf of the requesting user.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = SimpleUserTaskRunDTO.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "204",
+                        description = "There is no unassigned UserTask left to claim for the given UserGroup.",
+                        content = @Content),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Field(s) passed in is/are invalid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Tenant Id is not valid.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "403",
+                        description = "Requesting user does not belong to the given UserGroup.",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        })
+            })
+    @PostMapping("/{tenant_id}/tasks/claim-next")
+    public ResponseEntity<SimpleUserTaskRunDTO> claimNextUserTask(
+            @RequestHeader("Authorization") String accessToken,
+            @PathVariable(name = "tenant_id") String tenantId,
+            @RequestParam(name = "user_group_id") String userGroupId)
+            throws JsonProcessingException {
+        if (!tenantService.isValidTenant(tenantId, accessToken)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
+
+        final PrincipalService.Principal principal = principalService.resolvePrincipal(accessToken);
+        final var userIdFromToken = principal.userId();
 
         final IStandardIdentityProviderAdapter identityProviderHandler =
-                identityProviderConfigProperties.getIdentityProviderHandler(accessToken, false);
+                identityProviderConfigProperties.getIdentityProviderHandler(
+                        principal.identityProviderProperties(), false);
 
-        Set<String> userGroups = null;
+        String userGroupName = userGroupId;
 
         if (Objects.nonNull(identityProviderHandler)) {
-            final Map<String, Object> params = Map.of("accessToken", accessToken);
-            UserGroupListDTO myUserGroups = identityProviderHandler.getMyUserGroups(params);
+            identityProviderHandler.validateUserGroup(userGroupId, accessToken);
+            final UserGroupDTO foundUserGroup = identityProviderHandler.getUserGroup(
+                    Map.of("userGroupId", userGroupId, "accessToken", accessToken));
 
-            userGroups = myUserGroups.getGroups().stream()
-                    .map(UserGroupDTO::getName)
-                    .collect(Collectors.toUnmodifiableSet());
+            if (Objects.nonNull(foundUserGroup)) {
+                userGroupName = foundUserGroup.getName();
+            }
         }
 
-        userTaskService.claimUserTask(userIdFromToken, userGroups, wfRunId, userTaskRunGuid, tenantId, false);
+        final Set<String> userGroups = principalService.resolveUserGroupNames(accessToken);
+
+        return claimQueueService
+                .claimNextUserTask(userIdFromToken, userGroups, userGroupName, tenantId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
     }
 
     @Operation(
@@ -795,7 +1157,7 @@ public class UserController {
         try {
             final Map<String, Object> params = Map.of("accessToken", accessToken);
             final IStandardIdentityProviderAdapter identityProviderHandler =
-                    identityProviderConfigProperties.getIdentityProviderHandler(accessToken, true);
+                    principalService.resolveIdentityProviderHandler(accessToken, true);
 
             final UserGroupListDTO response = identityProviderHandler.getMyUserGroups(params);
 
@@ -852,12 +1214,11 @@ public class UserController {
         }
 
         try {
-            final Map<String, Object> tokenClaims = TokenUtil.getTokenClaims(accessToken);
-            final var userId = (String) tokenClaims.get(USER_ID_CLAIM);
+            final PrincipalService.Principal principal = principalService.resolvePrincipal(accessToken);
 
-            final Map<String, Object> params = Map.of("userId", userId, "accessToken", accessToken);
+            final Map<String, Object> params = Map.of("userId", principal.subject(), "accessToken", accessToken);
             final IStandardIdentityProviderAdapter identityProviderHandler =
-                    identityProviderConfigProperties.getIdentityProviderHandler(accessToken, true);
+                    principalService.resolveIdentityProviderHandler(accessToken, true);
 
             final UserDTO response = identityProviderHandler.getUserInfo(params);
 
@@ -877,7 +1238,8 @@ public class UserController {
 
     @Operation(
             summary = "Get Claimable UserTasks",
-            description = "Gets all UserTasks assigned to an specific userGroup that the user belongs to.")
+            description = "Gets all UserTasks assigned to an specific userGroup that the user belongs to. Properties "
+                    + "can be limited to the ones listed in fields, in which case the rest are returned as null.")
     @ApiResponses(
             value = {
                 @ApiResponse(
@@ -890,6 +1252,10 @@ public class UserController {
                                     mediaType = "application/json",
                                     schema = @Schema(implementation = UserTaskRunListDTO.class))
                         }),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "The page did not change since the ETag sent in If-None-Match was returned.",
+                        content = {@Content}),
                 @ApiResponse(
                         responseCode = "401",
                         description = "Tenant Id is not valid.",
@@ -912,14 +1278,17 @@ public class UserController {
                     LocalDateTime latestStartDate,
             @RequestParam(name = "user_group_id") String userGroupId,
             @RequestParam(name = "limit") Integer limit,
-            @RequestParam(name = "bookmark", required = false) String bookmark) {
+            @RequestParam(name = "bookmark", required = false) String bookmark,
+            @RequestParam(name = "fields", required = false) List<String> fields,
+            WebRequest webRequest) {
         try {
             if (!tenantService.isValidTenant(tenantId, accessToken)) {
                 return ResponseEntity.of(ProblemDetail.forStatus(HttpStatus.UNAUTHORIZED))
                         .build();
             }
 
-            final Map<String, Object> tokenClaims = TokenUtil.getTokenClaims(accessToken);
+            final UserTaskFieldset fieldset = UserTaskFieldset.parse(fields, UserTaskFieldset.LIST_PROPERTIES);
+            final PrincipalService.Principal principal = principalService.resolvePrincipal(accessToken);
 
             // Here we are hardcoding the UNASSIGNED status on purpose since that is the way in which we can fetch
             // claimable tasks from LH Kernel
@@ -929,14 +1298,10 @@ public class UserController {
                     earliestStartDate, latestStartDate, claimableStatus, null);
             var parsedBookmark = Objects.nonNull(bookmark) ? Base64.decodeBase64(bookmark) : null;
 
-            final CustomIdentityProviderProperties actualProperties =
-                    getCustomIdentityProviderProperties(accessToken, identityProviderConfigProperties);
-
-            final var userIdFromToken =
-                    (String) tokenClaims.get(actualProperties.getUserIdClaim().toString());
+            final var userIdFromToken = principal.userId();
 
             final IStandardIdentityProviderAdapter identityProviderHandler =
-                    identityProviderConfigProperties.getIdentityProviderHandler(accessToken, false);
+                    principalService.resolveIdentityProviderHandler(accessToken, false);
 
             boolean hasIdPAdapter = Objects.nonNull(identityProviderHandler);
 
@@ -951,10 +1316,15 @@ public class UserController {
             }
 
             UserTaskRunListDTO response = userTaskService.getTasks(
-                    tenantId, userIdFromToken, userGroupId, additionalFilters, limit, parsedBookmark, false);
+                    tenantId, userIdFromToken, userGroupId, additionalFilters, limit, parsedBookmark, false, fieldset);
+
+            if (webRequest.checkNotModified(ETagUtil.weakETagOf(response))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
 
-            if (!CollectionUtils.isEmpty(response.getUserTasks()) && hasIdPAdapter) {
-                response.addAssignmentDetails(accessToken, identityProviderHandler, actualProperties);
+            if (!CollectionUtils.isEmpty(response.getUserTasks()) && hasIdPAdapter && fieldset.includesAssignment()) {
+                response.addAssignmentDetails(
+                        accessToken, identityProviderHandler, principal.identityProviderProperties());
             }
 
             return ResponseEntity.ok(response);
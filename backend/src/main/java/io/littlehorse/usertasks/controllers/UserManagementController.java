@@ -71,7 +71,8 @@ public class UserManagementController {
 
     @Operation(
             summary = "Get Users from IdP",
-            description = "Gets all active Users from a specific identity provider of a specific tenant.")
+            description = "Gets all active Users from a specific identity provider of a specific tenant. Roles can be "
+                    + "left out of the response with include_roles=false, which makes the listing considerably faster.")
     @ApiResponses(
             value = {
                 @ApiResponse(
@@ -110,7 +111,8 @@ public class UserManagementController {
             @RequestParam(name = "username", required = false) String username,
             @RequestParam(name = "user_group_id", required = false) String userGroupId,
             @RequestParam(name = "first_result", defaultValue = "0") Integer firstResult,
-            @RequestParam(name = "max_results", defaultValue = "10") Integer maxResults) {
+            @RequestParam(name = "max_results", defaultValue = "10") Integer maxResults,
+            @RequestParam(name = "include_roles", defaultValue = "true") boolean includeRoles) {
         if (!tenantService.isValidTenant(tenantId, accessToken)) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         }
@@ -128,7 +130,7 @@ public class UserManagementController {
                     .build();
 
             final IDPUserListDTO idpUserListDTO = userManagementService.listUsersFromIdentityProvider(
-                    accessToken, identityProviderHandler, requestFilter, firstResult, maxResults);
+                    accessToken, identityProviderHandler, requestFilter, firstResult, maxResults, includeRoles);
 
             return ResponseEntity.ok(idpUserListDTO);
         } catch (JsonProcessingException e) {
@@ -690,8 +692,8 @@ public class UserManagementController {
         final UserTaskRequestFilter requestFilter =
                 UserTaskRequestFilter.builder().status(UserTaskStatus.ASSIGNED).build();
 
-        final UserTaskRunListDTO pendingTasks =
-                userTaskService.getTasks(tenantId, lookupUserId, null, requestFilter, 1, null, false);
+        final UserTaskRunListDTO pendingTasks = userTaskService.getTasks(
+                tenantId, lookupUserId, null, requestFilter, 1, null, false, UserTaskFieldset.IDS_ONLY);
 
         if (!CollectionUtils.isEmpty(pendingTasks.getUserTasks())) {
             throw new ResponseStatusException(
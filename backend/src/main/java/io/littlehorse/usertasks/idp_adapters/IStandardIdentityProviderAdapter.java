@@ -3,6 +3,8 @@ package io.littlehorse.usertasks.idp_adapters;
 import io.littlehorse.usertasks.models.common.UserDTO;
 import io.littlehorse.usertasks.models.common.UserGroupDTO;
 import io.littlehorse.usertasks.models.responses.*;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -10,6 +12,11 @@ import java.util.Set;
  * Interface that defines standard IdP methods to be implemented in all the IdP custom adapters
  */
 public interface IStandardIdentityProviderAdapter {
+    /**
+     * @return Vendor of the Identity Providers that this adapter talks to
+     */
+    IdentityProviderVendor getVendor();
+
     UserGroupListDTO getUserGroups(Map<String, Object> params);
 
     UserGroupListDTO getMyUserGroups(Map<String, Object> params);
@@ -20,10 +27,73 @@ public interface IStandardIdentityProviderAdapter {
 
     UserDTO getUserInfo(Map<String, Object> params);
 
+    /**
+     * Typed counterpart of {@link #getUserInfo(Map)}. Adapters should override it, and the default implementation
+     * only falls back to the map-based method.
+     */
+    default UserDTO getUserInfo(UserLookup lookup) {
+        return getUserInfo(lookup.toParams());
+    }
+
+    /**
+     * Looks up several users at once, asking the Identity Provider only once for each distinct lookup.
+     * <p>
+     * The default implementation runs the lookups one after the other on the calling thread, so a batch takes as long
+     * as all of its distinct lookups added up. Adapters whose Identity Provider can take concurrent requests should
+     * override it.
+     *
+     * @return The found users keyed by their lookup, where users that could not be found are mapped to null
+     */
+    default Map<UserLookup, UserDTO> lookUpUsers(Collection<UserLookup> lookups) {
+        Map<UserLookup, UserDTO> foundUsers = new HashMap<>();
+
+        for (UserLookup lookup : lookups) {
+            if (!foundUsers.containsKey(lookup)) {
+                foundUsers.put(lookup, getUserInfo(lookup));
+            }
+        }
+
+        return foundUsers;
+    }
+
     UserGroupDTO getUserGroup(Map<String, Object> params);
 
+    /**
+     * Typed counterpart of {@link #getUserGroup(Map)}. Adapters should override it, and the default implementation
+     * only falls back to the map-based method.
+     */
+    default UserGroupDTO getUserGroup(UserGroupLookup lookup) {
+        return getUserGroup(lookup.toParams());
+    }
+
+    /**
+     * Looks up several UserGroups at once, asking the Identity Provider only once for each distinct lookup.
+     * <p>
+     * Same as {@link #lookUpUsers(Collection)}, the default implementation runs the lookups sequentially.
+     *
+     * @return The found UserGroups keyed by their lookup, where UserGroups that could not be found are mapped to null
+     */
+    default Map<UserGroupLookup, UserGroupDTO> lookUpUserGroups(Collection<UserGroupLookup> lookups) {
+        Map<UserGroupLookup, UserGroupDTO> foundUserGroups = new HashMap<>();
+
+        for (UserGroupLookup lookup : lookups) {
+            if (!foundUserGroups.containsKey(lookup)) {
+                foundUserGroups.put(lookup, getUserGroup(lookup));
+            }
+        }
+
+        return foundUserGroups;
+    }
+
     void validateUserGroup(String userGroupId, String accessToken);
 
+    /**
+     * Checks whether a user is a member of a specific UserGroup, without having to list all the groups of the user
+     *
+     * @return TRUE if the user belongs to the UserGroup with the given id. Otherwise, FALSE.
+     */
+    boolean isMember(String userId, String userGroupId, String accessToken);
+
     void validateAssignmentProperties(Map<String, Object> params);
 
     void createManagedUser(Map<String, Object> params);
@@ -0,0 +1,46 @@
+package io.littlehorse.usertasks.idp_adapters;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registry of the adapters that talk to each supported Identity Provider vendor.
+ * <p>
+ * Adapters are singleton Spring beans, one per vendor, that get injected into this registry and are reused by every
+ * request, so whatever an adapter caches or pools about its Identity Providers is shared across requests. A single
+ * adapter serves every configured issuer of its vendor, keeping whatever it caches keyed by issuer. Adapters must
+ * therefore be thread-safe.
+ */
+@Component
+public class IdentityProviderAdapterRegistry {
+    private final Map<IdentityProviderVendor, IStandardIdentityProviderAdapter> adapters;
+
+    public IdentityProviderAdapterRegistry(List<IStandardIdentityProviderAdapter> adapters) {
+        Map<IdentityProviderVendor, IStandardIdentityProviderAdapter> adaptersByVendor =
+                new EnumMap<>(IdentityProviderVendor.class);
+
+        for (IStandardIdentityProviderAdapter adapter : adapters) {
+            IStandardIdentityProviderAdapter previousAdapter = adaptersByVendor.put(adapter.getVendor(), adapter);
+
+            if (previousAdapter != null) {
+                throw new IllegalStateException(
+                        "More than one adapter is registered for vendor: " + adapter.getVendor());
+            }
+        }
+
+        this.adapters = Collections.unmodifiableMap(adaptersByVendor);
+    }
+
+    /**
+     * @param vendor Vendor of the Identity Provider
+     * @return The adapter of the given vendor, or an empty Optional if the vendor is not supported
+     */
+    public Optional<IStandardIdentityProviderAdapter> getAdapter(@NonNull IdentityProviderVendor vendor) {
+        return Optional.ofNullable(adapters.get(vendor));
+    }
+}
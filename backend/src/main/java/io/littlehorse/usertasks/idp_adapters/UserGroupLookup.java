@@ -0,0 +1,60 @@
+package io.littlehorse.usertasks.idp_adapters;
+
+import static io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter.ACCESS_TOKEN_MAP_KEY;
+import static io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter.USER_GROUP_ID_MAP_KEY;
+import static io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter.USER_GROUP_NAME_MAP_KEY;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.NonNull;
+
+/**
+ * Typed request used to look up a single UserGroup in an Identity Provider.
+ * <p>
+ * When a name is present, the UserGroup is searched by its exact name. Otherwise, it is fetched by its id.
+ *
+ * @param accessToken Access token of whoever is doing the lookup
+ * @param userGroupId Id of the UserGroup within the Identity Provider
+ * @param userGroupName Name of the UserGroup, as LittleHorse Kernel knows it
+ */
+public record UserGroupLookup(String accessToken, String userGroupId, String userGroupName) {
+    public static UserGroupLookup byName(String accessToken, String userGroupName) {
+        return new UserGroupLookup(accessToken, null, userGroupName);
+    }
+
+    /**
+     * Builds a lookup out of the params that the map-based adapter methods receive
+     */
+    public static UserGroupLookup fromParams(@NonNull Map<String, Object> params) {
+        return new UserGroupLookup(
+                (String) params.get(ACCESS_TOKEN_MAP_KEY),
+                (String) params.get(USER_GROUP_ID_MAP_KEY),
+                (String) params.get(USER_GROUP_NAME_MAP_KEY));
+    }
+
+    /**
+     * @return The params that the map-based adapter methods expect for this lookup
+     */
+    public Map<String, Object> toParams() {
+        Map<String, Object> params = new HashMap<>();
+        params.put(ACCESS_TOKEN_MAP_KEY, accessToken);
+
+        if (userGroupId != null) {
+            params.put(USER_GROUP_ID_MAP_KEY, userGroupId);
+        }
+
+        if (userGroupName != null) {
+            params.put(USER_GROUP_NAME_MAP_KEY, userGroupName);
+        }
+
+        return params;
+    }
+
+    /**
+     * Leaves the access token out, so that lookups can be logged safely
+     */
+    @Override
+    public String toString() {
+        return "UserGroupLookup[userGroupId=" + userGroupId + ", userGroupName=" + userGroupName + "]";
+    }
+}
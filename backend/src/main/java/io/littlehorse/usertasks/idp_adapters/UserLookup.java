@@ -0,0 +1,64 @@
+package io.littlehorse.usertasks.idp_adapters;
+
+import static io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter.ACCESS_TOKEN_MAP_KEY;
+import static io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter.EMAIL_MAP_KEY;
+import static io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter.USERNAME_MAP_KEY;
+import static io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter.USER_ID_MAP_KEY;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.NonNull;
+
+/**
+ * Typed request used to look up a single user in an Identity Provider.
+ * <p>
+ * When an email or a username is present, the user is searched by it. Otherwise, the user is fetched by its id.
+ *
+ * @param accessToken Access token of whoever is doing the lookup
+ * @param userId Id of the user within the Identity Provider
+ * @param email Email of the user, when that is the claim that identifies users
+ * @param username Username of the user, when that is the claim that identifies users
+ */
+public record UserLookup(String accessToken, String userId, String email, String username) {
+    public static UserLookup byId(String accessToken, String userId) {
+        return new UserLookup(accessToken, userId, null, null);
+    }
+
+    /**
+     * Builds a lookup out of the params that the map-based adapter methods receive
+     */
+    public static UserLookup fromParams(@NonNull Map<String, Object> params) {
+        return new UserLookup(
+                (String) params.get(ACCESS_TOKEN_MAP_KEY),
+                (String) params.get(USER_ID_MAP_KEY),
+                (String) params.get(EMAIL_MAP_KEY),
+                (String) params.get(USERNAME_MAP_KEY));
+    }
+
+    /**
+     * @return The params that the map-based adapter methods expect for this lookup
+     */
+    public Map<String, Object> toParams() {
+        Map<String, Object> params = new HashMap<>();
+        params.put(ACCESS_TOKEN_MAP_KEY, accessToken);
+        putIfPresent(params, USER_ID_MAP_KEY, userId);
+        putIfPresent(params, EMAIL_MAP_KEY, email);
+        putIfPresent(params, USERNAME_MAP_KEY, username);
+
+        return params;
+    }
+
+    /**
+     * Leaves the access token out, so that lookups can be logged safely
+     */
+    @Override
+    public String toString() {
+        return "UserLookup[userId=" + userId + ", email=" + email + ", username=" + username + "]";
+    }
+
+    private static void putIfPresent(Map<String, Object> params, String key, String value) {
+        if (value != null) {
+            params.put(key, value);
+        }
+    }
+}
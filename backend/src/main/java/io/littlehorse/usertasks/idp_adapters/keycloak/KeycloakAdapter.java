@@ -1,12 +1,16 @@
 package io.littlehorse.usertasks.idp_adapters.keycloak;
 
 import static io.littlehorse.usertasks.util.constants.AuthoritiesConstants.LH_USER_TASKS_ADMIN_ROLE;
+import static io.littlehorse.usertasks.util.constants.TokenClaimConstants.AUTHORIZED_PARTY_CLAIM;
 import static io.littlehorse.usertasks.util.constants.TokenClaimConstants.ISSUER_URL_CLAIM;
 import static io.littlehorse.usertasks.util.constants.TokenClaimConstants.USER_ID_CLAIM;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.littlehorse.usertasks.exceptions.AdapterException;
 import io.littlehorse.usertasks.idp_adapters.IStandardIdentityProviderAdapter;
+import io.littlehorse.usertasks.idp_adapters.IdentityProviderVendor;
+import io.littlehorse.usertasks.idp_adapters.UserGroupLookup;
+import io.littlehorse.usertasks.idp_adapters.UserLookup;
 import io.littlehorse.usertasks.models.common.UserDTO;
 import io.littlehorse.usertasks.models.common.UserGroupDTO;
 import io.littlehorse.usertasks.models.requests.CreateManagedUserRequest;
@@ -15,10 +19,16 @@ import io.littlehorse.usertasks.models.responses.*;
 import io.littlehorse.usertasks.util.TokenUtil;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.core.Response;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -45,11 +55,43 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
     public static final String USER_GROUP_NAME_MAP_KEY = "userGroupName";
     public static final String FIRST_RESULT_MAP_KEY = "firstResult";
     public static final String MAX_RESULTS_MAP_KEY = "maxResults";
+    public static final String INCLUDE_ROLES_MAP_KEY = "includeRoles";
     public static final String VIEW_USERS_ROLE_NAME = "view-users";
     public static final String VIEW_REALM_ROLE_NAME = "view-realm";
     public static final String VIEW_CLIENTS_ROLE_NAME = "view-clients";
     public static final String MANAGE_USERS_ROLE_NAME = "manage-users";
     public static final String REALM_MANAGEMENT_CLIENT_ID = "realm-management";
+    // Kept below the connection pool size of the Keycloak admin client, so that concurrent lookups never queue up
+    // waiting for a connection
+    private static final int MAX_CONCURRENT_USER_LOOKUPS = 8;
+    private static final Duration ROLES_CACHE_TTL = Duration.ofMinutes(10);
+    private static final Duration GROUP_INDEX_TTL = Duration.ofMinutes(1);
+    private static final Duration GROUP_MEMBERSHIP_CACHE_TTL = Duration.ofSeconds(30);
+
+    private final KeycloakRolesCache rolesCache;
+    private final KeycloakGroupIndex groupIndex;
+    private final KeycloakGroupMembershipCache groupMembershipCache;
+
+    public KeycloakAdapter() {
+        this(
+                new KeycloakRolesCache(ROLES_CACHE_TTL),
+                new KeycloakGroupIndex(GROUP_INDEX_TTL),
+                new KeycloakGroupMembershipCache(GROUP_MEMBERSHIP_CACHE_TTL));
+    }
+
+    KeycloakAdapter(
+            KeycloakRolesCache rolesCache,
+            KeycloakGroupIndex groupIndex,
+            KeycloakGroupMembershipCache groupMembershipCache) {
+        this.rolesCache = rolesCache;
+        this.groupIndex = groupIndex;
+        this.groupMembershipCache = groupMembershipCache;
+    }
+
+    @Override
+    public IdentityProviderVendor getVendor() {
+        return IdentityProviderVendor.KEYCLOAK;
+    }
 
     @Override
     public UserGroupListDTO getUserGroups(Map<String, Object> params) {
@@ -57,9 +99,23 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
         var realm = getRealmFromToken(accessToken);
 
         try (Keycloak keycloak = getKeycloakInstance(realm, accessToken)) {
-            Set<UserGroupDTO> foundUserGroups = keycloak.realm(realm).groups().groups().stream()
-                    .map(groupRepresentation -> UserGroupDTO.transform().apply(groupRepresentation))
-                    .collect(Collectors.toSet());
+            var firstResult = Objects.requireNonNullElse((Integer) params.get(FIRST_RESULT_MAP_KEY), 0);
+            var maxResults = (Integer) params.get(MAX_RESULTS_MAP_KEY);
+            var pageSize = Objects.nonNull(maxResults)
+                    ? Math.min(maxResults, KeycloakGroupPages.DEFAULT_PAGE_SIZE)
+                    : KeycloakGroupPages.DEFAULT_PAGE_SIZE;
+
+            Stream<GroupRepresentation> groups =
+                    KeycloakGroupPages.stream(keycloak.realm(realm).groups(), firstResult, pageSize);
+
+            // Pages are fetched lazily, so Keycloak stops being read as soon as the requested page is filled
+            if (Objects.nonNull(maxResults)) {
+                groups = groups.limit(maxResults);
+            }
+
+            Set<UserGroupDTO> foundUserGroups = groups.map(
+                            groupRepresentation -> UserGroupDTO.transform().apply(groupRepresentation))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
 
             return !CollectionUtils.isEmpty(foundUserGroups)
                     ? new UserGroupListDTO(foundUserGroups)
@@ -84,7 +140,7 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
 
             var userId = StringUtils.isNotBlank(requestedUserId)
                     ? requestedUserId
-                    : (String) TokenUtil.getTokenClaims(accessToken).get(USER_ID_CLAIM);
+                    : (String) TokenUtil.getTokenClaim(accessToken, USER_ID_CLAIM);
 
             Set<UserGroupDTO> foundUserGroups = keycloak.realm(realm).users().get(userId).groups().stream()
                     .map(groupRepresentation -> UserGroupDTO.transform().apply(groupRepresentation))
@@ -149,16 +205,15 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
             var userGroupId = (String) params.get(USER_GROUP_ID_MAP_KEY);
             var firstResult = (Integer) params.get(FIRST_RESULT_MAP_KEY);
             var maxResults = (Integer) params.get(MAX_RESULTS_MAP_KEY);
+            var includeRoles = !Boolean.FALSE.equals(params.get(INCLUDE_ROLES_MAP_KEY));
 
             RealmResource realmResource = keycloak.realm(realm);
 
             Set<UserRepresentation> foundUsers = filterUsers(
                     realmResource, email, firstName, lastName, username, userGroupId, firstResult, maxResults);
 
-            Set<IDPUserDTO> setOfUsers = foundUsers.stream()
-                    .filter(Objects::nonNull)
-                    .map(buildUserDTO(realmResource))
-                    .collect(Collectors.toUnmodifiableSet());
+            Set<IDPUserDTO> setOfUsers =
+                    buildUserDTOsConcurrently(foundUsers, buildUserDTO(realmResource, includeRoles));
 
             return new IDPUserListDTO(setOfUsers);
         } catch (AdapterException e) {
@@ -251,26 +306,55 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
 
     @Override
     public void validateUserGroup(String userGroupId, String accessToken) {
-        String realm = getRealmFromToken(accessToken);
-        Map<String, Object> params = Map.of(REALM_MAP_KEY, realm, ACCESS_TOKEN_MAP_KEY, accessToken);
-        UserGroupListDTO myUserGroups = getMyUserGroups(params);
+        String userIdFromToken = (String) getTokenClaim(accessToken, USER_ID_CLAIM);
 
-        if (CollectionUtils.isEmpty(myUserGroups.getGroups())
-                || myUserGroups.getGroups().stream().noneMatch(equalUserGroupIdPredicate(userGroupId))) {
+        if (!isMember(userIdFromToken, userGroupId, accessToken)) {
             log.error("Cannot access requested group.");
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
     }
 
+    @Override
+    public boolean isMember(String userId, String userGroupId, String accessToken) {
+        if (StringUtils.isBlank(userId) || StringUtils.isBlank(userGroupId)) {
+            return false;
+        }
+
+        var realm = getRealmFromToken(accessToken);
+
+        Set<String> userGroupIds = groupMembershipCache.getGroupIds(getIssuerFromToken(accessToken), userId, () -> {
+            try (Keycloak keycloak = getKeycloakInstance(realm, accessToken)) {
+                return keycloak.realm(realm).users().get(userId).groups().stream()
+                        .map(GroupRepresentation::getId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toUnmodifiableSet());
+            } catch (AdapterException e) {
+                log.error(e.getMessage());
+                throw new AdapterException(e.getMessage());
+            } catch (Exception e) {
+                var errorMessage = "Something went wrong while fetching User's Groups from Keycloak realm.";
+                log.error(errorMessage, e);
+                throw new AdapterException(errorMessage);
+            }
+        });
+
+        return userGroupIds.contains(userGroupId);
+    }
+
     @Override
     public UserDTO getUserInfo(Map<String, Object> params) {
-        var accessToken = (String) params.get(ACCESS_TOKEN_MAP_KEY);
+        return getUserInfo(UserLookup.fromParams(params));
+    }
+
+    @Override
+    public UserDTO getUserInfo(UserLookup lookup) {
+        var accessToken = lookup.accessToken();
         var realm = getRealmFromToken(accessToken);
 
         try (Keycloak keycloak = getKeycloakInstance(realm, accessToken)) {
-            var userId = (String) params.get(USER_ID_MAP_KEY);
-            var email = (String) params.get("email");
-            var username = (String) params.get("username");
+            var userId = lookup.userId();
+            var email = lookup.email();
+            var username = lookup.username();
 
             UserRepresentation userRepresentation = null;
 
@@ -310,31 +394,32 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
 
     @Override
     public UserGroupDTO getUserGroup(Map<String, Object> params) {
-        var accessToken = (String) params.get(ACCESS_TOKEN_MAP_KEY);
+        return getUserGroup(UserGroupLookup.fromParams(params));
+    }
+
+    @Override
+    public UserGroupDTO getUserGroup(UserGroupLookup lookup) {
+        var accessToken = lookup.accessToken();
         var realm = getRealmFromToken(accessToken);
 
-        try (Keycloak keycloak = getKeycloakInstance(realm, accessToken)) {
-            var userGroupId = (String) params.get(USER_GROUP_ID_MAP_KEY);
-            var userGroupName = (String) params.get(USER_GROUP_NAME_MAP_KEY);
+        try {
+            var userGroupId = lookup.userGroupId();
+            var userGroupName = lookup.userGroupName();
 
             GroupRepresentation groupRepresentation = null;
 
             if (StringUtils.isNotBlank(userGroupName)) {
-                List<GroupRepresentation> groupRepresentations =
-                        keycloak.realm(realm).groups().query(userGroupName);
-
-                if (!CollectionUtils.isEmpty(groupRepresentations)) {
-                    Set<GroupRepresentation> actualGroups = groupRepresentations.stream()
-                            .filter(foundGroup -> StringUtils.equalsIgnoreCase(foundGroup.getName(), userGroupName))
-                            .collect(Collectors.toSet());
-
-                    groupRepresentation = !CollectionUtils.isEmpty(actualGroups)
-                            ? actualGroups.iterator().next()
-                            : null;
-                }
+                groupRepresentation = groupIndex
+                        .findByName(
+                                getIssuerFromToken(accessToken),
+                                userGroupName,
+                                groupName -> searchGroupsByName(realm, accessToken, groupName))
+                        .orElse(null);
             } else if (StringUtils.isNotBlank(userGroupId)) {
-                groupRepresentation =
-                        keycloak.realm(realm).groups().group(userGroupId).toRepresentation();
+                try (Keycloak keycloak = getKeycloakInstance(realm, accessToken)) {
+                    groupRepresentation =
+                            keycloak.realm(realm).groups().group(userGroupId).toRepresentation();
+                }
             }
 
             return Objects.nonNull(groupRepresentation)
@@ -404,7 +489,8 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
                 }
             }
 
-            addViewUsersRole(realmResource, usersResource, userRepresentation.getUsername());
+            addViewUsersRole(
+                    getIssuerFromToken(accessToken), realmResource, usersResource, userRepresentation.getUsername());
 
             log.debug("User successfully created within realm {}!", realm);
         } catch (AdapterException e) {
@@ -469,13 +555,14 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
         try (Keycloak keycloak = getKeycloakInstance(realm, accessToken)) {
             RealmResource realmResource = keycloak.realm(realm);
 
+            String issuer = getIssuerFromToken(accessToken);
             RoleRepresentation adminRoleRepresentation =
-                    realmResource.roles().get(LH_USER_TASKS_ADMIN_ROLE).toRepresentation();
+                    rolesCache.getRealmRole(issuer, realmResource, LH_USER_TASKS_ADMIN_ROLE);
             UserResource userResource = realmResource.users().get(userId);
 
             userResource.roles().realmLevel().add(Collections.singletonList(adminRoleRepresentation));
 
-            addAdditionalAdminRoles(realmResource, userResource);
+            addAdditionalAdminRoles(issuer, realmResource, userResource);
 
             log.debug("Admin roles successfully added!");
         } catch (AdapterException e) {
@@ -499,13 +586,14 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
         try (Keycloak keycloak = getKeycloakInstance(realm, accessToken)) {
             RealmResource realmResource = keycloak.realm(realm);
 
+            String issuer = getIssuerFromToken(accessToken);
             RoleRepresentation adminRoleRepresentation =
-                    realmResource.roles().get(LH_USER_TASKS_ADMIN_ROLE).toRepresentation();
+                    rolesCache.getRealmRole(issuer, realmResource, LH_USER_TASKS_ADMIN_ROLE);
             UserResource userResource = realmResource.users().get(userId);
 
             userResource.roles().realmLevel().remove(Collections.singletonList(adminRoleRepresentation));
 
-            removeAdditionalAdminRoles(realmResource, userResource);
+            removeAdditionalAdminRoles(issuer, realmResource, userResource);
 
             log.debug("Admin role successfully removed!");
         } catch (AdapterException e) {
@@ -529,6 +617,7 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
 
         try (Keycloak keycloak = getKeycloakInstance(realm, accessToken)) {
             keycloak.realm(realm).users().get(userId).joinGroup(groupId);
+            groupMembershipCache.invalidateUser(getIssuerFromToken(accessToken), userId);
 
             log.debug("User successfully joined a group!");
         } catch (AdapterException e) {
@@ -555,6 +644,7 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
 
         try (Keycloak keycloak = getKeycloakInstance(realm, accessToken)) {
             keycloak.realm(realm).users().get(userId).leaveGroup(groupId);
+            groupMembershipCache.invalidateUser(getIssuerFromToken(accessToken), userId);
 
             log.debug("User successfully removed from group!");
         } catch (AdapterException e) {
@@ -591,6 +681,8 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
                     throw new AdapterException(exceptionMessage);
                 }
 
+                groupIndex.invalidate(getIssuerFromToken(accessToken));
+
                 log.debug("Group successfully created within realm {}!", realm);
             }
         } catch (AdapterException e) {
@@ -653,6 +745,7 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
             groupRepresentation.setName(groupName);
 
             groupResource.update(groupRepresentation);
+            groupIndex.invalidate(getIssuerFromToken(accessToken));
 
             log.debug("Group successfully renamed within realm {}!", realm);
         } catch (AdapterException e) {
@@ -675,6 +768,8 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
 
         try (Keycloak keycloak = getKeycloakInstance(realm, accessToken)) {
             keycloak.realm(realm).groups().group(groupId).remove();
+            groupIndex.invalidate(getIssuerFromToken(accessToken));
+            groupMembershipCache.invalidateRealm(getIssuerFromToken(accessToken));
 
             log.debug("Group successfully deleted within realm {}!", realm);
         } catch (AdapterException e) {
@@ -689,6 +784,15 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
 
     public static Map<String, Object> buildParamsForUsersSearch(
             String accessToken, IDPUserSearchRequestFilter requestFilter, int firstResult, int maxResults) {
+        return buildParamsForUsersSearch(accessToken, requestFilter, firstResult, maxResults, true);
+    }
+
+    public static Map<String, Object> buildParamsForUsersSearch(
+            String accessToken,
+            IDPUserSearchRequestFilter requestFilter,
+            int firstResult,
+            int maxResults,
+            boolean includeRoles) {
         Map<String, Object> params = new HashMap<>();
 
         if (StringUtils.isNotBlank(requestFilter.getEmail())) {
@@ -715,6 +819,10 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
         params.put(FIRST_RESULT_MAP_KEY, firstResult);
         params.put(MAX_RESULTS_MAP_KEY, maxResults);
 
+        if (!includeRoles) {
+            params.put(INCLUDE_ROLES_MAP_KEY, false);
+        }
+
         return params;
     }
 
@@ -752,10 +860,11 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
 
     private Keycloak getKeycloakInstance(String realm, String accessToken) {
         try {
-            Map<String, Object> tokenClaims = TokenUtil.getTokenClaims(accessToken);
+            Map<String, Object> tokenClaims =
+                    TokenUtil.getTokenClaims(accessToken, Set.of(ISSUER_URL_CLAIM, AUTHORIZED_PARTY_CLAIM));
             var issuerUrl = (String) tokenClaims.get(ISSUER_URL_CLAIM);
             var keycloakBaseUrl = issuerUrl.split(REALM_URL_PATH)[0];
-            var clientId = (String) tokenClaims.get("azp");
+            var clientId = (String) tokenClaims.get(AUTHORIZED_PARTY_CLAIM);
 
             return Keycloak.getInstance(keycloakBaseUrl, realm, clientId, accessToken);
         } catch (JsonProcessingException e) {
@@ -769,9 +878,29 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
         }
     }
 
+    private List<GroupRepresentation> searchGroupsByName(String realm, String accessToken, String groupName) {
+        try (Keycloak keycloak = getKeycloakInstance(realm, accessToken)) {
+            return keycloak.realm(realm).groups().query(groupName);
+        }
+    }
+
+    private String getIssuerFromToken(String accessToken) {
+        return (String) getTokenClaim(accessToken, ISSUER_URL_CLAIM);
+    }
+
+    private Object getTokenClaim(String accessToken, String claim) {
+        try {
+            return TokenUtil.getTokenClaim(accessToken, claim);
+        } catch (JsonProcessingException e) {
+            var errorMessage = "Something went wrong while reading claims.";
+            log.error(errorMessage, e);
+            throw new AdapterException(errorMessage);
+        }
+    }
+
     private String getRealmFromToken(String accessToken) {
         try {
-            String issuerUrl = (String) TokenUtil.getTokenClaims(accessToken).get(ISSUER_URL_CLAIM);
+            String issuerUrl = (String) TokenUtil.getTokenClaim(accessToken, ISSUER_URL_CLAIM);
 
             return issuerUrl.split(REALM_URL_PATH)[1];
         } catch (JsonProcessingException e) {
@@ -795,16 +924,15 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
 
     private void validateUserGroupForAssignment(Map<String, Object> params, String accessToken, String userGroupId) {
         var userId = (String) params.get(USER_ID_MAP_KEY);
-        String realm = getRealmFromToken(accessToken);
-        Map<String, Object> paramsWithRealm = new HashMap<>();
-        paramsWithRealm.put(REALM_MAP_KEY, realm);
-        paramsWithRealm.putAll(params);
+        boolean isValidUserGroup;
 
-        UserGroupListDTO userGroups =
-                StringUtils.isNotBlank(userId) ? getMyUserGroups(paramsWithRealm) : getUserGroups(paramsWithRealm);
+        if (StringUtils.isNotBlank(userId)) {
+            isValidUserGroup = isMember(userId, userGroupId, accessToken);
+        } else {
+            isValidUserGroup = existsUserGroup(userGroupId, accessToken);
+        }
 
-        if (CollectionUtils.isEmpty(userGroups.getGroups())
-                || userGroups.getGroups().stream().noneMatch(equalUserGroupIdPredicate(userGroupId))) {
+        if (!isValidUserGroup) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
                     "Cannot assign Task to non-existent group, "
@@ -812,6 +940,25 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
         }
     }
 
+    private boolean existsUserGroup(String userGroupId, String accessToken) {
+        var realm = getRealmFromToken(accessToken);
+
+        try (Keycloak keycloak = getKeycloakInstance(realm, accessToken)) {
+            GroupRepresentation group = keycloak.realm(realm).groups().group(userGroupId).toRepresentation();
+
+            return group != null && StringUtils.equals(userGroupId, group.getId());
+        } catch (AdapterException e) {
+            log.error(e.getMessage());
+            throw new AdapterException(e.getMessage());
+        } catch (NotFoundException e) {
+            return false;
+        } catch (Exception e) {
+            var errorMessage = "Something went wrong while fetching Group from Keycloak realm.";
+            log.error(errorMessage, e);
+            throw new AdapterException(errorMessage);
+        }
+    }
+
     private Set<UserRepresentation> filterUsers(
             RealmResource realmResource,
             String email,
@@ -848,11 +995,64 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
         return filteredUsers;
     }
 
-    private Predicate<UserGroupDTO> equalUserGroupIdPredicate(String userGroupId) {
-        return userGroupDTO -> StringUtils.equals(userGroupId, userGroupDTO.getId());
+    /**
+     * Builds the DTOs of a page of users, resolving the groups and roles of up to {@code MAX_CONCURRENT_USER_LOOKUPS}
+     * users at the same time instead of one user after the other.
+     */
+    private Set<IDPUserDTO> buildUserDTOsConcurrently(
+            Collection<UserRepresentation> foundUsers, Function<UserRepresentation, IDPUserDTO> userDTOBuilder) {
+        List<UserRepresentation> nonNullUsers =
+                foundUsers.stream().filter(Objects::nonNull).toList();
+
+        if (nonNullUsers.size() <= 1) {
+            return nonNullUsers.stream().map(userDTOBuilder).collect(Collectors.toUnmodifiableSet());
+        }
+
+        Semaphore availableLookups = new Semaphore(MAX_CONCURRENT_USER_LOOKUPS);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<IDPUserDTO>> pendingUserDTOs = nonNullUsers.stream()
+                    .map(foundUser -> executor.submit(() -> {
+                        availableLookups.acquire();
+                        try {
+                            return userDTOBuilder.apply(foundUser);
+                        } finally {
+                            availableLookups.release();
+                        }
+                    }))
+                    .toList();
+
+            try {
+                Set<IDPUserDTO> userDTOs = new HashSet<>();
+
+                for (Future<IDPUserDTO> pendingUserDTO : pendingUserDTOs) {
+                    userDTOs.add(pendingUserDTO.get());
+                }
+
+                return Collections.unmodifiableSet(userDTOs);
+            } catch (ExecutionException e) {
+                pendingUserDTOs.forEach(pendingUserDTO -> pendingUserDTO.cancel(true));
+
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+
+                throw new AdapterException(e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                pendingUserDTOs.forEach(pendingUserDTO -> pendingUserDTO.cancel(true));
+                Thread.currentThread().interrupt();
+
+                throw new AdapterException("Interrupted while fetching Users details from Keycloak realm.");
+            }
+        }
     }
 
     private Function<UserRepresentation, IDPUserDTO> buildUserDTO(@NonNull RealmResource realmResource) {
+        return buildUserDTO(realmResource, true);
+    }
+
+    private Function<UserRepresentation, IDPUserDTO> buildUserDTO(
+            @NonNull RealmResource realmResource, boolean includeRoles) {
         return foundUser -> {
             UsersResource usersResource = realmResource.users();
             List<GroupRepresentation> foundGroups =
@@ -860,9 +1060,18 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
 
             IDPUserDTO actualUserDTO = IDPUserDTO.transform(foundUser, foundGroups);
 
-            List<RoleRepresentation> realmRoles = getRealmRolesByUser(foundUser, usersResource);
+            if (!includeRoles) {
+                return actualUserDTO;
+            }
+
+            MappingsRepresentation roleMappings = getRoleMappingsByUser(foundUser, usersResource);
+            List<RoleRepresentation> realmRoles = Optional.ofNullable(roleMappings)
+                    .map(MappingsRepresentation::getRealmMappings)
+                    .orElse(Collections.emptyList());
             Map<String, ClientMappingsRepresentation> clientRolesMappingsRepresentation =
-                    getClientRoleMappingsByUser(foundUser, usersResource);
+                    Optional.ofNullable(roleMappings)
+                            .map(MappingsRepresentation::getClientMappings)
+                            .orElse(Collections.emptyMap());
 
             addRealmRolesToUser(realmRoles, actualUserDTO);
             addClientRolesToUser(clientRolesMappingsRepresentation, actualUserDTO);
@@ -891,35 +1100,17 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
         }
     }
 
-    private List<RoleRepresentation> getRealmRolesByUser(UserRepresentation foundUser, UsersResource usersResource) {
-        RoleMappingResource roleMappingResource =
-                usersResource.get(foundUser.getId()).roles();
-
-        return Optional.ofNullable(roleMappingResource)
-                .map(roleResource -> {
-                    RoleScopeResource roleScopeResource = roleResource.realmLevel();
-
-                    return Optional.ofNullable(roleScopeResource)
-                            .map(RoleScopeResource::listAll)
-                            .orElse(Collections.emptyList());
-                })
-                .orElse(Collections.emptyList());
-    }
-
-    private Map<String, ClientMappingsRepresentation> getClientRoleMappingsByUser(
-            UserRepresentation foundUser, UsersResource usersResource) {
+    /**
+     * Fetches all role mappings of a user at once. Both realm and client roles are derived from this single response,
+     * instead of asking Keycloak for each kind of role separately.
+     */
+    private MappingsRepresentation getRoleMappingsByUser(UserRepresentation foundUser, UsersResource usersResource) {
         RoleMappingResource roleMappingResource =
                 usersResource.get(foundUser.getId()).roles();
 
         return Optional.ofNullable(roleMappingResource)
-                .map(roleResource -> {
-                    MappingsRepresentation allMappings = roleResource.getAll();
-
-                    return Optional.ofNullable(allMappings)
-                            .map(MappingsRepresentation::getClientMappings)
-                            .orElse(Collections.emptyMap());
-                })
-                .orElse(Collections.emptyMap());
+                .map(RoleMappingResource::getAll)
+                .orElse(null);
     }
 
     private Map<String, Set<String>> getMappedClientRoles(Map<String, ClientMappingsRepresentation> clientRoles) {
@@ -1001,65 +1192,57 @@ public class KeycloakAdapter implements IStandardIdentityProviderAdapter {
         return userRepresentation;
     }
 
-    private void addViewUsersRole(RealmResource realmResource, UsersResource usersResource, String username) {
-        ClientsResource clientsResource = realmResource.clients();
-        ClientRepresentation clientRepresentation =
-                clientsResource.findByClientId(REALM_MANAGEMENT_CLIENT_ID).getFirst();
-        RoleRepresentation roleRepresentation = clientsResource
-                .get(clientRepresentation.getId())
-                .roles()
-                .get(VIEW_USERS_ROLE_NAME)
-                .toRepresentation();
+    private void addViewUsersRole(
+            String issuer, RealmResource realmResource, UsersResource usersResource, String username) {
+        String realmManagementClientId = rolesCache.getRealmManagementClientId(issuer, realmResource);
+        RoleRepresentation roleRepresentation =
+                rolesCache.getRealmManagementRole(issuer, realmResource, VIEW_USERS_ROLE_NAME);
 
         List<RoleRepresentation> rolesToAdd = Collections.singletonList(roleRepresentation);
         List<UserRepresentation> userRepresentations = usersResource.searchByUsername(username, true);
 
         String userId = userRepresentations.getFirst().getId();
 
-        usersResource
+        invalidatingRolesCacheOnNotFound(issuer, () -> usersResource
                 .get(userId)
                 .roles()
-                .clientLevel(clientRepresentation.getId())
-                .add(rolesToAdd);
+                .clientLevel(realmManagementClientId)
+                .add(rolesToAdd));
     }
 
-    private void addAdditionalAdminRoles(RealmResource realmResource, UserResource userResource) {
-        ClientsResource clientsResource = realmResource.clients();
-        ClientRepresentation clientRepresentation =
-                clientsResource.findByClientId(REALM_MANAGEMENT_CLIENT_ID).getFirst();
-        RolesResource rolesResource =
-                clientsResource.get(clientRepresentation.getId()).roles();
-
-        RoleRepresentation viewRealmRoleRepresentation =
-                rolesResource.get(VIEW_REALM_ROLE_NAME).toRepresentation();
-        RoleRepresentation viewClientsRoleRepresentation =
-                rolesResource.get(VIEW_CLIENTS_ROLE_NAME).toRepresentation();
-        RoleRepresentation manageUsersRoleRepresentation =
-                rolesResource.get(MANAGE_USERS_ROLE_NAME).toRepresentation();
+    private void addAdditionalAdminRoles(String issuer, RealmResource realmResource, UserResource userResource) {
+        String realmManagementClientId = rolesCache.getRealmManagementClientId(issuer, realmResource);
+        List<RoleRepresentation> rolesToAdd = getAdditionalAdminRoles(issuer, realmResource);
 
-        List<RoleRepresentation> rolesToAdd =
-                List.of(viewRealmRoleRepresentation, viewClientsRoleRepresentation, manageUsersRoleRepresentation);
-
-        userResource.roles().clientLevel(clientRepresentation.getId()).add(rolesToAdd);
+        invalidatingRolesCacheOnNotFound(
+                issuer, () -> userResource.roles().clientLevel(realmManagementClientId).add(rolesToAdd));
     }
 
-    private void removeAdditionalAdminRoles(RealmResource realmResource, UserResource userResource) {
-        ClientsResource clientsResource = realmResource.clients();
-        ClientRepresentation clientRepresentation =
-                clientsResource.findByClientId(REALM_MANAGEMENT_CLIENT_ID).getFirst();
-        RolesResource rolesResource =
-                clientsResource.get(clientRepresentation.getId()).roles();
+    private void removeAdditionalAdminRoles(String issuer, RealmResource realmResource, UserResource userResource) {
+        String realmManagementClientId = rolesCache.getRealmManagementClientId(issuer, realmResource);
+        List<RoleRepresentation> rolesToRemove = getAdditionalAdminRoles(issuer, realmResource);
 
-        RoleRepresentation viewRealmRoleRepresentation =
-                rolesResource.get(VIEW_REALM_ROLE_NAME).toRepresentation();
-        RoleRepresentation viewClientsRoleRepresentation =
-                rolesResource.get(VIEW_CLIENTS_ROLE_NAME).toRepresentation();
-        RoleRepresentation manageUsersRoleRepresentation =
-                rolesResource.get(MANAGE_USERS_ROLE_NAME).toRepresentation();
+        invalidatingRolesCacheOnNotFound(
+                issuer, () -> userResource.roles().clientLevel(realmManagementClientId).remove(rolesToRemove));
+    }
 
-        List<RoleRepresentation> rolesToRemove =
-                List.of(viewRealmRoleRepresentation, viewClientsRoleRepresentation, manageUsersRoleRepresentation);
+    private List<RoleRepresentation> getAdditionalAdminRoles(String issuer, RealmResource realmResource) {
+        return List.of(
+                rolesCache.getRealmManagementRole(issuer, realmResource, VIEW_REALM_ROLE_NAME),
+                rolesCache.getRealmManagementRole(issuer, realmResource, VIEW_CLIENTS_ROLE_NAME),
+                rolesCache.getRealmManagementRole(issuer, realmResource, MANAGE_USERS_ROLE_NAME));
+    }
 
-        userResource.roles().clientLevel(clientRepresentation.getId()).remove(rolesToRemove);
+    /**
+     * Runs a role-mapping call, dropping the cached roles of the realm if Keycloak no longer knows about them, so that
+     * the next attempt fetches fresh representations
+     */
+    private void invalidatingRolesCacheOnNotFound(String issuer, Runnable roleMappingCall) {
+        try {
+            roleMappingCall.run();
+        } catch (NotFoundException e) {
+            rolesCache.invalidate(issuer);
+            throw e;
+        }
     }
 }
@@ -0,0 +1,126 @@
+package io.littlehorse.usertasks.idp_adapters.keycloak;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.apache.commons.lang3.StringUtils;
+import org.keycloak.representations.idm.GroupRepresentation;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Per-realm index of Keycloak groups by their case-insensitive name, used to resolve a group by its exact name
+ * without running Keycloak's substring search on every lookup.
+ * <p>
+ * The index is filled incrementally: a lookup that misses falls back to the remote search, and every group returned by
+ * it gets indexed. Names that do not match any group are remembered as well, so repeated lookups of unknown groups do
+ * not hit Keycloak either. Entries expire after a short TTL, each realm keeps at most a fixed number of entries and
+ * evicts the least recently used ones first, and a realm's entries are dropped altogether whenever a group of that
+ * realm is created, renamed or deleted through this adapter.
+ */
+class KeycloakGroupIndex {
+    private static final int MAX_ENTRIES_PER_REALM = 10_000;
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final int maxEntriesPerRealm;
+    private final Map<String, Map<String, IndexedGroup>> indexedRealms = new ConcurrentHashMap<>();
+
+    KeycloakGroupIndex(Duration ttl) {
+        this(ttl, Clock.systemUTC(), MAX_ENTRIES_PER_REALM);
+    }
+
+    KeycloakGroupIndex(Duration ttl, Clock clock, int maxEntriesPerRealm) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.maxEntriesPerRealm = maxEntriesPerRealm;
+    }
+
+    /**
+     * Finds the group whose name equals the given one, ignoring case
+     *
+     * @param issuer Issuer of the realm that the group belongs to
+     * @param groupName Exact name of the group
+     * @param remoteSearch Search against Keycloak that is only run when the index cannot answer
+     * @return The matching group, or an empty Optional if no group of the realm has the given name
+     */
+    Optional<GroupRepresentation> findByName(
+            String issuer, String groupName, Function<String, List<GroupRepresentation>> remoteSearch) {
+        Map<String, IndexedGroup> indexedGroups = indexedRealms.computeIfAbsent(issuer, key -> newRealmIndex());
+        long now = clock.millis();
+        IndexedGroup indexedGroup;
+
+        synchronized (indexedGroups) {
+            indexedGroup = indexedGroups.get(toKey(groupName));
+        }
+
+        if (indexedGroup != null && indexedGroup.expiresAtMillis > now) {
+            return Optional.ofNullable(indexedGroup.group);
+        }
+
+        List<GroupRepresentation> foundGroups = remoteSearch.apply(groupName);
+        long expiresAtMillis = now + ttl.toMillis();
+        GroupRepresentation matchingGroup = null;
+
+        synchronized (indexedGroups) {
+            if (!CollectionUtils.isEmpty(foundGroups)) {
+                for (GroupRepresentation foundGroup : foundGroups) {
+                    if (StringUtils.isBlank(foundGroup.getName())) {
+                        continue;
+                    }
+
+                    indexedGroups.put(toKey(foundGroup.getName()), new IndexedGroup(foundGroup, expiresAtMillis));
+
+                    if (matchingGroup == null && StringUtils.equalsIgnoreCase(foundGroup.getName(), groupName)) {
+                        matchingGroup = foundGroup;
+                    }
+                }
+            }
+
+            if (matchingGroup == null) {
+                indexedGroups.put(toKey(groupName), new IndexedGroup(null, expiresAtMillis));
+            }
+        }
+
+        return Optional.ofNullable(matchingGroup);
+    }
+
+    /**
+     * Drops every indexed group of the given realm
+     */
+    void invalidate(String issuer) {
+        indexedRealms.remove(issuer);
+    }
+
+    int indexedEntriesCount(String issuer) {
+        Map<String, IndexedGroup> indexedGroups = indexedRealms.get(issuer);
+
+        if (indexedGroups == null) {
+            return 0;
+        }
+
+        synchronized (indexedGroups) {
+            return indexedGroups.size();
+        }
+    }
+
+    private Map<String, IndexedGroup> newRealmIndex() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IndexedGroup> eldest) {
+                return size() > maxEntriesPerRealm;
+            }
+        };
+    }
+
+    private static String toKey(String groupName) {
+        return groupName.toLowerCase(Locale.ROOT);
+    }
+
+    private record IndexedGroup(GroupRepresentation group, long expiresAtMillis) {}
+}
@@ -0,0 +1,101 @@
+package io.littlehorse.usertasks.idp_adapters.keycloak;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived per-user cache of the ids of the groups that a user is a member of, so that checking whether a user
+ * belongs to a group does not require asking Keycloak on every request.
+ * <p>
+ * Users are grouped by the issuer of the access token, and each realm keeps at most a fixed number of users, evicting
+ * the least recently used ones first. A user's memberships are dropped whenever they join or leave a group through
+ * this adapter, and a whole realm is dropped whenever one of its groups is deleted.
+ */
+class KeycloakGroupMembershipCache {
+    private static final int MAX_USERS_PER_REALM = 10_000;
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final int maxUsersPerRealm;
+    private final Map<String, Map<String, CachedMemberships>> cachedRealms = new ConcurrentHashMap<>();
+
+    KeycloakGroupMembershipCache(Duration ttl) {
+        this(ttl, Clock.systemUTC(), MAX_USERS_PER_REALM);
+    }
+
+    KeycloakGroupMembershipCache(Duration ttl, Clock clock, int maxUsersPerRealm) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.maxUsersPerRealm = maxUsersPerRealm;
+    }
+
+    /**
+     * @param issuer Issuer of the realm that the user belongs to
+     * @param userId Id of the user
+     * @param loader Fetches the ids of the user's groups from Keycloak when they are not cached
+     * @return The ids of the groups that the user is a member of
+     */
+    Set<String> getGroupIds(String issuer, String userId, Supplier<Set<String>> loader) {
+        Map<String, CachedMemberships> cachedUsers = cachedRealms.computeIfAbsent(issuer, key -> newRealmCache());
+        long now = clock.millis();
+        CachedMemberships cachedMemberships;
+
+        synchronized (cachedUsers) {
+            cachedMemberships = cachedUsers.get(userId);
+        }
+
+        if (cachedMemberships != null && cachedMemberships.expiresAtMillis > now) {
+            return cachedMemberships.groupIds;
+        }
+
+        Set<String> groupIds = Set.copyOf(loader.get());
+
+        synchronized (cachedUsers) {
+            cachedUsers.put(userId, new CachedMemberships(groupIds, now + ttl.toMillis()));
+        }
+
+        return groupIds;
+    }
+
+    void invalidateUser(String issuer, String userId) {
+        Map<String, CachedMemberships> cachedUsers = cachedRealms.get(issuer);
+
+        if (cachedUsers != null) {
+            synchronized (cachedUsers) {
+                cachedUsers.remove(userId);
+            }
+        }
+    }
+
+    void invalidateRealm(String issuer) {
+        cachedRealms.remove(issuer);
+    }
+
+    int cachedUsersCount(String issuer) {
+        Map<String, CachedMemberships> cachedUsers = cachedRealms.get(issuer);
+
+        if (cachedUsers == null) {
+            return 0;
+        }
+
+        synchronized (cachedUsers) {
+            return cachedUsers.size();
+        }
+    }
+
+    private Map<String, CachedMemberships> newRealmCache() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedMemberships> eldest) {
+                return size() > maxUsersPerRealm;
+            }
+        };
+    }
+
+    private record CachedMemberships(Set<String> groupIds, long expiresAtMillis) {}
+}
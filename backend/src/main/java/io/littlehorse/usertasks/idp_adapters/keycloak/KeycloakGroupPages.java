@@ -0,0 +1,52 @@
+package io.littlehorse.usertasks.idp_adapters.keycloak;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.keycloak.admin.client.resource.GroupsResource;
+import org.keycloak.representations.idm.GroupRepresentation;
+
+/**
+ * Lazy, page-by-page iteration over the top-level groups of a Keycloak realm.
+ * <p>
+ * Pages are only requested as the returned stream gets consumed, so callers that stop early (e.g. through
+ * {@code anyMatch}) never load the remaining groups, and callers that do consume everything only hold one page of
+ * Keycloak's response at a time.
+ */
+final class KeycloakGroupPages {
+    static final int DEFAULT_PAGE_SIZE = 100;
+
+    private KeycloakGroupPages() {}
+
+    /**
+     * @param groupsResource Groups of the realm to iterate over
+     * @param pageSize Max number of groups requested from Keycloak on each call
+     * @return A sequential stream of every top-level group of the realm
+     */
+    static Stream<GroupRepresentation> stream(GroupsResource groupsResource, int pageSize) {
+        return stream(groupsResource, 0, pageSize);
+    }
+
+    /**
+     * @param groupsResource Groups of the realm to iterate over
+     * @param firstResult Position of the first group to return
+     * @param pageSize Max number of groups requested from Keycloak on each call
+     * @return A sequential stream of the top-level groups of the realm, starting at the given position
+     */
+    static Stream<GroupRepresentation> stream(GroupsResource groupsResource, int firstResult, int pageSize) {
+        return Stream.iterate(
+                        fetchPage(groupsResource, firstResult, pageSize),
+                        page -> !page.groups().isEmpty(),
+                        page -> page.groups().size() < pageSize
+                                ? new GroupPage(page.firstResult(), List.of())
+                                : fetchPage(groupsResource, page.firstResult() + pageSize, pageSize))
+                .flatMap(page -> page.groups().stream());
+    }
+
+    private static GroupPage fetchPage(GroupsResource groupsResource, int firstResult, int pageSize) {
+        List<GroupRepresentation> groups = groupsResource.groups(firstResult, pageSize);
+
+        return new GroupPage(firstResult, groups != null ? groups : List.of());
+    }
+
+    private record GroupPage(int firstResult, List<GroupRepresentation> groups) {}
+}
@@ -0,0 +1,104 @@
+package io.littlehorse.usertasks.idp_adapters.keycloak;
+
+import static io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter.REALM_MANAGEMENT_CLIENT_ID;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.keycloak.admin.client.resource.RealmResource;
+import org.keycloak.representations.idm.RoleRepresentation;
+
+/**
+ * Per-realm cache of the role representations that are needed to grant and revoke roles in Keycloak, along with the
+ * internal id of the {@code realm-management} client. These rarely change, so once they are cached, granting a role
+ * only takes the role-mapping call itself.
+ * <p>
+ * Realms are keyed by the issuer of the access token so that equally named realms of different Keycloak servers never
+ * share entries. Every entry of a realm expires together once the configured TTL elapses.
+ */
+class KeycloakRolesCache {
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<String, CachedRealm> cachedRealms = new ConcurrentHashMap<>();
+
+    KeycloakRolesCache(Duration ttl) {
+        this(ttl, Clock.systemUTC());
+    }
+
+    KeycloakRolesCache(Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * @return The internal id of the {@code realm-management} client of the given realm
+     */
+    String getRealmManagementClientId(String issuer, RealmResource realmResource) {
+        CachedRealm cachedRealm = getCachedRealm(issuer);
+
+        if (cachedRealm.realmManagementClientId == null) {
+            cachedRealm.realmManagementClientId = realmResource
+                    .clients()
+                    .findByClientId(REALM_MANAGEMENT_CLIENT_ID)
+                    .getFirst()
+                    .getId();
+        }
+
+        return cachedRealm.realmManagementClientId;
+    }
+
+    /**
+     * @return The representation of a role that belongs to the {@code realm-management} client of the given realm
+     */
+    RoleRepresentation getRealmManagementRole(String issuer, RealmResource realmResource, String roleName) {
+        String clientId = getRealmManagementClientId(issuer, realmResource);
+
+        return getCachedRealm(issuer)
+                .clientRoles
+                .computeIfAbsent(roleName, name -> realmResource
+                        .clients()
+                        .get(clientId)
+                        .roles()
+                        .get(name)
+                        .toRepresentation());
+    }
+
+    /**
+     * @return The representation of a realm-level role of the given realm
+     */
+    RoleRepresentation getRealmRole(String issuer, RealmResource realmResource, String roleName) {
+        return getCachedRealm(issuer)
+                .realmRoles
+                .computeIfAbsent(
+                        roleName, name -> realmResource.roles().get(name).toRepresentation());
+    }
+
+    /**
+     * Drops everything that is cached for the given realm, e.g. after Keycloak rejected a cached representation
+     */
+    void invalidate(String issuer) {
+        cachedRealms.remove(issuer);
+    }
+
+    private CachedRealm getCachedRealm(String issuer) {
+        long now = clock.millis();
+
+        return cachedRealms.compute(
+                issuer,
+                (key, cachedRealm) -> cachedRealm == null || now - cachedRealm.loadedAtMillis >= ttl.toMillis()
+                        ? new CachedRealm(now)
+                        : cachedRealm);
+    }
+
+    private static class CachedRealm {
+        private final long loadedAtMillis;
+        private final Map<String, RoleRepresentation> clientRoles = new ConcurrentHashMap<>();
+        private final Map<String, RoleRepresentation> realmRoles = new ConcurrentHashMap<>();
+        private volatile String realmManagementClientId;
+
+        private CachedRealm(long loadedAtMillis) {
+            this.loadedAtMillis = loadedAtMillis;
+        }
+    }
+}
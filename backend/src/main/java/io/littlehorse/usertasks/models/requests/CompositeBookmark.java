@@ -0,0 +1,84 @@
+package io.littlehorse.usertasks.models.requests;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Continuation token of a search that is answered by merging several LH Kernel searches.
+ * <p>
+ * Each search (source) keeps its own position: the kernel bookmark of its next page, the results that it already
+ * found but were not returned yet, and whether the kernel has no pages of it left. The token sent to clients is the
+ * URL-safe Base64 of the JSON form of those positions.
+ *
+ * @param positions Position of each source, keyed by a name that identifies the source across requests
+ */
+public record CompositeBookmark(@NonNull Map<String, SourcePosition> positions) {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final SourcePosition START = new SourcePosition(null, List.of(), false);
+
+    public CompositeBookmark {
+        positions = Map.copyOf(positions);
+    }
+
+    /**
+     * @param bookmark Continuation token received from a client, or null when the first page is requested
+     * @return The positions held by the token, or an empty bookmark when no token was received
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static CompositeBookmark decode(@Nullable String bookmark) {
+        if (bookmark == null || bookmark.isBlank()) {
+            return new CompositeBookmark(Map.of());
+        }
+
+        try {
+            return OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(bookmark), CompositeBookmark.class);
+        } catch (IOException | IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Bookmark is not valid", e);
+        }
+    }
+
+    /**
+     * @return The continuation token to send to clients
+     */
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(this));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode bookmark", e);
+        }
+    }
+
+    /**
+     * @param source Name of the source
+     * @return The position of the source, or the start of its results if the token does not know about it
+     */
+    public SourcePosition positionOf(@NonNull String source) {
+        return positions.getOrDefault(source, START);
+    }
+
+    /**
+     * @return Whether every source of the token has no results left, neither pending nor in the kernel
+     */
+    public boolean allSourcesExhausted() {
+        return positions.values().stream()
+                .allMatch(position -> position.exhausted() && position.pendingIds().isEmpty());
+    }
+
+    /**
+     * @param bookmark Kernel bookmark of the next page of the source, null for its first page
+     * @param pendingIds Serialized ids of the UserTaskRuns that the source already found but were not returned yet. At
+     *                   most one page worth of them is kept, since a source never reads more than a page per request.
+     * @param exhausted Whether the kernel has no pages of the source left
+     */
+    public record SourcePosition(@Nullable byte[] bookmark, List<byte[]> pendingIds, boolean exhausted) {
+        public SourcePosition {
+            pendingIds = pendingIds == null ? List.of() : List.copyOf(pendingIds);
+        }
+    }
+}
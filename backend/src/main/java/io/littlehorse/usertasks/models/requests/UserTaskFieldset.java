@@ -0,0 +1,123 @@
+package io.littlehorse.usertasks.models.requests;
+
+import static io.littlehorse.usertasks.util.enums.UserTaskRunProperty.EVENTS;
+import static io.littlehorse.usertasks.util.enums.UserTaskRunProperty.ID;
+import static io.littlehorse.usertasks.util.enums.UserTaskRunProperty.NOTES;
+import static io.littlehorse.usertasks.util.enums.UserTaskRunProperty.SCHEDULED_TIME;
+import static io.littlehorse.usertasks.util.enums.UserTaskRunProperty.STATUS;
+import static io.littlehorse.usertasks.util.enums.UserTaskRunProperty.USER;
+import static io.littlehorse.usertasks.util.enums.UserTaskRunProperty.USER_GROUP;
+import static io.littlehorse.usertasks.util.enums.UserTaskRunProperty.USER_TASK_DEF_NAME;
+import static io.littlehorse.usertasks.util.enums.UserTaskRunProperty.WF_RUN_ID;
+
+import io.littlehorse.usertasks.util.enums.UserTaskRunProperty;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Sparse fieldset of UserTaskRuns: the properties that a client asked for through the {@code fields} query parameter.
+ * <p>
+ * Ids are always included. Properties that were not asked for are returned as null, so the work behind them (fetching
+ * the UserTaskRun or its UserTaskDef, looking up users and groups in the Identity Provider, converting events) can be
+ * skipped.
+ */
+@EqualsAndHashCode
+@ToString
+public final class UserTaskFieldset {
+    /**
+     * Properties of the UserTaskRuns returned by the list endpoints
+     */
+    public static final Set<UserTaskRunProperty> LIST_PROPERTIES = Collections.unmodifiableSet(
+            EnumSet.of(ID, WF_RUN_ID, USER_TASK_DEF_NAME, USER_GROUP, USER, STATUS, NOTES, SCHEDULED_TIME));
+
+    /**
+     * Properties of the UserTaskRun returned by the details endpoint of non-admin users
+     */
+    public static final Set<UserTaskRunProperty> DETAIL_PROPERTIES =
+            Collections.unmodifiableSet(EnumSet.complementOf(EnumSet.of(EVENTS)));
+
+    /**
+     * Properties of the UserTaskRun returned by the details endpoint of admins
+     */
+    public static final Set<UserTaskRunProperty> ADMIN_DETAIL_PROPERTIES =
+            Collections.unmodifiableSet(EnumSet.allOf(UserTaskRunProperty.class));
+
+    public static final UserTaskFieldset ALL = new UserTaskFieldset(EnumSet.allOf(UserTaskRunProperty.class));
+    public static final UserTaskFieldset IDS_ONLY = new UserTaskFieldset(EnumSet.of(ID, WF_RUN_ID));
+
+    private final Set<UserTaskRunProperty> properties;
+
+    private UserTaskFieldset(Set<UserTaskRunProperty> properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * @param fields Names of the requested properties, null or empty to request every property
+     * @param allowedProperties Properties that the endpoint returns
+     * @return The fieldset of the requested properties
+     * @throws ResponseStatusException If a requested property is unknown or not returned by the endpoint
+     */
+    public static UserTaskFieldset parse(
+            @Nullable Collection<String> fields, @NonNull Set<UserTaskRunProperty> allowedProperties) {
+        if (CollectionUtils.isEmpty(fields)) {
+            return ALL;
+        }
+
+        Set<UserTaskRunProperty> properties = EnumSet.of(ID, WF_RUN_ID);
+
+        for (String field : fields) {
+            UserTaskRunProperty property = UserTaskRunProperty.fromFieldName(field.trim())
+                    .filter(allowedProperties::contains)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown field: " + field));
+            properties.add(property);
+        }
+
+        return new UserTaskFieldset(properties);
+    }
+
+    public Set<UserTaskRunProperty> getProperties() {
+        return Collections.unmodifiableSet(properties);
+    }
+
+    public boolean includes(@NonNull UserTaskRunProperty property) {
+        return properties.contains(property);
+    }
+
+    /**
+     * @return Whether only ids were requested, in which case UserTaskRuns do not need to be fetched from LH Kernel
+     */
+    public boolean includesOnlyIds() {
+        return properties.equals(IDS_ONLY.properties);
+    }
+
+    /**
+     * @return Whether the assigned user or userGroup were requested, which are looked up in the Identity Provider
+     */
+    public boolean includesAssignment() {
+        return includes(USER) || includes(USER_GROUP);
+    }
+
+    /**
+     * @param property Property to leave out
+     * @return A fieldset with every property of this one but the given one
+     */
+    public UserTaskFieldset without(@NonNull UserTaskRunProperty property) {
+        if (!includes(property)) {
+            return this;
+        }
+
+        Set<UserTaskRunProperty> remainingProperties = EnumSet.copyOf(properties);
+        remainingProperties.remove(property);
+
+        return new UserTaskFieldset(remainingProperties);
+    }
+}
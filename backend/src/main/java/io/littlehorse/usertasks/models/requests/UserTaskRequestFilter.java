@@ -5,6 +5,8 @@ import static io.littlehorse.usertasks.util.DateUtil.localDateTimeToTimestamp;
 import com.google.protobuf.Timestamp;
 import io.littlehorse.usertasks.util.enums.UserTaskStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Objects;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -49,4 +51,25 @@ public class UserTaskRequestFilter {
                 .type(type)
                 .build();
     }
+
+    /**
+     * @param values Values received for a filter that accepts several of them
+     * @return The only distinct value received, or null if none or several were received
+     */
+    @Nullable
+    public static <T> T singleValueOf(@Nullable Collection<T> values) {
+        if (Objects.isNull(values) || new HashSet<>(values).size() != 1) {
+            return null;
+        }
+
+        return values.iterator().next();
+    }
+
+    /**
+     * @param values Values received for a filter that accepts several of them
+     * @return Whether several distinct values were received, which LH Kernel cannot search for in a single request
+     */
+    public static boolean hasSeveralValues(@Nullable Collection<?> values) {
+        return Objects.nonNull(values) && new HashSet<>(values).size() > 1;
+    }
 }
@@ -0,0 +1,32 @@
+package io.littlehorse.usertasks.models.requests.bulk_requests;
+
+import io.littlehorse.usertasks.models.requests.AssignmentRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request used to assign several UserTaskRuns to the same User and/or UserGroup at once
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAssignmentRequest {
+    private String userId;
+    private String userGroup;
+
+    @NotEmpty
+    private List<@Valid UserTaskRunReference> userTasks;
+
+    public AssignmentRequest toAssignmentRequest() {
+        return AssignmentRequest.builder()
+                .userId(userId)
+                .userGroup(userGroup)
+                .build();
+    }
+}
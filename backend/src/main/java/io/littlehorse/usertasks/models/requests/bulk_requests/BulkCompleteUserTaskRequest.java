@@ -0,0 +1,35 @@
+package io.littlehorse.usertasks.models.requests.bulk_requests;
+
+import io.littlehorse.usertasks.models.common.UserTaskVariableValue;
+import io.littlehorse.usertasks.models.requests.CompleteUserTaskRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request used to complete several UserTaskRuns at once with the same results
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCompleteUserTaskRequest {
+    @NotEmpty
+    private List<@Valid UserTaskRunReference> userTasks;
+
+    @NotEmpty
+    private Map<String, UserTaskVariableValue> results;
+
+    public CompleteUserTaskRequest toCompleteUserTaskRequest(UserTaskRunReference userTask) {
+        return CompleteUserTaskRequest.builder()
+                .wfRunId(userTask.getWfRunId())
+                .userTaskRunGuid(userTask.getUserTaskRunGuid())
+                .results(results)
+                .build();
+    }
+}
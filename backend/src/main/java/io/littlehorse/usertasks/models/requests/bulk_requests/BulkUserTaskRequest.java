@@ -0,0 +1,21 @@
+package io.littlehorse.usertasks.models.requests.bulk_requests;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request used to apply the same operation (cancel, claim) to several UserTaskRuns at once
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserTaskRequest {
+    @NotEmpty
+    private List<@Valid UserTaskRunReference> userTasks;
+}
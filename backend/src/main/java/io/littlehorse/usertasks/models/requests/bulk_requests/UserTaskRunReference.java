@@ -0,0 +1,22 @@
+package io.littlehorse.usertasks.models.requests.bulk_requests;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Identifies a single UserTaskRun targeted by a bulk operation
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTaskRunReference {
+    @NotBlank
+    private String wfRunId;
+
+    @NotBlank
+    private String userTaskRunGuid;
+}
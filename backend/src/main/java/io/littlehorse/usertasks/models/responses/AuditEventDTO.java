@@ -11,28 +11,34 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.ToString;
 
 /**
  * {@code AuditEventDTO} is a Data Transfer Object that contains information about a specific {@code io.littlehorse.sdk.common.proto.UserTaskEvent}
+ * <p>
+ * It is immutable, along with its events, so that instances can be cached and shared between responses.
  *
  * @see io.littlehorse.sdk.common.proto.UserTaskEvent
  */
-@Data
+@Getter
+@EqualsAndHashCode
+@ToString
 @Builder
 @AllArgsConstructor
 public class AuditEventDTO {
     @NotNull
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
-    private LocalDateTime time;
+    private final LocalDateTime time;
 
     @NotNull
     @Schema(oneOf = {UserTaskExecutedEvent.class, UserTaskAssignedEvent.class, UserTaskCancelledEvent.class})
-    private IUserTaskEvent event;
+    private final IUserTaskEvent event;
 
     @NotNull
-    private UserTaskEventType type;
+    private final UserTaskEventType type;
 
     @NotNull
     public static AuditEventDTO fromUserTaskEvent(@NonNull UserTaskEvent serverEvent) {
@@ -71,15 +77,17 @@ public class AuditEventDTO {
                 .build();
     }
 
-    @Data
+    @Getter
+    @EqualsAndHashCode
+    @ToString
     @Builder
     @AllArgsConstructor
     static class UserTaskExecutedEvent implements IUserTaskEvent {
         @NotBlank
-        private String wfRunId;
+        private final String wfRunId;
 
         @NotBlank
-        private String userTaskGuid;
+        private final String userTaskGuid;
 
         static UserTaskExecutedEvent parseFromServer(@NonNull UserTaskEvent.UTETaskExecuted serverObject) {
             TaskRunId taskRun = serverObject.getTaskRun();
@@ -90,14 +98,16 @@ public class AuditEventDTO {
         }
     }
 
-    @Data
+    @Getter
+    @EqualsAndHashCode
+    @ToString
     @Builder
     @AllArgsConstructor
     static class UserTaskAssignedEvent implements IUserTaskEvent {
-        private String oldUserId;
-        private String oldUserGroup;
-        private String newUserId;
-        private String newUserGroup;
+        private final String oldUserId;
+        private final String oldUserGroup;
+        private final String newUserId;
+        private final String newUserGroup;
 
         static UserTaskAssignedEvent parseFromServer(@NonNull UserTaskEvent.UTEAssigned serverObject) {
             return UserTaskAssignedEvent.builder()
@@ -109,12 +119,14 @@ public class AuditEventDTO {
         }
     }
 
-    @Data
+    @Getter
+    @EqualsAndHashCode
+    @ToString
     @Builder
     @AllArgsConstructor
     static class UserTaskCancelledEvent implements IUserTaskEvent {
         @NotBlank
-        private String message;
+        private final String message;
 
         static UserTaskCancelledEvent parseFromServer(@NonNull UserTaskEvent.UTECancelled serverObject) {
             return UserTaskCancelledEvent.builder()
@@ -123,12 +135,14 @@ public class AuditEventDTO {
         }
     }
 
-    @Data
+    @Getter
+    @EqualsAndHashCode
+    @ToString
     @Builder
     @AllArgsConstructor
     static class UserTaskRunCompletedEvent implements IUserTaskEvent {
         @NotBlank
-        private String message;
+        private final String message;
 
         static UserTaskRunCompletedEvent parserFromServer(@NonNull UserTaskEvent.UTECompleted serverObject) {
 
@@ -136,14 +150,16 @@ public class AuditEventDTO {
         }
     }
 
-    @Data
+    @Getter
+    @EqualsAndHashCode
+    @ToString
     @Builder
     @AllArgsConstructor
     static class UserTaskRunCommentEvent implements IUserTaskEvent {
 
-        private String comment;
-        private String userId;
-        private int commentId;
+        private final String comment;
+        private final String userId;
+        private final int commentId;
 
         static UserTaskRunCommentEvent parserFromServer(@NonNull UserTaskEvent.UTECommented serverObject) {
 
@@ -155,13 +171,15 @@ public class AuditEventDTO {
         }
     }
 
-    @Data
+    @Getter
+    @EqualsAndHashCode
+    @ToString
     @Builder
     @AllArgsConstructor
     static class DeleteUserTaskRunCommentEvent implements IUserTaskEvent {
 
-        private String userId;
-        private int commentId;
+        private final String userId;
+        private final int commentId;
 
         static DeleteUserTaskRunCommentEvent parserFromServer(@NonNull UserTaskEvent.UTECommentDeleted serverObject) {
 
@@ -0,0 +1,54 @@
+package io.littlehorse.usertasks.models.responses;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.littlehorse.sdk.common.proto.UserTaskEvent;
+import java.io.IOException;
+import java.util.List;
+import lombok.Getter;
+import lombok.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@code AuditEventPage} is a time-ordered page of the events of a UserTaskRun, along with a cursor used for
+ * pagination purposes.
+ * <p>
+ * Events are kept as they were gotten from LittleHorse Kernel and are only converted to {@code AuditEventDTO}s one at
+ * a time while the page is written, so a page of a heavily reassigned UserTaskRun never needs all of its
+ * {@code AuditEventDTO}s in memory at once. It is written as {@code {"events": [...], "nextCursor": "..."}}.
+ *
+ * @see io.littlehorse.sdk.common.proto.UserTaskEvent
+ */
+@Getter
+public class AuditEventPage {
+    private final List<UserTaskEvent> serverEvents;
+    private final String nextCursor;
+
+    /**
+     * @param serverEvents Events of the page, oldest first
+     * @param nextCursor Cursor of the next page, null if this is the last page
+     */
+    public AuditEventPage(@NonNull List<UserTaskEvent> serverEvents, @Nullable String nextCursor) {
+        this.serverEvents = serverEvents;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @param generator Generator whose codec is able to write {@code AuditEventDTO}s
+     */
+    public void writeTo(@NonNull JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("events");
+
+        for (UserTaskEvent serverEvent : serverEvents) {
+            generator.writeObject(AuditEventDTO.fromUserTaskEvent(serverEvent));
+        }
+
+        generator.writeEndArray();
+
+        if (nextCursor != null) {
+            generator.writeStringField("nextCursor", nextCursor);
+        }
+
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,25 @@
+package io.littlehorse.usertasks.models.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code BulkOperationItemResultDTO} is a Data Transfer Object that contains the outcome of a bulk operation for a
+ * single UserTaskRun. The status mirrors the HTTP status that the equivalent single-item endpoint would have returned.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationItemResultDTO {
+    private String wfRunId;
+    private String userTaskRunGuid;
+    private boolean succeeded;
+    private int status;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String message;
+}
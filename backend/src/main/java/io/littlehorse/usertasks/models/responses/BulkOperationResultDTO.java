@@ -0,0 +1,23 @@
+package io.littlehorse.usertasks.models.responses;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code BulkOperationResultDTO} is a Data Transfer Object that contains the per-item outcomes of a bulk operation,
+ * in the same order the UserTaskRuns were received, along with the amount of items that succeeded and failed
+ *
+ * @see BulkOperationItemResultDTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResultDTO {
+    private List<BulkOperationItemResultDTO> results;
+    private int succeeded;
+    private int failed;
+}
@@ -0,0 +1,21 @@
+package io.littlehorse.usertasks.models.responses;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code CommentListDTO} is a Data Transfer Object that contains a page of the comments of a UserTaskRun, each one
+ * represented by its latest {@code AuditEventDTO}, and a cursor used for pagination purposes
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentListDTO {
+    private List<AuditEventDTO> comments;
+
+    private String nextCursor;
+}
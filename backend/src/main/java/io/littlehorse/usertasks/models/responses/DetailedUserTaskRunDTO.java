@@ -3,29 +3,33 @@ package io.littlehorse.usertasks.models.responses;
 import static io.littlehorse.usertasks.util.DateUtil.timestampToLocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.littlehorse.sdk.common.proto.UserTaskDef;
 import io.littlehorse.sdk.common.proto.UserTaskRun;
 import io.littlehorse.sdk.common.proto.VariableValue;
 import io.littlehorse.usertasks.idp_adapters.IStandardIdentityProviderAdapter;
+import io.littlehorse.usertasks.idp_adapters.UserGroupLookup;
+import io.littlehorse.usertasks.idp_adapters.UserLookup;
 import io.littlehorse.usertasks.models.common.UserDTO;
 import io.littlehorse.usertasks.models.common.UserGroupDTO;
 import io.littlehorse.usertasks.models.common.UserTaskVariableValue;
+import io.littlehorse.usertasks.models.requests.UserTaskFieldset;
+import io.littlehorse.usertasks.util.enums.UserTaskRunProperty;
 import io.littlehorse.usertasks.util.enums.UserTaskStatus;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import org.springframework.lang.Nullable;
 
 /**
  * {@code DetailedUserTaskRunDTO} is a Data Transfer Object that contains detailed information about a
@@ -67,26 +71,66 @@ public class DetailedUserTaskRunDTO {
     private Map<String, UserTaskVariableValue> results;
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
-    private Set<AuditEventDTO> events;
+    private List<AuditEventDTO> events;
+
+    /**
+     * Weak ETag of these details, sent as a response header instead of as part of the body
+     */
+    @JsonIgnore
+    private String etag;
 
     public static DetailedUserTaskRunDTO fromUserTaskRun(
             @NonNull UserTaskRun userTaskRun, @NonNull UserTaskDef userTaskDef) {
-        var fields = userTaskDef.getFieldsList().stream()
-                .map(UserTaskFieldDTO::fromServerUserTaskField)
-                .toList();
+        return fromUserTaskRun(userTaskRun, userTaskDef, UserTaskFieldset.ALL);
+    }
 
-        return DetailedUserTaskRunDTO.builder()
+    /**
+     * @param userTaskRun UserTaskRun gotten from LH Kernel
+     * @param userTaskDef UserTaskDef of the UserTaskRun, only needed when its fields are requested
+     * @param fieldset Properties to set, the rest are left null. Events are never set here.
+     * @return A {@code DetailedUserTaskRunDTO} with the requested properties of the UserTaskRun
+     */
+    public static DetailedUserTaskRunDTO fromUserTaskRun(
+            @NonNull UserTaskRun userTaskRun, @Nullable UserTaskDef userTaskDef, @NonNull UserTaskFieldset fieldset) {
+        var builder = DetailedUserTaskRunDTO.builder()
                 .id(userTaskRun.getId().getUserTaskGuid())
-                .wfRunId(userTaskRun.getId().getWfRunId().getId())
-                .userTaskDefName(userTaskRun.getUserTaskDefId().getName())
-                .user(UserDTO.partiallyBuildFromUserTaskRun(userTaskRun))
-                .userGroup(UserGroupDTO.partiallyBuildFromUserTaskRun(userTaskRun))
-                .notes(userTaskRun.getNotes())
-                .status(UserTaskStatus.fromServerStatus(userTaskRun.getStatus()))
-                .scheduledTime(timestampToLocalDateTime(userTaskRun.getScheduledTime()))
-                .fields(fields)
-                .results(fromServerTypeResults(userTaskRun.getResultsMap()))
-                .build();
+                .wfRunId(userTaskRun.getId().getWfRunId().getId());
+
+        if (fieldset.includes(UserTaskRunProperty.USER_TASK_DEF_NAME)) {
+            builder.userTaskDefName(userTaskRun.getUserTaskDefId().getName());
+        }
+
+        if (fieldset.includes(UserTaskRunProperty.USER)) {
+            builder.user(UserDTO.partiallyBuildFromUserTaskRun(userTaskRun));
+        }
+
+        if (fieldset.includes(UserTaskRunProperty.USER_GROUP)) {
+            builder.userGroup(UserGroupDTO.partiallyBuildFromUserTaskRun(userTaskRun));
+        }
+
+        if (fieldset.includes(UserTaskRunProperty.NOTES)) {
+            builder.notes(userTaskRun.getNotes());
+        }
+
+        if (fieldset.includes(UserTaskRunProperty.STATUS)) {
+            builder.status(UserTaskStatus.fromServerStatus(userTaskRun.getStatus()));
+        }
+
+        if (fieldset.includes(UserTaskRunProperty.SCHEDULED_TIME)) {
+            builder.scheduledTime(timestampToLocalDateTime(userTaskRun.getScheduledTime()));
+        }
+
+        if (fieldset.includes(UserTaskRunProperty.FIELDS) && Objects.nonNull(userTaskDef)) {
+            builder.fields(userTaskDef.getFieldsList().stream()
+                    .map(UserTaskFieldDTO::fromServerUserTaskField)
+                    .toList());
+        }
+
+        if (fieldset.includes(UserTaskRunProperty.RESULTS)) {
+            builder.results(fromServerTypeResults(userTaskRun.getResultsMap()));
+        }
+
+        return builder.build();
     }
 
     private static Map<String, UserTaskVariableValue> fromServerTypeResults(Map<String, VariableValue> serverResults) {
@@ -97,20 +141,17 @@ public class DetailedUserTaskRunDTO {
 
     public void addAssignmentDetails(
             @NonNull String accessToken, @NonNull IStandardIdentityProviderAdapter identityProviderHandler) {
-        Map<String, Object> params = new HashMap<>();
-        params.put("accessToken", accessToken);
-
-        addAssignedUserInfo(identityProviderHandler, this, params);
-        addAssignedUserGroupInfo(identityProviderHandler, this, params);
+        addAssignedUserInfo(accessToken, identityProviderHandler, this);
+        addAssignedUserGroupInfo(accessToken, identityProviderHandler, this);
     }
 
     private void addAssignedUserInfo(
+            String accessToken,
             IStandardIdentityProviderAdapter identityProviderHandler,
-            DetailedUserTaskRunDTO detailedUserTaskRunDTO,
-            Map<String, Object> params) {
+            DetailedUserTaskRunDTO detailedUserTaskRunDTO) {
         if (Objects.nonNull(detailedUserTaskRunDTO.getUser())) {
-            params.put("userId", detailedUserTaskRunDTO.getUser().getId());
-            UserDTO userDTO = identityProviderHandler.getUserInfo(params);
+            UserDTO userDTO = identityProviderHandler.getUserInfo(
+                    UserLookup.byId(accessToken, detailedUserTaskRunDTO.getUser().getId()));
 
             if (Objects.nonNull(userDTO)) {
                 detailedUserTaskRunDTO.setUser(userDTO);
@@ -124,12 +165,12 @@ public class DetailedUserTaskRunDTO {
     }
 
     private void addAssignedUserGroupInfo(
+            String accessToken,
             IStandardIdentityProviderAdapter identityProviderHandler,
-            DetailedUserTaskRunDTO detailedUserTaskRunDTO,
-            Map<String, Object> params) {
+            DetailedUserTaskRunDTO detailedUserTaskRunDTO) {
         if (Objects.nonNull(detailedUserTaskRunDTO.getUserGroup())) {
-            params.put("userGroupName", detailedUserTaskRunDTO.getUserGroup().getId());
-            UserGroupDTO userGroupDTO = identityProviderHandler.getUserGroup(params);
+            UserGroupDTO userGroupDTO = identityProviderHandler.getUserGroup(UserGroupLookup.byName(
+                    accessToken, detailedUserTaskRunDTO.getUserGroup().getId()));
 
             if (Objects.nonNull(userGroupDTO)) {
                 detailedUserTaskRunDTO.setUserGroup(userGroupDTO);
@@ -4,8 +4,11 @@ import static io.littlehorse.usertasks.util.DateUtil.timestampToLocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.littlehorse.sdk.common.proto.UserTaskRun;
+import io.littlehorse.sdk.common.proto.UserTaskRunId;
 import io.littlehorse.usertasks.models.common.UserDTO;
 import io.littlehorse.usertasks.models.common.UserGroupDTO;
+import io.littlehorse.usertasks.models.requests.UserTaskFieldset;
+import io.littlehorse.usertasks.util.enums.UserTaskRunProperty;
 import io.littlehorse.usertasks.util.enums.UserTaskStatus;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -49,15 +52,56 @@ public class SimpleUserTaskRunDTO {
     private LocalDateTime scheduledTime;
 
     public static SimpleUserTaskRunDTO fromUserTaskRun(@NonNull UserTaskRun userTaskRun) {
+        return fromUserTaskRun(userTaskRun, UserTaskFieldset.ALL);
+    }
+
+    /**
+     * @param userTaskRun UserTaskRun gotten from LH Kernel
+     * @param fieldset Properties to set, the rest are left null
+     * @return A {@code SimpleUserTaskRunDTO} with the requested properties of the UserTaskRun
+     */
+    public static SimpleUserTaskRunDTO fromUserTaskRun(
+            @NonNull UserTaskRun userTaskRun, @NonNull UserTaskFieldset fieldset) {
+        var builder = builderFromUserTaskRunId(userTaskRun.getId());
+
+        if (fieldset.includes(UserTaskRunProperty.USER_TASK_DEF_NAME)) {
+            builder.userTaskDefName(userTaskRun.getUserTaskDefId().getName());
+        }
+
+        if (fieldset.includes(UserTaskRunProperty.USER)) {
+            builder.user(UserDTO.partiallyBuildFromUserTaskRun(userTaskRun));
+        }
+
+        if (fieldset.includes(UserTaskRunProperty.USER_GROUP)) {
+            builder.userGroup(UserGroupDTO.partiallyBuildFromUserTaskRun(userTaskRun));
+        }
+
+        if (fieldset.includes(UserTaskRunProperty.NOTES)) {
+            builder.notes(userTaskRun.getNotes());
+        }
+
+        if (fieldset.includes(UserTaskRunProperty.STATUS)) {
+            builder.status(UserTaskStatus.fromServerStatus(userTaskRun.getStatus()));
+        }
+
+        if (fieldset.includes(UserTaskRunProperty.SCHEDULED_TIME)) {
+            builder.scheduledTime(timestampToLocalDateTime(userTaskRun.getScheduledTime()));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * @param userTaskRunId Id of a UserTaskRun, as returned by a search in LH Kernel
+     * @return A {@code SimpleUserTaskRunDTO} with only the ids of the UserTaskRun
+     */
+    public static SimpleUserTaskRunDTO fromUserTaskRunId(@NonNull UserTaskRunId userTaskRunId) {
+        return builderFromUserTaskRunId(userTaskRunId).build();
+    }
+
+    private static SimpleUserTaskRunDTOBuilder builderFromUserTaskRunId(UserTaskRunId userTaskRunId) {
         return SimpleUserTaskRunDTO.builder()
-                .id(userTaskRun.getId().getUserTaskGuid())
-                .wfRunId(userTaskRun.getId().getWfRunId().getId())
-                .userTaskDefName(userTaskRun.getUserTaskDefId().getName())
-                .user(UserDTO.partiallyBuildFromUserTaskRun(userTaskRun))
-                .userGroup(UserGroupDTO.partiallyBuildFromUserTaskRun(userTaskRun))
-                .notes(userTaskRun.getNotes())
-                .status(UserTaskStatus.fromServerStatus(userTaskRun.getStatus()))
-                .scheduledTime(timestampToLocalDateTime(userTaskRun.getScheduledTime()))
-                .build();
+                .id(userTaskRunId.getUserTaskGuid())
+                .wfRunId(userTaskRunId.getWfRunId().getId());
     }
 }
@@ -2,10 +2,12 @@ package io.littlehorse.usertasks.models.responses;
 
 import io.littlehorse.usertasks.configurations.CustomIdentityProviderProperties;
 import io.littlehorse.usertasks.idp_adapters.IStandardIdentityProviderAdapter;
+import io.littlehorse.usertasks.idp_adapters.UserGroupLookup;
+import io.littlehorse.usertasks.idp_adapters.UserLookup;
 import io.littlehorse.usertasks.models.common.UserDTO;
 import io.littlehorse.usertasks.models.common.UserGroupDTO;
 import io.littlehorse.usertasks.util.enums.CustomUserIdClaim;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -32,78 +34,86 @@ public class UserTaskRunListDTO {
             @NonNull String accessToken,
             @NonNull IStandardIdentityProviderAdapter identityProviderHandler,
             CustomIdentityProviderProperties customIdentityProviderProperties) {
-        if (!CollectionUtils.isEmpty(this.getUserTasks())) {
-            for (SimpleUserTaskRunDTO userTaskRunDTO : this.getUserTasks()) {
-                addAssignedUserInfo(
-                        accessToken, identityProviderHandler, userTaskRunDTO, customIdentityProviderProperties);
-                addAssignedUserGroupInfo(accessToken, identityProviderHandler, userTaskRunDTO);
+        if (CollectionUtils.isEmpty(this.getUserTasks())) {
+            return;
+        }
+
+        // UserTaskRuns get updated once their lookups are resolved, so they are tracked by identity instead of equality
+        Map<SimpleUserTaskRunDTO, UserLookup> userLookups = new IdentityHashMap<>();
+        Map<SimpleUserTaskRunDTO, UserGroupLookup> userGroupLookups = new IdentityHashMap<>();
+
+        for (SimpleUserTaskRunDTO userTaskRunDTO : this.getUserTasks()) {
+            if (Objects.nonNull(userTaskRunDTO.getUser())) {
+                userLookups.put(
+                        userTaskRunDTO,
+                        buildUserLookup(accessToken, userTaskRunDTO, customIdentityProviderProperties));
+            }
+
+            String userGroupName = userGroupNameOf(userTaskRunDTO.getUserGroup());
+
+            if (StringUtils.isNotBlank(userGroupName)) {
+                userGroupLookups.put(userTaskRunDTO, UserGroupLookup.byName(accessToken, userGroupName));
             }
         }
+
+        // Several UserTaskRuns are usually assigned to the same users and groups, so each one is only looked up once
+        Map<UserLookup, UserDTO> foundUsers = identityProviderHandler.lookUpUsers(userLookups.values());
+        Map<UserGroupLookup, UserGroupDTO> foundUserGroups =
+                identityProviderHandler.lookUpUserGroups(userGroupLookups.values());
+
+        userLookups.forEach((userTaskRunDTO, lookup) -> addAssignedUserInfo(userTaskRunDTO, foundUsers.get(lookup)));
+        userGroupLookups.forEach((userTaskRunDTO, lookup) ->
+                addAssignedUserGroupInfo(userTaskRunDTO, foundUserGroups.get(lookup)));
     }
 
-    private void addAssignedUserInfo(
-            String accessToken,
-            IStandardIdentityProviderAdapter identityProviderHandler,
-            SimpleUserTaskRunDTO userTaskRunDTO,
-            CustomIdentityProviderProperties customIdentityProviderProperties) {
-        if (Objects.nonNull(userTaskRunDTO.getUser())) {
-            Map<String, Object> params =
-                    getIdentityProviderSearchUserParams(accessToken, userTaskRunDTO, customIdentityProviderProperties);
-
-            UserDTO userDTO = identityProviderHandler.getUserInfo(params);
-
-            if (Objects.nonNull(userDTO)) {
-                userTaskRunDTO.setUser(userDTO);
-            } else {
-                userTaskRunDTO.setUser(UserDTO.builder()
-                        .id(userTaskRunDTO.getUser().getId())
-                        .valid(false)
-                        .build());
-            }
+    private void addAssignedUserInfo(SimpleUserTaskRunDTO userTaskRunDTO, UserDTO userDTO) {
+        if (Objects.nonNull(userDTO)) {
+            userTaskRunDTO.setUser(userDTO);
+        } else {
+            userTaskRunDTO.setUser(UserDTO.builder()
+                    .id(userTaskRunDTO.getUser().getId())
+                    .valid(false)
+                    .build());
         }
     }
 
-    private void addAssignedUserGroupInfo(
-            String accessToken,
-            IStandardIdentityProviderAdapter identityProviderHandler,
-            SimpleUserTaskRunDTO userTaskRunDTO) {
-        if (Objects.nonNull(userTaskRunDTO.getUserGroup())
-                && StringUtils.isNotBlank(userTaskRunDTO.getUserGroup().getId())) {
-            Map<String, Object> params = Map.of(
-                    "accessToken",
-                    accessToken,
-                    "userGroupName",
-                    userTaskRunDTO.getUserGroup().getId());
-
-            UserGroupDTO userGroupDTO = identityProviderHandler.getUserGroup(params);
-
-            if (Objects.nonNull(userGroupDTO)) {
-                userTaskRunDTO.setUserGroup(userGroupDTO);
-            } else {
-                userTaskRunDTO.setUserGroup(UserGroupDTO.builder()
-                        .id(userTaskRunDTO.getUserGroup().getId())
-                        .valid(false)
-                        .build());
-            }
+    private void addAssignedUserGroupInfo(SimpleUserTaskRunDTO userTaskRunDTO, UserGroupDTO userGroupDTO) {
+        if (Objects.nonNull(userGroupDTO)) {
+            userTaskRunDTO.setUserGroup(userGroupDTO);
+        } else {
+            userTaskRunDTO.setUserGroup(UserGroupDTO.builder()
+                    .id(userTaskRunDTO.getUserGroup().getId())
+                    .name(userTaskRunDTO.getUserGroup().getName())
+                    .valid(false)
+                    .build());
+        }
+    }
+
+    /**
+     * UserTaskRuns hold the name of their UserGroup. UserTaskRuns read from LH Kernel carry it as the id of a partial
+     * UserGroupDTO, while the ones read from the read model carry it as its name.
+     */
+    private static String userGroupNameOf(UserGroupDTO userGroup) {
+        if (Objects.isNull(userGroup)) {
+            return null;
         }
+
+        return StringUtils.isNotBlank(userGroup.getName()) ? userGroup.getName() : userGroup.getId();
     }
 
-    private Map<String, Object> getIdentityProviderSearchUserParams(
+    private UserLookup buildUserLookup(
             String accessToken,
             SimpleUserTaskRunDTO userTaskRunDTO,
             CustomIdentityProviderProperties customIdentityProviderProperties) {
-        Map<String, Object> standardParams = Map.of(
-                "accessToken", accessToken, "userId", userTaskRunDTO.getUser().getId());
-
-        Map<String, Object> params = new HashMap<>(standardParams);
-
+        String userId = userTaskRunDTO.getUser().getId();
         CustomUserIdClaim configuredUserIdClaim = customIdentityProviderProperties.getUserIdClaim();
 
         if (configuredUserIdClaim.equals(CustomUserIdClaim.EMAIL)) {
-            params.put("email", userTaskRunDTO.getUser().getId());
+            return new UserLookup(accessToken, userId, userId, null);
         } else if (configuredUserIdClaim.equals(CustomUserIdClaim.PREFERRED_USERNAME)) {
-            params.put("username", userTaskRunDTO.getUser().getId());
+            return new UserLookup(accessToken, userId, null, userId);
         }
-        return params;
+
+        return UserLookup.byId(accessToken, userId);
     }
 }
@@ -0,0 +1,31 @@
+package io.littlehorse.usertasks.models.responses;
+
+import io.littlehorse.usertasks.util.enums.UserTaskStatus;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code UserTaskStatsDTO} is a Data Transfer Object that contains the number of UserTaskRuns of a tenant, grouped
+ * by status, by UserTaskDef and by UserGroup, along with the time at which they were counted
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTaskStatsDTO {
+    private long total;
+    private Map<UserTaskStatus, Long> countsByStatus;
+    private Map<String, Long> countsByUserTaskDefName;
+
+    /**
+     * Only available when the UserTaskRuns are counted from the read model, since LH Kernel's search cannot list
+     * the UserGroups that UserTaskRuns are assigned to
+     */
+    private Map<String, Long> countsByUserGroup;
+
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,89 @@
+package io.littlehorse.usertasks.read_model;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index from the words of a text to the rows (documents) whose text contains them.
+ * <p>
+ * The rows of each word are kept as a bitmap, so rows can be added in any order and removed in constant time, and
+ * multi-word lookups are answered by intersecting bitmaps. A bitmap takes one bit per row up to the highest row that
+ * holds the word. Not thread-safe, callers synchronize access.
+ */
+final class TextIndex {
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Map<String, BitSet> rowsByWord = new HashMap<>();
+
+    /**
+     * @param text Text to split, may be null
+     * @return The distinct lower-cased words of the text, in order of appearance
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> words = new LinkedHashSet<>();
+
+        if (text == null) {
+            return words;
+        }
+
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+
+        return words;
+    }
+
+    void add(int row, Collection<String> words) {
+        words.forEach(word -> rowsByWord.computeIfAbsent(word, newWord -> new BitSet()).set(row));
+    }
+
+    void remove(int row, Collection<String> words) {
+        for (String word : words) {
+            BitSet rows = rowsByWord.get(word);
+
+            if (rows != null) {
+                rows.clear(row);
+
+                if (rows.isEmpty()) {
+                    rowsByWord.remove(word);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        rowsByWord.clear();
+    }
+
+    /**
+     * @param words Words to look up
+     * @return The rows whose text contains every word
+     */
+    BitSet rowsContainingAll(Collection<String> words) {
+        BitSet rows = null;
+
+        for (String word : words) {
+            BitSet wordRows = rowsByWord.get(word);
+
+            if (wordRows == null) {
+                return new BitSet();
+            }
+
+            if (rows == null) {
+                rows = (BitSet) wordRows.clone();
+            } else {
+                rows.and(wordRows);
+            }
+        }
+
+        return rows != null ? rows : new BitSet();
+    }
+}
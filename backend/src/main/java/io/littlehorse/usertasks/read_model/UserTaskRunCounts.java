@@ -0,0 +1,18 @@
+package io.littlehorse.usertasks.read_model;
+
+import io.littlehorse.usertasks.util.enums.UserTaskStatus;
+import java.util.Map;
+
+/**
+ * Number of UserTaskRuns in the read model of a tenant, in total and grouped by attribute
+ *
+ * @param total Number of UserTaskRuns
+ * @param byStatus Number of UserTaskRuns of each status
+ * @param byUserTaskDefName Number of UserTaskRuns of each UserTaskDef
+ * @param byUserGroup Number of UserTaskRuns assigned to each UserGroup
+ */
+public record UserTaskRunCounts(
+        long total,
+        Map<UserTaskStatus, Long> byStatus,
+        Map<String, Long> byUserTaskDefName,
+        Map<String, Long> byUserGroup) {}
@@ -0,0 +1,62 @@
+package io.littlehorse.usertasks.read_model;
+
+import io.littlehorse.usertasks.util.enums.UserTaskStatus;
+import java.util.Collection;
+import java.util.Set;
+import lombok.Builder;
+import lombok.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Query served by the read model of UserTaskRuns. Filters left empty match every UserTaskRun, values within a filter
+ * are OR-ed and filters are AND-ed.
+ *
+ * @param userIds Ids of the users that the UserTaskRuns are assigned to
+ * @param userGroups Names of the UserGroups that the UserTaskRuns are assigned to
+ * @param statuses Statuses of the UserTaskRuns
+ * @param types Names of the UserTaskDefs of the UserTaskRuns
+ * @param notesContaining Text that the notes of the UserTaskRuns contain, ignoring case
+ * @param matchingText Words that the notes or comments of the UserTaskRuns contain, ignoring case and word order
+ * @param visibleTo User that must be allowed to see the UserTaskRuns, null to skip this check
+ * @param newestFirst Whether the most recently scheduled UserTaskRuns come first
+ * @param offset Number of matching UserTaskRuns to skip
+ * @param limit Max number of UserTaskRuns to return
+ */
+@Builder
+public record UserTaskRunQuery(
+        Set<String> userIds,
+        Set<String> userGroups,
+        Set<UserTaskStatus> statuses,
+        Set<String> types,
+        @Nullable String notesContaining,
+        @Nullable String matchingText,
+        @Nullable Viewer visibleTo,
+        boolean newestFirst,
+        int offset,
+        int limit) {
+
+    public UserTaskRunQuery {
+        userIds = copyOf(userIds);
+        userGroups = copyOf(userGroups);
+        statuses = copyOf(statuses);
+        types = copyOf(types);
+
+        if (offset < 0 || limit < 1) {
+            throw new IllegalArgumentException("Offset cannot be negative and limit must be positive");
+        }
+    }
+
+    /**
+     * @param userId Id of the user
+     * @param userGroups Names of the UserGroups that the user belongs to
+     */
+    public record Viewer(@NonNull String userId, Set<String> userGroups) {
+        public Viewer {
+            userGroups = copyOf(userGroups);
+        }
+    }
+
+    private static <T> Set<T> copyOf(@Nullable Collection<T> values) {
+        return values != null ? Set.copyOf(values) : Set.of();
+    }
+}
@@ -0,0 +1,10 @@
+package io.littlehorse.usertasks.read_model;
+
+import io.littlehorse.usertasks.models.responses.SimpleUserTaskRunDTO;
+import java.util.List;
+
+/**
+ * @param userTaskRuns UserTaskRuns of the requested page, in the requested order
+ * @param totalMatches Number of UserTaskRuns that matched the filters, across every page
+ */
+public record UserTaskRunQueryResult(List<SimpleUserTaskRunDTO> userTaskRuns, int totalMatches) {}
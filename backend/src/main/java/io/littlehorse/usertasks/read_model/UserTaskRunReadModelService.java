@@ -0,0 +1,465 @@
+package io.littlehorse.usertasks.read_model;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Timestamp;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.littlehorse.sdk.common.proto.LittleHorseGrpc;
+import io.littlehorse.sdk.common.proto.SearchUserTaskRunRequest;
+import io.littlehorse.sdk.common.proto.UserTaskRun;
+import io.littlehorse.sdk.common.proto.UserTaskRunId;
+import io.littlehorse.sdk.common.proto.UserTaskRunIdList;
+import io.littlehorse.sdk.common.proto.WfRunId;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * Optional in-process read model of the UserTaskRuns of the tenants it serves, for queries that LH Kernel's search
+ * cannot answer (sorting newest first, filtering on notes, matching several users or UserGroups at once, etc.).
+ * <p>
+ * When {@code lhut.read-model.enabled} is set, a tenant is served once it is first queried, or right away when it is
+ * listed in {@code lhut.read-model.tenants}. Configured tenants that are never queried are not polled, so their
+ * tenant-bound clients are neither created nor kept alive by the read model.
+ * <p>
+ * A background thread backfills each served tenant page by page and then polls the kernel every
+ * {@code lhut.read-model.poll-interval}: new UserTaskRuns are found by searching from the latest scheduled time seen
+ * so far, and a batch of {@code lhut.read-model.refresh-batch-size} UserTaskRuns that are not DONE nor CANCELLED yet
+ * is re-read concurrently so that their assignments and statuses catch up. Queries are answered from memory, so new
+ * UserTaskRuns show up within a poll interval, but a change to a pending UserTaskRun only shows up once its batch
+ * comes around: within {@code ceil(pending / refresh-batch-size)} poll intervals. UserTaskRuns changed through this
+ * bridge (assigned, claimed, cancelled, completed or commented on) are applied as soon as the change is done, see
+ * {@link #onUserTaskRunUpdated}.
+ * <p>
+ * Rows of UserTaskRuns that disappear from the kernel are compacted away once they make up a large enough part of the
+ * table.
+ * <p>
+ * When {@code lhut.read-model.snapshot-dir} is set, the read model of each tenant is also written to that directory
+ * every {@code lhut.read-model.snapshot-interval} and on shutdown. On startup, tenants with a snapshot are served
+ * from it right away and only poll the kernel for what changed after the snapshot's watermark. Served tenants keep
+ * being polled until the bridge restarts.
+ */
+@Service
+@Slf4j
+public class UserTaskRunReadModelService {
+    // New UserTaskRuns may become searchable a bit after their scheduled time, so each poll looks back this far
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(1);
+    private static final int MAX_CONCURRENT_REFRESHES = 32;
+
+    private final Map<String, LittleHorseGrpc.LittleHorseBlockingStub> lhClients;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final int pageSize;
+    private final int refreshBatchSize;
+    private final Path snapshotDirectory;
+    private final Duration snapshotInterval;
+    private final Map<String, TenantReadModel> tenantReadModels = new ConcurrentHashMap<>();
+    private final Set<String> servedTenants = ConcurrentHashMap.newKeySet();
+    private volatile ScheduledExecutorService refresher;
+
+    UserTaskRunReadModelService(
+            Map<String, LittleHorseGrpc.LittleHorseBlockingStub> lhClients,
+            @Value("${lhut.read-model.enabled:false}") boolean enabled,
+            @Value("${lhut.read-model.poll-interval:PT30S}") Duration pollInterval,
+            @Value("${lhut.read-model.page-size:500}") int pageSize,
+            @Value("${lhut.read-model.refresh-batch-size:1000}") int refreshBatchSize,
+            @Value("${lhut.read-model.snapshot-dir:}") String snapshotDirectory,
+            @Value("${lhut.read-model.snapshot-interval:PT5M}") Duration snapshotInterval,
+            @Value("${lhut.read-model.tenants:}") String tenants) {
+        this.lhClients = lhClients;
+        this.enabled = enabled;
+        this.pollInterval = pollInterval;
+        this.pageSize = pageSize;
+        this.refreshBatchSize = refreshBatchSize;
+        this.snapshotDirectory = StringUtils.hasText(snapshotDirectory) ? Path.of(snapshotDirectory) : null;
+        this.snapshotInterval = snapshotInterval;
+
+        for (String tenantId : StringUtils.tokenizeToStringArray(tenants, ",")) {
+            if (lhClients.containsKey(tenantId)) {
+                servedTenants.add(tenantId);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!enabled) {
+            return;
+        }
+
+        refresher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("lhut-read-model").daemon().factory());
+        refresher.execute(this::loadSnapshots);
+        refresher.scheduleWithFixedDelay(this::refreshAll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (refresher == null) {
+            return;
+        }
+
+        refresher.shutdownNow();
+
+        // Snapshots are written by the refresher thread, so the last one waits for it to finish its current run
+        if (refresher.awaitTermination(30, TimeUnit.SECONDS)) {
+            tenantReadModels.keySet().forEach(this::writeSnapshot);
+        }
+    }
+
+    /**
+     * @param tenantId Tenant whose UserTaskRuns are queried
+     * @param query Filters, sorting and page to apply
+     * @return The page of matching UserTaskRuns, or an empty Optional if the read model is disabled or the tenant has
+     * not been backfilled yet
+     */
+    public Optional<UserTaskRunQueryResult> query(@NonNull String tenantId, @NonNull UserTaskRunQuery query) {
+        serve(tenantId);
+        TenantReadModel tenantReadModel = tenantReadModels.get(tenantId);
+
+        if (tenantReadModel == null || !tenantReadModel.backfilled) {
+            return Optional.empty();
+        }
+
+        return Optional.of(tenantReadModel.table.query(query));
+    }
+
+    /**
+     * @param tenantId Tenant whose UserTaskRuns are counted
+     * @return The number of UserTaskRuns of the tenant, or an empty Optional if the read model is disabled or the
+     * tenant has not been backfilled yet
+     */
+    public Optional<UserTaskRunCounts> counts(@NonNull String tenantId) {
+        serve(tenantId);
+        TenantReadModel tenantReadModel = tenantReadModels.get(tenantId);
+
+        if (tenantReadModel == null || !tenantReadModel.backfilled) {
+            return Optional.empty();
+        }
+
+        return Optional.of(tenantReadModel.table.counts());
+    }
+
+    /**
+     * @param tenantId Tenant whose read model is checked
+     * @return Whether queries of the tenant are answered from the read model, in which case a UserTaskRun changed
+     * through this bridge has to be passed to {@link #onUserTaskRunUpdated} once the change is done
+     */
+    public boolean isServing(@NonNull String tenantId) {
+        TenantReadModel tenantReadModel = tenantReadModels.get(tenantId);
+
+        return tenantReadModel != null && tenantReadModel.backfilled;
+    }
+
+    /**
+     * Applies a version of a UserTaskRun that was just returned by the kernel, so that changes made through this
+     * bridge (assignments, claims, cancellations, completions and comments) are visible to queries right away instead
+     * of after the pending UserTaskRun's refresh batch comes around
+     *
+     * @param tenantId Tenant that the UserTaskRun belongs to
+     * @param userTaskRun Latest version of the UserTaskRun
+     */
+    public void onUserTaskRunUpdated(@NonNull String tenantId, @NonNull UserTaskRun userTaskRun) {
+        TenantReadModel tenantReadModel = tenantReadModels.get(tenantId);
+
+        if (tenantReadModel != null && tenantReadModel.backfilled) {
+            tenantReadModel.table.upsert(userTaskRun);
+        }
+    }
+
+    /**
+     * Re-reads and applies a UserTaskRun that was changed through this bridge by a kernel call that does not return it
+     * (assignments, claims, cancellations and completions), if the tenant is served from the read model. A failed
+     * re-read is only logged: the change itself went through, and the UserTaskRun catches up with its refresh batch.
+     *
+     * @param tenantId Tenant that the UserTaskRun belongs to
+     * @param userTaskRunId Id of the UserTaskRun that changed
+     */
+    public void onUserTaskRunChanged(@NonNull String tenantId, @NonNull UserTaskRunId userTaskRunId) {
+        if (!isServing(tenantId)) {
+            return;
+        }
+
+        try {
+            onUserTaskRunUpdated(tenantId, lhClients.get(tenantId).getUserTaskRun(userTaskRunId));
+        } catch (StatusRuntimeException e) {
+            log.atWarn()
+                    .setMessage("Could not re-read UserTaskRun with wfRunId: {} and guid: {} for the read model: {}")
+                    .addArgument(userTaskRunId.getWfRunId().getId())
+                    .addArgument(userTaskRunId.getUserTaskGuid())
+                    .addArgument(e.getMessage())
+                    .log();
+        }
+    }
+
+    /**
+     * Starts polling a configured tenant the first time it is queried. Its backfill is scheduled right away, and until
+     * it is done queries of the tenant keep going to the kernel.
+     */
+    private void serve(String tenantId) {
+        if (!enabled || !lhClients.containsKey(tenantId) || !servedTenants.add(tenantId)) {
+            return;
+        }
+
+        ScheduledExecutorService currentRefresher = refresher;
+
+        if (currentRefresher != null) {
+            try {
+                currentRefresher.execute(() -> refreshQuietly(tenantId));
+            } catch (RejectedExecutionException e) {
+                // Shutting down, there is nothing left to backfill for
+            }
+        }
+    }
+
+    void refreshAll() {
+        servedTenants.forEach(this::refreshQuietly);
+    }
+
+    private void refreshQuietly(String tenantId) {
+        try {
+            refreshTenant(tenantId);
+        } catch (RuntimeException e) {
+            log.atWarn()
+                    .setMessage("Could not refresh read model of tenant {}: {}")
+                    .addArgument(tenantId)
+                    .addArgument(e.getMessage())
+                    .log();
+        }
+    }
+
+    void loadSnapshots() {
+        if (snapshotDirectory == null) {
+            return;
+        }
+
+        for (String tenantId : lhClients.keySet()) {
+            UserTaskRunTableSnapshot.read(snapshotPath(tenantId)).ifPresent(snapshot -> {
+                TenantReadModel tenantReadModel = new TenantReadModel(snapshot.table());
+                tenantReadModel.watermark = snapshot.watermark();
+                tenantReadModel.backfilled = true;
+                tenantReadModel.lastSnapshotNanos = System.nanoTime();
+                tenantReadModels.put(tenantId, tenantReadModel);
+                servedTenants.add(tenantId);
+
+                log.atInfo()
+                        .setMessage("Read model of tenant {} loaded from snapshot with {} UserTaskRuns")
+                        .addArgument(tenantId)
+                        .addArgument(snapshot.table().size())
+                        .log();
+            });
+        }
+    }
+
+    void refreshTenant(String tenantId) {
+        LittleHorseGrpc.LittleHorseBlockingStub tenantClient = lhClients.get(tenantId);
+        TenantReadModel tenantReadModel =
+                tenantReadModels.computeIfAbsent(tenantId, id -> new TenantReadModel(new UserTaskRunTable()));
+
+        Timestamp watermark = pollNewUserTaskRuns(tenantClient, tenantReadModel);
+
+        if (!tenantReadModel.backfilled) {
+            log.atInfo()
+                    .setMessage("Read model of tenant {} backfilled with {} UserTaskRuns")
+                    .addArgument(tenantId)
+                    .addArgument(tenantReadModel.table.size())
+                    .log();
+        }
+
+        tenantReadModel.watermark = watermark;
+        tenantReadModel.backfilled = true;
+
+        refreshPendingUserTaskRuns(tenantClient, tenantReadModel);
+
+        // Compaction moves rows, so the scan of pending rows starts over
+        if (tenantReadModel.table.compactIfFragmented()) {
+            tenantReadModel.pendingScanCursor = 0;
+        }
+
+        if (snapshotDirectory != null
+                && System.nanoTime() - tenantReadModel.lastSnapshotNanos >= snapshotInterval.toNanos()) {
+            writeSnapshot(tenantId);
+        }
+    }
+
+    void writeSnapshot(String tenantId) {
+        TenantReadModel tenantReadModel = tenantReadModels.get(tenantId);
+
+        if (snapshotDirectory == null || tenantReadModel == null || !tenantReadModel.backfilled) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(snapshotDirectory);
+            UserTaskRunTableSnapshot.write(tenantReadModel.table, tenantReadModel.watermark, snapshotPath(tenantId));
+            tenantReadModel.lastSnapshotNanos = System.nanoTime();
+        } catch (IOException e) {
+            log.atWarn()
+                    .setMessage("Could not write read model snapshot of tenant {}: {}")
+                    .addArgument(tenantId)
+                    .addArgument(e.getMessage())
+                    .log();
+        }
+    }
+
+    private Path snapshotPath(String tenantId) {
+        return snapshotDirectory.resolve(URLEncoder.encode(tenantId, StandardCharsets.UTF_8) + ".snapshot");
+    }
+
+    private Timestamp pollNewUserTaskRuns(
+            LittleHorseGrpc.LittleHorseBlockingStub tenantClient, TenantReadModel tenantReadModel) {
+        Timestamp watermark = tenantReadModel.watermark;
+        Timestamp latestScheduledTime = watermark;
+        ByteString bookmark = null;
+
+        do {
+            var searchRequest = SearchUserTaskRunRequest.newBuilder().setLimit(pageSize);
+
+            if (watermark != null) {
+                searchRequest.setEarliestStart(Timestamp.newBuilder()
+                        .setSeconds(watermark.getSeconds() - WATERMARK_OVERLAP.toSeconds())
+                        .setNanos(watermark.getNanos()));
+            }
+
+            if (bookmark != null) {
+                searchRequest.setBookmark(bookmark);
+            }
+
+            UserTaskRunIdList searchResults = tenantClient.searchUserTaskRun(searchRequest.build());
+
+            for (UserTaskRunId userTaskRunId : searchResults.getResultsList()) {
+                // DONE and CANCELLED UserTaskRuns do not change anymore, so they are not read again
+                if (tenantReadModel.table.isSettled(
+                        userTaskRunId.getWfRunId().getId(), userTaskRunId.getUserTaskGuid())) {
+                    continue;
+                }
+
+                UserTaskRun userTaskRun;
+
+                try {
+                    userTaskRun = tenantClient.getUserTaskRun(userTaskRunId);
+                } catch (StatusRuntimeException e) {
+                    if (e.getStatus().getCode() != Status.Code.NOT_FOUND) {
+                        throw e;
+                    }
+
+                    // Deleted between the search and the read, which must not abort the rest of the backfill
+                    continue;
+                }
+
+                tenantReadModel.table.upsert(userTaskRun);
+                latestScheduledTime = latest(latestScheduledTime, userTaskRun.getScheduledTime());
+            }
+
+            bookmark = searchResults.hasBookmark() ? searchResults.getBookmark() : null;
+        } while (bookmark != null);
+
+        return latestScheduledTime;
+    }
+
+    private void refreshPendingUserTaskRuns(
+            LittleHorseGrpc.LittleHorseBlockingStub tenantClient, TenantReadModel tenantReadModel) {
+        UserTaskRunTable.PendingScan pendingScan =
+                tenantReadModel.table.scanPending(tenantReadModel.pendingScanCursor, refreshBatchSize);
+        Semaphore availableRefreshes = new Semaphore(MAX_CONCURRENT_REFRESHES);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> refreshes = pendingScan.keys().stream()
+                    .<Future<?>>map(key -> executor.submit(() -> {
+                        availableRefreshes.acquire();
+                        try {
+                            refreshUserTaskRun(tenantClient, tenantReadModel.table, key);
+                            return null;
+                        } finally {
+                            availableRefreshes.release();
+                        }
+                    }))
+                    .toList();
+
+            for (Future<?> refresh : refreshes) {
+                try {
+                    refresh.get();
+                } catch (ExecutionException e) {
+                    refreshes.forEach(pendingRefresh -> pendingRefresh.cancel(true));
+
+                    if (e.getCause() instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+
+                    throw new IllegalStateException(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    refreshes.forEach(pendingRefresh -> pendingRefresh.cancel(true));
+                    return;
+                }
+            }
+        }
+
+        tenantReadModel.pendingScanCursor = pendingScan.nextRow();
+    }
+
+    private static void refreshUserTaskRun(
+            LittleHorseGrpc.LittleHorseBlockingStub tenantClient, UserTaskRunTable table, UserTaskRunTable.RowKey key) {
+        UserTaskRunId userTaskRunId = UserTaskRunId.newBuilder()
+                .setWfRunId(WfRunId.newBuilder().setId(key.wfRunId()))
+                .setUserTaskGuid(key.userTaskGuid())
+                .build();
+
+        try {
+            table.upsert(tenantClient.getUserTaskRun(userTaskRunId));
+        } catch (StatusRuntimeException e) {
+            if (e.getStatus().getCode() != Status.Code.NOT_FOUND) {
+                throw e;
+            }
+
+            table.remove(key.wfRunId(), key.userTaskGuid());
+        }
+    }
+
+    private static Timestamp latest(Timestamp current, Timestamp candidate) {
+        if (current == null
+                || candidate.getSeconds() > current.getSeconds()
+                || (candidate.getSeconds() == current.getSeconds() && candidate.getNanos() > current.getNanos())) {
+            return candidate;
+        }
+
+        return current;
+    }
+
+    private static class TenantReadModel {
+        private final UserTaskRunTable table;
+        private volatile boolean backfilled;
+        private volatile Timestamp watermark;
+        private int pendingScanCursor;
+        private long lastSnapshotNanos;
+
+        private TenantReadModel(UserTaskRunTable table) {
+            this.table = table;
+            this.lastSnapshotNanos = System.nanoTime();
+        }
+    }
+}
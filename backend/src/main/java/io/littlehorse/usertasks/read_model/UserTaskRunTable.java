@@ -0,0 +1,629 @@
+package io.littlehorse.usertasks.read_model;
+
+import io.littlehorse.sdk.common.proto.UserTaskEvent;
+import io.littlehorse.sdk.common.proto.UserTaskRun;
+import io.littlehorse.usertasks.models.common.UserDTO;
+import io.littlehorse.usertasks.models.common.UserGroupDTO;
+import io.littlehorse.usertasks.models.responses.SimpleUserTaskRunDTO;
+import io.littlehorse.usertasks.util.enums.UserTaskStatus;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import lombok.NonNull;
+
+/**
+ * In-memory, column-oriented table of the UserTaskRuns of a tenant.
+ * <p>
+ * Every attribute is stored in its own primitive array indexed by row, and repeated strings (UserTaskDef names, user
+ * ids and UserGroup names) are dictionary-encoded into ints, which keeps rows small and scans cache-friendly. Each
+ * encoded value, and each status, keeps a bitmap of the rows that hold it, so filters are answered by combining
+ * bitmaps instead of scanning rows. The words of the notes and comments of each row are kept in a {@link TextIndex}
+ * for full-text search.
+ * <p>
+ * Rows of UserTaskRuns that disappear from the kernel are tombstoned, and {@link #compactIfFragmented()} packs the
+ * live rows together once tombstones take up a quarter of the table. Queries share a read lock and updates take the
+ * write lock.
+ */
+final class UserTaskRunTable {
+    static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1024;
+    private static final UserTaskStatus[] STATUSES = UserTaskStatus.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<RowKey, Integer> rowsByKey = new HashMap<>();
+    private final ValueDictionary userTaskDefNames = new ValueDictionary();
+    private final ValueDictionary userIds = new ValueDictionary();
+    private final ValueDictionary userGroups = new ValueDictionary();
+    private final BitSet[] rowsByStatus = new BitSet[STATUSES.length];
+    private final BitSet liveRows = new BitSet();
+    private final TextIndex textIndex = new TextIndex();
+
+    private String[] wfRunIdColumn = new String[INITIAL_CAPACITY];
+    private String[] userTaskGuidColumn = new String[INITIAL_CAPACITY];
+    private String[] notesColumn = new String[INITIAL_CAPACITY];
+    private String[] commentsColumn = new String[INITIAL_CAPACITY];
+    private int[] userTaskDefNameColumn = new int[INITIAL_CAPACITY];
+    private int[] userIdColumn = new int[INITIAL_CAPACITY];
+    private int[] userGroupColumn = new int[INITIAL_CAPACITY];
+    private byte[] statusColumn = new byte[INITIAL_CAPACITY];
+    private long[] scheduledTimeColumn = new long[INITIAL_CAPACITY];
+    private int rowCount;
+
+    UserTaskRunTable() {
+        Arrays.setAll(rowsByStatus, status -> new BitSet());
+    }
+
+    /**
+     * Inserts the UserTaskRun, or replaces the row that holds a previous version of it
+     */
+    void upsert(@NonNull UserTaskRun userTaskRun) {
+        RowKey key = new RowKey(userTaskRun.getId().getWfRunId().getId(), userTaskRun.getId().getUserTaskGuid());
+        String notes = userTaskRun.getNotes();
+        String comments = commentsOf(userTaskRun);
+
+        lock.writeLock().lock();
+
+        try {
+            Integer existingRow = rowsByKey.get(key);
+            int row;
+            boolean textChanged;
+
+            if (existingRow != null) {
+                row = existingRow;
+                // Most updates are status or assignment changes, which leave the words of the row as they were
+                textChanged =
+                        !Objects.equals(notesColumn[row], notes) || !Objects.equals(commentsColumn[row], comments);
+                unindexAttributes(row);
+
+                if (textChanged) {
+                    textIndex.remove(row, wordsOf(row));
+                }
+            } else {
+                row = rowCount++;
+                textChanged = true;
+                ensureCapacity(rowCount);
+                rowsByKey.put(key, row);
+            }
+
+            wfRunIdColumn[row] = key.wfRunId();
+            userTaskGuidColumn[row] = key.userTaskGuid();
+            notesColumn[row] = notes;
+            commentsColumn[row] = comments;
+            userTaskDefNameColumn[row] = userTaskDefNames.encode(userTaskRun.getUserTaskDefId().getName());
+            userIdColumn[row] = userTaskRun.hasUserId() ? userIds.encode(userTaskRun.getUserId()) : NONE;
+            userGroupColumn[row] = userTaskRun.hasUserGroup() ? userGroups.encode(userTaskRun.getUserGroup()) : NONE;
+            statusColumn[row] = (byte) UserTaskStatus.fromServerStatus(userTaskRun.getStatus()).ordinal();
+            scheduledTimeColumn[row] = userTaskRun.getScheduledTime().getSeconds() * 1_000_000_000L
+                    + userTaskRun.getScheduledTime().getNanos();
+
+            indexAttributes(row);
+
+            if (textChanged) {
+                textIndex.add(row, wordsOf(row));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the UserTaskRun from the table, if it is there
+     */
+    void remove(@NonNull String wfRunId, @NonNull String userTaskGuid) {
+        lock.writeLock().lock();
+
+        try {
+            Integer row = rowsByKey.remove(new RowKey(wfRunId, userTaskGuid));
+
+            if (row != null) {
+                unindex(row);
+                liveRows.clear(row);
+                wfRunIdColumn[row] = null;
+                userTaskGuidColumn[row] = null;
+                notesColumn[row] = null;
+                commentsColumn[row] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Moves the live rows to the front of the columns, in their current order, and rebuilds the indexes, once
+     * tombstones make up at least a quarter of the rows. Row numbers change, so scans of pending rows must start over.
+     *
+     * @return Whether the table was compacted
+     */
+    boolean compactIfFragmented() {
+        lock.writeLock().lock();
+
+        try {
+            int tombstones = rowCount - rowsByKey.size();
+
+            if (tombstones < MIN_TOMBSTONES_TO_COMPACT || tombstones * 4L < rowCount) {
+                return false;
+            }
+
+            BitSet rowsToKeep = (BitSet) liveRows.clone();
+            liveRows.clear();
+            textIndex.clear();
+            Arrays.stream(rowsByStatus).forEach(BitSet::clear);
+            List.of(userTaskDefNames, userIds, userGroups).forEach(ValueDictionary::clearRows);
+
+            int newRow = 0;
+
+            // Live rows only move towards the front, so they can be copied in place
+            for (int row = rowsToKeep.nextSetBit(0); row >= 0; row = rowsToKeep.nextSetBit(row + 1), newRow++) {
+                wfRunIdColumn[newRow] = wfRunIdColumn[row];
+                userTaskGuidColumn[newRow] = userTaskGuidColumn[row];
+                notesColumn[newRow] = notesColumn[row];
+                commentsColumn[newRow] = commentsColumn[row];
+                userTaskDefNameColumn[newRow] = userTaskDefNameColumn[row];
+                userIdColumn[newRow] = userIdColumn[row];
+                userGroupColumn[newRow] = userGroupColumn[row];
+                statusColumn[newRow] = statusColumn[row];
+                scheduledTimeColumn[newRow] = scheduledTimeColumn[row];
+                rowsByKey.put(new RowKey(wfRunIdColumn[newRow], userTaskGuidColumn[newRow]), newRow);
+                index(newRow);
+            }
+
+            Arrays.fill(wfRunIdColumn, newRow, rowCount, null);
+            Arrays.fill(userTaskGuidColumn, newRow, rowCount, null);
+            Arrays.fill(notesColumn, newRow, rowCount, null);
+            Arrays.fill(commentsColumn, newRow, rowCount, null);
+            rowCount = newRow;
+
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param wfRunId Id of the WfRun of the UserTaskRun
+     * @param userTaskGuid Guid of the UserTaskRun
+     * @return Whether the UserTaskRun is in the table and it is already DONE or CANCELLED, so it will not change
+     */
+    boolean isSettled(@NonNull String wfRunId, @NonNull String userTaskGuid) {
+        lock.readLock().lock();
+
+        try {
+            Integer row = rowsByKey.get(new RowKey(wfRunId, userTaskGuid));
+
+            return row != null && !isPending(row);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param fromRow Row to resume the scan from, 0 to start over
+     * @param maxRows Max number of keys to return
+     * @return Keys of the next UserTaskRuns that are neither DONE nor CANCELLED, starting at {@code fromRow}
+     */
+    PendingScan scanPending(int fromRow, int maxRows) {
+        lock.readLock().lock();
+
+        try {
+            List<RowKey> pendingKeys = new ArrayList<>();
+            int row = liveRows.nextSetBit(fromRow);
+
+            while (row >= 0 && pendingKeys.size() < maxRows) {
+                if (isPending(row)) {
+                    pendingKeys.add(new RowKey(wfRunIdColumn[row], userTaskGuidColumn[row]));
+                }
+
+                row = liveRows.nextSetBit(row + 1);
+            }
+
+            return new PendingScan(pendingKeys, row >= 0 ? row : 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param query Filters, sorting and page to apply
+     * @return The page of matching UserTaskRuns
+     */
+    UserTaskRunQueryResult query(@NonNull UserTaskRunQuery query) {
+        lock.readLock().lock();
+
+        try {
+            BitSet candidates = (BitSet) liveRows.clone();
+
+            restrict(candidates, userIds, query.userIds());
+            restrict(candidates, userGroups, query.userGroups());
+            restrict(candidates, userTaskDefNames, query.types());
+
+            if (!query.statuses().isEmpty()) {
+                BitSet matchingStatuses = new BitSet();
+                query.statuses().forEach(status -> matchingStatuses.or(rowsByStatus[status.ordinal()]));
+                candidates.and(matchingStatuses);
+            }
+
+            Set<String> words = TextIndex.tokenize(query.matchingText());
+
+            if (!words.isEmpty()) {
+                candidates.and(textIndex.rowsContainingAll(words));
+            }
+
+            String notesFilter = query.notesContaining() != null
+                    ? query.notesContaining().toLowerCase(Locale.ROOT)
+                    : null;
+            List<Integer> matches = new ArrayList<>(candidates.cardinality());
+
+            for (int row = candidates.nextSetBit(0); row >= 0; row = candidates.nextSetBit(row + 1)) {
+                if ((notesFilter == null
+                                || (notesColumn[row] != null
+                                        && notesColumn[row].toLowerCase(Locale.ROOT).contains(notesFilter)))
+                        && (query.visibleTo() == null || isVisibleTo(row, query.visibleTo()))) {
+                    matches.add(row);
+                }
+            }
+
+            Comparator<Integer> scheduledFirst = Comparator.comparingLong(row -> scheduledTimeColumn[row]);
+            matches.sort(query.newestFirst() ? scheduledFirst.reversed() : scheduledFirst);
+
+            int fromIndex = Math.min(query.offset(), matches.size());
+            int toIndex = Math.min(fromIndex + query.limit(), matches.size());
+
+            return new UserTaskRunQueryResult(
+                    matches.subList(fromIndex, toIndex).stream().map(this::toDTO).toList(),
+                    matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of UserTaskRuns in the table, in total and by status, UserTaskDef and UserGroup, read from the
+     * cardinality of the indexes
+     */
+    UserTaskRunCounts counts() {
+        lock.readLock().lock();
+
+        try {
+            Map<UserTaskStatus, Long> byStatus = new EnumMap<>(UserTaskStatus.class);
+
+            for (UserTaskStatus status : STATUSES) {
+                byStatus.put(status, (long) rowsByStatus[status.ordinal()].cardinality());
+            }
+
+            return new UserTaskRunCounts(
+                    liveRows.cardinality(), byStatus, userTaskDefNames.counts(), userGroups.counts());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of UserTaskRuns in the table
+     */
+    int size() {
+        lock.readLock().lock();
+
+        try {
+            return rowsByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes every live row, column by column, along with the dictionaries that the columns refer to. The output is
+     * read back by {@link #readColumns(ByteBuffer)}.
+     */
+    void writeColumns(DataOutputStream output) throws IOException {
+        lock.readLock().lock();
+
+        try {
+            for (ValueDictionary dictionary : List.of(userTaskDefNames, userIds, userGroups)) {
+                output.writeInt(dictionary.values.size());
+
+                for (String value : dictionary.values) {
+                    writeString(output, value);
+                }
+            }
+
+            output.writeInt(liveRows.cardinality());
+
+            for (int row = liveRows.nextSetBit(0); row >= 0; row = liveRows.nextSetBit(row + 1)) {
+                writeString(output, wfRunIdColumn[row]);
+                writeString(output, userTaskGuidColumn[row]);
+                writeString(output, notesColumn[row]);
+                writeString(output, commentsColumn[row]);
+                output.writeInt(userTaskDefNameColumn[row]);
+                output.writeInt(userIdColumn[row]);
+                output.writeInt(userGroupColumn[row]);
+                output.writeByte(statusColumn[row]);
+                output.writeLong(scheduledTimeColumn[row]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds a table, including its indexes, from the output of {@link #writeColumns(DataOutputStream)}
+     *
+     * @throws java.nio.BufferUnderflowException if the input is truncated
+     */
+    static UserTaskRunTable readColumns(ByteBuffer input) {
+        UserTaskRunTable table = new UserTaskRunTable();
+
+        for (ValueDictionary dictionary : List.of(table.userTaskDefNames, table.userIds, table.userGroups)) {
+            int valueCount = input.getInt();
+
+            for (int code = 0; code < valueCount; code++) {
+                dictionary.encode(readString(input));
+            }
+        }
+
+        int rowCount = input.getInt();
+        table.ensureCapacity(rowCount);
+
+        for (int row = 0; row < rowCount; row++) {
+            table.wfRunIdColumn[row] = readString(input);
+            table.userTaskGuidColumn[row] = readString(input);
+            table.notesColumn[row] = readString(input);
+            table.commentsColumn[row] = readString(input);
+            table.userTaskDefNameColumn[row] = input.getInt();
+            table.userIdColumn[row] = input.getInt();
+            table.userGroupColumn[row] = input.getInt();
+            table.statusColumn[row] = input.get();
+            table.scheduledTimeColumn[row] = input.getLong();
+            table.rowsByKey.put(new RowKey(table.wfRunIdColumn[row], table.userTaskGuidColumn[row]), row);
+            table.index(row);
+        }
+
+        table.rowCount = rowCount;
+
+        return table;
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(NONE);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer input) {
+        int length = input.getInt();
+
+        if (length == NONE) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        input.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean isPending(int row) {
+        UserTaskStatus status = STATUSES[statusColumn[row]];
+
+        return status != UserTaskStatus.DONE && status != UserTaskStatus.CANCELLED;
+    }
+
+    /**
+     * Same rule as the one that decides whether a user can see the details of a UserTaskRun: a UserTaskRun assigned
+     * to a user is only visible to that user, and one assigned to a UserGroup only to members of that UserGroup.
+     */
+    private boolean isVisibleTo(int row, UserTaskRunQuery.Viewer viewer) {
+        if (userIdColumn[row] != NONE) {
+            return userIds.valueOf(userIdColumn[row]).equalsIgnoreCase(viewer.userId());
+        }
+
+        if (userGroupColumn[row] != NONE) {
+            String userGroup = userGroups.valueOf(userGroupColumn[row]);
+
+            return viewer.userGroups().stream().anyMatch(userGroup::equalsIgnoreCase);
+        }
+
+        return true;
+    }
+
+    /**
+     * @return The text of the comments of the UserTaskRun that were not deleted, in their latest version
+     */
+    private static String commentsOf(UserTaskRun userTaskRun) {
+        Map<Integer, String> latestComments = new TreeMap<>();
+
+        for (UserTaskEvent event : userTaskRun.getEventsList()) {
+            if (event.hasCommentAdded()) {
+                latestComments.put(event.getCommentAdded().getUserCommentId(), event.getCommentAdded().getComment());
+            } else if (event.hasCommentEdited()) {
+                latestComments.put(event.getCommentEdited().getUserCommentId(), event.getCommentEdited().getComment());
+            } else if (event.hasCommentDeleted()) {
+                latestComments.remove(event.getCommentDeleted().getUserCommentId());
+            }
+        }
+
+        return latestComments.isEmpty() ? null : String.join("\n", latestComments.values());
+    }
+
+    private Set<String> wordsOf(int row) {
+        Set<String> words = TextIndex.tokenize(notesColumn[row]);
+        words.addAll(TextIndex.tokenize(commentsColumn[row]));
+
+        return words;
+    }
+
+    private void index(int row) {
+        indexAttributes(row);
+        textIndex.add(row, wordsOf(row));
+    }
+
+    private void unindex(int row) {
+        unindexAttributes(row);
+        textIndex.remove(row, wordsOf(row));
+    }
+
+    private void indexAttributes(int row) {
+        liveRows.set(row);
+        userTaskDefNames.rowsOf(userTaskDefNameColumn[row]).set(row);
+        rowsByStatus[statusColumn[row]].set(row);
+
+        if (userIdColumn[row] != NONE) {
+            userIds.rowsOf(userIdColumn[row]).set(row);
+        }
+
+        if (userGroupColumn[row] != NONE) {
+            userGroups.rowsOf(userGroupColumn[row]).set(row);
+        }
+    }
+
+    private void unindexAttributes(int row) {
+        userTaskDefNames.rowsOf(userTaskDefNameColumn[row]).clear(row);
+        rowsByStatus[statusColumn[row]].clear(row);
+
+        if (userIdColumn[row] != NONE) {
+            userIds.rowsOf(userIdColumn[row]).clear(row);
+        }
+
+        if (userGroupColumn[row] != NONE) {
+            userGroups.rowsOf(userGroupColumn[row]).clear(row);
+        }
+    }
+
+    private static void restrict(BitSet candidates, ValueDictionary dictionary, Collection<String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        BitSet matchingRows = new BitSet();
+
+        for (String value : values) {
+            int code = dictionary.codeOf(value);
+
+            if (code != NONE) {
+                matchingRows.or(dictionary.rowsOf(code));
+            }
+        }
+
+        candidates.and(matchingRows);
+    }
+
+    private SimpleUserTaskRunDTO toDTO(int row) {
+        long scheduledTime = scheduledTimeColumn[row];
+
+        return SimpleUserTaskRunDTO.builder()
+                .id(userTaskGuidColumn[row])
+                .wfRunId(wfRunIdColumn[row])
+                .userTaskDefName(userTaskDefNames.valueOf(userTaskDefNameColumn[row]))
+                .user(decode(userIds, userIdColumn[row], id -> UserDTO.builder().id(id).build()))
+                .userGroup(decode(
+                        userGroups, userGroupColumn[row], name -> UserGroupDTO.builder().name(name).build()))
+                .status(STATUSES[statusColumn[row]])
+                .notes(notesColumn[row])
+                .scheduledTime(LocalDateTime.ofEpochSecond(
+                        Math.floorDiv(scheduledTime, 1_000_000_000L),
+                        (int) Math.floorMod(scheduledTime, 1_000_000_000L),
+                        ZoneOffset.UTC))
+                .build();
+    }
+
+    private static <T> T decode(ValueDictionary dictionary, int code, Function<String, T> builder) {
+        return code != NONE ? builder.apply(dictionary.valueOf(code)) : null;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= wfRunIdColumn.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, wfRunIdColumn.length * 2);
+        wfRunIdColumn = Arrays.copyOf(wfRunIdColumn, newCapacity);
+        userTaskGuidColumn = Arrays.copyOf(userTaskGuidColumn, newCapacity);
+        notesColumn = Arrays.copyOf(notesColumn, newCapacity);
+        commentsColumn = Arrays.copyOf(commentsColumn, newCapacity);
+        userTaskDefNameColumn = Arrays.copyOf(userTaskDefNameColumn, newCapacity);
+        userIdColumn = Arrays.copyOf(userIdColumn, newCapacity);
+        userGroupColumn = Arrays.copyOf(userGroupColumn, newCapacity);
+        statusColumn = Arrays.copyOf(statusColumn, newCapacity);
+        scheduledTimeColumn = Arrays.copyOf(scheduledTimeColumn, newCapacity);
+    }
+
+    record RowKey(String wfRunId, String userTaskGuid) {}
+
+    /**
+     * @param keys Keys of the pending UserTaskRuns that were found
+     * @param nextRow Row to resume the scan from, 0 once the whole table was scanned
+     */
+    record PendingScan(List<RowKey> keys, int nextRow) {}
+
+    /**
+     * Two-way mapping between the distinct values of a column and the ints stored in the column, along with the rows
+     * that hold each value
+     */
+    private static final class ValueDictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private final List<BitSet> rows = new ArrayList<>();
+
+        private int encode(String value) {
+            return codes.computeIfAbsent(value, newValue -> {
+                values.add(newValue);
+                rows.add(new BitSet());
+                return values.size() - 1;
+            });
+        }
+
+        private int codeOf(String value) {
+            return codes.getOrDefault(value, NONE);
+        }
+
+        private String valueOf(int code) {
+            return values.get(code);
+        }
+
+        private BitSet rowsOf(int code) {
+            return rows.get(code);
+        }
+
+        private void clearRows() {
+            rows.forEach(BitSet::clear);
+        }
+
+        private Map<String, Long> counts() {
+            Map<String, Long> counts = new TreeMap<>();
+
+            for (int code = 0; code < values.size(); code++) {
+                int rowCount = rows.get(code).cardinality();
+
+                if (rowCount > 0) {
+                    counts.put(values.get(code), (long) rowCount);
+                }
+            }
+
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.littlehorse.usertasks.read_model;
+
+import com.google.protobuf.Timestamp;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * On-disk snapshot of the read model of a tenant, so that a restart only has to poll the kernel for what changed after
+ * the snapshot was taken instead of backfilling the tenant again.
+ * <p>
+ * A snapshot holds a header (magic number, format version and the watermark of the table) followed by the columns of
+ * the table. Snapshots are written to a temporary file that atomically replaces the previous snapshot, and they are
+ * loaded through a memory-mapped buffer so the file is not copied into the heap before being decoded. Snapshots of
+ * another format version, or that cannot be decoded, are ignored.
+ */
+@Slf4j
+final class UserTaskRunTableSnapshot {
+    static final int FORMAT_VERSION = 2;
+    private static final int MAGIC = 0x4C48524D; // "LHRM"
+
+    private UserTaskRunTableSnapshot() {}
+
+    /**
+     * @param table Table to write
+     * @param watermark Latest scheduled time that the table was polled up to, null if unknown
+     * @param path File that the snapshot is written to
+     */
+    static void write(UserTaskRunTable table, Timestamp watermark, Path path) throws IOException {
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeBoolean(watermark != null);
+            output.writeLong(watermark != null ? watermark.getSeconds() : 0);
+            output.writeInt(watermark != null ? watermark.getNanos() : 0);
+            table.writeColumns(output);
+        }
+
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @param path File that the snapshot was written to
+     * @return The table and watermark of the snapshot, or an empty Optional if there is no usable snapshot
+     */
+    static Optional<Loaded> read(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                log.atWarn()
+                        .setMessage("Ignoring read model snapshot {}: it is too large to be mapped")
+                        .addArgument(path)
+                        .log();
+                return Optional.empty();
+            }
+
+            MappedByteBuffer input = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (input.getInt() != MAGIC || input.getInt() != FORMAT_VERSION) {
+                log.atWarn()
+                        .setMessage("Ignoring read model snapshot {}: unknown format")
+                        .addArgument(path)
+                        .log();
+                return Optional.empty();
+            }
+
+            Timestamp watermark = readWatermark(input);
+
+            return Optional.of(new Loaded(UserTaskRunTable.readColumns(input), watermark));
+        } catch (IOException | RuntimeException e) {
+            log.atWarn()
+                    .setMessage("Ignoring read model snapshot {}: {}")
+                    .addArgument(path)
+                    .addArgument(e.toString())
+                    .log();
+            return Optional.empty();
+        }
+    }
+
+    private static Timestamp readWatermark(ByteBuffer input) {
+        boolean hasWatermark = input.get() != 0;
+        long seconds = input.getLong();
+        int nanos = input.getInt();
+
+        return hasWatermark ? Timestamp.newBuilder().setSeconds(seconds).setNanos(nanos).build() : null;
+    }
+
+    /**
+     * @param table Table rebuilt from the snapshot
+     * @param watermark Latest scheduled time that the table was polled up to, null if unknown
+     */
+    record Loaded(UserTaskRunTable table, Timestamp watermark) {}
+}
@@ -0,0 +1,683 @@
+package io.littlehorse.usertasks.services;
+
+import static io.littlehorse.usertasks.services.UserTaskService.buildAssignUserTaskRunRequest;
+import static io.littlehorse.usertasks.services.UserTaskService.buildClaimUserTaskRunRequest;
+import static io.littlehorse.usertasks.services.UserTaskService.buildDetailedUserTaskRunDTO;
+import static io.littlehorse.usertasks.services.UserTaskService.buildSearchUserTaskRunRequest;
+import static io.littlehorse.usertasks.services.UserTaskService.buildUserTaskRunId;
+import static io.littlehorse.usertasks.services.UserTaskService.getLastCommentAddedBy;
+import static io.littlehorse.usertasks.services.UserTaskService.isUserTaskClaimable;
+import static io.littlehorse.usertasks.services.UserTaskService.isUserTaskTerminated;
+import static io.littlehorse.usertasks.services.UserTaskService.validateIfUserIsAllowedToSeeUserTask;
+import static io.littlehorse.usertasks.services.UserTaskService.validateMandatoryStringFields;
+import static io.littlehorse.usertasks.services.UserTaskService.validateUserIdentityForComment;
+import static io.littlehorse.usertasks.util.FutureUtil.toCompletableFuture;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.littlehorse.sdk.common.proto.*;
+import io.littlehorse.usertasks.exceptions.CustomUnauthorizedException;
+import io.littlehorse.usertasks.exceptions.NotFoundException;
+import io.littlehorse.usertasks.models.requests.AssignmentRequest;
+import io.littlehorse.usertasks.models.requests.CompleteUserTaskRequest;
+import io.littlehorse.usertasks.models.requests.CompositeBookmark;
+import io.littlehorse.usertasks.models.requests.StandardPagination;
+import io.littlehorse.usertasks.models.requests.UserTaskFieldset;
+import io.littlehorse.usertasks.models.requests.UserTaskRequestFilter;
+import io.littlehorse.usertasks.models.requests.comment_requests.DeleteCommentRequest;
+import io.littlehorse.usertasks.models.requests.comment_requests.EditCommentRequest;
+import io.littlehorse.usertasks.models.requests.comment_requests.PutCommentRequest;
+import io.littlehorse.usertasks.models.responses.AuditEventDTO;
+import io.littlehorse.usertasks.models.responses.DetailedUserTaskRunDTO;
+import io.littlehorse.usertasks.models.responses.SimpleUserTaskRunDTO;
+import io.littlehorse.usertasks.models.responses.UserTaskRunListDTO;
+import io.littlehorse.usertasks.read_model.UserTaskRunReadModelService;
+import io.littlehorse.usertasks.util.FutureUtil;
+import io.littlehorse.usertasks.util.enums.UserTaskRunProperty;
+import io.littlehorse.usertasks.util.enums.UserTaskStatus;
+import jakarta.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tomcat.util.codec.binary.Base64;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Non-blocking counterpart of {@link UserTaskService} built on top of {@code LittleHorseFutureStub}.
+ * <p>
+ * Every method returns as soon as the first kernel call has been dispatched, so controllers can hand the returned
+ * {@code CompletableFuture} over to Spring MVC and release the request thread while the kernel works. Validations and
+ * error mappings are the same ones applied by the blocking service.
+ */
+@Service
+@Slf4j
+public class AsyncUserTaskService {
+    private static final String INBOX_USER_SOURCE = "user";
+    private static final String INBOX_USER_GROUP_SOURCE_PREFIX = "group:";
+    private static final int MAX_FILTER_COMBINATIONS = 20;
+
+    private final Map<String, LittleHorseGrpc.LittleHorseFutureStub> lhAsyncClients;
+    private final UserTaskRunReadModelService userTaskRunReadModelService;
+    private final CommentProjectionCache commentProjectionCache;
+
+    AsyncUserTaskService(
+            Map<String, LittleHorseGrpc.LittleHorseFutureStub> lhAsyncClients,
+            UserTaskRunReadModelService userTaskRunReadModelService,
+            CommentProjectionCache commentProjectionCache) {
+        this.lhAsyncClients = lhAsyncClients;
+        this.userTaskRunReadModelService = userTaskRunReadModelService;
+        this.commentProjectionCache = commentProjectionCache;
+    }
+
+    @NonNull
+    public CompletableFuture<UserTaskRunListDTO> getTasks(
+            @NonNull String tenantId,
+            String userId,
+            String userGroup,
+            UserTaskRequestFilter additionalFilters,
+            int limit,
+            byte[] bookmark,
+            boolean isAdminRequest) {
+        if (!isAdminRequest && !StringUtils.hasText(userId)) {
+            throw new IllegalArgumentException("Cannot search UserTask without specifying a proper UserId");
+        }
+
+        var pagination =
+                StandardPagination.builder().bookmark(bookmark).limit(limit).build();
+
+        SearchUserTaskRunRequest searchRequest =
+                buildSearchUserTaskRunRequest(userId, userGroup, additionalFilters, pagination);
+
+        LittleHorseGrpc.LittleHorseFutureStub tenantClient = getTenantLHClient(tenantId);
+
+        CompletableFuture<UserTaskRunListDTO> userTasks = toCompletableFuture(
+                        tenantClient.searchUserTaskRun(searchRequest))
+                .thenCompose(searchResults -> {
+                    List<CompletableFuture<UserTaskRun>> userTaskRuns = searchResults.getResultsList().stream()
+                            .map(userTaskRunId -> toCompletableFuture(tenantClient.getUserTaskRun(userTaskRunId)))
+                            .toList();
+
+                    return CompletableFuture.allOf(userTaskRuns.toArray(CompletableFuture[]::new))
+                            .thenApply(ignored -> {
+                                var setOfUserTasks = new HashSet<SimpleUserTaskRunDTO>();
+                                userTaskRuns.forEach(userTaskRun ->
+                                        setOfUserTasks.add(SimpleUserTaskRunDTO.fromUserTaskRun(userTaskRun.join())));
+
+                                var response = UserTaskRunListDTO.builder()
+                                        .userTasks(setOfUserTasks)
+                                        .build();
+
+                                if (!setOfUserTasks.isEmpty() && searchResults.hasBookmark()) {
+                                    response.setBookmark(Base64.encodeBase64String(
+                                            searchResults.getBookmark().toByteArray()));
+                                }
+
+                                return response;
+                            });
+                });
+
+        return mapKernelErrors(userTasks, AsyncUserTaskService::mapReadError);
+    }
+
+    /**
+     * Gets the inbox of a user: the open UserTaskRuns assigned to the user along with the claimable (unassigned)
+     * UserTaskRuns of every UserGroup that the user belongs to, as a single page ordered by scheduled time. Done and
+     * cancelled UserTaskRuns are left out.
+     * <p>
+     * The kernel can only search by one user or one UserGroup at a time, so one search per source is run concurrently
+     * and their results get merged.
+     *
+     * @param tenantId Tenant of the user
+     * @param userId Id of the user
+     * @param userGroupNames Names of the UserGroups that the user belongs to, null if they are unknown
+     * @param additionalFilters Filters applied to every source. Its status is ignored.
+     * @param limit Max number of UserTaskRuns to return, greater than zero
+     * @param bookmark Continuation token returned along with the previous page
+     * @return A page of the user's inbox
+     * @throws ResponseStatusException If the limit is not positive or the bookmark was not issued by the inbox
+     */
+    @NonNull
+    public CompletableFuture<UserTaskRunListDTO> getInbox(
+            @NonNull String tenantId,
+            @NonNull String userId,
+            @Nullable Collection<String> userGroupNames,
+            @NonNull UserTaskRequestFilter additionalFilters,
+            int limit,
+            @Nullable String bookmark) {
+        var pagination = StandardPagination.builder().limit(limit).build();
+        // A UserTaskRun assigned to a user is open only while ASSIGNED, then it turns DONE or CANCELLED
+        var assignedFilters = copyWith(additionalFilters, UserTaskStatus.ASSIGNED, additionalFilters.getType());
+        var claimableFilters = copyWith(additionalFilters, UserTaskStatus.UNASSIGNED, additionalFilters.getType());
+
+        // Sources are keyed by user and UserGroup so that bookmarks keep working when the user's UserGroups change
+        Map<String, SearchUserTaskRunRequest> sources = new LinkedHashMap<>();
+        sources.put(INBOX_USER_SOURCE, buildSearchUserTaskRunRequest(userId, null, assignedFilters, pagination));
+
+        if (userGroupNames != null) {
+            new TreeSet<>(userGroupNames)
+                    .forEach(userGroupName -> sources.put(
+                            INBOX_USER_GROUP_SOURCE_PREFIX + userGroupName,
+                            buildSearchUserTaskRunRequest(null, userGroupName, claimableFilters, pagination)));
+        }
+
+        return mapKernelErrors(
+                MergedUserTaskSearch.search(
+                        getTenantLHClient(tenantId), sources, limit, decodeBookmark(bookmark), UserTaskFieldset.ALL),
+                AsyncUserTaskService::mapReadError);
+    }
+
+    /**
+     * Same as {@link #getTasks}, but matching UserTaskRuns with any of the given statuses and any of the given
+     * UserTaskDef names.
+     * <p>
+     * The kernel only searches by one status and one UserTaskDef name at a time, so one search per combination is run
+     * concurrently and their results get merged into a single page ordered by scheduled time.
+     *
+     * @param statuses Statuses to match, every status if empty
+     * @param types Names of the UserTaskDefs to match, every UserTaskDef if empty
+     * @param bookmark Continuation token returned along with the previous page
+     */
+    @NonNull
+    public CompletableFuture<UserTaskRunListDTO> getTasksMatchingAny(
+            @NonNull String tenantId,
+            String userId,
+            String userGroup,
+            @NonNull UserTaskRequestFilter additionalFilters,
+            @NonNull Collection<UserTaskStatus> statuses,
+            @NonNull Collection<String> types,
+            int limit,
+            @Nullable String bookmark,
+            boolean isAdminRequest,
+            @NonNull UserTaskFieldset fieldset) {
+        if (!isAdminRequest && !StringUtils.hasText(userId)) {
+            throw new IllegalArgumentException("Cannot search UserTask without specifying a proper UserId");
+        }
+
+        // A null status or type leaves that filter out of the kernel search
+        Collection<UserTaskStatus> distinctStatuses =
+                statuses.isEmpty() ? Collections.singleton(null) : new TreeSet<>(statuses);
+        Collection<String> distinctTypes = types.isEmpty() ? Collections.singleton(null) : new TreeSet<>(types);
+
+        if (distinctStatuses.size() * distinctTypes.size() > MAX_FILTER_COMBINATIONS) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Cannot search more than " + MAX_FILTER_COMBINATIONS + " status and type combinations at once");
+        }
+
+        var pagination = StandardPagination.builder().limit(limit).build();
+        Map<String, SearchUserTaskRunRequest> sources = new LinkedHashMap<>();
+
+        for (UserTaskStatus status : distinctStatuses) {
+            for (String type : distinctTypes) {
+                var filters = copyWith(additionalFilters, status, type);
+                sources.put(
+                        "status:" + status + ";type:" + type,
+                        buildSearchUserTaskRunRequest(userId, userGroup, filters, pagination));
+            }
+        }
+
+        return mapKernelErrors(
+                MergedUserTaskSearch.search(
+                        getTenantLHClient(tenantId), sources, limit, decodeBookmark(bookmark), fieldset),
+                AsyncUserTaskService::mapReadError);
+    }
+
+    @NonNull
+    public CompletableFuture<Optional<DetailedUserTaskRunDTO>> getUserTaskDetails(
+            @NonNull String wfRunId,
+            @NonNull String userTaskRunGuid,
+            @NonNull String tenantId,
+            String userId,
+            String userGroup,
+            boolean isAdminRequest) {
+        return getUserTaskDetails(
+                wfRunId, userTaskRunGuid, tenantId, userId, userGroup, isAdminRequest, UserTaskFieldset.ALL);
+    }
+
+    /**
+     * @param fieldset Properties of the UserTaskRun to return. Its UserTaskDef is only fetched when its fields are
+     * requested, and its events are only converted when they are requested, which they can only be by admins.
+     */
+    @NonNull
+    public CompletableFuture<Optional<DetailedUserTaskRunDTO>> getUserTaskDetails(
+            @NonNull String wfRunId,
+            @NonNull String userTaskRunGuid,
+            @NonNull String tenantId,
+            String userId,
+            String userGroup,
+            boolean isAdminRequest,
+            @NonNull UserTaskFieldset fieldset) {
+        UserTaskRunId userTaskRunId = buildUserTaskRunId(wfRunId, userTaskRunGuid);
+
+        LittleHorseGrpc.LittleHorseFutureStub tenantClient = getTenantLHClient(tenantId);
+
+        CompletableFuture<Optional<DetailedUserTaskRunDTO>> details = toCompletableFuture(
+                        tenantClient.getUserTaskRun(userTaskRunId))
+                .thenCompose(userTaskRun -> {
+                    if (!isAdminRequest) {
+                        validateIfUserIsAllowedToSeeUserTask(userId, userGroup, userTaskRun);
+                    }
+
+                    CompletableFuture<UserTaskDef> userTaskDef = fieldset.includes(UserTaskRunProperty.FIELDS)
+                            ? toCompletableFuture(tenantClient.getUserTaskDef(userTaskRun.getUserTaskDefId()))
+                            : CompletableFuture.completedFuture(null);
+
+                    return userTaskDef.thenApply(foundUserTaskDef -> Optional.of(buildDetailedUserTaskRunDTO(
+                            userTaskRun,
+                            foundUserTaskDef,
+                            isAdminRequest ? fieldset : fieldset.without(UserTaskRunProperty.EVENTS))));
+                });
+
+        return mapKernelErrors(details, AsyncUserTaskService::mapReadError);
+    }
+
+    @NonNull
+    public CompletableFuture<Void> completeUserTask(
+            @NonNull String userId,
+            @NonNull CompleteUserTaskRequest request,
+            @NonNull String tenantId,
+            boolean isAdminRequest) {
+        return completeUserTask(
+                userId,
+                request,
+                tenantId,
+                isAdminRequest,
+                userTaskDefName -> getLatestUserTaskDef(tenantId, userTaskDefName));
+    }
+
+    /**
+     * Fetches the latest version of a UserTaskDef
+     *
+     * @param tenantId Tenant that owns the UserTaskDef
+     * @param userTaskDefName Name of the UserTaskDef
+     * @return A future that completes with the latest version of the UserTaskDef
+     */
+    @NonNull
+    public CompletableFuture<UserTaskDef> getLatestUserTaskDef(
+            @NonNull String tenantId, @NonNull String userTaskDefName) {
+        UserTaskDefId userTaskDefId =
+                UserTaskDefId.newBuilder().setName(userTaskDefName).build();
+
+        return toCompletableFuture(getTenantLHClient(tenantId).getUserTaskDef(userTaskDefId));
+    }
+
+    /**
+     * Completes a UserTaskRun resolving the UserTaskDef used to validate its mandatory fields through the given
+     * loader, which allows callers completing many UserTaskRuns to share UserTaskDef lookups.
+     */
+    CompletableFuture<Void> completeUserTask(
+            String userId,
+            CompleteUserTaskRequest request,
+            String tenantId,
+            boolean isAdminRequest,
+            Function<String, CompletableFuture<UserTaskDef>> userTaskDefLoader) {
+        log.info("Completing UserTaskRun");
+
+        LittleHorseGrpc.LittleHorseFutureStub tenantClient = getTenantLHClient(tenantId);
+        UserTaskRunId userTaskRunId = buildUserTaskRunId(request.getWfRunId(), request.getUserTaskRunGuid());
+
+        CompletableFuture<Void> completion = toCompletableFuture(tenantClient.getUserTaskRun(userTaskRunId))
+                .thenCompose(userTaskRun -> {
+                    if (!isAdminRequest) {
+                        validateIfUserIsAllowedToSeeUserTask(userId, null, userTaskRun);
+                    }
+
+                    if (isUserTaskTerminated(userTaskRun.getStatus())) {
+                        throw new ResponseStatusException(
+                                HttpStatus.FORBIDDEN,
+                                "The UserTask you are trying to complete is already DONE or CANCELLED");
+                    }
+
+                    return userTaskDefLoader.apply(userTaskRun.getUserTaskDefId().getName());
+                })
+                .thenCompose(userTaskDef -> {
+                    validateMandatoryStringFields(request, userTaskDef);
+
+                    return toCompletableFuture(tenantClient.completeUserTaskRun(request.toServerRequest(userId)));
+                })
+                .thenCompose(ignored -> refreshReadModel(tenantId, tenantClient, userTaskRunId))
+                .thenAccept(ignored -> log.atInfo()
+                        .setMessage("UserTaskRun with wfRunId: {}, guid: {} was successfully completed")
+                        .addArgument(request.getWfRunId())
+                        .addArgument(request.getUserTaskRunGuid())
+                        .log());
+
+        return mapKernelErrors(completion, AsyncUserTaskService::mapCompletionError);
+    }
+
+    @NonNull
+    public CompletableFuture<Void> assignUserTask(
+            @NonNull AssignmentRequest requestBody,
+            @NonNull String wfRunId,
+            @NonNull String userTaskRunGuid,
+            @NonNull String tenantId) {
+        log.atInfo()
+                .setMessage("Assigning UserTaskRun with wfRunId: {} and userTaskGuid: {}")
+                .addArgument(wfRunId)
+                .addArgument(userTaskRunGuid)
+                .log();
+
+        if (!StringUtils.hasText(requestBody.getUserId()) && !StringUtils.hasText(requestBody.getUserGroup())) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "No valid arguments were received to complete reassignment.");
+        }
+
+        LittleHorseGrpc.LittleHorseFutureStub tenantClient = getTenantLHClient(tenantId);
+        UserTaskRunId userTaskRunId = buildUserTaskRunId(wfRunId, userTaskRunGuid);
+
+        CompletableFuture<Void> assignment = toCompletableFuture(
+                        tenantClient.assignUserTaskRun(buildAssignUserTaskRunRequest(requestBody, userTaskRunId)))
+                .thenCompose(ignored -> refreshReadModel(tenantId, tenantClient, userTaskRunId))
+                .thenAccept(ignored -> log.atInfo()
+                        .setMessage("UserTaskRun with wfRunId: {} and guid: {} was successfully assigned")
+                        .addArgument(wfRunId)
+                        .addArgument(userTaskRunGuid)
+                        .log());
+
+        return mapKernelErrors(assignment, AsyncUserTaskService::mapAssignmentError);
+    }
+
+    @NonNull
+    public CompletableFuture<Void> cancelUserTask(
+            @NonNull String wfRunId, @NonNull String userTaskRunGuid, @NonNull String tenantId) {
+        log.atInfo()
+                .setMessage("Cancelling UserTaskRun with wfRunId: {} and userTaskGuid: {} as Admin.")
+                .addArgument(wfRunId)
+                .addArgument(userTaskRunGuid)
+                .log();
+
+        LittleHorseGrpc.LittleHorseFutureStub tenantClient = getTenantLHClient(tenantId);
+        UserTaskRunId userTaskRunId = buildUserTaskRunId(wfRunId, userTaskRunGuid);
+
+        CompletableFuture<Void> cancellation = toCompletableFuture(tenantClient.getUserTaskRun(userTaskRunId))
+                .thenCompose(userTaskRun -> {
+                    if (isUserTaskTerminated(userTaskRun.getStatus())) {
+                        throw new ResponseStatusException(
+                                HttpStatus.FORBIDDEN,
+                                "The UserTask you are trying to cancel is already DONE or CANCELLED");
+                    }
+
+                    CancelUserTaskRunRequest request = CancelUserTaskRunRequest.newBuilder()
+                            .setUserTaskRunId(userTaskRunId)
+                            .build();
+
+                    return toCompletableFuture(tenantClient.cancelUserTaskRun(request));
+                })
+                .thenCompose(ignored -> refreshReadModel(tenantId, tenantClient, userTaskRunId))
+                .thenAccept(ignored -> log.atInfo()
+                        .setMessage("UserTaskRun with wfRunId: {} and guid: {} was successfully cancelled as Admin.")
+                        .addArgument(wfRunId)
+                        .addArgument(userTaskRunGuid)
+                        .log());
+
+        return mapKernelErrors(cancellation, AsyncUserTaskService::mapAssignmentError);
+    }
+
+    @NonNull
+    public CompletableFuture<Void> claimUserTask(
+            @NonNull String userId,
+            @Nullable Set<String> userGroups,
+            @NonNull String wfRunId,
+            @NonNull String userTaskRunGuid,
+            @NonNull String tenantId,
+            boolean isAdminClaim) {
+        log.atInfo()
+                .setMessage("Claiming UserTaskRun with wfRunId: {} and userTaskGuid: {}")
+                .addArgument(wfRunId)
+                .addArgument(userTaskRunGuid)
+                .log();
+
+        LittleHorseGrpc.LittleHorseFutureStub tenantClient = getTenantLHClient(tenantId);
+        UserTaskRunId userTaskRunId = buildUserTaskRunId(wfRunId, userTaskRunGuid);
+
+        CompletableFuture<Void> claim = toCompletableFuture(tenantClient.getUserTaskRun(userTaskRunId))
+                .thenCompose(userTaskRun -> {
+                    if (!isUserTaskClaimable(isAdminClaim, userTaskRun, userGroups)) {
+                        throw new ResponseStatusException(HttpStatus.CONFLICT, "UserTaskRun cannot be claimed!");
+                    }
+
+                    return toCompletableFuture(tenantClient.assignUserTaskRun(
+                            buildClaimUserTaskRunRequest(userId, userTaskRunId, userTaskRun, isAdminClaim)));
+                })
+                .thenCompose(ignored -> refreshReadModel(tenantId, tenantClient, userTaskRunId))
+                .thenAccept(ignored -> log.atInfo()
+                        .setMessage("UserTaskRun with wfRunId: {} and guid: {} was successfully claimed.")
+                        .addArgument(wfRunId)
+                        .addArgument(userTaskRunGuid)
+                        .log());
+
+        return mapKernelErrors(claim, AsyncUserTaskService::mapClaimError);
+    }
+
+    @NonNull
+    public CompletableFuture<AuditEventDTO> comment(
+            @NonNull PutCommentRequest request, @NonNull String userId, @NonNull String tenantId) {
+        LittleHorseGrpc.LittleHorseFutureStub tenantClient = getTenantLHClient(tenantId);
+
+        CompletableFuture<AuditEventDTO> comment = toCompletableFuture(
+                        tenantClient.putUserTaskRunComment(request.toServerRequest(userId)))
+                .thenApply(userTaskRun -> {
+                    userTaskRunReadModelService.onUserTaskRunUpdated(tenantId, userTaskRun);
+                    return getLastCommentAddedBy(userTaskRun, userId);
+                });
+
+        return mapKernelErrors(comment, AsyncUserTaskService::mapCommentError);
+    }
+
+    @NonNull
+    public CompletableFuture<AuditEventDTO> editComment(
+            @NonNull EditCommentRequest request, @NonNull String userId, @NonNull String tenantId) {
+        LittleHorseGrpc.LittleHorseFutureStub tenantClient = getTenantLHClient(tenantId);
+
+        CompletableFuture<AuditEventDTO> editedComment = toCompletableFuture(
+                        tenantClient.editUserTaskRunComment(request.toServerRequest(userId)))
+                .thenApply(userTaskRun -> {
+                    userTaskRunReadModelService.onUserTaskRunUpdated(tenantId, userTaskRun);
+                    return getCommentEventOwnedBy(tenantId, userTaskRun, request.getCommentId(), userId);
+                });
+
+        return mapKernelErrors(editedComment, AsyncUserTaskService::mapCommentError);
+    }
+
+    @NonNull
+    public CompletableFuture<AuditEventDTO> deleteComment(
+            @NonNull DeleteCommentRequest request, @NonNull String userId, @NonNull String tenantId) {
+        LittleHorseGrpc.LittleHorseFutureStub tenantClient = getTenantLHClient(tenantId);
+
+        CompletableFuture<AuditEventDTO> deletedComment = toCompletableFuture(
+                        tenantClient.deleteUserTaskRunComment(request.toServerRequest(userId)))
+                .thenApply(userTaskRun -> {
+                    userTaskRunReadModelService.onUserTaskRunUpdated(tenantId, userTaskRun);
+                    return getCommentEventOwnedBy(tenantId, userTaskRun, request.getCommentId(), userId);
+                });
+
+        return mapKernelErrors(deletedComment, AsyncUserTaskService::mapCommentError);
+    }
+
+    @NonNull
+    public CompletableFuture<List<AuditEventDTO>> getComment(
+            @NonNull String wfRunId, @NonNull String userTaskRunGuid, @NonNull String tenantId) {
+        LittleHorseGrpc.LittleHorseFutureStub tenantClient = getTenantLHClient(tenantId);
+        UserTaskRunId userTaskRunId = buildUserTaskRunId(wfRunId, userTaskRunGuid);
+
+        CompletableFuture<List<AuditEventDTO>> comments = toCompletableFuture(
+                        tenantClient.getUserTaskRun(userTaskRunId))
+                .thenApply(userTaskRun -> commentProjectionCache
+                        .projectionOf(tenantId, userTaskRun)
+                        .page(null, null)
+                        .getComments());
+
+        return mapKernelErrors(comments, AsyncUserTaskService::mapCommentError);
+    }
+
+    private static CompositeBookmark decodeBookmark(@Nullable String bookmark) {
+        try {
+            return CompositeBookmark.decode(bookmark);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    private static UserTaskRequestFilter copyWith(UserTaskRequestFilter filters, UserTaskStatus status, String type) {
+        return UserTaskRequestFilter.builder()
+                .earliestStartDate(filters.getEarliestStartDate())
+                .latestStartDate(filters.getLatestStartDate())
+                .status(status)
+                .type(type)
+                .build();
+    }
+
+    /**
+     * Re-reads a UserTaskRun that was just changed, since the kernel does not return it, so that the read model shows
+     * the change right away. A failed re-read does not fail the change: the read model catches up on its own later.
+     */
+    private CompletableFuture<Void> refreshReadModel(
+            String tenantId, LittleHorseGrpc.LittleHorseFutureStub tenantClient, UserTaskRunId userTaskRunId) {
+        if (!userTaskRunReadModelService.isServing(tenantId)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return toCompletableFuture(tenantClient.getUserTaskRun(userTaskRunId))
+                .thenAccept(userTaskRun -> userTaskRunReadModelService.onUserTaskRunUpdated(tenantId, userTaskRun))
+                .exceptionally(throwable -> {
+                    log.atWarn()
+                            .setMessage("Could not re-read UserTaskRun with wfRunId: {} and guid: {} "
+                                    + "for the read model: {}")
+                            .addArgument(userTaskRunId.getWfRunId().getId())
+                            .addArgument(userTaskRunId.getUserTaskGuid())
+                            .addArgument(FutureUtil.unwrap(throwable).getMessage())
+                            .log();
+                    return null;
+                });
+    }
+
+    private LittleHorseGrpc.LittleHorseFutureStub getTenantLHClient(String tenantId) {
+        Optional<LittleHorseGrpc.LittleHorseFutureStub> optionalTenantClient =
+                Optional.ofNullable(lhAsyncClients.get(tenantId));
+
+        return optionalTenantClient.orElseThrow(
+                () -> new SecurityException("Could not find a matching configured tenant"));
+    }
+
+    private AuditEventDTO getCommentEventOwnedBy(
+            String tenantId, UserTaskRun userTaskRun, int commentId, String userId) {
+        try {
+            if (!validateUserIdentityForComment(
+                    commentProjectionCache.projectionOf(tenantId, userTaskRun), commentId, userId)) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You are not the owner of this comment.");
+            }
+        } catch (NotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "The Comment could not be found");
+        }
+
+        return AuditEventDTO.fromUserTaskEvent(userTaskRun.getEventsList().getLast());
+    }
+
+    /**
+     * Translates the failure of a chain of kernel calls. {@code StatusRuntimeException}s go through the given mapper,
+     * any other {@code RuntimeException} is rethrown as it is so that Spring can resolve it like it does for the
+     * blocking service.
+     */
+    private static <T> CompletableFuture<T> mapKernelErrors(
+            CompletableFuture<T> future, Function<StatusRuntimeException, RuntimeException> errorMapper) {
+        return future.handle((result, throwable) -> {
+            if (throwable == null) {
+                return result;
+            }
+
+            Throwable cause = FutureUtil.unwrap(throwable);
+
+            if (cause instanceof StatusRuntimeException statusRuntimeException) {
+                log.atError()
+                        .setMessage("Something went wrong in LH Kernel: {}")
+                        .addArgument(statusRuntimeException.getMessage())
+                        .log();
+                throw errorMapper.apply(statusRuntimeException);
+            }
+
+            if (cause instanceof CustomUnauthorizedException) {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, cause.getMessage());
+            }
+
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new CompletionException(cause);
+        });
+    }
+
+    private static RuntimeException mapReadError(StatusRuntimeException e) {
+        if (e.getStatus().getCode() == Status.Code.INVALID_ARGUMENT) {
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        if (e.getStatus().getCode() == Status.Code.NOT_FOUND) {
+            return new NotFoundException("Could not find UserTaskRun!");
+        }
+
+        return e;
+    }
+
+    private static RuntimeException mapCompletionError(StatusRuntimeException e) {
+        if (e.getStatus().getCode() == Status.Code.INVALID_ARGUMENT) {
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        return e;
+    }
+
+    private static RuntimeException mapAssignmentError(StatusRuntimeException e) {
+        if (e.getStatus().getCode() == Status.Code.INVALID_ARGUMENT) {
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        if (e.getStatus().getCode() == Status.Code.FAILED_PRECONDITION) {
+            return new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, e.getMessage(), e);
+        }
+
+        return e;
+    }
+
+    private static RuntimeException mapClaimError(StatusRuntimeException e) {
+        if (e.getStatus().getCode() == Status.Code.INVALID_ARGUMENT) {
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        if (e.getStatus().getCode() == Status.Code.FAILED_PRECONDITION) {
+            return new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e);
+        }
+
+        if (e.getStatus().getCode() == Status.Code.NOT_FOUND) {
+            return new NotFoundException("Could not find UserTaskRun!");
+        }
+
+        return e;
+    }
+
+    private static RuntimeException mapCommentError(StatusRuntimeException e) {
+        if (e.getStatus().getCode() == Status.Code.FAILED_PRECONDITION) {
+            return new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e);
+        }
+
+        if (e.getStatus().getCode() == Status.Code.INVALID_ARGUMENT) {
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        if (e.getStatus().getCode() == Status.Code.NOT_FOUND) {
+            String message = Objects.requireNonNullElse(e.getMessage(), "");
+
+            return message.contains("comment")
+                    ? new ResponseStatusException(HttpStatus.NOT_FOUND, "Comment does not exist")
+                    : new ResponseStatusException(HttpStatus.NOT_FOUND, "UserTask does not exist");
+        }
+
+        return e;
+    }
+}
@@ -0,0 +1,197 @@
+package io.littlehorse.usertasks.services;
+
+import io.littlehorse.sdk.common.proto.UserTaskDef;
+import io.littlehorse.usertasks.exceptions.CustomUnauthorizedException;
+import io.littlehorse.usertasks.exceptions.NotFoundException;
+import io.littlehorse.usertasks.models.requests.AssignmentRequest;
+import io.littlehorse.usertasks.models.requests.bulk_requests.BulkCompleteUserTaskRequest;
+import io.littlehorse.usertasks.models.requests.bulk_requests.UserTaskRunReference;
+import io.littlehorse.usertasks.models.responses.BulkOperationItemResultDTO;
+import io.littlehorse.usertasks.models.responses.BulkOperationResultDTO;
+import io.littlehorse.usertasks.util.FutureUtil;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Service in charge of applying the same UserTaskRun operation to many UserTaskRuns at once.
+ * <p>
+ * Kernel operations are dispatched through {@link AsyncUserTaskService} and at most {@code maxParallelism} of them are
+ * in flight at any given time. A failing item never aborts the rest of the batch, its failure is reported in its own
+ * result instead.
+ */
+@Service
+@Slf4j
+public class BulkUserTaskService {
+    private final AsyncUserTaskService asyncUserTaskService;
+    private final int maxParallelism;
+    private final int maxItems;
+
+    BulkUserTaskService(
+            AsyncUserTaskService asyncUserTaskService,
+            @Value("${lhut.bulk.max-parallelism:16}") int maxParallelism,
+            @Value("${lhut.bulk.max-items:1000}") int maxItems) {
+        this.asyncUserTaskService = asyncUserTaskService;
+        this.maxParallelism = maxParallelism;
+        this.maxItems = maxItems;
+    }
+
+    public BulkOperationResultDTO assignUserTasks(
+            @NonNull List<UserTaskRunReference> userTasks,
+            @NonNull AssignmentRequest assignment,
+            @NonNull String tenantId) {
+        return execute(
+                userTasks,
+                userTask -> asyncUserTaskService.assignUserTask(
+                        assignment, userTask.getWfRunId(), userTask.getUserTaskRunGuid(), tenantId));
+    }
+
+    public BulkOperationResultDTO cancelUserTasks(
+            @NonNull List<UserTaskRunReference> userTasks, @NonNull String tenantId) {
+        return execute(
+                userTasks,
+                userTask -> asyncUserTaskService.cancelUserTask(
+                        userTask.getWfRunId(), userTask.getUserTaskRunGuid(), tenantId));
+    }
+
+    public BulkOperationResultDTO claimUserTasksAsAdmin(
+            @NonNull String userId, @NonNull List<UserTaskRunReference> userTasks, @NonNull String tenantId) {
+        return execute(
+                userTasks,
+                userTask -> asyncUserTaskService.claimUserTask(
+                        userId, null, userTask.getWfRunId(), userTask.getUserTaskRunGuid(), tenantId, true));
+    }
+
+    /**
+     * Completes every received UserTaskRun with the same results. Each distinct UserTaskDef is fetched only once per
+     * bulk request and shared by all the UserTaskRuns that were created from it.
+     */
+    public BulkOperationResultDTO completeUserTasks(
+            @NonNull String userId,
+            @NonNull BulkCompleteUserTaskRequest request,
+            @NonNull String tenantId,
+            boolean isAdminRequest) {
+        Map<String, CompletableFuture<UserTaskDef>> userTaskDefsByName = new ConcurrentHashMap<>();
+        Function<String, CompletableFuture<UserTaskDef>> cachedUserTaskDefLoader =
+                userTaskDefName -> userTaskDefsByName.computeIfAbsent(
+                        userTaskDefName, name -> asyncUserTaskService.getLatestUserTaskDef(tenantId, name));
+
+        return execute(
+                request.getUserTasks(),
+                userTask -> asyncUserTaskService.completeUserTask(
+                        userId,
+                        request.toCompleteUserTaskRequest(userTask),
+                        tenantId,
+                        isAdminRequest,
+                        cachedUserTaskDefLoader));
+    }
+
+    /**
+     * Runs the given operation once per distinct UserTaskRun, keeping at most {@code maxParallelism} operations in
+     * flight, and waits for all of them to finish.
+     *
+     * @param userTasks UserTaskRuns to operate on
+     * @param operation Non-blocking operation to apply to each UserTaskRun
+     * @return The outcome of every operation, in the same order the UserTaskRuns were received
+     */
+    BulkOperationResultDTO execute(
+            List<UserTaskRunReference> userTasks, Function<UserTaskRunReference, CompletableFuture<?>> operation) {
+        List<UserTaskRunReference> distinctUserTasks = validateBulkSize(userTasks);
+        Semaphore inFlightOperations = new Semaphore(maxParallelism);
+        List<CompletableFuture<BulkOperationItemResultDTO>> pendingResults = new ArrayList<>();
+
+        try {
+            for (UserTaskRunReference userTask : distinctUserTasks) {
+                inFlightOperations.acquire();
+
+                CompletableFuture<BulkOperationItemResultDTO> itemResult = dispatch(operation, userTask)
+                        .handle((ignored, throwable) -> toItemResult(userTask, throwable))
+                        .whenComplete((ignored, throwable) -> inFlightOperations.release());
+
+                pendingResults.add(itemResult);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pendingResults.forEach(pendingResult -> pendingResult.cancel(true));
+            throw new ResponseStatusException(
+                    HttpStatus.SERVICE_UNAVAILABLE, "Bulk operation was interrupted before completion", e);
+        }
+
+        List<BulkOperationItemResultDTO> results =
+                pendingResults.stream().map(CompletableFuture::join).toList();
+        int succeeded = (int) results.stream()
+                .filter(BulkOperationItemResultDTO::isSucceeded)
+                .count();
+
+        log.atInfo()
+                .setMessage("Bulk operation finished with {} succeeded and {} failed item(s)")
+                .addArgument(succeeded)
+                .addArgument(results.size() - succeeded)
+                .log();
+
+        return BulkOperationResultDTO.builder()
+                .results(results)
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .build();
+    }
+
+    private List<UserTaskRunReference> validateBulkSize(List<UserTaskRunReference> userTasks) {
+        if (CollectionUtils.isEmpty(userTasks)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one UserTask must be received");
+        }
+
+        List<UserTaskRunReference> distinctUserTasks = List.copyOf(new LinkedHashSet<>(userTasks));
+
+        if (distinctUserTasks.size() > maxItems) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, String.format("A bulk operation accepts up to %d UserTasks", maxItems));
+        }
+
+        return distinctUserTasks;
+    }
+
+    private static CompletableFuture<?> dispatch(
+            Function<UserTaskRunReference, CompletableFuture<?>> operation, UserTaskRunReference userTask) {
+        try {
+            return operation.apply(userTask);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static BulkOperationItemResultDTO toItemResult(UserTaskRunReference userTask, Throwable throwable) {
+        var itemResult = BulkOperationItemResultDTO.builder()
+                .wfRunId(userTask.getWfRunId())
+                .userTaskRunGuid(userTask.getUserTaskRunGuid());
+
+        if (throwable == null) {
+            return itemResult.succeeded(true).status(HttpStatus.OK.value()).build();
+        }
+
+        Throwable cause = FutureUtil.unwrap(throwable);
+        int status = switch (cause) {
+            case ResponseStatusException e -> e.getStatusCode().value();
+            case NotFoundException e -> HttpStatus.NOT_FOUND.value();
+            case CustomUnauthorizedException e -> HttpStatus.UNAUTHORIZED.value();
+            default -> HttpStatus.INTERNAL_SERVER_ERROR.value();
+        };
+        String message = cause instanceof ResponseStatusException responseStatusException
+                ? responseStatusException.getReason()
+                : cause.getMessage();
+
+        return itemResult.succeeded(false).status(status).message(message).build();
+    }
+}
@@ -0,0 +1,329 @@
+package io.littlehorse.usertasks.services;
+
+import static io.littlehorse.usertasks.services.UserTaskService.buildClaimUserTaskRunRequest;
+import static io.littlehorse.usertasks.services.UserTaskService.buildSearchUserTaskRunRequest;
+import static io.littlehorse.usertasks.services.UserTaskService.isUserTaskClaimable;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.littlehorse.sdk.common.proto.LittleHorseGrpc;
+import io.littlehorse.sdk.common.proto.UserTaskRun;
+import io.littlehorse.sdk.common.proto.UserTaskRunId;
+import io.littlehorse.sdk.common.proto.UserTaskRunIdList;
+import io.littlehorse.sdk.common.proto.UserTaskRunStatus;
+import io.littlehorse.usertasks.models.requests.StandardPagination;
+import io.littlehorse.usertasks.models.requests.UserTaskRequestFilter;
+import io.littlehorse.usertasks.models.responses.SimpleUserTaskRunDTO;
+import io.littlehorse.usertasks.read_model.UserTaskRunReadModelService;
+import io.littlehorse.usertasks.util.enums.UserTaskStatus;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Service in charge of handing out the oldest claimable UserTaskRun of a UserGroup to whoever asks for it.
+ * <p>
+ * Each UserGroup of each tenant keeps a small in-memory queue of candidate UserTaskRuns, refilled from LittleHorse
+ * Kernel whenever it runs empty or gets stale. Queues are guarded by a fixed set of striped locks, which are only held
+ * while popping a candidate or swapping in a refilled set of candidates: searching, fetching and assigning
+ * UserTaskRuns in LittleHorse Kernel happens outside of them, and only one claimer refills a given queue at a time
+ * while the others wait for it. Concurrent claimers within this instance never compete for the same UserTaskRun, and
+ * candidates that were claimed elsewhere in the meantime are simply skipped.
+ */
+@Service
+@Slf4j
+public class ClaimQueueService {
+    private static final int LOCK_STRIPES = 64;
+
+    private final Map<String, LittleHorseGrpc.LittleHorseBlockingStub> lhClients;
+    private final UserTaskRunReadModelService userTaskRunReadModelService;
+    private final int refillSize;
+    private final Duration refreshInterval;
+    private final Clock clock;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final Map<String, CandidateQueue> candidateQueues = new ConcurrentHashMap<>();
+
+    @Autowired
+    ClaimQueueService(
+            Map<String, LittleHorseGrpc.LittleHorseBlockingStub> lhClients,
+            UserTaskRunReadModelService userTaskRunReadModelService,
+            @Value("${lhut.claim-queue.refill-size:25}") int refillSize,
+            @Value("${lhut.claim-queue.refresh-interval:PT30S}") Duration refreshInterval) {
+        this(lhClients, userTaskRunReadModelService, refillSize, refreshInterval, Clock.systemUTC());
+    }
+
+    ClaimQueueService(
+            Map<String, LittleHorseGrpc.LittleHorseBlockingStub> lhClients,
+            UserTaskRunReadModelService userTaskRunReadModelService,
+            int refillSize,
+            Duration refreshInterval,
+            Clock clock) {
+        this.lhClients = lhClients;
+        this.userTaskRunReadModelService = userTaskRunReadModelService;
+        this.refillSize = refillSize;
+        this.refreshInterval = refreshInterval;
+        this.clock = clock;
+
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Claims the oldest UNASSIGNED UserTaskRun of the given UserGroup on behalf of the given user
+     *
+     * @param userId Id of the user that is claiming
+     * @param userGroups UserGroups that the user is a member of
+     * @param userGroup UserGroup whose UserTaskRuns are going to be handed out
+     * @param tenantId Tenant that the UserTaskRuns belong to
+     * @return The claimed UserTaskRun, or an empty Optional if the UserGroup has nothing left to claim
+     * @throws ResponseStatusException with status 403 if the user is not a member of the given UserGroup
+     */
+    public Optional<SimpleUserTaskRunDTO> claimNextUserTask(
+            @NonNull String userId, Set<String> userGroups, @NonNull String userGroup, @NonNull String tenantId) {
+        if (CollectionUtils.isEmpty(userGroups) || !userGroups.contains(userGroup)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "User does not belong to the requested UserGroup");
+        }
+
+        LittleHorseGrpc.LittleHorseBlockingStub tenantClient = getTenantLHClient(tenantId);
+        String queueKey = tenantId + "/" + userGroup;
+        ReentrantLock lock = lockFor(queueKey);
+        boolean alreadyRefilled = false;
+
+        while (true) {
+            CandidateQueue candidateQueue;
+            UserTaskRunId candidate = null;
+            CompletableFuture<Void> pendingRefill = null;
+            boolean mustRefill = false;
+
+            lock.lock();
+            try {
+                candidateQueue = candidateQueues.computeIfAbsent(queueKey, key -> new CandidateQueue());
+
+                if (candidateQueue.candidates.isEmpty() || (!alreadyRefilled && candidateQueue.isStale())) {
+                    if (alreadyRefilled) {
+                        dropIfIdle(queueKey, candidateQueue);
+                        return Optional.empty();
+                    }
+
+                    if (candidateQueue.pendingRefill == null) {
+                        candidateQueue.pendingRefill = new CompletableFuture<>();
+                        mustRefill = true;
+                    }
+
+                    pendingRefill = candidateQueue.pendingRefill;
+                } else {
+                    candidate = candidateQueue.candidates.poll();
+                    candidateQueue.inFlight.add(candidate);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (pendingRefill != null) {
+                if (mustRefill) {
+                    refill(candidateQueue, lock, tenantClient, userGroup);
+                } else {
+                    awaitRefill(pendingRefill);
+                }
+
+                alreadyRefilled = true;
+                continue;
+            }
+
+            Optional<UserTaskRun> claimedUserTaskRun;
+
+            try {
+                claimedUserTaskRun = tryClaim(tenantClient, candidate, userId, userGroups);
+            } catch (RuntimeException e) {
+                // The candidate might still be claimable, so it goes back to the head of the queue for the next claimer
+                release(queueKey, candidateQueue, lock, candidate, true);
+                throw e;
+            }
+
+            release(queueKey, candidateQueue, lock, candidate, false);
+
+            if (claimedUserTaskRun.isPresent()) {
+                userTaskRunReadModelService.onUserTaskRunChanged(tenantId, candidate);
+                return claimedUserTaskRun.map(SimpleUserTaskRunDTO::fromUserTaskRun);
+            }
+        }
+    }
+
+    private void refill(
+            CandidateQueue candidateQueue,
+            ReentrantLock lock,
+            LittleHorseGrpc.LittleHorseBlockingStub tenantClient,
+            String userGroup) {
+        var additionalFilters =
+                UserTaskRequestFilter.buildUserTaskRequestFilter(null, null, UserTaskStatus.UNASSIGNED, null);
+        var pagination = StandardPagination.builder().limit(refillSize).build();
+        UserTaskRunIdList searchResults;
+
+        try {
+            // LittleHorse Kernel returns search results ordered by creation time, so the head of the queue is always
+            // the oldest UserTaskRun that was still unassigned when the queue got refilled
+            searchResults = tenantClient.searchUserTaskRun(
+                    buildSearchUserTaskRunRequest(null, userGroup, additionalFilters, pagination));
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                candidateQueue.pendingRefill.completeExceptionally(e);
+                candidateQueue.pendingRefill = null;
+            } finally {
+                lock.unlock();
+            }
+
+            throw e;
+        }
+
+        int candidatesCount;
+
+        lock.lock();
+        try {
+            // Candidates that are being claimed right now must not be handed out a second time
+            candidateQueue.candidates.clear();
+            searchResults.getResultsList().stream()
+                    .filter(userTaskRunId -> !candidateQueue.inFlight.contains(userTaskRunId))
+                    .forEach(candidateQueue.candidates::add);
+            candidateQueue.refreshedAtMillis = clock.millis();
+            candidateQueue.pendingRefill.complete(null);
+            candidateQueue.pendingRefill = null;
+            candidatesCount = candidateQueue.candidates.size();
+        } finally {
+            lock.unlock();
+        }
+
+        log.atDebug()
+                .setMessage("Refilled claim queue of UserGroup: {} with {} candidate(s)")
+                .addArgument(userGroup)
+                .addArgument(candidatesCount)
+                .log();
+    }
+
+    private void awaitRefill(CompletableFuture<Void> pendingRefill) {
+        try {
+            pendingRefill.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    private void release(
+            String queueKey,
+            CandidateQueue candidateQueue,
+            ReentrantLock lock,
+            UserTaskRunId candidate,
+            boolean requeue) {
+        lock.lock();
+        try {
+            candidateQueue.inFlight.remove(candidate);
+
+            if (requeue && !candidateQueue.candidates.contains(candidate)) {
+                candidateQueue.candidates.addFirst(candidate);
+            }
+
+            dropIfIdle(queueKey, candidateQueue);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drained queues are dropped so that UserGroups nobody is claiming from do not keep memory around. Must be called
+     * while holding the lock of the queue.
+     */
+    private void dropIfIdle(String queueKey, CandidateQueue candidateQueue) {
+        if (candidateQueue.candidates.isEmpty()
+                && candidateQueue.inFlight.isEmpty()
+                && candidateQueue.pendingRefill == null) {
+            candidateQueues.remove(queueKey, candidateQueue);
+        }
+    }
+
+    private Optional<UserTaskRun> tryClaim(
+            LittleHorseGrpc.LittleHorseBlockingStub tenantClient,
+            UserTaskRunId candidate,
+            String userId,
+            Set<String> userGroups) {
+        try {
+            UserTaskRun userTaskRun = tenantClient.getUserTaskRun(candidate);
+
+            if (!isUserTaskClaimable(false, userTaskRun, userGroups)) {
+                return Optional.empty();
+            }
+
+            tenantClient.assignUserTaskRun(buildClaimUserTaskRunRequest(userId, candidate, userTaskRun, false));
+
+            log.atInfo()
+                    .setMessage("UserTaskRun with wfRunId: {} and guid: {} was successfully claimed from queue.")
+                    .addArgument(candidate.getWfRunId().getId())
+                    .addArgument(candidate.getUserTaskGuid())
+                    .log();
+
+            return Optional.of(userTaskRun.toBuilder()
+                    .setUserId(userId)
+                    .setStatus(UserTaskRunStatus.ASSIGNED)
+                    .build());
+        } catch (StatusRuntimeException e) {
+            Status.Code code = e.getStatus().getCode();
+
+            // Another instance of the bridge, or a regular claim, got to this candidate first
+            if (code == Status.Code.FAILED_PRECONDITION || code == Status.Code.NOT_FOUND) {
+                return Optional.empty();
+            }
+
+            throw e;
+        }
+    }
+
+    private ReentrantLock lockFor(String queueKey) {
+        return locks[Math.floorMod(queueKey.hashCode(), LOCK_STRIPES)];
+    }
+
+    private LittleHorseGrpc.LittleHorseBlockingStub getTenantLHClient(String tenantId) {
+        Optional<LittleHorseGrpc.LittleHorseBlockingStub> optionalTenantClient =
+                Optional.ofNullable(lhClients.get(tenantId));
+
+        return optionalTenantClient.orElseThrow(
+                () -> new SecurityException("Could not find a matching configured tenant"));
+    }
+
+    int queuedCandidatesCount(String tenantId, String userGroup) {
+        CandidateQueue candidateQueue = candidateQueues.get(tenantId + "/" + userGroup);
+
+        return candidateQueue == null ? 0 : candidateQueue.candidates.size();
+    }
+
+    private class CandidateQueue {
+        private final Deque<UserTaskRunId> candidates = new ArrayDeque<>();
+        private final Set<UserTaskRunId> inFlight = new HashSet<>();
+        private CompletableFuture<Void> pendingRefill;
+        private long refreshedAtMillis;
+
+        private boolean isStale() {
+            return clock.millis() - refreshedAtMillis >= refreshInterval.toMillis();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package io.littlehorse.usertasks.services;
+
+import io.littlehorse.sdk.common.proto.UserTaskEvent;
+import io.littlehorse.sdk.common.proto.UserTaskRun;
+import io.littlehorse.sdk.common.proto.UserTaskRunId;
+import io.littlehorse.usertasks.models.responses.AuditEventDTO;
+import io.littlehorse.usertasks.models.responses.CommentListDTO;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the comments of UserTaskRuns, projected from their events.
+ * <p>
+ * The events of a UserTaskRun are append-only, so each projection remembers how many events it has applied: a
+ * UserTaskRun whose event count did not change since it was last projected is served as it is, and one that got new
+ * events only has those applied. Comments are kept in comment id order along with their latest event, which is only
+ * converted to an {@code AuditEventDTO} the first time that it is read. {@code AuditEventDTO}s are immutable, so the
+ * converted ones are handed out to every caller without copying. The cache is bounded and evicts the least recently
+ * used projections first.
+ */
+@Component
+class CommentProjectionCache {
+    private final Map<ProjectionKey, CommentProjection> projections;
+
+    CommentProjectionCache(@Value("${lhut.comment-cache.max-size:1000}") int maxSize) {
+        this.projections = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ProjectionKey, CommentProjection> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @param tenantId Tenant that the UserTaskRun belongs to
+     * @param userTaskRun Latest version of the UserTaskRun, as returned by LH Kernel
+     * @return The comments of the UserTaskRun, caught up with all its events
+     */
+    CommentProjection projectionOf(@NonNull String tenantId, @NonNull UserTaskRun userTaskRun) {
+        CommentProjection projection;
+
+        synchronized (projections) {
+            projection = projections.computeIfAbsent(
+                    new ProjectionKey(tenantId, userTaskRun.getId()), key -> new CommentProjection());
+        }
+
+        projection.catchUp(userTaskRun.getEventsList());
+
+        return projection;
+    }
+
+    private record ProjectionKey(String tenantId, UserTaskRunId userTaskRunId) {}
+
+    /**
+     * Comments of a UserTaskRun, each one with the latest event that added, edited or deleted it
+     */
+    static final class CommentProjection {
+        private final NavigableMap<Integer, ProjectedComment> commentsById = new TreeMap<>();
+        private int appliedEvents;
+
+        private synchronized void catchUp(List<UserTaskEvent> events) {
+            if (events.size() < appliedEvents) {
+                // Events are never removed from a UserTaskRun, so this is a different one under the same id
+                commentsById.clear();
+                appliedEvents = 0;
+            }
+
+            for (UserTaskEvent event : events.subList(appliedEvents, events.size())) {
+                if (event.hasCommentAdded()) {
+                    apply(event.getCommentAdded().getUserCommentId(), event.getCommentAdded().getUserId(), event);
+                } else if (event.hasCommentEdited()) {
+                    apply(event.getCommentEdited().getUserCommentId(), event.getCommentEdited().getUserId(), event);
+                } else if (event.hasCommentDeleted()) {
+                    apply(event.getCommentDeleted().getUserCommentId(), event.getCommentDeleted().getUserId(), event);
+                }
+            }
+
+            appliedEvents = events.size();
+        }
+
+        private void apply(int commentId, String userId, UserTaskEvent event) {
+            commentsById.put(commentId, new ProjectedComment(userId, event));
+        }
+
+        /**
+         * @param afterCommentId Id of the last comment of the previous page, null to start from the first comment
+         * @param limit Max number of comments to return, null to return every remaining comment
+         * @return The latest event of each comment after {@code afterCommentId}, in comment id order, along with the
+         * id of the last one as the cursor of the next page if there are more comments after it
+         */
+        synchronized CommentListDTO page(@Nullable Integer afterCommentId, @Nullable Integer limit) {
+            NavigableMap<Integer, ProjectedComment> remainingComments =
+                    afterCommentId != null ? commentsById.tailMap(afterCommentId, false) : commentsById;
+            List<AuditEventDTO> comments = new ArrayList<>();
+            Integer lastCommentId = null;
+
+            for (Map.Entry<Integer, ProjectedComment> entry : remainingComments.entrySet()) {
+                if (limit != null && comments.size() == limit) {
+                    return new CommentListDTO(comments, String.valueOf(lastCommentId));
+                }
+
+                comments.add(entry.getValue().toAuditEvent());
+                lastCommentId = entry.getKey();
+            }
+
+            return new CommentListDTO(comments, null);
+        }
+
+        /**
+         * @param commentId Id of the comment
+         * @return Id of the user behind the latest event of the comment, or an empty Optional if there is no such
+         * comment
+         */
+        synchronized Optional<String> authorOf(int commentId) {
+            return Optional.ofNullable(commentsById.get(commentId)).map(comment -> comment.userId);
+        }
+    }
+
+    private static final class ProjectedComment {
+        private final String userId;
+        private final UserTaskEvent event;
+        private AuditEventDTO auditEvent;
+
+        private ProjectedComment(String userId, UserTaskEvent event) {
+            this.userId = userId;
+            this.event = event;
+        }
+
+        private AuditEventDTO toAuditEvent() {
+            if (auditEvent == null) {
+                auditEvent = AuditEventDTO.fromUserTaskEvent(event);
+            }
+
+            return auditEvent;
+        }
+    }
+}
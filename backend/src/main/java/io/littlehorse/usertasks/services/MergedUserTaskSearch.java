@@ -0,0 +1,284 @@
+package io.littlehorse.usertasks.services;
+
+import static io.littlehorse.usertasks.util.FutureUtil.toCompletableFuture;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.littlehorse.sdk.common.proto.LittleHorseGrpc;
+import io.littlehorse.sdk.common.proto.SearchUserTaskRunRequest;
+import io.littlehorse.sdk.common.proto.UserTaskRun;
+import io.littlehorse.sdk.common.proto.UserTaskRunId;
+import io.littlehorse.usertasks.models.requests.CompositeBookmark;
+import io.littlehorse.usertasks.models.requests.CompositeBookmark.SourcePosition;
+import io.littlehorse.usertasks.models.requests.UserTaskFieldset;
+import io.littlehorse.usertasks.models.responses.SimpleUserTaskRunDTO;
+import io.littlehorse.usertasks.models.responses.UserTaskRunListDTO;
+import io.littlehorse.usertasks.util.FutureUtil;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Answers a search of UserTaskRuns that LH Kernel cannot run as a single {@code SearchUserTaskRunRequest}, by running
+ * one kernel search per source concurrently and merging their results.
+ * <p>
+ * The page read from each source is sorted by scheduled time, and the merged page is built by repeatedly taking the
+ * source whose next UserTaskRun was scheduled first (a k-way merge), so every merged page is ordered by scheduled time.
+ * Across pages, UserTaskRuns follow the order in which LH Kernel returns each source, so a page may hold UserTaskRuns
+ * scheduled before the last one of the previous page. A UserTaskRun found by several sources is only returned once.
+ * <p>
+ * Sources are usually only partially consumed by a page, so the returned bookmark remembers, per source, the kernel
+ * bookmark of its next page along with the ids of the results that were read but not returned. Those results are
+ * fetched again by the next request and kept only if they still match their search, so UserTaskRuns that get claimed,
+ * completed or cancelled between requests are neither returned by mistake nor make the search skip others.
+ */
+final class MergedUserTaskSearch {
+    private static final Comparator<UserTaskRun> SCHEDULED_FIRST = Comparator.<UserTaskRun>comparingLong(
+                    userTaskRun -> userTaskRun.getScheduledTime().getSeconds())
+            .thenComparingInt(userTaskRun -> userTaskRun.getScheduledTime().getNanos());
+
+    private static final Comparator<SourceHead> HEAD_SCHEDULED_FIRST = Comparator.comparing(
+                    SourceHead::userTaskRun, SCHEDULED_FIRST)
+            .thenComparingInt(SourceHead::source);
+
+    private MergedUserTaskSearch() {}
+
+    /**
+     * @param tenantClient Kernel client of the tenant
+     * @param sources Kernel search of each source, keyed by a name that identifies the source across requests. The
+     *                limit and bookmark of the searches are overridden.
+     * @param limit Max number of UserTaskRuns of the merged page
+     * @param bookmark Position of each source, as returned along with the previous page
+     * @param fieldset Properties of the returned UserTaskRuns. They are always fetched, since they get merged by their
+     *                 scheduled time.
+     * @return The merged page, with a bookmark that is null once every source ran out of results
+     * @throws ResponseStatusException If the limit is not positive, or if the bookmark carries more pending
+     * UserTaskRuns for a source than the limit, which a bookmark issued for a page of the same size never does
+     */
+    static CompletableFuture<UserTaskRunListDTO> search(
+            LittleHorseGrpc.LittleHorseFutureStub tenantClient,
+            Map<String, SearchUserTaskRunRequest> sources,
+            int limit,
+            CompositeBookmark bookmark,
+            UserTaskFieldset fieldset) {
+        if (limit <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be greater than zero");
+        }
+
+        // Each pending UserTaskRun is read again, so they are checked before any kernel call is made
+        for (String source : sources.keySet()) {
+            if (bookmark.positionOf(source).pendingIds().size() > limit) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST, "Bookmark does not match the requested limit");
+            }
+        }
+
+        List<CompletableFuture<SourcePage>> sourcePages = sources.entrySet().stream()
+                .map(source -> fetchPage(
+                        tenantClient, source.getKey(), source.getValue(), bookmark.positionOf(source.getKey()), limit))
+                .toList();
+
+        return CompletableFuture.allOf(sourcePages.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> merge(
+                        sourcePages.stream().map(CompletableFuture::join).toList(), limit, fieldset));
+    }
+
+    private static CompletableFuture<SourcePage> fetchPage(
+            LittleHorseGrpc.LittleHorseFutureStub tenantClient,
+            String source,
+            SearchUserTaskRunRequest searchRequest,
+            SourcePosition position,
+            int limit) {
+        List<CompletableFuture<UserTaskRun>> pendingUserTaskRuns = position.pendingIds().stream()
+                .map(MergedUserTaskSearch::parseId)
+                .map(userTaskRunId -> getIfExists(tenantClient, userTaskRunId))
+                .toList();
+        int kernelLimit = limit - pendingUserTaskRuns.size();
+
+        if (position.exhausted() || kernelLimit <= 0) {
+            return toSourcePage(
+                    source, searchRequest, pendingUserTaskRuns, List.of(), position.bookmark(), position.exhausted());
+        }
+
+        var pageRequest = searchRequest.toBuilder().setLimit(kernelLimit);
+
+        if (position.bookmark() != null) {
+            pageRequest.setBookmark(ByteString.copyFrom(position.bookmark()));
+        } else {
+            pageRequest.clearBookmark();
+        }
+
+        return toCompletableFuture(tenantClient.searchUserTaskRun(pageRequest.build()))
+                .thenCompose(searchResults -> {
+                    List<CompletableFuture<UserTaskRun>> userTaskRuns = searchResults.getResultsList().stream()
+                            .map(userTaskRunId -> getIfExists(tenantClient, userTaskRunId))
+                            .toList();
+                    byte[] nextBookmark = searchResults.hasBookmark()
+                            ? searchResults.getBookmark().toByteArray()
+                            : null;
+
+                    return toSourcePage(
+                            source,
+                            searchRequest,
+                            pendingUserTaskRuns,
+                            userTaskRuns,
+                            nextBookmark,
+                            !searchResults.hasBookmark());
+                });
+    }
+
+    private static CompletableFuture<SourcePage> toSourcePage(
+            String source,
+            SearchUserTaskRunRequest searchRequest,
+            List<CompletableFuture<UserTaskRun>> pendingUserTaskRuns,
+            List<CompletableFuture<UserTaskRun>> userTaskRuns,
+            byte[] nextBookmark,
+            boolean exhausted) {
+        List<CompletableFuture<UserTaskRun>> allUserTaskRuns = new ArrayList<>(pendingUserTaskRuns);
+        allUserTaskRuns.addAll(userTaskRuns);
+
+        return CompletableFuture.allOf(allUserTaskRuns.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    // Pending UserTaskRuns were found by an earlier request, so they may no longer match the search
+                    Stream<UserTaskRun> stillPending = pendingUserTaskRuns.stream()
+                            .map(CompletableFuture::join)
+                            .filter(Objects::nonNull)
+                            .filter(userTaskRun -> stillMatches(searchRequest, userTaskRun));
+                    Stream<UserTaskRun> found =
+                            userTaskRuns.stream().map(CompletableFuture::join).filter(Objects::nonNull);
+
+                    return new SourcePage(
+                            source,
+                            Stream.concat(stillPending, found).sorted(SCHEDULED_FIRST).toList(),
+                            nextBookmark,
+                            exhausted);
+                });
+    }
+
+    /**
+     * Fetches a UserTaskRun found by a search, which may have been deleted since
+     *
+     * @return A future of the UserTaskRun, or of null if it does not exist anymore
+     */
+    private static CompletableFuture<UserTaskRun> getIfExists(
+            LittleHorseGrpc.LittleHorseFutureStub tenantClient, UserTaskRunId userTaskRunId) {
+        return toCompletableFuture(tenantClient.getUserTaskRun(userTaskRunId)).handle((userTaskRun, throwable) -> {
+            if (throwable == null) {
+                return userTaskRun;
+            }
+
+            Throwable cause = FutureUtil.unwrap(throwable);
+
+            if (cause instanceof StatusRuntimeException statusRuntimeException
+                    && statusRuntimeException.getStatus().getCode() == Status.Code.NOT_FOUND) {
+                return null;
+            }
+
+            throw new CompletionException(cause);
+        });
+    }
+
+    /**
+     * Checks the filters of a search that depend on the state of a UserTaskRun. The rest of them (UserTaskDef and
+     * creation time) cannot change once the UserTaskRun was found.
+     */
+    private static boolean stillMatches(SearchUserTaskRunRequest searchRequest, UserTaskRun userTaskRun) {
+        return (!searchRequest.hasStatus() || searchRequest.getStatus() == userTaskRun.getStatus())
+                && (!searchRequest.hasUserId() || searchRequest.getUserId().equals(userTaskRun.getUserId()))
+                && (!searchRequest.hasUserGroup() || searchRequest.getUserGroup().equals(userTaskRun.getUserGroup()));
+    }
+
+    static UserTaskRunListDTO merge(List<SourcePage> sourcePages, int limit, UserTaskFieldset fieldset) {
+        PriorityQueue<SourceHead> heads = new PriorityQueue<>(HEAD_SCHEDULED_FIRST);
+        int[] consumed = new int[sourcePages.size()];
+
+        for (int source = 0; source < sourcePages.size(); source++) {
+            List<UserTaskRun> userTaskRuns = sourcePages.get(source).userTaskRuns();
+
+            if (!userTaskRuns.isEmpty()) {
+                heads.add(new SourceHead(source, userTaskRuns.getFirst()));
+            }
+        }
+
+        Set<UserTaskRunId> returnedIds = new HashSet<>();
+        Set<SimpleUserTaskRunDTO> userTasks = new LinkedHashSet<>();
+
+        while (!heads.isEmpty()) {
+            SourceHead head = heads.peek();
+            boolean alreadyReturned = returnedIds.contains(head.userTaskRun().getId());
+
+            // Once the page is full, only duplicates of returned UserTaskRuns keep being consumed
+            if (!alreadyReturned && userTasks.size() >= limit) {
+                break;
+            }
+
+            heads.poll();
+
+            if (!alreadyReturned) {
+                returnedIds.add(head.userTaskRun().getId());
+                userTasks.add(SimpleUserTaskRunDTO.fromUserTaskRun(head.userTaskRun(), fieldset));
+            }
+
+            List<UserTaskRun> userTaskRuns = sourcePages.get(head.source()).userTaskRuns();
+            int next = ++consumed[head.source()];
+
+            if (next < userTaskRuns.size()) {
+                heads.add(new SourceHead(head.source(), userTaskRuns.get(next)));
+            }
+        }
+
+        Map<String, SourcePosition> positions = new HashMap<>();
+
+        for (int source = 0; source < sourcePages.size(); source++) {
+            SourcePage sourcePage = sourcePages.get(source);
+            positions.put(sourcePage.source(), sourcePage.positionAfter(consumed[source]));
+        }
+
+        CompositeBookmark nextBookmark = new CompositeBookmark(positions);
+
+        return UserTaskRunListDTO.builder()
+                .userTasks(userTasks)
+                .bookmark(nextBookmark.allSourcesExhausted() ? null : nextBookmark.encode())
+                .build();
+    }
+
+    private static UserTaskRunId parseId(byte[] userTaskRunId) {
+        try {
+            return UserTaskRunId.parseFrom(userTaskRunId);
+        } catch (InvalidProtocolBufferException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Bookmark is not valid", e);
+        }
+    }
+
+    /**
+     * @param source Name of the source
+     * @param userTaskRuns UserTaskRuns of the source that were not returned yet, ordered by scheduled time
+     * @param nextBookmark Kernel bookmark of the following page of the source
+     * @param exhausted Whether the kernel has no pages of the source left
+     */
+    record SourcePage(String source, List<UserTaskRun> userTaskRuns, byte[] nextBookmark, boolean exhausted) {
+        private SourcePosition positionAfter(int consumed) {
+            List<byte[]> pendingIds = userTaskRuns.subList(consumed, userTaskRuns.size()).stream()
+                    .map(userTaskRun -> userTaskRun.getId().toByteArray())
+                    .toList();
+
+            return new SourcePosition(nextBookmark, pendingIds, exhausted);
+        }
+    }
+
+    private record SourceHead(int source, UserTaskRun userTaskRun) {}
+}
@@ -0,0 +1,231 @@
+package io.littlehorse.usertasks.services;
+
+import static io.littlehorse.usertasks.configurations.CustomIdentityProviderProperties.getCustomIdentityProviderProperties;
+import static io.littlehorse.usertasks.util.constants.TokenClaimConstants.ALLOWED_TOKEN_CUSTOM_CLAIM;
+import static io.littlehorse.usertasks.util.constants.TokenClaimConstants.USER_ID_CLAIM;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.littlehorse.usertasks.configurations.CustomIdentityProviderProperties;
+import io.littlehorse.usertasks.configurations.IdentityProviderConfigProperties;
+import io.littlehorse.usertasks.idp_adapters.IStandardIdentityProviderAdapter;
+import io.littlehorse.usertasks.models.common.UserGroupDTO;
+import io.littlehorse.usertasks.models.responses.UserGroupListDTO;
+import io.littlehorse.usertasks.util.TokenUtil;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service in charge of resolving who is behind an access token: its tenant, the configuration of its Identity
+ * Provider, the id, subject and username of the user and the names of the UserGroups that the user belongs to. Every
+ * endpoint that acts on behalf of the user behind the token resolves them through this service.
+ * <p>
+ * Clients tend to send the same access token over and over while it is valid, so resolved principals are cached by
+ * the hash of their token until the token expires, or until {@code lhut.principal-cache.max-ttl} elapses if that
+ * comes first so that changes to the user's UserGroups are eventually picked up. The cache is bounded and evicts the
+ * least recently used principals first.
+ */
+@Service
+@Slf4j
+public class PrincipalService {
+    private static final String EXPIRATION_CLAIM = "exp";
+
+    private final IdentityProviderConfigProperties identityProviderConfigProperties;
+    private final int maxSize;
+    private final Duration maxTtl;
+    private final Clock clock;
+    private final Map<String, CachedPrincipal> cachedPrincipals;
+
+    @Autowired
+    PrincipalService(
+            IdentityProviderConfigProperties identityProviderConfigProperties,
+            @Value("${lhut.principal-cache.max-size:10000}") int maxSize,
+            @Value("${lhut.principal-cache.max-ttl:PT5M}") Duration maxTtl) {
+        this(identityProviderConfigProperties, maxSize, maxTtl, Clock.systemUTC());
+    }
+
+    PrincipalService(
+            IdentityProviderConfigProperties identityProviderConfigProperties,
+            int maxSize,
+            Duration maxTtl,
+            Clock clock) {
+        this.identityProviderConfigProperties = identityProviderConfigProperties;
+        this.maxSize = maxSize;
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+        this.cachedPrincipals = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+                return size() > PrincipalService.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Resolves the principal behind the given access token
+     *
+     * @param accessToken Access token of the request
+     * @return The tenant, Identity Provider configuration and user id of the token
+     * @throws JsonProcessingException if the token's claims cannot be read
+     */
+    public Principal resolvePrincipal(@NonNull String accessToken) throws JsonProcessingException {
+        return getCachedPrincipal(accessToken).principal;
+    }
+
+    /**
+     * Resolves the adapter of the Identity Provider that issued the given access token
+     *
+     * @param accessToken Access token of the request
+     * @param strict Whether to throw a 406 when the token's Identity Provider has no supported adapter
+     * @return The adapter of the token's Identity Provider, or null if it has none and {@code strict} is false
+     * @throws JsonProcessingException if the token's claims cannot be read
+     */
+    @Nullable
+    public IStandardIdentityProviderAdapter resolveIdentityProviderHandler(@NonNull String accessToken, boolean strict)
+            throws JsonProcessingException {
+        return identityProviderConfigProperties.getIdentityProviderHandler(
+                resolvePrincipal(accessToken).identityProviderProperties(), strict);
+    }
+
+    /**
+     * Resolves the names of the UserGroups that the user behind the given access token belongs to. UserGroups are
+     * fetched from the Identity Provider the first time that they are needed and then cached along with the principal.
+     *
+     * @param accessToken Access token of the request
+     * @return The names of the user's UserGroups, or null if the token's Identity Provider has no supported adapter
+     * @throws JsonProcessingException if the token's claims cannot be read
+     */
+    public Set<String> resolveUserGroupNames(@NonNull String accessToken) throws JsonProcessingException {
+        CachedPrincipal cachedPrincipal = getCachedPrincipal(accessToken);
+
+        if (!cachedPrincipal.userGroupNamesResolved) {
+            final IStandardIdentityProviderAdapter identityProviderHandler =
+                    identityProviderConfigProperties.getIdentityProviderHandler(
+                            cachedPrincipal.principal.identityProviderProperties(), false);
+
+            Set<String> userGroupNames = null;
+
+            if (identityProviderHandler != null) {
+                UserGroupListDTO myUserGroups =
+                        identityProviderHandler.getMyUserGroups(Map.of("accessToken", accessToken));
+
+                userGroupNames = myUserGroups.getGroups().stream()
+                        .map(UserGroupDTO::getName)
+                        .collect(Collectors.toUnmodifiableSet());
+            }
+
+            cachedPrincipal.userGroupNames = userGroupNames;
+            cachedPrincipal.userGroupNamesResolved = true;
+        }
+
+        return cachedPrincipal.userGroupNames;
+    }
+
+    private CachedPrincipal getCachedPrincipal(String accessToken) throws JsonProcessingException {
+        String tokenHash = hash(accessToken);
+        long now = clock.millis();
+        CachedPrincipal cachedPrincipal;
+
+        synchronized (cachedPrincipals) {
+            cachedPrincipal = cachedPrincipals.get(tokenHash);
+        }
+
+        if (cachedPrincipal != null && cachedPrincipal.expiresAtMillis > now) {
+            return cachedPrincipal;
+        }
+
+        final CustomIdentityProviderProperties identityProviderProperties =
+                getCustomIdentityProviderProperties(accessToken, identityProviderConfigProperties);
+        final String userIdClaim = identityProviderProperties.getUserIdClaim().toString();
+        final String usernameClaim = identityProviderProperties.getUsernameClaim();
+        final Set<String> claimNames =
+                new HashSet<>(Set.of(EXPIRATION_CLAIM, ALLOWED_TOKEN_CUSTOM_CLAIM, USER_ID_CLAIM, userIdClaim));
+
+        if (usernameClaim != null) {
+            claimNames.add(usernameClaim);
+        }
+
+        final Map<String, Object> tokenClaims = TokenUtil.getTokenClaims(accessToken, claimNames);
+
+        Principal principal = new Principal(
+                (String) tokenClaims.get(ALLOWED_TOKEN_CUSTOM_CLAIM),
+                identityProviderProperties,
+                (String) tokenClaims.get(userIdClaim),
+                (String) tokenClaims.get(USER_ID_CLAIM),
+                usernameClaim != null ? (String) tokenClaims.get(usernameClaim) : null);
+        CachedPrincipal resolvedPrincipal = new CachedPrincipal(principal, expiresAtMillis(tokenClaims, now));
+
+        // Tokens without an expiration are resolved on every request
+        if (resolvedPrincipal.expiresAtMillis > now) {
+            synchronized (cachedPrincipals) {
+                cachedPrincipals.put(tokenHash, resolvedPrincipal);
+            }
+        }
+
+        return resolvedPrincipal;
+    }
+
+    private long expiresAtMillis(Map<String, Object> tokenClaims, long now) {
+        if (!(tokenClaims.get(EXPIRATION_CLAIM) instanceof Number expiration)) {
+            return now;
+        }
+
+        return Math.min(Duration.ofSeconds(expiration.longValue()).toMillis(), now + maxTtl.toMillis());
+    }
+
+    private static String hash(String accessToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            return HexFormat.of().formatHex(digest.digest(accessToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    int cachedPrincipalsCount() {
+        synchronized (cachedPrincipals) {
+            return cachedPrincipals.size();
+        }
+    }
+
+    /**
+     * @param tenantId Tenant that the access token was issued for
+     * @param identityProviderProperties Configuration of the Identity Provider that issued the access token
+     * @param userId Id of the user, taken from the claim configured for the Identity Provider
+     * @param subject Subject of the access token
+     * @param username Username of the user, taken from the claim configured for the Identity Provider
+     */
+    public record Principal(
+            String tenantId,
+            CustomIdentityProviderProperties identityProviderProperties,
+            String userId,
+            String subject,
+            String username) {}
+
+    private static class CachedPrincipal {
+        private final Principal principal;
+        private final long expiresAtMillis;
+        private volatile Set<String> userGroupNames;
+        private volatile boolean userGroupNamesResolved;
+
+        private CachedPrincipal(Principal principal, long expiresAtMillis) {
+            this.principal = principal;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -67,8 +67,7 @@ public class TenantService {
 
     @NonNull
     public IdentityProviderListDTO getTenantIdentityProviderConfig(@NonNull String tenantId) {
-        Set<IdentityProviderDTO> tenantConfig = identityProviderConfigProperties.getOps().stream()
-                .filter(config -> StringUtils.equalsIgnoreCase(tenantId, config.getTenantId()))
+        Set<IdentityProviderDTO> tenantConfig = identityProviderConfigProperties.findOpsByTenant(tenantId).stream()
                 .map(IdentityProviderDTO::fromConfigProperties)
                 .flatMap(providerSet -> providerSet.stream().distinct())
                 .collect(Collectors.toSet());
@@ -28,10 +28,29 @@ public class UserManagementService {
             @NonNull IDPUserSearchRequestFilter requestFilter,
             int firstResult,
             int maxResults) {
+        return listUsersFromIdentityProvider(
+                accessToken, identityProviderAdapter, requestFilter, firstResult, maxResults, true);
+    }
+
+    /**
+     * Lists a page of Users from the given Identity Provider
+     *
+     * @param includeRoles Whether realm and client roles must be resolved for every User. Skipping them saves the
+     *     role lookups that the Identity Provider needs per User
+     */
+    @NonNull
+    public IDPUserListDTO listUsersFromIdentityProvider(
+            @NonNull String accessToken,
+            @NonNull IStandardIdentityProviderAdapter identityProviderAdapter,
+            @NonNull IDPUserSearchRequestFilter requestFilter,
+            int firstResult,
+            int maxResults,
+            boolean includeRoles) {
         Map<String, Object> params = null;
 
         if (identityProviderAdapter instanceof KeycloakAdapter) {
-            params = KeycloakAdapter.buildParamsForUsersSearch(accessToken, requestFilter, firstResult, maxResults);
+            params = KeycloakAdapter.buildParamsForUsersSearch(
+                    accessToken, requestFilter, firstResult, maxResults, includeRoles);
         }
 
         return identityProviderAdapter.getManagedUsers(params);
@@ -12,16 +12,23 @@ import io.littlehorse.usertasks.models.common.UserTaskVariableValue;
 import io.littlehorse.usertasks.models.requests.AssignmentRequest;
 import io.littlehorse.usertasks.models.requests.CompleteUserTaskRequest;
 import io.littlehorse.usertasks.models.requests.StandardPagination;
+import io.littlehorse.usertasks.models.requests.UserTaskFieldset;
 import io.littlehorse.usertasks.models.requests.UserTaskRequestFilter;
 import io.littlehorse.usertasks.models.requests.comment_requests.DeleteCommentRequest;
 import io.littlehorse.usertasks.models.requests.comment_requests.EditCommentRequest;
 import io.littlehorse.usertasks.models.requests.comment_requests.PutCommentRequest;
 import io.littlehorse.usertasks.models.responses.AuditEventDTO;
+import io.littlehorse.usertasks.models.responses.AuditEventPage;
+import io.littlehorse.usertasks.models.responses.CommentListDTO;
 import io.littlehorse.usertasks.models.responses.DetailedUserTaskRunDTO;
 import io.littlehorse.usertasks.models.responses.SimpleUserTaskRunDTO;
 import io.littlehorse.usertasks.models.responses.UserTaskDefListDTO;
 import io.littlehorse.usertasks.models.responses.UserTaskRunListDTO;
+import io.littlehorse.usertasks.read_model.UserTaskRunReadModelService;
+import io.littlehorse.usertasks.util.ETagUtil;
+import io.littlehorse.usertasks.util.enums.UserTaskEventType;
 import io.littlehorse.usertasks.util.enums.UserTaskFieldType;
+import io.littlehorse.usertasks.util.enums.UserTaskRunProperty;
 import jakarta.annotation.Nullable;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -38,11 +45,20 @@ import org.springframework.web.server.ResponseStatusException;
 @Slf4j
 public class UserTaskService {
     private final Map<String, LittleHorseGrpc.LittleHorseBlockingStub> lhClients;
-    private final Set<UserTaskRunStatus> TERMINAL_STATUSES =
+    private final UserTaskRunReadModelService userTaskRunReadModelService;
+    private final CommentProjectionCache commentProjectionCache;
+    private static final Set<UserTaskRunStatus> TERMINAL_STATUSES =
             Set.of(UserTaskRunStatus.CANCELLED, UserTaskRunStatus.DONE);
+    private static final UserTaskFieldset DETAILS_WITHOUT_EVENTS =
+            UserTaskFieldset.ALL.without(UserTaskRunProperty.EVENTS);
 
-    UserTaskService(Map<String, LittleHorseGrpc.LittleHorseBlockingStub> lhClients) {
+    UserTaskService(
+            Map<String, LittleHorseGrpc.LittleHorseBlockingStub> lhClients,
+            UserTaskRunReadModelService userTaskRunReadModelService,
+            CommentProjectionCache commentProjectionCache) {
         this.lhClients = lhClients;
+        this.userTaskRunReadModelService = userTaskRunReadModelService;
+        this.commentProjectionCache = commentProjectionCache;
     }
 
     @NonNull
@@ -54,6 +70,24 @@ public class UserTaskService {
             int limit,
             byte[] bookmark,
             boolean isAdminRequest) {
+        return getTasks(
+                tenantId, userId, userGroup, additionalFilters, limit, bookmark, isAdminRequest, UserTaskFieldset.ALL);
+    }
+
+    /**
+     * @param fieldset Properties of the UserTaskRuns to return. UserTaskRuns are not fetched from LH Kernel when only
+     * their ids are requested.
+     */
+    @NonNull
+    public UserTaskRunListDTO getTasks(
+            @NonNull String tenantId,
+            String userId,
+            String userGroup,
+            UserTaskRequestFilter additionalFilters,
+            int limit,
+            byte[] bookmark,
+            boolean isAdminRequest,
+            @NonNull UserTaskFieldset fieldset) {
         if (!isAdminRequest && !StringUtils.hasText(userId)) {
             throw new IllegalArgumentException("Cannot search UserTask without specifying a proper UserId");
         }
@@ -73,8 +107,12 @@ public class UserTaskService {
 
         if (!resultsIdList.isEmpty()) {
             resultsIdList.forEach(userTaskRunId -> {
-                UserTaskRun userTaskRun = tenantClient.getUserTaskRun(userTaskRunId);
-                setOfUserTasks.add(SimpleUserTaskRunDTO.fromUserTaskRun(userTaskRun));
+                if (fieldset.includesOnlyIds()) {
+                    setOfUserTasks.add(SimpleUserTaskRunDTO.fromUserTaskRunId(userTaskRunId));
+                } else {
+                    UserTaskRun userTaskRun = tenantClient.getUserTaskRun(userTaskRunId);
+                    setOfUserTasks.add(SimpleUserTaskRunDTO.fromUserTaskRun(userTaskRun, fieldset));
+                }
             });
 
             response.setUserTasks(setOfUserTasks);
@@ -95,6 +133,22 @@ public class UserTaskService {
             String userId,
             String userGroup,
             boolean isAdminRequest) {
+        return getUserTaskDetails(
+                wfRunId, userTaskRunGuid, tenantId, userId, userGroup, isAdminRequest, UserTaskFieldset.ALL);
+    }
+
+    /**
+     * @param fieldset Properties of the UserTaskRun to return. Its UserTaskDef is only fetched when its fields are
+     * requested, and its events are only converted when they are requested, which they can only be by admins.
+     */
+    public Optional<DetailedUserTaskRunDTO> getUserTaskDetails(
+            @NonNull String wfRunId,
+            @NonNull String userTaskRunGuid,
+            @NonNull String tenantId,
+            String userId,
+            String userGroup,
+            boolean isAdminRequest,
+            @NonNull UserTaskFieldset fieldset) {
         UserTaskRunId getUserTaskRunRequest = buildUserTaskRunId(wfRunId, userTaskRunGuid);
 
         LittleHorseGrpc.LittleHorseBlockingStub tenantClient = getTenantLHClient(tenantId);
@@ -109,26 +163,20 @@ public class UserTaskService {
             validateIfUserIsAllowedToSeeUserTask(userId, userGroup, userTaskRunResult);
         }
 
-        UserTaskDef userTaskDefResult = tenantClient.getUserTaskDef(userTaskRunResult.getUserTaskDefId());
+        UserTaskDef userTaskDefResult = null;
 
-        if (!Objects.nonNull(userTaskDefResult)) {
-            throw new NotFoundException("Could not find associated UserTaskDef!");
-        }
-
-        var resultDto = DetailedUserTaskRunDTO.fromUserTaskRun(userTaskRunResult, userTaskDefResult);
-
-        if (isAdminRequest) {
-            Set<AuditEventDTO> events = new HashSet<>();
+        if (fieldset.includes(UserTaskRunProperty.FIELDS)) {
+            userTaskDefResult = tenantClient.getUserTaskDef(userTaskRunResult.getUserTaskDefId());
 
-            userTaskRunResult.getEventsList().forEach(serverEvent -> {
-                AuditEventDTO event = AuditEventDTO.fromUserTaskEvent(serverEvent);
-                events.add(event);
-            });
-
-            resultDto.setEvents(events);
+            if (!Objects.nonNull(userTaskDefResult)) {
+                throw new NotFoundException("Could not find associated UserTaskDef!");
+            }
         }
 
-        return Optional.of(resultDto);
+        return Optional.of(buildDetailedUserTaskRunDTO(
+                userTaskRunResult,
+                userTaskDefResult,
+                isAdminRequest ? fieldset : fieldset.without(UserTaskRunProperty.EVENTS)));
     }
 
     public void completeUserTask(
@@ -145,7 +193,8 @@ public class UserTaskService {
                     tenantId,
                     userId,
                     null,
-                    isAdminRequest); // TODO: UserGroup param must be added here later on
+                    isAdminRequest,
+                    DETAILS_WITHOUT_EVENTS); // TODO: UserGroup param must be added here later on
 
             if (userTaskDetails.isPresent()) {
                 if (isUserTaskTerminated(userTaskDetails.get().getStatus().toServerStatus())) {
@@ -161,6 +210,8 @@ public class UserTaskService {
                 CompleteUserTaskRunRequest serverRequest = request.toServerRequest(userId);
 
                 tenantClient.completeUserTaskRun(serverRequest);
+                userTaskRunReadModelService.onUserTaskRunChanged(
+                        tenantId, buildUserTaskRunId(request.getWfRunId(), request.getUserTaskRunGuid()));
 
                 log.atInfo()
                         .setMessage("UserTaskRun with wfRunId: {}, guid: {} was successfully completed")
@@ -198,14 +249,9 @@ public class UserTaskService {
             LittleHorseGrpc.LittleHorseBlockingStub tenantClient = getTenantLHClient(tenantId);
 
             UserTaskRun userTaskRun = tenantClient.putUserTaskRunComment(serverRequest);
-            List<UserTaskEvent> serverEvents = userTaskRun.getEventsList().stream()
-                    .filter(event -> event.hasCommentAdded())
-                    .filter(event -> userId.equals(event.getCommentAdded().getUserId()))
-                    .toList();
+            userTaskRunReadModelService.onUserTaskRunUpdated(tenantId, userTaskRun);
 
-            AuditEventDTO eventDTO = AuditEventDTO.fromUserTaskEvent(serverEvents.getLast());
-
-            return eventDTO;
+            return getLastCommentAddedBy(userTaskRun, userId);
         } catch (StatusRuntimeException sre) {
             if (sre.getStatus().getCode() == Status.Code.NOT_FOUND) {
                 String message = sre.getMessage();
@@ -231,8 +277,10 @@ public class UserTaskService {
             LittleHorseGrpc.LittleHorseBlockingStub tenantClient = getTenantLHClient(tenantId);
 
             UserTaskRun userTaskRun = tenantClient.editUserTaskRunComment(serverRequest);
+            userTaskRunReadModelService.onUserTaskRunUpdated(tenantId, userTaskRun);
 
-            if (!validateUserIdentityForComment(userTaskRun, request.getCommentId(), userId))
+            if (!validateUserIdentityForComment(
+                    commentProjectionCache.projectionOf(tenantId, userTaskRun), request.getCommentId(), userId))
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You are not the owner of this comment.");
 
             UserTaskEvent serverEvent = userTaskRun.getEventsList().getLast();
@@ -270,7 +318,9 @@ public class UserTaskService {
             LittleHorseGrpc.LittleHorseBlockingStub tenantClient = getTenantLHClient(tenantId);
 
             UserTaskRun userTaskRun = tenantClient.deleteUserTaskRunComment(serverRequest);
-            if (!validateUserIdentityForComment(userTaskRun, request.getCommentId(), userId))
+            userTaskRunReadModelService.onUserTaskRunUpdated(tenantId, userTaskRun);
+            if (!validateUserIdentityForComment(
+                    commentProjectionCache.projectionOf(tenantId, userTaskRun), request.getCommentId(), userId))
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You are not the owner of this comment.");
 
             UserTaskEvent serverEvent = userTaskRun.getEventsList().getLast();
@@ -302,16 +352,29 @@ public class UserTaskService {
         }
     }
 
-    public List<AuditEventDTO> getComment(String wfRunId, String userTaskRunGuid, String tenantId) {
+    /**
+     * Gets a page of the comments of a UserTaskRun, in comment id order, each one represented by its latest event
+     *
+     * @param limit Max number of comments to return, null to return all of them
+     * @param cursor Cursor returned along with the previous page, null to start from the first comment
+     */
+    public CommentListDTO getComments(
+            String wfRunId, String userTaskRunGuid, String tenantId, Integer limit, String cursor) {
+        final Integer afterCommentId;
+
+        try {
+            afterCommentId = StringUtils.hasText(cursor) ? Integer.valueOf(cursor) : null;
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", e);
+        }
 
         UserTaskRunId getUserTaskRunRequest = buildUserTaskRunId(wfRunId, userTaskRunGuid);
 
         LittleHorseGrpc.LittleHorseBlockingStub tenantClient = getTenantLHClient(tenantId);
         try {
             UserTaskRun userTaskRun = tenantClient.getUserTaskRun(getUserTaskRunRequest);
-            HashMap<Integer, AuditEventDTO> latestComment = getMostRecentComments(userTaskRun);
 
-            return new ArrayList<>(latestComment.values());
+            return commentProjectionCache.projectionOf(tenantId, userTaskRun).page(afterCommentId, limit);
         } catch (StatusRuntimeException sre) {
 
             if (sre.getStatus().getCode() == Status.Code.FAILED_PRECONDITION)
@@ -330,6 +393,66 @@ public class UserTaskService {
         }
     }
 
+    /**
+     * Gets a page of the events of a UserTaskRun, oldest first. Events are appended to a UserTaskRun in the order in
+     * which they happen and never removed, so the cursor is the position in the UserTaskRun's events where the next
+     * page starts.
+     *
+     * @param types Types of the events to return, empty to return events of every type
+     * @param limit Max number of events to return
+     * @param cursor Cursor returned along with the previous page, null to start from the oldest event
+     */
+    public AuditEventPage getUserTaskEvents(
+            @NonNull String wfRunId,
+            @NonNull String userTaskRunGuid,
+            @NonNull String tenantId,
+            @NonNull Collection<UserTaskEventType> types,
+            int limit,
+            String cursor) {
+        final int fromIndex;
+
+        try {
+            fromIndex = StringUtils.hasText(cursor) ? Integer.parseInt(cursor) : 0;
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", e);
+        }
+
+        if (fromIndex < 0 || limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor or limit");
+        }
+
+        final UserTaskRun userTaskRun;
+
+        try {
+            userTaskRun = getTenantLHClient(tenantId).getUserTaskRun(buildUserTaskRunId(wfRunId, userTaskRunGuid));
+        } catch (StatusRuntimeException e) {
+            if (e.getStatus().getCode() == Status.Code.NOT_FOUND) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "UserTask does not exist");
+            }
+
+            throw e;
+        }
+
+        List<UserTaskEvent> events = userTaskRun.getEventsList();
+        List<UserTaskEvent> pageEvents = new ArrayList<>();
+
+        for (int i = fromIndex; i < events.size(); i++) {
+            UserTaskEvent event = events.get(i);
+
+            if (!types.isEmpty() && !types.contains(UserTaskEventType.fromServerEvent(event))) {
+                continue;
+            }
+
+            if (pageEvents.size() == limit) {
+                return new AuditEventPage(pageEvents, String.valueOf(i));
+            }
+
+            pageEvents.add(event);
+        }
+
+        return new AuditEventPage(pageEvents, null);
+    }
+
     public UserTaskDefListDTO getAllUserTasksDef(@NonNull String tenantId, int limit, byte[] bookmark) {
         LittleHorseGrpc.LittleHorseBlockingStub tenantClient = getTenantLHClient(tenantId);
 
@@ -381,19 +504,8 @@ public class UserTaskService {
 
             UserTaskRunId userTaskRunId = buildUserTaskRunId(wfRunId, userTaskRunGuid);
 
-            AssignUserTaskRunRequest.Builder requestBuilder = AssignUserTaskRunRequest.newBuilder()
-                    .setUserTaskRunId(userTaskRunId)
-                    .setOverrideClaim(true);
-
-            if (StringUtils.hasText(requestBody.getUserId())) {
-                requestBuilder.setUserId(requestBody.getUserId());
-            }
-
-            if (StringUtils.hasText(requestBody.getUserGroup())) {
-                requestBuilder.setUserGroup(requestBody.getUserGroup());
-            }
-
-            tenantClient.assignUserTaskRun(requestBuilder.build());
+            tenantClient.assignUserTaskRun(buildAssignUserTaskRunRequest(requestBody, userTaskRunId));
+            userTaskRunReadModelService.onUserTaskRunChanged(tenantId, userTaskRunId);
 
             log.atInfo()
                     .setMessage("UserTaskRun with wfRunId: {} and guid: {} was successfully assigned to {}")
@@ -469,6 +581,7 @@ public class UserTaskService {
                     .build();
 
             tenantClient.cancelUserTaskRun(requestBuilder);
+            userTaskRunReadModelService.onUserTaskRunChanged(tenantId, userTaskRunId);
 
             log.atInfo()
                     .setMessage("UserTaskRun with wfRunId: {} and guid: {} was successfully cancelled as Admin.")
@@ -546,6 +659,7 @@ public class UserTaskService {
                     .build();
 
             tenantClient.cancelUserTaskRun(requestBuilder);
+            userTaskRunReadModelService.onUserTaskRunChanged(tenantId, userTaskRunId);
 
             log.atInfo()
                     .setMessage("UserTaskRun with wfRunId: {} and guid: {} was successfully cancelled.")
@@ -604,23 +718,9 @@ public class UserTaskService {
             boolean isUserTaskClaimable = isUserTaskClaimable(isAdminClaim, userTaskRun, userGroups);
 
             if (isUserTaskClaimable) {
-                AssignUserTaskRunRequest requestBuilder = AssignUserTaskRunRequest.newBuilder()
-                        .setUserId(userId)
-                        .setUserTaskRunId(userTaskRunId)
-                        .build();
-
-                if (StringUtils.hasText(userTaskRun.getUserGroup())) {
-                    requestBuilder = requestBuilder.toBuilder()
-                            .setUserGroup(userTaskRun.getUserGroup())
-                            .build();
-                }
-
-                if (isAdminClaim) {
-                    requestBuilder =
-                            requestBuilder.toBuilder().setOverrideClaim(true).build();
-                }
-
-                tenantClient.assignUserTaskRun(requestBuilder);
+                tenantClient.assignUserTaskRun(
+                        buildClaimUserTaskRunRequest(userId, userTaskRunId, userTaskRun, isAdminClaim));
+                userTaskRunReadModelService.onUserTaskRunChanged(tenantId, userTaskRunId);
 
                 log.atInfo()
                         .setMessage("UserTaskRun with wfRunId: {} and guid: {} was successfully claimed.")
@@ -669,7 +769,7 @@ public class UserTaskService {
                 () -> new SecurityException("Could not find a matching configured tenant"));
     }
 
-    private SearchUserTaskRunRequest buildSearchUserTaskRunRequest(
+    static SearchUserTaskRunRequest buildSearchUserTaskRunRequest(
             String userId,
             String userGroup,
             UserTaskRequestFilter additionalFilters,
@@ -694,7 +794,7 @@ public class UserTaskService {
         return builder.build();
     }
 
-    private void addAdditionalFilters(
+    private static void addAdditionalFilters(
             UserTaskRequestFilter additionalFilters, SearchUserTaskRunRequest.Builder builder) {
         if (Objects.nonNull(additionalFilters)) {
             if (Objects.nonNull(additionalFilters.getEarliestStartDate())) {
@@ -729,7 +829,7 @@ public class UserTaskService {
         }
     }
 
-    private void validateIfUserIsAllowedToSeeUserTask(
+    static void validateIfUserIsAllowedToSeeUserTask(
             String userId, String userGroup, @NonNull UserTaskRun userTaskRun) {
         if (!StringUtils.hasText(userId)) {
             throw new CustomUnauthorizedException("Unable to read provided user information");
@@ -763,7 +863,10 @@ public class UserTaskService {
         UserTaskDefId userTaskDefId =
                 UserTaskDefId.newBuilder().setName(userTaskDefName).build();
 
-        UserTaskDef userTaskDef = tenantClient.getUserTaskDef(userTaskDefId);
+        validateMandatoryStringFields(request, tenantClient.getUserTaskDef(userTaskDefId));
+    }
+
+    static void validateMandatoryStringFields(CompleteUserTaskRequest request, UserTaskDef userTaskDef) {
         List<String> mandatoryStringFieldsNames = getMandatoryStringFieldsNames(userTaskDef);
 
         if (!CollectionUtils.isEmpty(mandatoryStringFieldsNames)) {
@@ -785,18 +888,65 @@ public class UserTaskService {
         }
     }
 
-    private boolean isUserTaskTerminated(UserTaskRunStatus currentStatus) {
+    static boolean isUserTaskTerminated(UserTaskRunStatus currentStatus) {
         return TERMINAL_STATUSES.contains(currentStatus);
     }
 
-    private UserTaskRunId buildUserTaskRunId(String wfRunId, String userTaskRunGuid) {
+    static UserTaskRunId buildUserTaskRunId(String wfRunId, String userTaskRunGuid) {
         return UserTaskRunId.newBuilder()
                 .setUserTaskGuid(userTaskRunGuid)
                 .setWfRunId(WfRunId.newBuilder().setId(wfRunId).build())
                 .build();
     }
 
-    private boolean isUserTaskClaimable(boolean isAdminClaim, UserTaskRun userTaskRun, Set<String> userGroups) {
+    static DetailedUserTaskRunDTO buildDetailedUserTaskRunDTO(
+            UserTaskRun userTaskRun, UserTaskDef userTaskDef, UserTaskFieldset fieldset) {
+        var resultDto = DetailedUserTaskRunDTO.fromUserTaskRun(userTaskRun, userTaskDef, fieldset);
+        resultDto.setEtag(ETagUtil.weakETagOf(userTaskRun, fieldset));
+
+        if (fieldset.includes(UserTaskRunProperty.EVENTS)) {
+            // Events come from LH Kernel in the order in which they happened, and identical ones are all kept
+            resultDto.setEvents(userTaskRun.getEventsList().stream()
+                    .map(AuditEventDTO::fromUserTaskEvent)
+                    .toList());
+        }
+
+        return resultDto;
+    }
+
+    static AssignUserTaskRunRequest buildAssignUserTaskRunRequest(
+            AssignmentRequest requestBody, UserTaskRunId userTaskRunId) {
+        AssignUserTaskRunRequest.Builder requestBuilder =
+                AssignUserTaskRunRequest.newBuilder().setUserTaskRunId(userTaskRunId).setOverrideClaim(true);
+
+        if (StringUtils.hasText(requestBody.getUserId())) {
+            requestBuilder.setUserId(requestBody.getUserId());
+        }
+
+        if (StringUtils.hasText(requestBody.getUserGroup())) {
+            requestBuilder.setUserGroup(requestBody.getUserGroup());
+        }
+
+        return requestBuilder.build();
+    }
+
+    static AssignUserTaskRunRequest buildClaimUserTaskRunRequest(
+            String userId, UserTaskRunId userTaskRunId, UserTaskRun userTaskRun, boolean isAdminClaim) {
+        AssignUserTaskRunRequest.Builder requestBuilder =
+                AssignUserTaskRunRequest.newBuilder().setUserId(userId).setUserTaskRunId(userTaskRunId);
+
+        if (StringUtils.hasText(userTaskRun.getUserGroup())) {
+            requestBuilder.setUserGroup(userTaskRun.getUserGroup());
+        }
+
+        if (isAdminClaim) {
+            requestBuilder.setOverrideClaim(true);
+        }
+
+        return requestBuilder.build();
+    }
+
+    static boolean isUserTaskClaimable(boolean isAdminClaim, UserTaskRun userTaskRun, Set<String> userGroups) {
         if (isAdminClaim) {
             return !isUserTaskTerminated(userTaskRun.getStatus());
         } else {
@@ -804,13 +954,13 @@ public class UserTaskService {
         }
     }
 
-    private boolean isClaimableAsNonAdminUser(UserTaskRun userTaskRun, Set<String> userGroups) {
+    private static boolean isClaimableAsNonAdminUser(UserTaskRun userTaskRun, Set<String> userGroups) {
         return userTaskRun.getStatus().equals(UserTaskRunStatus.UNASSIGNED)
                 && !CollectionUtils.isEmpty(userGroups)
                 && userGroups.contains(userTaskRun.getUserGroup().trim());
     }
 
-    private List<String> getMandatoryStringFieldsNames(UserTaskDef userTaskDef) {
+    private static List<String> getMandatoryStringFieldsNames(UserTaskDef userTaskDef) {
         return userTaskDef.getFieldsList().stream()
                 .filter(userTaskField ->
                         userTaskField.getType().equals(VariableType.STR) && userTaskField.getRequired())
@@ -818,56 +968,38 @@ public class UserTaskService {
                 .toList();
     }
 
-    private Map<String, UserTaskVariableValue> getStringVariableValues(CompleteUserTaskRequest request) {
+    private static Map<String, UserTaskVariableValue> getStringVariableValues(CompleteUserTaskRequest request) {
         return request.getResults().entrySet().stream()
                 .filter(entry -> entry.getValue().getType().equals(UserTaskFieldType.STRING))
                 .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
-    private boolean haveStringFieldsValidInputs(
+    private static boolean haveStringFieldsValidInputs(
             Map<String, UserTaskVariableValue> stringVariableValues, List<String> mandatoryStringFieldsNames) {
         return stringVariableValues.entrySet().stream()
                 .filter(entry -> mandatoryStringFieldsNames.contains(entry.getKey()))
                 .allMatch(entry -> StringUtils.hasText((String) entry.getValue().getValue()));
     }
 
-    private HashMap<Integer, AuditEventDTO> getMostRecentComments(UserTaskRun utr) {
-        HashMap<Integer, AuditEventDTO> commentIdToLatestEvent = new HashMap<>();
-        utr.getEventsList().forEach(event -> {
-            if (event.hasCommentAdded())
-                commentIdToLatestEvent.put(
-                        event.getCommentAdded().getUserCommentId(), AuditEventDTO.fromUserTaskEvent(event));
-            if (event.hasCommentEdited())
-                commentIdToLatestEvent.put(
-                        event.getCommentEdited().getUserCommentId(), AuditEventDTO.fromUserTaskEvent(event));
-            if (event.hasCommentDeleted())
-                commentIdToLatestEvent.put(
-                        event.getCommentDeleted().getUserCommentId(), AuditEventDTO.fromUserTaskEvent(event));
-        });
-
-        return commentIdToLatestEvent;
-    }
-
-    private boolean validateUserIdentityForComment(UserTaskRun utr, int commentId, String userId) {
-        HashMap<Integer, String> latestCommentToAuthor = new HashMap<>();
-
-        utr.getEventsList().forEach(event -> {
-            if (event.hasCommentAdded())
-                latestCommentToAuthor.put(
-                        event.getCommentAdded().getUserCommentId(),
-                        event.getCommentAdded().getUserId());
-            if (event.hasCommentEdited())
-                latestCommentToAuthor.put(
-                        event.getCommentEdited().getUserCommentId(),
-                        event.getCommentEdited().getUserId());
-            if (event.hasCommentDeleted())
-                latestCommentToAuthor.put(
-                        event.getCommentDeleted().getUserCommentId(),
-                        event.getCommentDeleted().getUserId());
-        });
-
-        if (!latestCommentToAuthor.containsKey(commentId)) throw new NotFoundException("The comment was not found");
-
-        return latestCommentToAuthor.get(commentId).equals(userId);
+    static AuditEventDTO getLastCommentAddedBy(UserTaskRun utr, String userId) {
+        List<UserTaskEvent> events = utr.getEventsList();
+
+        // The comment that was just added is the last event, unless another one came in right after it
+        for (int i = events.size() - 1; i >= 0; i--) {
+            UserTaskEvent event = events.get(i);
+
+            if (event.hasCommentAdded() && userId.equals(event.getCommentAdded().getUserId())) {
+                return AuditEventDTO.fromUserTaskEvent(event);
+            }
+        }
+
+        throw new NotFoundException("The comment was not found");
+    }
+
+    static boolean validateUserIdentityForComment(
+            CommentProjectionCache.CommentProjection comments, int commentId, String userId) {
+        return comments.authorOf(commentId)
+                .orElseThrow(() -> new NotFoundException("The comment was not found"))
+                .equals(userId);
     }
 }
@@ -0,0 +1,283 @@
+package io.littlehorse.usertasks.services;
+
+import com.google.protobuf.ByteString;
+import io.littlehorse.sdk.common.proto.LittleHorseGrpc;
+import io.littlehorse.sdk.common.proto.SearchUserTaskDefRequest;
+import io.littlehorse.sdk.common.proto.SearchUserTaskRunRequest;
+import io.littlehorse.sdk.common.proto.UserTaskDefId;
+import io.littlehorse.sdk.common.proto.UserTaskDefIdList;
+import io.littlehorse.sdk.common.proto.UserTaskRunIdList;
+import io.littlehorse.usertasks.models.responses.UserTaskStatsDTO;
+import io.littlehorse.usertasks.read_model.UserTaskRunCounts;
+import io.littlehorse.usertasks.read_model.UserTaskRunReadModelService;
+import io.littlehorse.usertasks.util.FutureUtil;
+import io.littlehorse.usertasks.util.enums.UserTaskStatus;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service in charge of counting the UserTaskRuns of a tenant by status, UserTaskDef and UserGroup.
+ * <p>
+ * Counts are taken from the read model when it is available, where they are kept up to date by its own refresher.
+ * Otherwise they are computed from id-only search pages of LH Kernel, one search per status and per UserTaskDef, so no
+ * UserTaskRun is ever fetched. Kernel searches cannot report what changed since the last count, so each recount
+ * starts from scratch.
+ * <p>
+ * Either way, the counts of each tenant are cached and served for up to {@code lhut.task-stats.max-staleness}. Counts
+ * are never computed on request threads: recounts run on their own threads, and there is at most one recount of a
+ * tenant at a time, which every caller waiting for fresh counts of that tenant shares. A background thread recounts,
+ * before their counts get too old, only the tenants whose counts were read since they were last computed, so that
+ * dashboards polling the counts are answered from the cache while tenants that nobody is watching are not recounted.
+ */
+@Service
+@Slf4j
+public class UserTaskStatsService {
+    // Tenants whose counts were not asked for in this long stop being recounted in the background
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    private final Map<String, LittleHorseGrpc.LittleHorseBlockingStub> lhClients;
+    private final UserTaskRunReadModelService userTaskRunReadModelService;
+    private final int pageSize;
+    private final Duration maxStaleness;
+    private final Clock clock;
+    private final Map<String, CachedStats> statsByTenant = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<CachedStats>> recountsByTenant = new ConcurrentHashMap<>();
+    private final ExecutorService recounter = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("lhut-task-stats-recount-", 0).factory());
+    private ScheduledExecutorService refresher;
+
+    @Autowired
+    UserTaskStatsService(
+            Map<String, LittleHorseGrpc.LittleHorseBlockingStub> lhClients,
+            UserTaskRunReadModelService userTaskRunReadModelService,
+            @Value("${lhut.task-stats.page-size:1000}") int pageSize,
+            @Value("${lhut.task-stats.max-staleness:PT10S}") Duration maxStaleness) {
+        this(lhClients, userTaskRunReadModelService, pageSize, maxStaleness, Clock.systemUTC());
+    }
+
+    UserTaskStatsService(
+            Map<String, LittleHorseGrpc.LittleHorseBlockingStub> lhClients,
+            UserTaskRunReadModelService userTaskRunReadModelService,
+            int pageSize,
+            Duration maxStaleness,
+            Clock clock) {
+        this.lhClients = lhClients;
+        this.userTaskRunReadModelService = userTaskRunReadModelService;
+        this.pageSize = pageSize;
+        this.maxStaleness = maxStaleness;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        // Recounting at half the staleness bound keeps the cached counts fresh for callers in between
+        long refreshIntervalMillis = Math.max(1, maxStaleness.toMillis() / 2);
+
+        refresher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("lhut-task-stats").daemon().factory());
+        refresher.scheduleWithFixedDelay(
+                this::refreshAll, refreshIntervalMillis, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+
+        recounter.shutdownNow();
+    }
+
+    /**
+     * @param tenantId Tenant whose UserTaskRuns are counted
+     * @return The counts of UserTaskRuns of the tenant, at most {@code lhut.task-stats.max-staleness} old
+     */
+    public UserTaskStatsDTO getStats(@NonNull String tenantId) {
+        long now = clock.millis();
+        CachedStats cachedStats = statsByTenant.get(tenantId);
+
+        if (cachedStats == null || now - cachedStats.computedAtMillis > maxStaleness.toMillis()) {
+            cachedStats = FutureUtil.join(recount(tenantId));
+        }
+
+        cachedStats.lastReadMillis = now;
+
+        return cachedStats.stats;
+    }
+
+    void refreshAll() {
+        long now = clock.millis();
+
+        statsByTenant.forEach((tenantId, cachedStats) -> {
+            if (now - cachedStats.lastReadMillis > IDLE_TIMEOUT.toMillis()) {
+                statsByTenant.remove(tenantId, cachedStats);
+                return;
+            }
+
+            // Counts that nobody read since they were computed are recounted on the next read instead
+            if (cachedStats.lastReadMillis >= cachedStats.computedAtMillis) {
+                recount(tenantId).exceptionally(e -> {
+                    log.atWarn()
+                            .setMessage("Could not refresh UserTask stats of tenant {}: {}")
+                            .addArgument(tenantId)
+                            .addArgument(FutureUtil.unwrap(e).getMessage())
+                            .log();
+                    return null;
+                });
+            }
+        });
+    }
+
+    /**
+     * Recounts the UserTaskRuns of a tenant on the recounting threads, unless a recount of the tenant is already
+     * running, in which case that one is returned
+     *
+     * @return A future of the new counts, which are cached once computed
+     */
+    private CompletableFuture<CachedStats> recount(String tenantId) {
+        CompletableFuture<CachedStats> recount = new CompletableFuture<>();
+        CompletableFuture<CachedStats> ongoingRecount = recountsByTenant.putIfAbsent(tenantId, recount);
+
+        if (ongoingRecount != null) {
+            return ongoingRecount;
+        }
+
+        try {
+            recounter.execute(() -> {
+                try {
+                    long now = clock.millis();
+                    CachedStats recountedStats = new CachedStats(computeStats(tenantId, now), now);
+                    CachedStats previousStats = statsByTenant.get(tenantId);
+                    recountedStats.lastReadMillis = previousStats != null ? previousStats.lastReadMillis : now;
+                    statsByTenant.put(tenantId, recountedStats);
+                    recount.complete(recountedStats);
+                } catch (RuntimeException e) {
+                    recount.completeExceptionally(e);
+                } finally {
+                    recountsByTenant.remove(tenantId, recount);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            recountsByTenant.remove(tenantId, recount);
+            recount.completeExceptionally(e);
+        }
+
+        return recount;
+    }
+
+    private UserTaskStatsDTO computeStats(String tenantId, long nowMillis) {
+        LocalDateTime computedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), ZoneOffset.UTC);
+
+        return userTaskRunReadModelService
+                .counts(tenantId)
+                .map(counts -> fromReadModel(counts, computedAt))
+                .orElseGet(() -> countFromKernel(tenantId, computedAt));
+    }
+
+    private static UserTaskStatsDTO fromReadModel(UserTaskRunCounts counts, LocalDateTime computedAt) {
+        return UserTaskStatsDTO.builder()
+                .total(counts.total())
+                .countsByStatus(counts.byStatus())
+                .countsByUserTaskDefName(counts.byUserTaskDefName())
+                .countsByUserGroup(counts.byUserGroup())
+                .computedAt(computedAt)
+                .build();
+    }
+
+    private UserTaskStatsDTO countFromKernel(String tenantId, LocalDateTime computedAt) {
+        LittleHorseGrpc.LittleHorseBlockingStub tenantClient = lhClients.get(tenantId);
+        Map<UserTaskStatus, Long> countsByStatus = new EnumMap<>(UserTaskStatus.class);
+        Map<String, Long> countsByUserTaskDefName = new TreeMap<>();
+        long total = 0;
+
+        for (UserTaskStatus status : UserTaskStatus.values()) {
+            long count = countUserTaskRuns(tenantClient, request -> request.setStatus(status.toServerStatus()));
+            countsByStatus.put(status, count);
+            total += count;
+        }
+
+        ByteString bookmark = null;
+
+        do {
+            var searchRequest = SearchUserTaskDefRequest.newBuilder().setLimit(pageSize);
+
+            if (bookmark != null) {
+                searchRequest.setBookmark(bookmark);
+            }
+
+            UserTaskDefIdList userTaskDefs = tenantClient.searchUserTaskDef(searchRequest.build());
+
+            // Every version of a UserTaskDef shares its name, and the search already covers all of them
+            for (UserTaskDefId userTaskDefId : userTaskDefs.getResultsList()) {
+                countsByUserTaskDefName.computeIfAbsent(
+                        userTaskDefId.getName(),
+                        name -> countUserTaskRuns(tenantClient, request -> request.setUserTaskDefName(name)));
+            }
+
+            bookmark = userTaskDefs.hasBookmark() ? userTaskDefs.getBookmark() : null;
+        } while (bookmark != null);
+
+        countsByUserTaskDefName.values().removeIf(count -> count == 0);
+
+        return UserTaskStatsDTO.builder()
+                .total(total)
+                .countsByStatus(countsByStatus)
+                .countsByUserTaskDefName(countsByUserTaskDefName)
+                .computedAt(computedAt)
+                .build();
+    }
+
+    private long countUserTaskRuns(
+            LittleHorseGrpc.LittleHorseBlockingStub tenantClient,
+            UnaryOperator<SearchUserTaskRunRequest.Builder> filter) {
+        long count = 0;
+        ByteString bookmark = null;
+
+        do {
+            var searchRequest = filter.apply(SearchUserTaskRunRequest.newBuilder().setLimit(pageSize));
+
+            if (bookmark != null) {
+                searchRequest.setBookmark(bookmark);
+            }
+
+            UserTaskRunIdList searchResults = tenantClient.searchUserTaskRun(searchRequest.build());
+            count += searchResults.getResultsCount();
+            bookmark = searchResults.hasBookmark() ? searchResults.getBookmark() : null;
+        } while (bookmark != null);
+
+        return count;
+    }
+
+    private static class CachedStats {
+        private final UserTaskStatsDTO stats;
+        private final long computedAtMillis;
+        private volatile long lastReadMillis;
+
+        private CachedStats(UserTaskStatsDTO stats, long computedAtMillis) {
+            this.stats = stats;
+            this.computedAtMillis = computedAtMillis;
+        }
+    }
+}
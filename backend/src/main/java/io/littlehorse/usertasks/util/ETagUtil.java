@@ -0,0 +1,90 @@
+package io.littlehorse.usertasks.util;
+
+import io.littlehorse.sdk.common.proto.UserTaskRun;
+import io.littlehorse.usertasks.models.common.UserDTO;
+import io.littlehorse.usertasks.models.common.UserGroupDTO;
+import io.littlehorse.usertasks.models.requests.UserTaskFieldset;
+import io.littlehorse.usertasks.models.responses.SimpleUserTaskRunDTO;
+import io.littlehorse.usertasks.models.responses.UserTaskRunListDTO;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Helper class able to build the entity tags (ETags) of UserTask responses, so that clients polling for changes can
+ * send them back through {@code If-None-Match} and get a {@code 304 Not Modified} when nothing changed
+ */
+public class ETagUtil {
+
+    /**
+     * Builds the weak ETag of the details of a UserTaskRun.
+     * <p>
+     * Whatever can change in a UserTaskRun changes its status or assignment, or adds an event to it (comments
+     * included), so those along with the requested properties identify the details returned for it. The user and
+     * userGroup details looked up in the Identity Provider (names, emails) are not part of it though, so the ETag is
+     * weak: a renamed user keeps the same ETag until the UserTaskRun itself changes.
+     *
+     * @param userTaskRun UserTaskRun gotten from LH Kernel
+     * @param fieldset Properties of the UserTaskRun that are returned
+     * @return A quoted weak ETag
+     */
+    public static String weakETagOf(@NonNull UserTaskRun userTaskRun, @NonNull UserTaskFieldset fieldset) {
+        String version = String.join(
+                "\n",
+                userTaskRun.getId().getWfRunId().getId(),
+                userTaskRun.getId().getUserTaskGuid(),
+                userTaskRun.getStatus().name(),
+                userTaskRun.getUserId(),
+                userTaskRun.getUserGroup(),
+                String.valueOf(userTaskRun.getEventsCount()),
+                fieldset.getProperties().toString());
+
+        return "W/\"" + digest(version) + "\"";
+    }
+
+    /**
+     * Builds the weak ETag of a page of UserTaskRuns out of the id, status and assignment of each UserTaskRun,
+     * regardless of their order, and the bookmark of the page. As with the details, Identity Provider data is not part
+     * of it.
+     *
+     * @param userTaskRunList Page of UserTaskRuns
+     * @return A quoted weak ETag
+     */
+    public static String weakETagOf(@NonNull UserTaskRunListDTO userTaskRunList) {
+        String version = CollectionUtils.isEmpty(userTaskRunList.getUserTasks())
+                ? ""
+                : userTaskRunList.getUserTasks().stream()
+                        .map(ETagUtil::versionOf)
+                        .sorted()
+                        .collect(Collectors.joining("\n"));
+
+        return "W/\"" + digest(version + "\n" + Objects.requireNonNullElse(userTaskRunList.getBookmark(), "")) + "\"";
+    }
+
+    private static String versionOf(SimpleUserTaskRunDTO userTaskRun) {
+        UserDTO user = userTaskRun.getUser();
+        String userId = user != null ? Objects.requireNonNullElse(user.getId(), "") : "";
+
+        return userTaskRun.getWfRunId() + "/" + userTaskRun.getId() + ":" + userTaskRun.getStatus() + ":" + userId + ":"
+                + userGroupOf(userTaskRun.getUserGroup());
+    }
+
+    private static String userGroupOf(@Nullable UserGroupDTO userGroup) {
+        if (userGroup == null) {
+            return "";
+        }
+
+        return StringUtils.hasText(userGroup.getName())
+                ? userGroup.getName()
+                : Objects.requireNonNullElse(userGroup.getId(), "");
+    }
+
+    private static String digest(String version) {
+        return DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8));
+    }
+}
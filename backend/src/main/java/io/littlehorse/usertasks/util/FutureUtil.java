@@ -0,0 +1,87 @@
+package io.littlehorse.usertasks.util;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import lombok.NonNull;
+
+/**
+ * Helper class able to bridge the futures returned by LittleHorse gRPC clients into {@code CompletableFuture}
+ */
+public class FutureUtil {
+
+    /**
+     * Adapts a {@code ListenableFuture} returned by a gRPC future stub into a {@code CompletableFuture}. Cancelling the
+     * returned future also cancels the underlying gRPC call.
+     *
+     * @param listenableFuture Future returned by a gRPC future stub
+     * @return A {@code CompletableFuture} that completes with the same outcome as the received future
+     * @param <T> Type of the result of the future
+     */
+    public static <T> CompletableFuture<T> toCompletableFuture(@NonNull ListenableFuture<T> listenableFuture) {
+        CompletableFuture<T> completableFuture = new CompletableFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                listenableFuture.cancel(mayInterruptIfRunning);
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+
+        listenableFuture.addListener(
+                () -> {
+                    try {
+                        completableFuture.complete(listenableFuture.get());
+                    } catch (ExecutionException e) {
+                        completableFuture.completeExceptionally(e.getCause());
+                    } catch (CancellationException e) {
+                        completableFuture.cancel(false);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        completableFuture.completeExceptionally(e);
+                    }
+                },
+                Runnable::run);
+
+        return completableFuture;
+    }
+
+    /**
+     * Waits for a future and rethrows the root failure of the future when it is a {@code RuntimeException}, so that
+     * callers which block on it fail with the same exceptions as their blocking counterparts
+     *
+     * @param future Future to wait for
+     * @return The result of the future
+     * @param <T> Type of the result of the future
+     */
+    public static <T> T join(@NonNull CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (unwrap(e) instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Removes the {@code CompletionException} and {@code ExecutionException} layers that wrap the actual failure of
+     * a stage in a chain of futures
+     *
+     * @param throwable Failure received by a stage of a {@code CompletableFuture}
+     * @return The root failure that caused the stage to complete exceptionally
+     */
+    public static Throwable unwrap(@NonNull Throwable throwable) {
+        Throwable cause = throwable;
+
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        return cause;
+    }
+}
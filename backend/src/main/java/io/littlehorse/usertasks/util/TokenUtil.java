@@ -1,17 +1,27 @@
 package io.littlehorse.usertasks.util;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import lombok.NonNull;
 
 /**
  * Helper class able to handle token-related functions
  */
 public class TokenUtil {
+    // Both are immutable once configured, so they are safely shared by every thread
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectReader CLAIMS_READER =
+            OBJECT_MAPPER.readerFor(new TypeReference<HashMap<String, Object>>() {});
 
     /**
      * Decodes an access token and returns a map with the claims obtained from the token
@@ -21,14 +31,89 @@ public class TokenUtil {
      * @throws JsonProcessingException
      */
     public static Map<String, Object> getTokenClaims(@NonNull String accessToken) throws JsonProcessingException {
-        String[] chunks = accessToken.split("\\.");
-        Base64.Decoder decoder = Base64.getUrlDecoder();
+        try {
+            return CLAIMS_READER.readValue(decodePayload(accessToken));
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read token payload", e);
+        }
+    }
 
-        // headers are not taken into consideration here, that is why we skip position 0 of the chunk array
-        String payload = new String(decoder.decode(chunks[1]));
+    /**
+     * Decodes an access token and returns only the requested claims, without building the full map of claims.
+     * <p>
+     * The payload is scanned once, the values of claims that were not requested are skipped without being parsed, and
+     * the scan stops as soon as every requested claim has been found.
+     *
+     * @param accessToken Access token that will be decoded
+     * @param claimNames Names of the top-level claims that are needed
+     * @return A {@code java.util.Map} that contains the requested claims that are present in the token
+     * @throws JsonProcessingException
+     */
+    public static Map<String, Object> getTokenClaims(@NonNull String accessToken, @NonNull Set<String> claimNames)
+            throws JsonProcessingException {
+        Map<String, Object> foundClaims = new HashMap<>();
+
+        try (JsonParser parser = OBJECT_MAPPER.createParser(decodePayload(accessToken))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Token payload is not a JSON object");
+            }
+
+            while (foundClaims.size() < claimNames.size() && parser.nextToken() == JsonToken.FIELD_NAME) {
+                String claimName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+
+                if (claimNames.contains(claimName)) {
+                    foundClaims.put(claimName, readClaimValue(parser, valueToken));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read token payload", e);
+        }
+
+        return foundClaims;
+    }
 
-        TypeReference<HashMap<String, Object>> typeRef = new TypeReference<>() {};
+    /**
+     * Decodes an access token and returns the value of a single claim
+     *
+     * @param accessToken Access token that will be decoded
+     * @param claimName Name of the top-level claim that is needed
+     * @return The value of the claim, or null if the token does not have it
+     * @throws JsonProcessingException
+     */
+    public static Object getTokenClaim(@NonNull String accessToken, @NonNull String claimName)
+            throws JsonProcessingException {
+        return getTokenClaims(accessToken, Set.of(claimName)).get(claimName);
+    }
+
+    private static byte[] decodePayload(String accessToken) {
+        // headers are not taken into consideration here, that is why the payload starts after the first dot
+        int payloadStart = accessToken.indexOf('.') + 1;
+        int payloadEnd = accessToken.indexOf('.', payloadStart);
+
+        if (payloadStart == 0) {
+            throw new IllegalArgumentException("Access token does not have a payload");
+        }
+
+        return Base64.getUrlDecoder()
+                .decode(accessToken.substring(payloadStart, payloadEnd != -1 ? payloadEnd : accessToken.length()));
+    }
 
-        return new ObjectMapper().readValue(payload, typeRef);
+    private static Object readClaimValue(JsonParser parser, JsonToken valueToken) throws IOException {
+        return switch (valueToken) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT -> parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            default -> OBJECT_MAPPER.readValue(parser, Object.class);
+        };
     }
 }
@@ -1,5 +1,8 @@
 package io.littlehorse.usertasks.util.enums;
 
+import io.littlehorse.sdk.common.proto.UserTaskEvent;
+import lombok.NonNull;
+
 public enum UserTaskEventType {
     TASK_EXECUTED,
     TASK_ASSIGNED,
@@ -7,5 +10,24 @@ public enum UserTaskEventType {
     TASK_COMPLETED,
     COMMENT_ADDED,
     COMMENT_EDITED,
-    COMMENT_DELETED
+    COMMENT_DELETED;
+
+    /**
+     * Gets the type of an {@code io.littlehorse.sdk.common.proto.UserTaskEvent} without converting the event
+     *
+     * @param serverEvent {@code io.littlehorse.sdk.common.proto.UserTaskEvent} gotten from LittleHorse Kernel
+     * @return The type of the event
+     */
+    public static UserTaskEventType fromServerEvent(@NonNull UserTaskEvent serverEvent) {
+        return switch (serverEvent.getEventCase()) {
+            case TASK_EXECUTED -> TASK_EXECUTED;
+            case ASSIGNED -> TASK_ASSIGNED;
+            case CANCELLED -> TASK_CANCELLED;
+            case COMPLETED -> TASK_COMPLETED;
+            case COMMENT_ADDED -> COMMENT_ADDED;
+            case COMMENT_EDITED -> COMMENT_EDITED;
+            case COMMENT_DELETED -> COMMENT_DELETED;
+            default -> throw new IllegalArgumentException("Unknown audit event.");
+        };
+    }
 }
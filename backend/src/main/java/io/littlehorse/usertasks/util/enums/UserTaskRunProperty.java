@@ -0,0 +1,43 @@
+package io.littlehorse.usertasks.util.enums;
+
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * {@code UserTaskRunProperty} is a utility {@code enum} that represents the properties of a UserTaskRun that clients
+ * can ask for through the {@code fields} query parameter of the UserTask endpoints.
+ *
+ * @see io.littlehorse.usertasks.models.requests.UserTaskFieldset
+ */
+@Getter
+public enum UserTaskRunProperty {
+    ID("id"),
+    WF_RUN_ID("wfRunId"),
+    USER_TASK_DEF_NAME("userTaskDefName"),
+    USER_GROUP("userGroup"),
+    USER("user"),
+    STATUS("status"),
+    NOTES("notes"),
+    SCHEDULED_TIME("scheduledTime"),
+    FIELDS("fields"),
+    RESULTS("results"),
+    EVENTS("events");
+
+    private final String fieldName;
+
+    UserTaskRunProperty(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    /**
+     * @param fieldName Name of the property, as serialized in the responses of the UserTask endpoints
+     * @return The property with the given name, or an empty Optional if there is no such property
+     */
+    public static Optional<UserTaskRunProperty> fromFieldName(@NonNull String fieldName) {
+        return Arrays.stream(values())
+                .filter(property -> property.fieldName.equals(fieldName))
+                .findFirst();
+    }
+}
@@ -0,0 +1,67 @@
+package io.littlehorse.usertasks.configurations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.littlehorse.usertasks.idp_adapters.IdentityProviderAdapterRegistry;
+import io.littlehorse.usertasks.idp_adapters.IdentityProviderVendor;
+import io.littlehorse.usertasks.util.enums.CustomUserIdClaim;
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class IdentityProviderConfigPropertiesTest {
+    private static final String ISSUER = "http://localhost:8888/realms/default";
+
+    private final IdentityProviderConfigProperties identityProviderConfigProperties =
+            new IdentityProviderConfigProperties(new IdentityProviderAdapterRegistry(List.of()));
+
+    @Test
+    void findOp_shouldMatchIssuerAndTenantIgnoringCase() {
+        CustomIdentityProviderProperties defaultTenantProperties = buildProperties(ISSUER, "default");
+        identityProviderConfigProperties.setOps(
+                List.of(buildProperties(ISSUER, "other-tenant"), defaultTenantProperties));
+
+        assertSame(
+                defaultTenantProperties,
+                identityProviderConfigProperties
+                        .findOp(ISSUER.toUpperCase(), "DEFAULT")
+                        .orElseThrow());
+        assertTrue(identityProviderConfigProperties.findOp(ISSUER, "unknown-tenant").isEmpty());
+    }
+
+    @Test
+    void findOp_shouldKeepTheFirstConfigurationWhenSeveralOnesMatch() {
+        CustomIdentityProviderProperties first = buildProperties(ISSUER, "default");
+        identityProviderConfigProperties.setOps(List.of(first, buildProperties(ISSUER, "default")));
+
+        assertSame(first, identityProviderConfigProperties.findOp(ISSUER, "default").orElseThrow());
+    }
+
+    @Test
+    void findOpsByTenant_shouldReturnEveryConfigurationOfTheTenantIgnoringCase() {
+        CustomIdentityProviderProperties first = buildProperties(ISSUER, "default");
+        CustomIdentityProviderProperties second = buildProperties("http://localhost:8888/realms/other", "Default");
+        identityProviderConfigProperties.setOps(List.of(first, buildProperties(ISSUER, "other-tenant"), second));
+
+        assertEquals(List.of(first, second), identityProviderConfigProperties.findOpsByTenant("DEFAULT"));
+        assertTrue(identityProviderConfigProperties.findOpsByTenant("unknown-tenant").isEmpty());
+        assertEquals(
+                Set.of("default", "Default", "other-tenant"), identityProviderConfigProperties.getConfiguredTenants());
+    }
+
+    private CustomIdentityProviderProperties buildProperties(String issuer, String tenantId) {
+        return new CustomIdentityProviderProperties(
+                URI.create(issuer),
+                "preferred_username",
+                CustomUserIdClaim.SUB,
+                IdentityProviderVendor.KEYCLOAK,
+                "some-keycloak",
+                tenantId,
+                Set.of("user-tasks-bridge-client"),
+                "azp",
+                List.of());
+    }
+}
@@ -0,0 +1,98 @@
+package io.littlehorse.usertasks.configurations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class LazyTenantClientMapTest {
+    private final Clock clock = mock();
+    private final AtomicInteger createdClients = new AtomicInteger();
+
+    private final LazyTenantClientMap<String> tenantClients = new LazyTenantClientMap<>(
+            Set.of("tenant-a", "tenant-b"),
+            tenantId -> tenantId + "-client-" + createdClients.incrementAndGet(),
+            Duration.ofMinutes(30),
+            clock);
+
+    @Test
+    void get_shouldNotCreateAnyClientUntilATenantIsRequested() {
+        assertEquals(0, tenantClients.activeClientsCount());
+        assertEquals(2, tenantClients.size());
+        assertTrue(tenantClients.containsKey("tenant-a"));
+        assertEquals(0, createdClients.get());
+    }
+
+    @Test
+    void get_shouldReturnNullWhenTenantIsNotConfigured() {
+        assertNull(tenantClients.get("unknown-tenant"));
+        assertNull(tenantClients.get(null));
+        assertEquals(0, createdClients.get());
+    }
+
+    @Test
+    void get_shouldCreateClientOnceAndReuseItForTheSameTenant() {
+        when(clock.millis()).thenReturn(0L);
+
+        String firstClient = tenantClients.get("tenant-a");
+        String secondClient = tenantClients.get("tenant-a");
+
+        assertSame(firstClient, secondClient);
+        assertEquals(1, createdClients.get());
+        assertEquals(1, tenantClients.activeClientsCount());
+    }
+
+    @Test
+    void get_shouldEvictIdleClientsAndRecreateThemOnDemand() {
+        long idleTimeout = Duration.ofMinutes(30).toMillis();
+        when(clock.millis()).thenReturn(0L);
+        String firstClient = tenantClients.get("tenant-a");
+
+        when(clock.millis()).thenReturn(idleTimeout);
+        tenantClients.get("tenant-b");
+
+        assertEquals(1, tenantClients.activeClientsCount());
+
+        String recreatedClient = tenantClients.get("tenant-a");
+
+        assertNotEquals(firstClient, recreatedClient);
+        assertEquals(3, createdClients.get());
+    }
+
+    @Test
+    void get_shouldKeepClientsThatAreStillInUse() {
+        long idleTimeout = Duration.ofMinutes(30).toMillis();
+        when(clock.millis()).thenReturn(0L);
+        String firstClient = tenantClients.get("tenant-a");
+
+        when(clock.millis()).thenReturn(idleTimeout - 1);
+        tenantClients.get("tenant-a");
+
+        when(clock.millis()).thenReturn(idleTimeout + 1);
+
+        assertSame(firstClient, tenantClients.get("tenant-a"));
+        assertEquals(1, createdClients.get());
+    }
+
+    @Test
+    void entrySet_shouldHaveAnEntryPerConfiguredTenantAndOnlyCreateClientsWhenValuesAreRead() {
+        when(clock.millis()).thenReturn(0L);
+
+        assertEquals(tenantClients.size(), tenantClients.entrySet().size());
+        assertEquals(
+                Set.of("tenant-a", "tenant-b"),
+                tenantClients.entrySet().stream().map(Map.Entry::getKey).collect(Collectors.toSet()));
+        assertEquals(0, createdClients.get());
+
+        Set<String> clients = Set.copyOf(tenantClients.values());
+
+        assertEquals(2, createdClients.get());
+        assertEquals(Set.of(tenantClients.get("tenant-a"), tenantClients.get("tenant-b")), clients);
+    }
+}
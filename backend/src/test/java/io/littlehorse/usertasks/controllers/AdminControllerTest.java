@@ -0,0 +1,66 @@
+package io.littlehorse.usertasks.controllers;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.littlehorse.usertasks.configurations.IdentityProviderConfigProperties;
+import io.littlehorse.usertasks.read_model.UserTaskRunReadModelService;
+import io.littlehorse.usertasks.services.AsyncUserTaskService;
+import io.littlehorse.usertasks.services.BulkUserTaskService;
+import io.littlehorse.usertasks.services.PrincipalService;
+import io.littlehorse.usertasks.services.TenantService;
+import io.littlehorse.usertasks.services.UserTaskService;
+import io.littlehorse.usertasks.services.UserTaskStatsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class AdminControllerTest {
+    private final TenantService tenantService = mock(TenantService.class);
+    private final BulkUserTaskService bulkUserTaskService = mock(BulkUserTaskService.class);
+
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new AdminController(
+                    tenantService,
+                    mock(UserTaskService.class),
+                    mock(AsyncUserTaskService.class),
+                    bulkUserTaskService,
+                    mock(UserTaskRunReadModelService.class),
+                    mock(UserTaskStatsService.class),
+                    mock(PrincipalService.class),
+                    new ObjectMapper(),
+                    mock(IdentityProviderConfigProperties.class)))
+            .build();
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "{\"userId\":\"some-user\"}",
+                "{\"userId\":\"some-user\",\"userTasks\":[]}",
+                "{\"userId\":\"some-user\",\"userTasks\":[{\"wfRunId\":\" \",\"userTaskRunGuid\":\"some-guid\"}]}"
+            })
+    void assignUserTasks_shouldReturnBadRequestWhenUserTasksAreMissingOrInvalid(String requestBody) throws Exception {
+        mockMvc.perform(post("/some-tenant/admin/tasks/bulk/assign")
+                        .header("Authorization", "Bearer some-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(tenantService, bulkUserTaskService);
+    }
+
+    @Test
+    void cancelUserTasks_shouldReturnBadRequestWhenUserTasksAreEmpty() throws Exception {
+        mockMvc.perform(post("/some-tenant/admin/tasks/bulk/cancel")
+                        .header("Authorization", "Bearer some-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userTasks\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(tenantService, bulkUserTaskService);
+    }
+}
@@ -0,0 +1,53 @@
+package io.littlehorse.usertasks.controllers;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.littlehorse.usertasks.configurations.IdentityProviderConfigProperties;
+import io.littlehorse.usertasks.read_model.UserTaskRunReadModelService;
+import io.littlehorse.usertasks.services.AsyncUserTaskService;
+import io.littlehorse.usertasks.services.BulkUserTaskService;
+import io.littlehorse.usertasks.services.ClaimQueueService;
+import io.littlehorse.usertasks.services.PrincipalService;
+import io.littlehorse.usertasks.services.TenantService;
+import io.littlehorse.usertasks.services.UserTaskService;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class UserControllerTest {
+    private final TenantService tenantService = mock(TenantService.class);
+    private final BulkUserTaskService bulkUserTaskService = mock(BulkUserTaskService.class);
+
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new UserController(
+                    tenantService,
+                    mock(UserTaskService.class),
+                    mock(AsyncUserTaskService.class),
+                    bulkUserTaskService,
+                    mock(ClaimQueueService.class),
+                    mock(PrincipalService.class),
+                    mock(UserTaskRunReadModelService.class),
+                    mock(IdentityProviderConfigProperties.class)))
+            .build();
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "{\"userTasks\":[],\"results\":{\"approved\":{\"type\":\"BOOLEAN\",\"value\":true}}}",
+                "{\"userTasks\":[{\"wfRunId\":\"some-wf-run\",\"userTaskRunGuid\":\"some-guid\"}],\"results\":{}}",
+                "{\"userTasks\":[{\"wfRunId\":\"\",\"userTaskRunGuid\":\"some-guid\"}],"
+                        + "\"results\":{\"approved\":{\"type\":\"BOOLEAN\",\"value\":true}}}"
+            })
+    void completeUserTasks_shouldReturnBadRequestWhenRequestBodyIsInvalid(String requestBody) throws Exception {
+        mockMvc.perform(post("/some-tenant/tasks/bulk/result")
+                        .header("Authorization", "Bearer some-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(tenantService, bulkUserTaskService);
+    }
+}
@@ -0,0 +1,43 @@
+package io.littlehorse.usertasks.idp_adapters;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class IdentityProviderAdapterRegistryTest {
+    private final IStandardIdentityProviderAdapter keycloakAdapter = buildAdapter(IdentityProviderVendor.KEYCLOAK);
+    private final IdentityProviderAdapterRegistry registry =
+            new IdentityProviderAdapterRegistry(List.of(keycloakAdapter));
+
+    @Test
+    void getAdapter_shouldReturnTheRegisteredAdapterOfTheVendor() {
+        assertSame(
+                keycloakAdapter,
+                registry.getAdapter(IdentityProviderVendor.KEYCLOAK).orElseThrow());
+    }
+
+    @Test
+    void getAdapter_shouldReturnEmptyWhenVendorIsNotSupported() {
+        assertTrue(registry.getAdapter(IdentityProviderVendor.OKTA).isEmpty());
+    }
+
+    @Test
+    void constructor_shouldThrowWhenSeveralAdaptersAreRegisteredForTheSameVendor() {
+        List<IStandardIdentityProviderAdapter> adapters =
+                List.of(keycloakAdapter, buildAdapter(IdentityProviderVendor.KEYCLOAK));
+
+        assertThrows(IllegalStateException.class, () -> new IdentityProviderAdapterRegistry(adapters));
+    }
+
+    private static IStandardIdentityProviderAdapter buildAdapter(IdentityProviderVendor vendor) {
+        IStandardIdentityProviderAdapter adapter = mock(IStandardIdentityProviderAdapter.class);
+        when(adapter.getVendor()).thenReturn(vendor);
+
+        return adapter;
+    }
+}
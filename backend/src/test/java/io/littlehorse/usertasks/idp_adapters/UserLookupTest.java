@@ -0,0 +1,23 @@
+package io.littlehorse.usertasks.idp_adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+
+class UserLookupTest {
+    private static final String ACCESS_TOKEN = "some-secret-access-token";
+
+    @Test
+    void toString_shouldLeaveTheAccessTokenOut() {
+        assertFalse(UserLookup.byId(ACCESS_TOKEN, "some-user").toString().contains(ACCESS_TOKEN));
+        assertFalse(UserGroupLookup.byName(ACCESS_TOKEN, "some-group").toString().contains(ACCESS_TOKEN));
+    }
+
+    @Test
+    void fromParams_shouldRebuildTheLookupOutOfItsParams() {
+        UserLookup lookup = new UserLookup(ACCESS_TOKEN, "some-user", "someone@example.com", null);
+
+        assertEquals(lookup, UserLookup.fromParams(lookup.toParams()));
+    }
+}
@@ -4,6 +4,7 @@ import static io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter.ACC
 import static io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter.EMAIL_MAP_KEY;
 import static io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter.FIRST_NAME_MAP_KEY;
 import static io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter.FIRST_RESULT_MAP_KEY;
+import static io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter.INCLUDE_ROLES_MAP_KEY;
 import static io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter.LAST_NAME_MAP_KEY;
 import static io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter.MANAGE_USERS_ROLE_NAME;
 import static io.littlehorse.usertasks.idp_adapters.keycloak.KeycloakAdapter.MAX_RESULTS_MAP_KEY;
@@ -33,11 +34,13 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.littlehorse.usertasks.exceptions.AdapterException;
+import io.littlehorse.usertasks.idp_adapters.UserLookup;
 import io.littlehorse.usertasks.models.common.UserDTO;
 import io.littlehorse.usertasks.models.common.UserGroupDTO;
 import io.littlehorse.usertasks.models.requests.CreateManagedUserRequest;
@@ -50,6 +53,7 @@ import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.core.Response;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -160,7 +164,7 @@ class KeycloakAdapterTest {
                     .thenReturn(mockKeycloakInstance);
             when(mockKeycloakInstance.realm(anyString())).thenReturn(fakeRealmResource);
             when(fakeRealmResource.groups()).thenReturn(fakeGroupsResource);
-            when(fakeGroupsResource.groups()).thenReturn(fakeGroups);
+            when(fakeGroupsResource.groups(anyInt(), anyInt())).thenReturn(fakeGroups);
 
             UserGroupListDTO foundUserGroups = keycloakAdapter.getUserGroups(standardParams);
 
@@ -186,7 +190,7 @@ class KeycloakAdapterTest {
                     .thenReturn(mockKeycloakInstance);
             when(mockKeycloakInstance.realm(anyString())).thenReturn(fakeRealmResource);
             when(fakeRealmResource.groups()).thenReturn(fakeGroupsResource);
-            when(fakeGroupsResource.groups()).thenReturn(Collections.emptyList());
+            when(fakeGroupsResource.groups(anyInt(), anyInt())).thenReturn(Collections.emptyList());
 
             UserGroupListDTO foundUserGroups = keycloakAdapter.getUserGroups(standardParams);
 
@@ -195,6 +199,57 @@ class KeycloakAdapterTest {
         }
     }
 
+    @Test
+    void getUserGroups_shouldFetchGroupsPageByPageUntilAPageIsNotFull() {
+        RealmResource fakeRealmResource = mock(RealmResource.class);
+        GroupsResource fakeGroupsResource = mock(GroupsResource.class);
+        int pageSize = KeycloakGroupPages.DEFAULT_PAGE_SIZE;
+
+        List<GroupRepresentation> firstPage = buildGroupRepresentations(pageSize);
+        List<GroupRepresentation> secondPage = buildGroupRepresentations(3);
+
+        try (MockedStatic<Keycloak> mockStaticKeycloak = mockStatic(Keycloak.class)) {
+            Keycloak mockKeycloakInstance = mock(Keycloak.class);
+            mockStaticKeycloak
+                    .when(() -> Keycloak.getInstance(anyString(), anyString(), anyString(), anyString()))
+                    .thenReturn(mockKeycloakInstance);
+            when(mockKeycloakInstance.realm(anyString())).thenReturn(fakeRealmResource);
+            when(fakeRealmResource.groups()).thenReturn(fakeGroupsResource);
+            when(fakeGroupsResource.groups(0, pageSize)).thenReturn(firstPage);
+            when(fakeGroupsResource.groups(pageSize, pageSize)).thenReturn(secondPage);
+
+            UserGroupListDTO foundUserGroups = keycloakAdapter.getUserGroups(standardParams);
+
+            assertEquals(pageSize + 3, foundUserGroups.getGroups().size());
+            verify(fakeGroupsResource, times(2)).groups(anyInt(), anyInt());
+            verify(fakeGroupsResource, never()).groups();
+        }
+    }
+
+    @Test
+    void getUserGroups_shouldStopFetchingGroupsOnceTheRequestedPageIsFilled() {
+        RealmResource fakeRealmResource = mock(RealmResource.class);
+        GroupsResource fakeGroupsResource = mock(GroupsResource.class);
+        int maxResults = 5;
+        Map<String, Object> params = Map.of(
+                ACCESS_TOKEN_MAP_KEY, STUBBED_ACCESS_TOKEN, FIRST_RESULT_MAP_KEY, 20, MAX_RESULTS_MAP_KEY, maxResults);
+
+        try (MockedStatic<Keycloak> mockStaticKeycloak = mockStatic(Keycloak.class)) {
+            Keycloak mockKeycloakInstance = mock(Keycloak.class);
+            mockStaticKeycloak
+                    .when(() -> Keycloak.getInstance(anyString(), anyString(), anyString(), anyString()))
+                    .thenReturn(mockKeycloakInstance);
+            when(mockKeycloakInstance.realm(anyString())).thenReturn(fakeRealmResource);
+            when(fakeRealmResource.groups()).thenReturn(fakeGroupsResource);
+            when(fakeGroupsResource.groups(20, maxResults)).thenReturn(buildGroupRepresentations(maxResults));
+
+            UserGroupListDTO foundUserGroups = keycloakAdapter.getUserGroups(params);
+
+            assertEquals(maxResults, foundUserGroups.getGroups().size());
+            verify(fakeGroupsResource, times(1)).groups(anyInt(), anyInt());
+        }
+    }
+
     @Test
     void
             getMyUserGroups_shouldThrowAdapterExceptionCreatingKeycloakInstanceWhenRuntimeExceptionIsThrownGettingNewInstance() {
@@ -727,7 +782,6 @@ class KeycloakAdapterTest {
         UserRepresentation user3 = getFakeUserRepresentation("username3");
 
         RoleMappingResource fakeRoleMappingResource = mock(RoleMappingResource.class);
-        RoleScopeResource fakeRoleScopeResource = mock(RoleScopeResource.class);
         RoleRepresentation fakeRoleRepresentation = new RoleRepresentation("custom-role", null, false);
 
         MappingsRepresentation fakeMappingsRepresentation = mock(MappingsRepresentation.class);
@@ -749,8 +803,7 @@ class KeycloakAdapterTest {
             when(fakeUsersResource.get(anyString())).thenReturn(fakeUserResource);
             when(fakeUserResource.groups()).thenReturn(List.of());
             when(fakeUserResource.roles()).thenReturn(fakeRoleMappingResource);
-            when(fakeRoleMappingResource.realmLevel()).thenReturn(fakeRoleScopeResource);
-            when(fakeRoleScopeResource.listAll()).thenReturn(List.of(fakeRoleRepresentation));
+            when(fakeMappingsRepresentation.getRealmMappings()).thenReturn(List.of(fakeRoleRepresentation));
             when(fakeRoleMappingResource.getAll()).thenReturn(fakeMappingsRepresentation);
             when(fakeMappingsRepresentation.getClientMappings())
                     .thenReturn(Map.of("my-client", fakeClientMappingsRepresentation));
@@ -767,6 +820,42 @@ class KeycloakAdapterTest {
         }
     }
 
+    @Test
+    void getManagedUsers_shouldNotFetchRolesWhenRolesAreNotRequested() {
+        Map<String, Object> params = new HashMap<>(standardParams);
+        params.put(FIRST_RESULT_MAP_KEY, 0);
+        params.put(MAX_RESULTS_MAP_KEY, 3);
+        params.put(INCLUDE_ROLES_MAP_KEY, false);
+
+        RealmResource fakeRealmResource = mock(RealmResource.class);
+        UsersResource fakeUsersResource = mock(UsersResource.class);
+        UserResource fakeUserResource = mock(UserResource.class);
+
+        var fakeUsers = List.of(
+                getFakeUserRepresentation("username1"),
+                getFakeUserRepresentation("username2"),
+                getFakeUserRepresentation("username3"));
+
+        try (MockedStatic<Keycloak> mockStaticKeycloak = mockStatic(Keycloak.class)) {
+            Keycloak mockKeycloakInstance = mock(Keycloak.class);
+            mockStaticKeycloak
+                    .when(() -> Keycloak.getInstance(anyString(), anyString(), anyString(), anyString()))
+                    .thenReturn(mockKeycloakInstance);
+            when(mockKeycloakInstance.realm(anyString())).thenReturn(fakeRealmResource);
+            when(fakeRealmResource.users()).thenReturn(fakeUsersResource);
+            when(fakeUsersResource.list(anyInt(), anyInt())).thenReturn(fakeUsers);
+            when(fakeUsersResource.get(anyString())).thenReturn(fakeUserResource);
+            when(fakeUserResource.groups()).thenReturn(List.of());
+
+            IDPUserListDTO foundUsers = keycloakAdapter.getManagedUsers(params);
+
+            assertEquals(fakeUsers.size(), foundUsers.getUsers().size());
+            assertTrue(foundUsers.getUsers().stream().allMatch(userDTO -> userDTO.getRealmRoles() == null));
+            verify(fakeUserResource, times(fakeUsers.size())).groups();
+            verify(fakeUserResource, never()).roles();
+        }
+    }
+
     @Test
     void getManagedUsers_shouldReturnSetOfUsersWhenSearchIsFilteredByEmailAndNoExceptionIsThrown() {
         Map<String, Object> params = new HashMap<>(standardParams);
@@ -786,7 +875,6 @@ class KeycloakAdapterTest {
         user2.setEmail("my-other-email@somedomain.com");
 
         RoleMappingResource fakeRoleMappingResource = mock(RoleMappingResource.class);
-        RoleScopeResource fakeRoleScopeResource = mock(RoleScopeResource.class);
         RoleRepresentation fakeRoleRepresentation = new RoleRepresentation("custom-role", null, false);
 
         MappingsRepresentation fakeMappingsRepresentation = mock(MappingsRepresentation.class);
@@ -818,8 +906,7 @@ class KeycloakAdapterTest {
             when(fakeUsersResource.get(anyString())).thenReturn(fakeUserResource);
             when(fakeUserResource.groups()).thenReturn(List.of());
             when(fakeUserResource.roles()).thenReturn(fakeRoleMappingResource);
-            when(fakeRoleMappingResource.realmLevel()).thenReturn(fakeRoleScopeResource);
-            when(fakeRoleScopeResource.listAll()).thenReturn(List.of(fakeRoleRepresentation));
+            when(fakeMappingsRepresentation.getRealmMappings()).thenReturn(List.of(fakeRoleRepresentation));
             when(fakeRoleMappingResource.getAll()).thenReturn(fakeMappingsRepresentation);
             when(fakeMappingsRepresentation.getClientMappings())
                     .thenReturn(Map.of("my-client", fakeClientMappingsRepresentation));
@@ -853,7 +940,6 @@ class KeycloakAdapterTest {
         UserRepresentation user2 = getFakeUserRepresentation("mike10");
 
         RoleMappingResource fakeRoleMappingResource = mock(RoleMappingResource.class);
-        RoleScopeResource fakeRoleScopeResource = mock(RoleScopeResource.class);
         RoleRepresentation fakeRoleRepresentation = new RoleRepresentation("custom-role", null, false);
 
         MappingsRepresentation fakeMappingsRepresentation = mock(MappingsRepresentation.class);
@@ -885,8 +971,7 @@ class KeycloakAdapterTest {
             when(fakeUsersResource.get(anyString())).thenReturn(fakeUserResource);
             when(fakeUserResource.groups()).thenReturn(List.of());
             when(fakeUserResource.roles()).thenReturn(fakeRoleMappingResource);
-            when(fakeRoleMappingResource.realmLevel()).thenReturn(fakeRoleScopeResource);
-            when(fakeRoleScopeResource.listAll()).thenReturn(List.of(fakeRoleRepresentation));
+            when(fakeMappingsRepresentation.getRealmMappings()).thenReturn(List.of(fakeRoleRepresentation));
             when(fakeRoleMappingResource.getAll()).thenReturn(fakeMappingsRepresentation);
             when(fakeMappingsRepresentation.getClientMappings())
                     .thenReturn(Map.of("my-client", fakeClientMappingsRepresentation));
@@ -922,7 +1007,6 @@ class KeycloakAdapterTest {
         user2.setFirstName("Lucy");
 
         RoleMappingResource fakeRoleMappingResource = mock(RoleMappingResource.class);
-        RoleScopeResource fakeRoleScopeResource = mock(RoleScopeResource.class);
         RoleRepresentation fakeRoleRepresentation = new RoleRepresentation("custom-role", null, false);
 
         MappingsRepresentation fakeMappingsRepresentation = mock(MappingsRepresentation.class);
@@ -954,8 +1038,7 @@ class KeycloakAdapterTest {
             when(fakeUsersResource.get(anyString())).thenReturn(fakeUserResource);
             when(fakeUserResource.groups()).thenReturn(List.of());
             when(fakeUserResource.roles()).thenReturn(fakeRoleMappingResource);
-            when(fakeRoleMappingResource.realmLevel()).thenReturn(fakeRoleScopeResource);
-            when(fakeRoleScopeResource.listAll()).thenReturn(List.of(fakeRoleRepresentation));
+            when(fakeMappingsRepresentation.getRealmMappings()).thenReturn(List.of(fakeRoleRepresentation));
             when(fakeRoleMappingResource.getAll()).thenReturn(fakeMappingsRepresentation);
             when(fakeMappingsRepresentation.getClientMappings())
                     .thenReturn(Map.of("my-client", fakeClientMappingsRepresentation));
@@ -991,7 +1074,6 @@ class KeycloakAdapterTest {
         user2.setLastName("McCarthy");
 
         RoleMappingResource fakeRoleMappingResource = mock(RoleMappingResource.class);
-        RoleScopeResource fakeRoleScopeResource = mock(RoleScopeResource.class);
         RoleRepresentation fakeRoleRepresentation = new RoleRepresentation("custom-role", null, false);
 
         MappingsRepresentation fakeMappingsRepresentation = mock(MappingsRepresentation.class);
@@ -1023,8 +1105,7 @@ class KeycloakAdapterTest {
             when(fakeUsersResource.get(anyString())).thenReturn(fakeUserResource);
             when(fakeUserResource.groups()).thenReturn(List.of());
             when(fakeUserResource.roles()).thenReturn(fakeRoleMappingResource);
-            when(fakeRoleMappingResource.realmLevel()).thenReturn(fakeRoleScopeResource);
-            when(fakeRoleScopeResource.listAll()).thenReturn(List.of(fakeRoleRepresentation));
+            when(fakeMappingsRepresentation.getRealmMappings()).thenReturn(List.of(fakeRoleRepresentation));
             when(fakeRoleMappingResource.getAll()).thenReturn(fakeMappingsRepresentation);
             when(fakeMappingsRepresentation.getClientMappings())
                     .thenReturn(Map.of("my-client", fakeClientMappingsRepresentation));
@@ -1066,7 +1147,6 @@ class KeycloakAdapterTest {
         fakeGroupRepresentation.setName("my-group");
 
         RoleMappingResource fakeRoleMappingResource = mock(RoleMappingResource.class);
-        RoleScopeResource fakeRoleScopeResource = mock(RoleScopeResource.class);
         RoleRepresentation fakeRoleRepresentation = new RoleRepresentation("custom-role", null, false);
 
         MappingsRepresentation fakeMappingsRepresentation = mock(MappingsRepresentation.class);
@@ -1090,8 +1170,7 @@ class KeycloakAdapterTest {
             when(fakeUsersResource.get(anyString())).thenReturn(fakeUserResource);
             when(fakeUserResource.groups()).thenReturn(List.of(fakeGroupRepresentation));
             when(fakeUserResource.roles()).thenReturn(fakeRoleMappingResource);
-            when(fakeRoleMappingResource.realmLevel()).thenReturn(fakeRoleScopeResource);
-            when(fakeRoleScopeResource.listAll()).thenReturn(List.of(fakeRoleRepresentation));
+            when(fakeMappingsRepresentation.getRealmMappings()).thenReturn(List.of(fakeRoleRepresentation));
             when(fakeRoleMappingResource.getAll()).thenReturn(fakeMappingsRepresentation);
             when(fakeMappingsRepresentation.getClientMappings())
                     .thenReturn(Map.of("my-client", fakeClientMappingsRepresentation));
@@ -1183,7 +1262,6 @@ class KeycloakAdapterTest {
         UsersResource fakeUsersResource = mock(UsersResource.class);
         UserResource fakeUserResource = mock(UserResource.class);
         RoleMappingResource fakeRoleMappingResource = mock(RoleMappingResource.class);
-        RoleScopeResource fakeRoleScopeResource = mock(RoleScopeResource.class);
 
         String fakeUsername = "some-username";
         UserRepresentation userRepresentation = new UserRepresentation();
@@ -1196,6 +1274,9 @@ class KeycloakAdapterTest {
         fakeRoleRepresentation.setId(UUID.randomUUID().toString());
         fakeRoleRepresentation.setName("myRole");
 
+        MappingsRepresentation fakeMappingsRepresentation = new MappingsRepresentation();
+        fakeMappingsRepresentation.setRealmMappings(List.of(fakeRoleRepresentation));
+
         try (MockedStatic<Keycloak> mockStaticKeycloak = mockStatic(Keycloak.class)) {
             Keycloak mockKeycloakInstance = mock(Keycloak.class);
             mockStaticKeycloak
@@ -1206,8 +1287,7 @@ class KeycloakAdapterTest {
             when(fakeUsersResource.get(eq(fakeUserId))).thenReturn(fakeUserResource);
             when(fakeUserResource.toRepresentation()).thenReturn(userRepresentation);
             when(fakeUserResource.roles()).thenReturn(fakeRoleMappingResource);
-            when(fakeRoleMappingResource.realmLevel()).thenReturn(fakeRoleScopeResource);
-            when(fakeRoleScopeResource.listAll()).thenReturn(List.of(fakeRoleRepresentation));
+            when(fakeRoleMappingResource.getAll()).thenReturn(fakeMappingsRepresentation);
 
             IDPUserDTO userDTO = keycloakAdapter.getManagedUser(params);
 
@@ -1220,6 +1300,54 @@ class KeycloakAdapterTest {
         }
     }
 
+    @Test
+    void getManagedUser_shouldFetchRealmAndClientRolesWithASingleRoleMappingsCall() {
+        String fakeUserId = UUID.randomUUID().toString();
+        Map<String, Object> params = new HashMap<>(standardParams);
+        params.put(USER_ID_MAP_KEY, fakeUserId);
+
+        RealmResource fakeRealmResource = mock(RealmResource.class);
+        UsersResource fakeUsersResource = mock(UsersResource.class);
+        UserResource fakeUserResource = mock(UserResource.class);
+        RoleMappingResource fakeRoleMappingResource = mock(RoleMappingResource.class);
+
+        UserRepresentation userRepresentation = getFakeUserRepresentation("some-username");
+        userRepresentation.setId(fakeUserId);
+
+        RoleRepresentation fakeRealmRole = new RoleRepresentation("realm-role", null, false);
+        RoleRepresentation fakeClientRole = new RoleRepresentation("client-role", null, false);
+
+        ClientMappingsRepresentation fakeClientMappingsRepresentation = new ClientMappingsRepresentation();
+        fakeClientMappingsRepresentation.setClient("my-client");
+        fakeClientMappingsRepresentation.setMappings(List.of(fakeClientRole));
+
+        MappingsRepresentation fakeMappingsRepresentation = new MappingsRepresentation();
+        fakeMappingsRepresentation.setRealmMappings(List.of(fakeRealmRole));
+        fakeMappingsRepresentation.setClientMappings(Map.of("my-client", fakeClientMappingsRepresentation));
+
+        try (MockedStatic<Keycloak> mockStaticKeycloak = mockStatic(Keycloak.class)) {
+            Keycloak mockKeycloakInstance = mock(Keycloak.class);
+            mockStaticKeycloak
+                    .when(() -> Keycloak.getInstance(anyString(), anyString(), anyString(), anyString()))
+                    .thenReturn(mockKeycloakInstance);
+            when(mockKeycloakInstance.realm(anyString())).thenReturn(fakeRealmResource);
+            when(fakeRealmResource.users()).thenReturn(fakeUsersResource);
+            when(fakeUsersResource.get(eq(fakeUserId))).thenReturn(fakeUserResource);
+            when(fakeUserResource.toRepresentation()).thenReturn(userRepresentation);
+            when(fakeUserResource.roles()).thenReturn(fakeRoleMappingResource);
+            when(fakeRoleMappingResource.getAll()).thenReturn(fakeMappingsRepresentation);
+
+            IDPUserDTO userDTO = keycloakAdapter.getManagedUser(params);
+
+            assertEquals(Set.of("realm-role"), userDTO.getRealmRoles());
+            assertEquals(Map.of("my-client", Set.of("client-role")), userDTO.getClientRoles());
+
+            verify(fakeUserResource, times(1)).roles();
+            verify(fakeRoleMappingResource, times(1)).getAll();
+            verify(fakeRoleMappingResource, never()).realmLevel();
+        }
+    }
+
     @Test
     void getManagedUser_shouldReturnIDPUserDTOWithClientRolesWhenNoExceptionIsThrownAndUserRepresentationIsFound() {
         String fakeUserId = UUID.randomUUID().toString();
@@ -1385,6 +1513,73 @@ class KeycloakAdapterTest {
         }
     }
 
+    @Test
+    void validateUserGroup_shouldReuseCachedMembershipsOnSubsequentValidations() {
+        RealmResource fakeRealmResource = mock(RealmResource.class);
+        UsersResource fakeUsersResource = mock(UsersResource.class);
+        UserResource fakeUserResource = mock(UserResource.class);
+
+        var groupId = UUID.randomUUID().toString();
+
+        GroupRepresentation group = new GroupRepresentation();
+        group.setId(groupId);
+        group.setName("Group #1");
+
+        try (MockedStatic<Keycloak> mockStaticKeycloak = mockStatic(Keycloak.class)) {
+            Keycloak mockKeycloakInstance = mock(Keycloak.class);
+            mockStaticKeycloak
+                    .when(() -> Keycloak.getInstance(anyString(), anyString(), anyString(), anyString()))
+                    .thenReturn(mockKeycloakInstance);
+            when(mockKeycloakInstance.realm(anyString())).thenReturn(fakeRealmResource);
+            when(fakeRealmResource.users()).thenReturn(fakeUsersResource);
+            when(fakeUsersResource.get(anyString())).thenReturn(fakeUserResource);
+            when(fakeUserResource.groups()).thenReturn(List.of(group));
+
+            assertDoesNotThrow(() -> keycloakAdapter.validateUserGroup(groupId, STUBBED_ACCESS_TOKEN));
+            assertDoesNotThrow(() -> keycloakAdapter.validateUserGroup(groupId, STUBBED_ACCESS_TOKEN));
+            assertThrows(
+                    ResponseStatusException.class,
+                    () -> keycloakAdapter.validateUserGroup("someOtherGroup", STUBBED_ACCESS_TOKEN));
+
+            verify(fakeUserResource, times(1)).groups();
+        }
+    }
+
+    @Test
+    void isMember_shouldFetchMembershipsAgainAfterUserJoinsAGroup() {
+        RealmResource fakeRealmResource = mock(RealmResource.class);
+        UsersResource fakeUsersResource = mock(UsersResource.class);
+        UserResource fakeUserResource = mock(UserResource.class);
+
+        var userId = UUID.randomUUID().toString();
+        var groupId = UUID.randomUUID().toString();
+
+        GroupRepresentation group = new GroupRepresentation();
+        group.setId(groupId);
+        group.setName("Group #1");
+
+        Map<String, Object> params = Map.of(
+                ACCESS_TOKEN_MAP_KEY, STUBBED_ACCESS_TOKEN, USER_ID_MAP_KEY, userId, USER_GROUP_ID_MAP_KEY, groupId);
+
+        try (MockedStatic<Keycloak> mockStaticKeycloak = mockStatic(Keycloak.class)) {
+            Keycloak mockKeycloakInstance = mock(Keycloak.class);
+            mockStaticKeycloak
+                    .when(() -> Keycloak.getInstance(anyString(), anyString(), anyString(), anyString()))
+                    .thenReturn(mockKeycloakInstance);
+            when(mockKeycloakInstance.realm(anyString())).thenReturn(fakeRealmResource);
+            when(fakeRealmResource.users()).thenReturn(fakeUsersResource);
+            when(fakeUsersResource.get(userId)).thenReturn(fakeUserResource);
+            when(fakeUserResource.groups()).thenReturn(List.of()).thenReturn(List.of(group));
+
+            assertFalse(keycloakAdapter.isMember(userId, groupId, STUBBED_ACCESS_TOKEN));
+
+            keycloakAdapter.joinGroup(params);
+
+            assertTrue(keycloakAdapter.isMember(userId, groupId, STUBBED_ACCESS_TOKEN));
+            verify(fakeUserResource, times(2)).groups();
+        }
+    }
+
     @Test
     void
             getUserInfo_shouldThrowAdapterExceptionCreatingKeycloakInstanceWhenRuntimeExceptionIsThrownGettingNewInstance() {
@@ -1453,6 +1648,44 @@ class KeycloakAdapterTest {
         }
     }
 
+    @Test
+    void lookUpUsers_shouldFetchEachDistinctUserOnlyOnce() {
+        String userId = UUID.randomUUID().toString();
+        String otherUserId = UUID.randomUUID().toString();
+
+        RealmResource fakeRealmResource = mock(RealmResource.class);
+        UsersResource fakeUsersResource = mock(UsersResource.class);
+        UserResource fakeUserResource = mock(UserResource.class);
+        UserResource otherFakeUserResource = mock(UserResource.class);
+        UserRepresentation fakeUserRepresentation = new UserRepresentation();
+        fakeUserRepresentation.setId(userId);
+
+        try (MockedStatic<Keycloak> mockStaticKeycloak = mockStatic(Keycloak.class)) {
+            Keycloak mockKeycloakInstance = mock(Keycloak.class);
+            mockStaticKeycloak
+                    .when(() -> Keycloak.getInstance(anyString(), anyString(), anyString(), anyString()))
+                    .thenReturn(mockKeycloakInstance);
+            when(mockKeycloakInstance.realm(anyString())).thenReturn(fakeRealmResource);
+            when(fakeRealmResource.users()).thenReturn(fakeUsersResource);
+            when(fakeUsersResource.get(userId)).thenReturn(fakeUserResource);
+            when(fakeUsersResource.get(otherUserId)).thenReturn(otherFakeUserResource);
+            when(fakeUserResource.toRepresentation()).thenReturn(fakeUserRepresentation);
+            when(otherFakeUserResource.toRepresentation()).thenThrow(new NotFoundException());
+
+            UserLookup lookup = UserLookup.byId(STUBBED_ACCESS_TOKEN, userId);
+            UserLookup otherLookup = UserLookup.byId(STUBBED_ACCESS_TOKEN, otherUserId);
+
+            Map<UserLookup, UserDTO> foundUsers = keycloakAdapter.lookUpUsers(
+                    List.of(lookup, otherLookup, UserLookup.byId(STUBBED_ACCESS_TOKEN, userId)));
+
+            assertEquals(2, foundUsers.size());
+            assertEquals(userId, foundUsers.get(lookup).getId());
+            assertTrue(foundUsers.containsKey(otherLookup));
+            assertNull(foundUsers.get(otherLookup));
+            verify(fakeUserResource, times(1)).toRepresentation();
+        }
+    }
+
     @Test
     void getUserInfo_shouldReturnUserDTOWhenUserRepresentationIsFoundUsingEmail() {
         String userId = UUID.randomUUID().toString();
@@ -1705,6 +1938,76 @@ class KeycloakAdapterTest {
         }
     }
 
+    @Test
+    void getUserGroup_shouldAnswerRepeatedLookupsByNameFromTheGroupIndex() {
+        Map<String, Object> params =
+                Map.of(USER_GROUP_NAME_MAP_KEY, "Some-Group-Name", ACCESS_TOKEN_MAP_KEY, STUBBED_ACCESS_TOKEN);
+
+        RealmResource fakeRealmResource = mock(RealmResource.class);
+        GroupsResource fakeGroupsResource = mock(GroupsResource.class);
+        GroupRepresentation similarGroupRepresentation = new GroupRepresentation();
+        similarGroupRepresentation.setId(UUID.randomUUID().toString());
+        similarGroupRepresentation.setName("some-group-name-2");
+        GroupRepresentation fakeGroupRepresentation = new GroupRepresentation();
+        fakeGroupRepresentation.setId(UUID.randomUUID().toString());
+        fakeGroupRepresentation.setName("some-group-name");
+
+        try (MockedStatic<Keycloak> mockStaticKeycloak = mockStatic(Keycloak.class)) {
+            Keycloak mockKeycloakInstance = mock(Keycloak.class);
+            mockStaticKeycloak
+                    .when(() -> Keycloak.getInstance(anyString(), anyString(), anyString(), anyString()))
+                    .thenReturn(mockKeycloakInstance);
+            when(mockKeycloakInstance.realm(anyString())).thenReturn(fakeRealmResource);
+            when(fakeRealmResource.groups()).thenReturn(fakeGroupsResource);
+            when(fakeGroupsResource.query(anyString()))
+                    .thenReturn(List.of(similarGroupRepresentation, fakeGroupRepresentation));
+
+            UserGroupDTO firstLookup = keycloakAdapter.getUserGroup(params);
+            UserGroupDTO secondLookup = keycloakAdapter.getUserGroup(params);
+            UserGroupDTO similarGroupLookup = keycloakAdapter.getUserGroup(Map.of(
+                    USER_GROUP_NAME_MAP_KEY, "some-group-name-2", ACCESS_TOKEN_MAP_KEY, STUBBED_ACCESS_TOKEN));
+
+            assertEquals(fakeGroupRepresentation.getId(), firstLookup.getId());
+            assertEquals(firstLookup, secondLookup);
+            assertEquals(similarGroupRepresentation.getId(), similarGroupLookup.getId());
+            verify(fakeGroupsResource, times(1)).query(anyString());
+        }
+    }
+
+    @Test
+    void getUserGroup_shouldSearchAgainByNameAfterAGroupIsDeleted() {
+        Map<String, Object> params =
+                Map.of(USER_GROUP_NAME_MAP_KEY, "some-group-name", ACCESS_TOKEN_MAP_KEY, STUBBED_ACCESS_TOKEN);
+
+        RealmResource fakeRealmResource = mock(RealmResource.class);
+        GroupsResource fakeGroupsResource = mock(GroupsResource.class);
+        GroupResource fakeGroupResource = mock(GroupResource.class);
+        GroupRepresentation fakeGroupRepresentation = new GroupRepresentation();
+        fakeGroupRepresentation.setId(UUID.randomUUID().toString());
+        fakeGroupRepresentation.setName("some-group-name");
+
+        try (MockedStatic<Keycloak> mockStaticKeycloak = mockStatic(Keycloak.class)) {
+            Keycloak mockKeycloakInstance = mock(Keycloak.class);
+            mockStaticKeycloak
+                    .when(() -> Keycloak.getInstance(anyString(), anyString(), anyString(), anyString()))
+                    .thenReturn(mockKeycloakInstance);
+            when(mockKeycloakInstance.realm(anyString())).thenReturn(fakeRealmResource);
+            when(fakeRealmResource.groups()).thenReturn(fakeGroupsResource);
+            when(fakeGroupsResource.group(anyString())).thenReturn(fakeGroupResource);
+            when(fakeGroupsResource.query(anyString()))
+                    .thenReturn(List.of(fakeGroupRepresentation))
+                    .thenReturn(Collections.emptyList());
+
+            assertNotNull(keycloakAdapter.getUserGroup(params));
+
+            keycloakAdapter.deleteGroup(Map.of(
+                    USER_GROUP_ID_MAP_KEY, fakeGroupRepresentation.getId(), ACCESS_TOKEN_MAP_KEY, STUBBED_ACCESS_TOKEN));
+
+            assertNull(keycloakAdapter.getUserGroup(params));
+            verify(fakeGroupsResource, times(2)).query(anyString());
+        }
+    }
+
     @Test
     void validateAssignmentProperties_shouldThrowResponseStatusExceptionAsBadRequestWhenNoParamsAreProvided() {
         ResponseStatusException thrownException = assertThrows(
@@ -1771,6 +2074,7 @@ class KeycloakAdapterTest {
 
         RealmResource fakeRealmResource = mock(RealmResource.class);
         GroupsResource fakeGroupsResource = mock(GroupsResource.class);
+        GroupResource fakeGroupResource = mock(GroupResource.class);
 
         try (MockedStatic<Keycloak> mockStaticKeycloak = mockStatic(Keycloak.class)) {
             Keycloak mockKeycloakInstance = mock(Keycloak.class);
@@ -1779,7 +2083,8 @@ class KeycloakAdapterTest {
                     .thenReturn(mockKeycloakInstance);
             when(mockKeycloakInstance.realm(anyString())).thenReturn(fakeRealmResource);
             when(fakeRealmResource.groups()).thenReturn(fakeGroupsResource);
-            when(fakeGroupsResource.groups()).thenReturn(Collections.emptyList());
+            when(fakeGroupsResource.group(requestedUserGroup)).thenReturn(fakeGroupResource);
+            when(fakeGroupResource.toRepresentation()).thenThrow(new NotFoundException());
 
             ResponseStatusException thrownException = assertThrows(
                     ResponseStatusException.class, () -> keycloakAdapter.validateAssignmentProperties(params));
@@ -1802,15 +2107,11 @@ class KeycloakAdapterTest {
 
         RealmResource fakeRealmResource = mock(RealmResource.class);
         GroupsResource fakeGroupsResource = mock(GroupsResource.class);
+        GroupResource fakeGroupResource = mock(GroupResource.class);
 
-        GroupRepresentation group1 = new GroupRepresentation();
-        group1.setId(UUID.randomUUID().toString());
-        group1.setName("Group #1");
-
-        GroupRepresentation group2 = new GroupRepresentation();
-        group2.setId(UUID.randomUUID().toString());
-        group2.setName("Group #2");
-        var fakeGroups = List.of(group1, group2);
+        GroupRepresentation otherGroup = new GroupRepresentation();
+        otherGroup.setId(UUID.randomUUID().toString());
+        otherGroup.setName("Group #1");
 
         try (MockedStatic<Keycloak> mockStaticKeycloak = mockStatic(Keycloak.class)) {
             Keycloak mockKeycloakInstance = mock(Keycloak.class);
@@ -1819,7 +2120,8 @@ class KeycloakAdapterTest {
                     .thenReturn(mockKeycloakInstance);
             when(mockKeycloakInstance.realm(anyString())).thenReturn(fakeRealmResource);
             when(fakeRealmResource.groups()).thenReturn(fakeGroupsResource);
-            when(fakeGroupsResource.groups()).thenReturn(fakeGroups);
+            when(fakeGroupsResource.group(requestedUserGroup)).thenReturn(fakeGroupResource);
+            when(fakeGroupResource.toRepresentation()).thenReturn(otherGroup);
 
             ResponseStatusException thrownException = assertThrows(
                     ResponseStatusException.class, () -> keycloakAdapter.validateAssignmentProperties(params));
@@ -1847,8 +2149,6 @@ class KeycloakAdapterTest {
         UserRepresentation fakeUserRepresentation = new UserRepresentation();
         fakeUserRepresentation.setId(userId);
 
-        GroupsResource fakeGroupsResource = mock(GroupsResource.class);
-
         try (MockedStatic<Keycloak> mockStaticKeycloak = mockStatic(Keycloak.class)) {
             Keycloak mockKeycloakInstance = mock(Keycloak.class);
             mockStaticKeycloak
@@ -1858,10 +2158,7 @@ class KeycloakAdapterTest {
             when(fakeRealmResource.users()).thenReturn(fakeUsersResource);
             when(fakeUsersResource.get(anyString())).thenReturn(fakeUserResource);
             when(fakeUserResource.toRepresentation()).thenReturn(fakeUserRepresentation);
-
-            when(mockKeycloakInstance.realm(anyString())).thenReturn(fakeRealmResource);
-            when(fakeRealmResource.groups()).thenReturn(fakeGroupsResource);
-            when(fakeGroupsResource.groups()).thenReturn(Collections.emptyList());
+            when(fakeUserResource.groups()).thenReturn(Collections.emptyList());
 
             ResponseStatusException thrownException = assertThrows(
                     ResponseStatusException.class, () -> keycloakAdapter.validateAssignmentProperties(params));
@@ -1952,15 +2249,11 @@ class KeycloakAdapterTest {
 
         RealmResource fakeRealmResource = mock(RealmResource.class);
         GroupsResource fakeGroupsResource = mock(GroupsResource.class);
+        GroupResource fakeGroupResource = mock(GroupResource.class);
 
-        GroupRepresentation group1 = new GroupRepresentation();
-        group1.setId(UUID.randomUUID().toString());
-        group1.setName("Group #1");
-
-        GroupRepresentation group2 = new GroupRepresentation();
-        group2.setId(requestedUserGroup);
-        group2.setName("Group #2");
-        var fakeGroups = List.of(group1, group2);
+        GroupRepresentation requestedGroup = new GroupRepresentation();
+        requestedGroup.setId(requestedUserGroup);
+        requestedGroup.setName("Group #2");
 
         try (MockedStatic<Keycloak> mockStaticKeycloak = mockStatic(Keycloak.class)) {
             Keycloak mockKeycloakInstance = mock(Keycloak.class);
@@ -1969,9 +2262,12 @@ class KeycloakAdapterTest {
                     .thenReturn(mockKeycloakInstance);
             when(mockKeycloakInstance.realm(anyString())).thenReturn(fakeRealmResource);
             when(fakeRealmResource.groups()).thenReturn(fakeGroupsResource);
-            when(fakeGroupsResource.groups()).thenReturn(fakeGroups);
+            when(fakeGroupsResource.group(requestedUserGroup)).thenReturn(fakeGroupResource);
+            when(fakeGroupResource.toRepresentation()).thenReturn(requestedGroup);
 
             assertDoesNotThrow(() -> keycloakAdapter.validateAssignmentProperties(params));
+            verify(fakeGroupsResource, never()).groups();
+            verify(fakeGroupsResource, never()).groups(anyInt(), anyInt());
         }
     }
 
@@ -3121,6 +3417,82 @@ class KeycloakAdapterTest {
         }
     }
 
+    @Test
+    void assignAdminRole_shouldReuseCachedRoleRepresentationsOnSubsequentGrants() {
+        var fakeUserId = UUID.randomUUID().toString();
+        var fakeClientRepresentationId = UUID.randomUUID().toString();
+
+        Map<String, Object> params = Map.of(USER_ID_MAP_KEY, fakeUserId, ACCESS_TOKEN_MAP_KEY, STUBBED_ACCESS_TOKEN);
+
+        try (MockedStatic<Keycloak> mockStaticKeycloak = mockStatic(Keycloak.class)) {
+            Keycloak mockKeycloakInstance = mock(Keycloak.class);
+            RealmResource fakeRealmResource = mock(RealmResource.class);
+            UsersResource fakeUsersResource = mock(UsersResource.class);
+            UserResource fakeUserResource = mock(UserResource.class);
+            RolesResource fakeRolesResource = mock(RolesResource.class);
+            RoleResource fakeRoleResource = mock(RoleResource.class);
+            RoleMappingResource fakeRoleMappingResource = mock(RoleMappingResource.class);
+            RoleScopeResource fakeRoleScopeResource = mock(RoleScopeResource.class);
+            ClientsResource fakeClientsResource = mock(ClientsResource.class);
+            ClientResource fakeClientResource = mock(ClientResource.class);
+
+            RoleRepresentation fakeUTBAdminRoleRepresentation = new RoleRepresentation();
+            fakeUTBAdminRoleRepresentation.setId(UUID.randomUUID().toString());
+            fakeUTBAdminRoleRepresentation.setName(LH_USER_TASKS_ADMIN_ROLE);
+
+            RoleRepresentation fakeViewRealmRoleRepresentation = new RoleRepresentation();
+            fakeViewRealmRoleRepresentation.setId(UUID.randomUUID().toString());
+            fakeViewRealmRoleRepresentation.setName(VIEW_REALM_ROLE_NAME);
+
+            RoleRepresentation fakeViewClientsRoleRepresentation = new RoleRepresentation();
+            fakeViewClientsRoleRepresentation.setId(UUID.randomUUID().toString());
+            fakeViewClientsRoleRepresentation.setName(VIEW_CLIENTS_ROLE_NAME);
+
+            RoleRepresentation fakeManageUsersRoleRepresentation = new RoleRepresentation();
+            fakeManageUsersRoleRepresentation.setId(UUID.randomUUID().toString());
+            fakeManageUsersRoleRepresentation.setName(MANAGE_USERS_ROLE_NAME);
+
+            ClientRepresentation fakeClientRepresentation = new ClientRepresentation();
+            fakeClientRepresentation.setId(fakeClientRepresentationId);
+            fakeClientRepresentation.setClientId(REALM_MANAGEMENT_CLIENT_ID);
+
+            mockStaticKeycloak
+                    .when(() -> Keycloak.getInstance(anyString(), anyString(), anyString(), anyString()))
+                    .thenReturn(mockKeycloakInstance);
+            when(mockKeycloakInstance.realm(anyString())).thenReturn(fakeRealmResource);
+            when(fakeRealmResource.users()).thenReturn(fakeUsersResource);
+            when(fakeUsersResource.get(eq(fakeUserId))).thenReturn(fakeUserResource);
+            when(fakeRealmResource.roles()).thenReturn(fakeRolesResource);
+            when(fakeRolesResource.get(anyString())).thenReturn(fakeRoleResource);
+            when(fakeRoleResource.toRepresentation())
+                    .thenReturn(
+                            fakeUTBAdminRoleRepresentation,
+                            fakeViewRealmRoleRepresentation,
+                            fakeViewClientsRoleRepresentation,
+                            fakeManageUsersRoleRepresentation);
+            when(fakeUserResource.roles()).thenReturn(fakeRoleMappingResource);
+            when(fakeRoleMappingResource.realmLevel()).thenReturn(fakeRoleScopeResource);
+            when(fakeRealmResource.clients()).thenReturn(fakeClientsResource);
+            when(fakeClientsResource.findByClientId(eq(REALM_MANAGEMENT_CLIENT_ID)))
+                    .thenReturn(Collections.singletonList(fakeClientRepresentation));
+            when(fakeClientsResource.get(eq(fakeClientRepresentationId))).thenReturn(fakeClientResource);
+            when(fakeClientResource.roles()).thenReturn(fakeRolesResource);
+            when(fakeRoleMappingResource.clientLevel(eq(fakeClientRepresentationId)))
+                    .thenReturn(fakeRoleScopeResource);
+
+            keycloakAdapter.assignAdminRole(params);
+            keycloakAdapter.assignAdminRole(params);
+
+            int expectedNumberOfRoleLookups = 4;
+            int expectedNumberOfRoleAssignmentRequests = 4;
+
+            verify(fakeRolesResource, times(expectedNumberOfRoleLookups)).get(anyString());
+            verify(fakeClientsResource, times(1)).findByClientId(REALM_MANAGEMENT_CLIENT_ID);
+            verify(fakeRoleScopeResource, times(expectedNumberOfRoleAssignmentRequests))
+                    .add(anyList());
+        }
+    }
+
     @Test
     void
             removeAdminRole_shouldThrowAdapterExceptionCreatingKeycloakInstanceWhenRuntimeExceptionIsThrownGettingNewInstance() {
@@ -3929,4 +4301,17 @@ class KeycloakAdapterTest {
 
         return userRepresentation;
     }
+
+    private List<GroupRepresentation> buildGroupRepresentations(int quantity) {
+        List<GroupRepresentation> groups = new ArrayList<>();
+
+        for (int i = 0; i < quantity; i++) {
+            GroupRepresentation group = new GroupRepresentation();
+            group.setId(UUID.randomUUID().toString());
+            group.setName("Group #" + UUID.randomUUID());
+            groups.add(group);
+        }
+
+        return groups;
+    }
 }
@@ -0,0 +1,50 @@
+package io.littlehorse.usertasks.idp_adapters.keycloak;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.keycloak.representations.idm.GroupRepresentation;
+
+class KeycloakGroupIndexTest {
+    private static final String ISSUER = "https://keycloak.example.com/realms/default";
+
+    private final KeycloakGroupIndex groupIndex = new KeycloakGroupIndex(
+            Duration.ofMinutes(1), Clock.fixed(Instant.EPOCH, ZoneOffset.UTC), 2);
+    private final List<String> remoteSearches = new ArrayList<>();
+    private final Function<String, List<GroupRepresentation>> remoteSearch = groupName -> {
+        remoteSearches.add(groupName);
+        return List.of(buildGroup(groupName));
+    };
+
+    @Test
+    void findByName_shouldEvictTheLeastRecentlyUsedGroupWhenTheRealmIsFull() {
+        groupIndex.findByName(ISSUER, "sales", remoteSearch);
+        groupIndex.findByName(ISSUER, "support", remoteSearch);
+        groupIndex.findByName(ISSUER, "sales", remoteSearch);
+        groupIndex.findByName(ISSUER, "finance", remoteSearch);
+
+        assertEquals(2, groupIndex.indexedEntriesCount(ISSUER));
+        assertEquals(List.of("sales", "support", "finance"), remoteSearches);
+
+        assertEquals("sales", groupIndex.findByName(ISSUER, "SALES", remoteSearch).orElseThrow().getName());
+        assertEquals(3, remoteSearches.size());
+
+        groupIndex.findByName(ISSUER, "support", remoteSearch);
+        assertEquals(4, remoteSearches.size());
+    }
+
+    private static GroupRepresentation buildGroup(String groupName) {
+        GroupRepresentation group = new GroupRepresentation();
+        group.setId(groupName + "-id");
+        group.setName(groupName);
+
+        return group;
+    }
+}
@@ -0,0 +1,44 @@
+package io.littlehorse.usertasks.idp_adapters.keycloak;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class KeycloakGroupMembershipCacheTest {
+    private static final String ISSUER = "https://keycloak.example.com/realms/default";
+
+    private final KeycloakGroupMembershipCache membershipCache = new KeycloakGroupMembershipCache(
+            Duration.ofMinutes(1), Clock.fixed(Instant.EPOCH, ZoneOffset.UTC), 2);
+    private final List<String> loadedUsers = new ArrayList<>();
+
+    @Test
+    void getGroupIds_shouldEvictTheLeastRecentlyUsedUserWhenTheRealmIsFull() {
+        getGroupIds("first-user");
+        getGroupIds("second-user");
+        getGroupIds("first-user");
+        getGroupIds("third-user");
+
+        assertEquals(2, membershipCache.cachedUsersCount(ISSUER));
+        assertEquals(List.of("first-user", "second-user", "third-user"), loadedUsers);
+
+        assertEquals(Set.of("first-user-group"), getGroupIds("first-user"));
+        assertEquals(3, loadedUsers.size());
+
+        getGroupIds("second-user");
+        assertEquals(4, loadedUsers.size());
+    }
+
+    private Set<String> getGroupIds(String userId) {
+        return membershipCache.getGroupIds(ISSUER, userId, () -> {
+            loadedUsers.add(userId);
+            return Set.of(userId + "-group");
+        });
+    }
+}
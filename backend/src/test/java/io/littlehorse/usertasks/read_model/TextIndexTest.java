@@ -0,0 +1,49 @@
+package io.littlehorse.usertasks.read_model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class TextIndexTest {
+
+    @Test
+    void tokenize_shouldSplitOnPunctuationAndIgnoreCase() {
+        assertEquals(
+                List.of("call", "acme", "re", "invoice", "42", "back"),
+                List.copyOf(TextIndex.tokenize("Call ACME re: invoice #42, call back")));
+        assertTrue(TextIndex.tokenize(null).isEmpty());
+    }
+
+    @Test
+    void add_shouldAcceptRowsOutOfOrderAndRemoveThemIndividually() {
+        TextIndex textIndex = new TextIndex();
+
+        for (int row : new int[] {3, 200, 70_000, 5, 3, 0}) {
+            textIndex.add(row, Set.of("invoice"));
+        }
+
+        textIndex.remove(200, Set.of("invoice"));
+
+        assertArrayEquals(
+                new int[] {0, 3, 5, 70_000},
+                textIndex.rowsContainingAll(Set.of("invoice")).stream().toArray());
+    }
+
+    @Test
+    void rowsContainingAll_shouldIntersectTheRowsOfEveryWord() {
+        TextIndex textIndex = new TextIndex();
+        textIndex.add(1, TextIndex.tokenize("overdue invoice"));
+        textIndex.add(2, TextIndex.tokenize("invoice approved"));
+        textIndex.add(3, TextIndex.tokenize("overdue payment for invoice"));
+        textIndex.remove(3, TextIndex.tokenize("overdue payment for invoice"));
+
+        BitSet expectedRows = new BitSet();
+        expectedRows.set(1);
+
+        assertEquals(expectedRows, textIndex.rowsContainingAll(Set.of("invoice", "overdue")));
+        assertTrue(textIndex.rowsContainingAll(Set.of("payment")).isEmpty());
+    }
+}
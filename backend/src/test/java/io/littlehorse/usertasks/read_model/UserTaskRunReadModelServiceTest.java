@@ -0,0 +1,247 @@
+package io.littlehorse.usertasks.read_model;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Timestamp;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.littlehorse.sdk.common.proto.*;
+import io.littlehorse.usertasks.util.enums.UserTaskStatus;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class UserTaskRunReadModelServiceTest {
+    private final String tenantId = "my-tenant-id";
+    private final LittleHorseGrpc.LittleHorseBlockingStub lhTenantClient = mock();
+    private final UserTaskRunReadModelService readModelService = buildReadModelService(null);
+
+    @TempDir
+    private Path snapshotDirectory;
+
+    @Test
+    void query_shouldBeUnavailableUntilTheTenantIsBackfilled() {
+        assertTrue(readModelService
+                .query(tenantId, UserTaskRunQuery.builder().limit(10).build())
+                .isEmpty());
+    }
+
+    @Test
+    void refreshTenant_shouldBackfillEveryPageAndThenPollFromTheWatermark() {
+        UserTaskRun first = buildUserTaskRun(UserTaskRunStatus.ASSIGNED, 100);
+        UserTaskRun second = buildUserTaskRun(UserTaskRunStatus.DONE, 200);
+        UserTaskRun third = buildUserTaskRun(UserTaskRunStatus.UNASSIGNED, 300);
+        ByteString secondPageBookmark = ByteString.copyFromUtf8("second-page");
+
+        when(lhTenantClient.searchUserTaskRun(argThat(request -> request != null && !request.hasBookmark())))
+                .thenReturn(UserTaskRunIdList.newBuilder()
+                        .addResults(first.getId())
+                        .addResults(second.getId())
+                        .setBookmark(secondPageBookmark)
+                        .build());
+        when(lhTenantClient.searchUserTaskRun(argThat(request -> request != null && request.hasBookmark())))
+                .thenReturn(UserTaskRunIdList.newBuilder()
+                        .addResults(third.getId())
+                        .build());
+        when(lhTenantClient.getUserTaskRun(first.getId())).thenReturn(first);
+        when(lhTenantClient.getUserTaskRun(second.getId())).thenReturn(second);
+        when(lhTenantClient.getUserTaskRun(third.getId())).thenReturn(third);
+
+        readModelService.refreshTenant(tenantId);
+        readModelService.refreshTenant(tenantId);
+
+        UserTaskRunQueryResult result = readModelService
+                .query(
+                        tenantId,
+                        UserTaskRunQuery.builder()
+                                .statuses(Set.of(UserTaskStatus.ASSIGNED, UserTaskStatus.DONE))
+                                .limit(10)
+                                .build())
+                .orElseThrow();
+
+        assertEquals(2, result.totalMatches());
+        verify(lhTenantClient)
+                .searchUserTaskRun(argThat(request -> !request.hasBookmark()
+                        && request.getEarliestStart().getSeconds() == 300 - Duration.ofMinutes(1).toSeconds()));
+        // The DONE UserTaskRun is only read once, pending ones are read again on every refresh
+        verify(lhTenantClient, times(1)).getUserTaskRun(second.getId());
+        verify(lhTenantClient, atLeast(2)).getUserTaskRun(first.getId());
+    }
+
+    @Test
+    void refreshTenant_shouldDropUserTaskRunsThatNoLongerExist() {
+        UserTaskRun userTaskRun = buildUserTaskRun(UserTaskRunStatus.ASSIGNED, 100);
+
+        when(lhTenantClient.searchUserTaskRun(any(SearchUserTaskRunRequest.class)))
+                .thenReturn(UserTaskRunIdList.newBuilder()
+                        .addResults(userTaskRun.getId())
+                        .build())
+                .thenReturn(UserTaskRunIdList.getDefaultInstance());
+        when(lhTenantClient.getUserTaskRun(userTaskRun.getId()))
+                .thenReturn(userTaskRun)
+                .thenThrow(new StatusRuntimeException(Status.NOT_FOUND));
+
+        readModelService.refreshTenant(tenantId);
+
+        UserTaskRunQueryResult result = readModelService
+                .query(tenantId, UserTaskRunQuery.builder().limit(10).build())
+                .orElseThrow();
+
+        assertEquals(0, result.totalMatches());
+    }
+
+    @Test
+    void refreshTenant_shouldSkipUserTaskRunsDeletedWhileBackfilling() {
+        UserTaskRun deleted = buildUserTaskRun(UserTaskRunStatus.ASSIGNED, 100);
+        UserTaskRun kept = buildUserTaskRun(UserTaskRunStatus.ASSIGNED, 200);
+
+        when(lhTenantClient.searchUserTaskRun(any(SearchUserTaskRunRequest.class)))
+                .thenReturn(UserTaskRunIdList.newBuilder()
+                        .addResults(deleted.getId())
+                        .addResults(kept.getId())
+                        .build());
+        when(lhTenantClient.getUserTaskRun(deleted.getId())).thenThrow(new StatusRuntimeException(Status.NOT_FOUND));
+        when(lhTenantClient.getUserTaskRun(kept.getId())).thenReturn(kept);
+
+        readModelService.refreshTenant(tenantId);
+
+        UserTaskRunQueryResult result = readModelService
+                .query(tenantId, UserTaskRunQuery.builder().limit(10).build())
+                .orElseThrow();
+
+        assertEquals(1, result.totalMatches());
+        assertEquals(kept.getId().getUserTaskGuid(), result.userTaskRuns().getFirst().getId());
+    }
+
+    @Test
+    void onUserTaskRunChanged_shouldApplyTheUserTaskRunReadAgainOnceTheTenantIsServed() {
+        UserTaskRun userTaskRun = buildUserTaskRun(UserTaskRunStatus.ASSIGNED, 100);
+
+        readModelService.onUserTaskRunChanged(tenantId, userTaskRun.getId());
+
+        verify(lhTenantClient, never()).getUserTaskRun(any(UserTaskRunId.class));
+
+        when(lhTenantClient.searchUserTaskRun(any(SearchUserTaskRunRequest.class)))
+                .thenReturn(UserTaskRunIdList.newBuilder()
+                        .addResults(userTaskRun.getId())
+                        .build());
+        when(lhTenantClient.getUserTaskRun(userTaskRun.getId()))
+                .thenReturn(userTaskRun)
+                .thenReturn(userTaskRun.toBuilder()
+                        .setStatus(UserTaskRunStatus.DONE)
+                        .build());
+
+        readModelService.refreshTenant(tenantId);
+        readModelService.onUserTaskRunChanged(tenantId, userTaskRun.getId());
+
+        UserTaskRunQueryResult result = readModelService
+                .query(
+                        tenantId,
+                        UserTaskRunQuery.builder()
+                                .statuses(Set.of(UserTaskStatus.DONE))
+                                .limit(10)
+                                .build())
+                .orElseThrow();
+
+        assertEquals(1, result.totalMatches());
+    }
+
+    @Test
+    void refreshAll_shouldOnlyPollListedTenantsAndTenantsThatWereQueried() {
+        LittleHorseGrpc.LittleHorseBlockingStub listedTenantClient = mock();
+        LittleHorseGrpc.LittleHorseBlockingStub idleTenantClient = mock();
+        UserTaskRunReadModelService service = new UserTaskRunReadModelService(
+                Map.of(tenantId, lhTenantClient, "listed-tenant", listedTenantClient, "idle-tenant", idleTenantClient),
+                true,
+                Duration.ofSeconds(30),
+                2,
+                100,
+                null,
+                Duration.ofMinutes(5),
+                "listed-tenant, unknown-tenant");
+
+        when(lhTenantClient.searchUserTaskRun(any(SearchUserTaskRunRequest.class)))
+                .thenReturn(UserTaskRunIdList.getDefaultInstance());
+        when(listedTenantClient.searchUserTaskRun(any(SearchUserTaskRunRequest.class)))
+                .thenReturn(UserTaskRunIdList.getDefaultInstance());
+
+        service.refreshAll();
+
+        verify(listedTenantClient).searchUserTaskRun(any(SearchUserTaskRunRequest.class));
+        verifyNoInteractions(lhTenantClient, idleTenantClient);
+
+        assertTrue(service.query(tenantId, UserTaskRunQuery.builder().limit(10).build())
+                .isEmpty());
+        service.refreshAll();
+
+        verify(lhTenantClient).searchUserTaskRun(any(SearchUserTaskRunRequest.class));
+        assertTrue(service.query(tenantId, UserTaskRunQuery.builder().limit(10).build())
+                .isPresent());
+        verifyNoInteractions(idleTenantClient);
+    }
+
+    @Test
+    void loadSnapshots_shouldServeTheSnapshotAndOnlyPollFromItsWatermark() {
+        UserTaskRun userTaskRun = buildUserTaskRun(UserTaskRunStatus.DONE, 500);
+        UserTaskRunReadModelService writingService = buildReadModelService(snapshotDirectory.toString());
+
+        when(lhTenantClient.searchUserTaskRun(any(SearchUserTaskRunRequest.class)))
+                .thenReturn(UserTaskRunIdList.newBuilder()
+                        .addResults(userTaskRun.getId())
+                        .build());
+        when(lhTenantClient.getUserTaskRun(userTaskRun.getId())).thenReturn(userTaskRun);
+
+        writingService.refreshTenant(tenantId);
+        writingService.writeSnapshot(tenantId);
+        clearInvocations(lhTenantClient);
+
+        UserTaskRunReadModelService restartedService = buildReadModelService(snapshotDirectory.toString());
+        restartedService.loadSnapshots();
+
+        UserTaskRunQueryResult result = restartedService
+                .query(tenantId, UserTaskRunQuery.builder().limit(10).build())
+                .orElseThrow();
+
+        assertEquals(1, result.totalMatches());
+        verifyNoInteractions(lhTenantClient);
+
+        restartedService.refreshTenant(tenantId);
+
+        verify(lhTenantClient)
+                .searchUserTaskRun(argThat(request ->
+                        request.getEarliestStart().getSeconds() == 500 - Duration.ofMinutes(1).toSeconds()));
+        verify(lhTenantClient, never()).getUserTaskRun(any(UserTaskRunId.class));
+    }
+
+    private UserTaskRunReadModelService buildReadModelService(String snapshotDirectory) {
+        return new UserTaskRunReadModelService(
+                Map.of(tenantId, lhTenantClient),
+                true,
+                Duration.ofSeconds(30),
+                2,
+                100,
+                snapshotDirectory,
+                Duration.ofMinutes(5),
+                "");
+    }
+
+    private static UserTaskRun buildUserTaskRun(UserTaskRunStatus status, long scheduledSeconds) {
+        return UserTaskRun.newBuilder()
+                .setId(UserTaskRunId.newBuilder()
+                        .setWfRunId(WfRunId.newBuilder().setId(UUID.randomUUID().toString()))
+                        .setUserTaskGuid(UUID.randomUUID().toString()))
+                .setUserTaskDefId(UserTaskDefId.newBuilder().setName("approve"))
+                .setUserId("anne")
+                .setStatus(status)
+                .setScheduledTime(Timestamp.newBuilder().setSeconds(scheduledSeconds))
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package io.littlehorse.usertasks.read_model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.protobuf.Timestamp;
+import io.littlehorse.sdk.common.proto.UserTaskDefId;
+import io.littlehorse.sdk.common.proto.UserTaskRun;
+import io.littlehorse.sdk.common.proto.UserTaskRunId;
+import io.littlehorse.sdk.common.proto.UserTaskRunStatus;
+import io.littlehorse.sdk.common.proto.WfRunId;
+import io.littlehorse.usertasks.models.responses.SimpleUserTaskRunDTO;
+import io.littlehorse.usertasks.util.enums.UserTaskStatus;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class UserTaskRunTableSnapshotTest {
+    @TempDir
+    private Path snapshotDirectory;
+
+    @Test
+    void read_shouldRebuildTheTableAndItsIndexesFromWhatWasWritten() throws IOException {
+        UserTaskRunTable table = new UserTaskRunTable();
+        UserTaskRun assigned = buildUserTaskRun("wf-1", "anne", UserTaskRunStatus.ASSIGNED, "call back");
+        UserTaskRun removed = buildUserTaskRun("wf-2", "bob", UserTaskRunStatus.ASSIGNED, "");
+        UserTaskRun unassigned = buildUserTaskRun("wf-3", null, UserTaskRunStatus.UNASSIGNED, "");
+        table.upsert(assigned);
+        table.upsert(removed);
+        table.upsert(unassigned);
+        table.remove("wf-2", removed.getId().getUserTaskGuid());
+        Timestamp watermark = Timestamp.newBuilder().setSeconds(42).setNanos(7).build();
+        Path snapshotPath = snapshotDirectory.resolve("tenant.snapshot");
+
+        UserTaskRunTableSnapshot.write(table, watermark, snapshotPath);
+        Optional<UserTaskRunTableSnapshot.Loaded> snapshot = UserTaskRunTableSnapshot.read(snapshotPath);
+
+        assertTrue(snapshot.isPresent());
+        assertEquals(watermark, snapshot.get().watermark());
+        assertEquals(2, snapshot.get().table().size());
+
+        UserTaskRunQueryResult result = snapshot.get()
+                .table()
+                .query(UserTaskRunQuery.builder()
+                        .userIds(Set.of("anne"))
+                        .statuses(Set.of(UserTaskStatus.ASSIGNED))
+                        .limit(10)
+                        .build());
+        SimpleUserTaskRunDTO found = result.userTaskRuns().getFirst();
+
+        assertEquals(1, result.totalMatches());
+        assertEquals("wf-1", found.getWfRunId());
+        assertEquals("call back", found.getNotes());
+        assertEquals("anne", found.getUser().getId());
+        assertEquals(
+                1,
+                snapshot.get()
+                        .table()
+                        .query(UserTaskRunQuery.builder()
+                                .matchingText("back")
+                                .limit(10)
+                                .build())
+                        .totalMatches());
+    }
+
+    @Test
+    void read_shouldIgnoreSnapshotsOfAnotherFormat() throws IOException {
+        Path snapshotPath = snapshotDirectory.resolve("tenant.snapshot");
+        Files.write(snapshotPath, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertTrue(UserTaskRunTableSnapshot.read(snapshotPath).isEmpty());
+        assertTrue(UserTaskRunTableSnapshot.read(snapshotDirectory.resolve("missing.snapshot")).isEmpty());
+    }
+
+    private static UserTaskRun buildUserTaskRun(String wfRunId, String userId, UserTaskRunStatus status, String notes) {
+        var userTaskRun = UserTaskRun.newBuilder()
+                .setId(UserTaskRunId.newBuilder()
+                        .setWfRunId(WfRunId.newBuilder().setId(wfRunId))
+                        .setUserTaskGuid(wfRunId + "-guid"))
+                .setUserTaskDefId(UserTaskDefId.newBuilder().setName("approve"))
+                .setStatus(status)
+                .setNotes(notes)
+                .setScheduledTime(Timestamp.newBuilder().setSeconds(100));
+
+        if (userId != null) {
+            userTaskRun.setUserId(userId);
+        }
+
+        return userTaskRun.build();
+    }
+}
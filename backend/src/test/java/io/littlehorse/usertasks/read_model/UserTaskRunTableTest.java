@@ -0,0 +1,269 @@
+package io.littlehorse.usertasks.read_model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.protobuf.Timestamp;
+import io.littlehorse.sdk.common.proto.UserTaskDefId;
+import io.littlehorse.sdk.common.proto.UserTaskEvent;
+import io.littlehorse.sdk.common.proto.UserTaskRun;
+import io.littlehorse.sdk.common.proto.UserTaskRunId;
+import io.littlehorse.sdk.common.proto.UserTaskRunStatus;
+import io.littlehorse.sdk.common.proto.WfRunId;
+import io.littlehorse.usertasks.models.responses.SimpleUserTaskRunDTO;
+import io.littlehorse.usertasks.util.enums.UserTaskStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UserTaskRunTableTest {
+    private final UserTaskRunTable table = new UserTaskRunTable();
+
+    @Test
+    void query_shouldCombineFiltersAndSortNewestFirst() {
+        UserTaskRun oldest = buildUserTaskRun("approve", "anne", null, UserTaskRunStatus.ASSIGNED, 100, "urgent");
+        UserTaskRun newest = buildUserTaskRun("approve", "bob", null, UserTaskRunStatus.ASSIGNED, 300, "Urgent call");
+        UserTaskRun otherType = buildUserTaskRun("review", "anne", null, UserTaskRunStatus.ASSIGNED, 200, "urgent");
+        UserTaskRun otherUser = buildUserTaskRun("approve", "carl", null, UserTaskRunStatus.ASSIGNED, 250, "urgent");
+        List.of(oldest, newest, otherType, otherUser).forEach(table::upsert);
+
+        UserTaskRunQueryResult result = table.query(UserTaskRunQuery.builder()
+                .userIds(Set.of("anne", "bob"))
+                .types(Set.of("approve"))
+                .notesContaining("URGENT")
+                .newestFirst(true)
+                .limit(10)
+                .build());
+
+        assertEquals(2, result.totalMatches());
+        assertEquals(
+                List.of(newest.getId().getUserTaskGuid(), oldest.getId().getUserTaskGuid()),
+                result.userTaskRuns().stream().map(SimpleUserTaskRunDTO::getId).toList());
+    }
+
+    @Test
+    void upsert_shouldMoveUpdatedUserTaskRunsBetweenIndexes() {
+        UserTaskRun unassigned = buildUserTaskRun("approve", null, "sales", UserTaskRunStatus.UNASSIGNED, 100, "");
+        table.upsert(unassigned);
+        table.upsert(unassigned.toBuilder()
+                .setUserId("anne")
+                .setStatus(UserTaskRunStatus.DONE)
+                .build());
+
+        UserTaskRunQueryResult unassignedResult = table.query(UserTaskRunQuery.builder()
+                .statuses(Set.of(UserTaskStatus.UNASSIGNED))
+                .limit(10)
+                .build());
+        UserTaskRunQueryResult doneResult = table.query(UserTaskRunQuery.builder()
+                .userIds(Set.of("anne"))
+                .statuses(Set.of(UserTaskStatus.DONE))
+                .limit(10)
+                .build());
+
+        assertEquals(0, unassignedResult.totalMatches());
+        assertEquals(1, doneResult.totalMatches());
+        assertEquals(1, table.size());
+        assertTrue(table.isSettled(unassigned.getId().getWfRunId().getId(), unassigned.getId().getUserTaskGuid()));
+    }
+
+    @Test
+    void remove_shouldHideUserTaskRunsFromQueriesAndScans() {
+        UserTaskRun kept = buildUserTaskRun("approve", "anne", null, UserTaskRunStatus.ASSIGNED, 100, "");
+        UserTaskRun removed = buildUserTaskRun("approve", "anne", null, UserTaskRunStatus.ASSIGNED, 200, "");
+        table.upsert(kept);
+        table.upsert(removed);
+
+        table.remove(removed.getId().getWfRunId().getId(), removed.getId().getUserTaskGuid());
+
+        UserTaskRunQueryResult result = table.query(UserTaskRunQuery.builder().limit(10).build());
+        UserTaskRunTable.PendingScan pendingScan = table.scanPending(0, 10);
+
+        assertEquals(1, result.totalMatches());
+        assertEquals(kept.getId().getUserTaskGuid(), result.userTaskRuns().getFirst().getId());
+        assertEquals(
+                List.of(new UserTaskRunTable.RowKey(kept.getId().getWfRunId().getId(), kept.getId().getUserTaskGuid())),
+                pendingScan.keys());
+        assertEquals(0, pendingScan.nextRow());
+    }
+
+    @Test
+    void query_shouldMatchWordsOfNotesAndLatestCommentsVisibleToTheViewer() {
+        UserTaskRun commented = buildUserTaskRun("approve", "anne", null, UserTaskRunStatus.ASSIGNED, 100, "Invoice")
+                .toBuilder()
+                .addEvents(commentEvent(1, "Customer called about the OVERDUE payment"))
+                .addEvents(commentEvent(2, "wrong task"))
+                .addEvents(UserTaskEvent.newBuilder()
+                        .setCommentDeleted(UserTaskEvent.UTECommentDeleted.newBuilder()
+                                .setUserCommentId(2)
+                                .setUserId("anne")))
+                .build();
+        UserTaskRun ofOtherUser = buildUserTaskRun("approve", "bob", null, UserTaskRunStatus.ASSIGNED, 200, "invoice")
+                .toBuilder()
+                .addEvents(commentEvent(1, "overdue"))
+                .build();
+        UserTaskRun ofGroup = buildUserTaskRun("approve", null, "Sales", UserTaskRunStatus.UNASSIGNED, 300, "")
+                .toBuilder()
+                .addEvents(commentEvent(1, "overdue invoice"))
+                .build();
+        List.of(commented, ofOtherUser, ofGroup).forEach(table::upsert);
+
+        UserTaskRunQueryResult result = table.query(UserTaskRunQuery.builder()
+                .matchingText("invoice, overdue")
+                .visibleTo(new UserTaskRunQuery.Viewer("Anne", Set.of("sales")))
+                .newestFirst(true)
+                .limit(10)
+                .build());
+        UserTaskRunQueryResult deletedCommentResult = table.query(UserTaskRunQuery.builder()
+                .matchingText("wrong")
+                .limit(10)
+                .build());
+
+        assertEquals(
+                List.of(ofGroup.getId().getUserTaskGuid(), commented.getId().getUserTaskGuid()),
+                result.userTaskRuns().stream().map(SimpleUserTaskRunDTO::getId).toList());
+        assertEquals(0, deletedCommentResult.totalMatches());
+    }
+
+    @Test
+    void upsert_shouldKeepOrReplaceTheWordsOfUpdatedUserTaskRuns() {
+        UserTaskRun userTaskRun =
+                buildUserTaskRun("approve", null, "sales", UserTaskRunStatus.UNASSIGNED, 100, "invoice");
+        table.upsert(userTaskRun);
+        table.upsert(userTaskRun.toBuilder()
+                .setUserId("anne")
+                .setStatus(UserTaskRunStatus.ASSIGNED)
+                .build());
+
+        assertEquals(
+                1,
+                table.query(UserTaskRunQuery.builder()
+                                .matchingText("invoice")
+                                .limit(10)
+                                .build())
+                        .totalMatches());
+
+        table.upsert(userTaskRun.toBuilder().setNotes("receipt").build());
+
+        assertEquals(
+                0,
+                table.query(UserTaskRunQuery.builder()
+                                .matchingText("invoice")
+                                .limit(10)
+                                .build())
+                        .totalMatches());
+        assertEquals(
+                1,
+                table.query(UserTaskRunQuery.builder()
+                                .matchingText("receipt")
+                                .limit(10)
+                                .build())
+                        .totalMatches());
+    }
+
+    @Test
+    void counts_shouldGroupLiveUserTaskRunsByStatusTypeAndUserGroup() {
+        UserTaskRun removed = buildUserTaskRun("approve", null, "sales", UserTaskRunStatus.UNASSIGNED, 100, "");
+        table.upsert(buildUserTaskRun("approve", null, "sales", UserTaskRunStatus.UNASSIGNED, 100, ""));
+        table.upsert(buildUserTaskRun("review", "anne", "sales", UserTaskRunStatus.ASSIGNED, 200, ""));
+        table.upsert(buildUserTaskRun("review", "anne", null, UserTaskRunStatus.DONE, 300, ""));
+        table.upsert(removed);
+        table.remove(removed.getId().getWfRunId().getId(), removed.getId().getUserTaskGuid());
+
+        UserTaskRunCounts counts = table.counts();
+
+        assertEquals(3, counts.total());
+        assertEquals(1L, counts.byStatus().get(UserTaskStatus.UNASSIGNED).longValue());
+        assertEquals(0L, counts.byStatus().get(UserTaskStatus.CANCELLED).longValue());
+        assertEquals(Map.of("approve", 1L, "review", 2L), counts.byUserTaskDefName());
+        assertEquals(Map.of("sales", 2L), counts.byUserGroup());
+    }
+
+    @Test
+    void compactIfFragmented_shouldDropTombstonesAndKeepLiveRowsQueryable() {
+        List<UserTaskRun> userTaskRuns = new ArrayList<>();
+
+        for (int i = 0; i < 2048; i++) {
+            UserTaskRun userTaskRun = buildUserTaskRun("approve", null, "sales", UserTaskRunStatus.UNASSIGNED, i, "");
+            userTaskRuns.add(userTaskRun);
+            table.upsert(userTaskRun);
+        }
+
+        assertFalse(table.compactIfFragmented());
+
+        // Every even row is removed, so half of the table is made of tombstones
+        for (int i = 0; i < userTaskRuns.size(); i += 2) {
+            UserTaskRunId id = userTaskRuns.get(i).getId();
+            table.remove(id.getWfRunId().getId(), id.getUserTaskGuid());
+        }
+
+        assertTrue(table.compactIfFragmented());
+
+        UserTaskRun updated = userTaskRuns.get(1).toBuilder()
+                .setUserId("anne")
+                .setStatus(UserTaskRunStatus.ASSIGNED)
+                .build();
+        table.upsert(updated);
+
+        UserTaskRunQueryResult result = table.query(UserTaskRunQuery.builder()
+                .userGroups(Set.of("sales"))
+                .statuses(Set.of(UserTaskStatus.UNASSIGNED))
+                .limit(1)
+                .build());
+
+        assertEquals(1024, table.size());
+        assertEquals(1023, result.totalMatches());
+        assertEquals(userTaskRuns.get(3).getId().getUserTaskGuid(), result.userTaskRuns().getFirst().getId());
+        assertEquals(1024, table.scanPending(0, 2048).keys().size());
+        assertEquals(0, table.scanPending(1024, 2048).keys().size());
+    }
+
+    @Test
+    void query_shouldReturnTheUserGroupAsItsName() {
+        table.upsert(buildUserTaskRun("approve", null, "sales", UserTaskRunStatus.UNASSIGNED, 100, ""));
+
+        SimpleUserTaskRunDTO userTaskRun = table.query(UserTaskRunQuery.builder().limit(10).build())
+                .userTaskRuns()
+                .getFirst();
+
+        assertEquals("sales", userTaskRun.getUserGroup().getName());
+        assertNull(userTaskRun.getUserGroup().getId());
+    }
+
+    private static UserTaskEvent commentEvent(int commentId, String comment) {
+        return UserTaskEvent.newBuilder()
+                .setCommentAdded(UserTaskEvent.UTECommented.newBuilder()
+                        .setUserCommentId(commentId)
+                        .setUserId("anne")
+                        .setComment(comment))
+                .build();
+    }
+
+    private static UserTaskRun buildUserTaskRun(
+            String userTaskDefName,
+            String userId,
+            String userGroup,
+            UserTaskRunStatus status,
+            long scheduledSeconds,
+            String notes) {
+        var userTaskRun = UserTaskRun.newBuilder()
+                .setId(UserTaskRunId.newBuilder()
+                        .setWfRunId(WfRunId.newBuilder().setId(UUID.randomUUID().toString()))
+                        .setUserTaskGuid(UUID.randomUUID().toString()))
+                .setUserTaskDefId(UserTaskDefId.newBuilder().setName(userTaskDefName))
+                .setStatus(status)
+                .setNotes(notes)
+                .setScheduledTime(Timestamp.newBuilder().setSeconds(scheduledSeconds));
+
+        if (userId != null) {
+            userTaskRun.setUserId(userId);
+        }
+
+        if (userGroup != null) {
+            userTaskRun.setUserGroup(userGroup);
+        }
+
+        return userTaskRun.build();
+    }
+}
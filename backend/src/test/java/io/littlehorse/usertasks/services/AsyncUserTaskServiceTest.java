@@ -0,0 +1,617 @@
+package io.littlehorse.usertasks.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.protobuf.Empty;
+import com.google.protobuf.Timestamp;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.littlehorse.sdk.common.proto.*;
+import io.littlehorse.usertasks.exceptions.NotFoundException;
+import io.littlehorse.usertasks.models.common.UserTaskVariableValue;
+import io.littlehorse.usertasks.models.requests.AssignmentRequest;
+import io.littlehorse.usertasks.models.requests.CompleteUserTaskRequest;
+import io.littlehorse.usertasks.models.requests.CompositeBookmark;
+import io.littlehorse.usertasks.models.requests.UserTaskFieldset;
+import io.littlehorse.usertasks.models.requests.UserTaskRequestFilter;
+import io.littlehorse.usertasks.models.requests.comment_requests.PutCommentRequest;
+import io.littlehorse.usertasks.models.responses.DetailedUserTaskRunDTO;
+import io.littlehorse.usertasks.models.responses.SimpleUserTaskRunDTO;
+import io.littlehorse.usertasks.models.responses.UserTaskRunListDTO;
+import io.littlehorse.usertasks.read_model.UserTaskRunReadModelService;
+import io.littlehorse.usertasks.util.enums.UserTaskFieldType;
+import io.littlehorse.usertasks.util.enums.UserTaskStatus;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentMatcher;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class AsyncUserTaskServiceTest {
+    private static final int RESULTS_LIMIT = 10;
+    private final Map<String, LittleHorseGrpc.LittleHorseFutureStub> lhAsyncClients = mock();
+    private final LittleHorseGrpc.LittleHorseFutureStub lhTenantClient = mock();
+    private final UserTaskRunReadModelService userTaskRunReadModelService = mock();
+    private final String tenantId = "my-tenant-id";
+
+    private final AsyncUserTaskService asyncUserTaskService =
+            new AsyncUserTaskService(lhAsyncClients, userTaskRunReadModelService, new CommentProjectionCache(100));
+
+    @BeforeEach
+    void init() {
+        when(lhAsyncClients.get(anyString())).thenReturn(lhTenantClient);
+    }
+
+    @Test
+    void getTasks_shouldThrowSecurityExceptionWhenRequestTenantIsNotFoundWithinTheConfiguration() {
+        when(lhAsyncClients.get(anyString())).thenReturn(null);
+
+        SecurityException exception = assertThrows(
+                SecurityException.class,
+                () -> asyncUserTaskService.getTasks(tenantId, "my-user-id", null, null, RESULTS_LIMIT, null, false));
+
+        assertEquals("Could not find a matching configured tenant", exception.getMessage());
+    }
+
+    @Test
+    void getTasks_shouldHydrateEverySearchResult() {
+        var userId = "my-user-id";
+        UserTaskRun firstUserTaskRun = buildFakeUserTaskRun(userId, UserTaskRunStatus.ASSIGNED);
+        UserTaskRun secondUserTaskRun = buildFakeUserTaskRun(userId, UserTaskRunStatus.ASSIGNED);
+        UserTaskRunIdList searchResults = UserTaskRunIdList.newBuilder()
+                .addResults(firstUserTaskRun.getId())
+                .addResults(secondUserTaskRun.getId())
+                .build();
+
+        when(lhTenantClient.searchUserTaskRun(any(SearchUserTaskRunRequest.class)))
+                .thenReturn(Futures.immediateFuture(searchResults));
+        when(lhTenantClient.getUserTaskRun(firstUserTaskRun.getId()))
+                .thenReturn(Futures.immediateFuture(firstUserTaskRun));
+        when(lhTenantClient.getUserTaskRun(secondUserTaskRun.getId()))
+                .thenReturn(Futures.immediateFuture(secondUserTaskRun));
+
+        UserTaskRunListDTO result = asyncUserTaskService
+                .getTasks(tenantId, userId, null, null, RESULTS_LIMIT, null, false)
+                .join();
+
+        assertEquals(2, result.getUserTasks().size());
+        assertNull(result.getBookmark());
+        verify(lhTenantClient, times(2)).getUserTaskRun(any(UserTaskRunId.class));
+    }
+
+    @Test
+    void getInbox_shouldMergeSourcesByScheduledTimeWithoutDuplicates() {
+        var userId = "my-user-id";
+        UserTaskRun firstUserTaskRun = scheduledAt(buildFakeUserTaskRun(userId, UserTaskRunStatus.ASSIGNED), 100);
+        UserTaskRun secondUserTaskRun = scheduledAt(buildFakeUserTaskRun("", UserTaskRunStatus.UNASSIGNED), 200);
+        UserTaskRun thirdUserTaskRun = scheduledAt(buildFakeUserTaskRun(userId, UserTaskRunStatus.ASSIGNED), 300);
+
+        mockSearchResults(SearchUserTaskRunRequest::hasUserId, firstUserTaskRun, thirdUserTaskRun);
+        mockSearchResults(SearchUserTaskRunRequest::hasUserGroup, secondUserTaskRun, thirdUserTaskRun);
+
+        UserTaskRunListDTO result = asyncUserTaskService
+                .getInbox(tenantId, userId, Set.of("sales"), new UserTaskRequestFilter(), RESULTS_LIMIT, null)
+                .join();
+
+        assertEquals(
+                List.of(
+                        firstUserTaskRun.getId().getUserTaskGuid(),
+                        secondUserTaskRun.getId().getUserTaskGuid(),
+                        thirdUserTaskRun.getId().getUserTaskGuid()),
+                result.getUserTasks().stream().map(SimpleUserTaskRunDTO::getId).toList());
+        assertNull(result.getBookmark());
+        verify(lhTenantClient)
+                .searchUserTaskRun(argThat(request -> request.hasUserGroup()
+                        && !request.hasUserId()
+                        && request.getStatus() == UserTaskRunStatus.UNASSIGNED));
+        verify(lhTenantClient)
+                .searchUserTaskRun(argThat(request -> request.hasUserId()
+                        && !request.hasUserGroup()
+                        && request.getStatus() == UserTaskRunStatus.ASSIGNED));
+    }
+
+    @Test
+    void getInbox_shouldResumeEverySourceFromTheReturnedBookmark() {
+        var userId = "my-user-id";
+        UserTaskRun firstUserTaskRun = scheduledAt(buildFakeUserTaskRun(userId, UserTaskRunStatus.ASSIGNED), 100);
+        UserTaskRun secondUserTaskRun = scheduledAt(buildFakeUserTaskRun("", UserTaskRunStatus.UNASSIGNED), 200);
+        UserTaskRun thirdUserTaskRun = scheduledAt(buildFakeUserTaskRun(userId, UserTaskRunStatus.ASSIGNED), 300);
+
+        mockSearchResults(SearchUserTaskRunRequest::hasUserId, firstUserTaskRun, thirdUserTaskRun);
+        mockSearchResults(SearchUserTaskRunRequest::hasUserGroup, secondUserTaskRun);
+
+        UserTaskRunListDTO firstPage = asyncUserTaskService
+                .getInbox(tenantId, userId, Set.of("sales"), new UserTaskRequestFilter(), 2, null)
+                .join();
+        UserTaskRunListDTO secondPage = asyncUserTaskService
+                .getInbox(tenantId, userId, Set.of("sales"), new UserTaskRequestFilter(), 2, firstPage.getBookmark())
+                .join();
+
+        assertEquals(2, firstPage.getUserTasks().size());
+        assertNotNull(firstPage.getBookmark());
+        assertEquals(
+                List.of(thirdUserTaskRun.getId().getUserTaskGuid()),
+                secondPage.getUserTasks().stream().map(SimpleUserTaskRunDTO::getId).toList());
+        assertNull(secondPage.getBookmark());
+        verify(lhTenantClient, times(1)).searchUserTaskRun(argThat(SearchUserTaskRunRequest::hasUserId));
+        verify(lhTenantClient, times(1)).searchUserTaskRun(argThat(SearchUserTaskRunRequest::hasUserGroup));
+    }
+
+    @Test
+    void getInbox_shouldDropPendingUserTaskRunsThatWereClaimedWithoutSkippingOthers() {
+        var userId = "my-user-id";
+        UserTaskRun firstUserTaskRun = scheduledAt(buildFakeUserTaskRun("", UserTaskRunStatus.UNASSIGNED), 100);
+        UserTaskRun secondUserTaskRun = scheduledAt(buildFakeUserTaskRun("", UserTaskRunStatus.UNASSIGNED), 200);
+        UserTaskRun thirdUserTaskRun = scheduledAt(buildFakeUserTaskRun("", UserTaskRunStatus.UNASSIGNED), 300);
+
+        mockSearchResults(SearchUserTaskRunRequest::hasUserId);
+        mockSearchResults(
+                SearchUserTaskRunRequest::hasUserGroup, firstUserTaskRun, secondUserTaskRun, thirdUserTaskRun);
+
+        UserTaskRunListDTO firstPage = asyncUserTaskService
+                .getInbox(tenantId, userId, Set.of("sales"), new UserTaskRequestFilter(), 1, null)
+                .join();
+
+        // Someone claims the second UserTaskRun before the next page is requested
+        when(lhTenantClient.getUserTaskRun(secondUserTaskRun.getId()))
+                .thenReturn(Futures.immediateFuture(secondUserTaskRun.toBuilder()
+                        .setUserId("someone-else")
+                        .setStatus(UserTaskRunStatus.ASSIGNED)
+                        .build()));
+
+        UserTaskRunListDTO secondPage = asyncUserTaskService
+                .getInbox(tenantId, userId, Set.of("sales"), new UserTaskRequestFilter(), 1, firstPage.getBookmark())
+                .join();
+
+        assertEquals(
+                List.of(firstUserTaskRun.getId().getUserTaskGuid()),
+                firstPage.getUserTasks().stream().map(SimpleUserTaskRunDTO::getId).toList());
+        assertEquals(
+                List.of(thirdUserTaskRun.getId().getUserTaskGuid()),
+                secondPage.getUserTasks().stream().map(SimpleUserTaskRunDTO::getId).toList());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void getInbox_shouldRejectNonPositiveLimits(int limit) {
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> asyncUserTaskService.getInbox(
+                        tenantId, "my-user-id", null, new UserTaskRequestFilter(), limit, null));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(lhTenantClient);
+    }
+
+    @Test
+    void getInbox_shouldRejectBookmarksThatWereNotIssuedByTheInbox() {
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> asyncUserTaskService.getInbox(
+                        tenantId, "my-user-id", null, new UserTaskRequestFilter(), RESULTS_LIMIT, "not-a-bookmark"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
+    @Test
+    void getInbox_shouldRejectBookmarksWithMorePendingUserTaskRunsThanTheLimit() {
+        List<byte[]> pendingIds = new ArrayList<>();
+
+        for (int i = 0; i <= RESULTS_LIMIT; i++) {
+            pendingIds.add(buildFakeUserTaskRun("my-user-id", UserTaskRunStatus.ASSIGNED)
+                    .getId()
+                    .toByteArray());
+        }
+
+        var position = new CompositeBookmark.SourcePosition(null, pendingIds, true);
+        String bookmark = new CompositeBookmark(Map.of("user", position)).encode();
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> asyncUserTaskService.getInbox(
+                        tenantId, "my-user-id", null, new UserTaskRequestFilter(), RESULTS_LIMIT, bookmark));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(lhTenantClient);
+    }
+
+    @Test
+    void getTasksMatchingAny_shouldRunOneSearchPerStatusAndTypeCombination() {
+        var userId = "my-user-id";
+        UserTaskRun assignedUserTaskRun = scheduledAt(buildFakeUserTaskRun(userId, UserTaskRunStatus.ASSIGNED), 200);
+        UserTaskRun doneUserTaskRun = scheduledAt(buildFakeUserTaskRun(userId, UserTaskRunStatus.DONE), 100);
+
+        when(lhTenantClient.searchUserTaskRun(any(SearchUserTaskRunRequest.class)))
+                .thenReturn(Futures.immediateFuture(UserTaskRunIdList.getDefaultInstance()));
+        mockSearchResults(
+                request -> request.getStatus() == UserTaskRunStatus.ASSIGNED
+                        && request.getUserTaskDefName().equals("approve"),
+                assignedUserTaskRun);
+        mockSearchResults(
+                request -> request.getStatus() == UserTaskRunStatus.DONE
+                        && request.getUserTaskDefName().equals("review"),
+                doneUserTaskRun);
+
+        UserTaskRunListDTO result = asyncUserTaskService
+                .getTasksMatchingAny(
+                        tenantId,
+                        userId,
+                        null,
+                        new UserTaskRequestFilter(),
+                        List.of(UserTaskStatus.ASSIGNED, UserTaskStatus.DONE),
+                        List.of("approve", "review"),
+                        RESULTS_LIMIT,
+                        null,
+                        false,
+                        UserTaskFieldset.ALL)
+                .join();
+
+        assertEquals(
+                List.of(
+                        doneUserTaskRun.getId().getUserTaskGuid(),
+                        assignedUserTaskRun.getId().getUserTaskGuid()),
+                result.getUserTasks().stream().map(SimpleUserTaskRunDTO::getId).toList());
+        assertNull(result.getBookmark());
+        verify(lhTenantClient, times(4)).searchUserTaskRun(any(SearchUserTaskRunRequest.class));
+    }
+
+    @Test
+    void getTasksMatchingAny_shouldRejectTooManyCombinations() {
+        List<String> types = new ArrayList<>();
+
+        for (int i = 0; i < 11; i++) {
+            types.add("type-" + i);
+        }
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> asyncUserTaskService.getTasksMatchingAny(
+                        tenantId,
+                        "my-user-id",
+                        null,
+                        new UserTaskRequestFilter(),
+                        List.of(UserTaskStatus.ASSIGNED, UserTaskStatus.DONE),
+                        types,
+                        RESULTS_LIMIT,
+                        null,
+                        false,
+                        UserTaskFieldset.ALL));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(lhTenantClient);
+    }
+
+    @Test
+    void getUserTaskDetails_shouldReturnEventsOnlyForAdminRequests() {
+        var userId = "my-user-id";
+        UserTaskRun userTaskRun = buildFakeUserTaskRun(userId, UserTaskRunStatus.ASSIGNED);
+        UserTaskDef userTaskDef = UserTaskDef.newBuilder()
+                .setName(userTaskRun.getUserTaskDefId().getName())
+                .build();
+
+        when(lhTenantClient.getUserTaskRun(any(UserTaskRunId.class))).thenReturn(Futures.immediateFuture(userTaskRun));
+        when(lhTenantClient.getUserTaskDef(any(UserTaskDefId.class))).thenReturn(Futures.immediateFuture(userTaskDef));
+
+        Optional<DetailedUserTaskRunDTO> adminResult = asyncUserTaskService
+                .getUserTaskDetails(
+                        userTaskRun.getId().getWfRunId().getId(),
+                        userTaskRun.getId().getUserTaskGuid(),
+                        tenantId,
+                        null,
+                        null,
+                        true)
+                .join();
+        Optional<DetailedUserTaskRunDTO> userResult = asyncUserTaskService
+                .getUserTaskDetails(
+                        userTaskRun.getId().getWfRunId().getId(),
+                        userTaskRun.getId().getUserTaskGuid(),
+                        tenantId,
+                        userId,
+                        null,
+                        false)
+                .join();
+
+        assertTrue(adminResult.isPresent());
+        assertNotNull(adminResult.get().getEvents());
+        assertTrue(userResult.isPresent());
+        assertNull(userResult.get().getEvents());
+    }
+
+    @Test
+    void getUserTaskDetails_shouldOnlyFetchTheUserTaskDefWhenItsFieldsAreRequested() {
+        var userId = "my-user-id";
+        UserTaskRun userTaskRun = buildFakeUserTaskRun(userId, UserTaskRunStatus.ASSIGNED);
+
+        when(lhTenantClient.getUserTaskRun(any(UserTaskRunId.class))).thenReturn(Futures.immediateFuture(userTaskRun));
+
+        Optional<DetailedUserTaskRunDTO> result = asyncUserTaskService
+                .getUserTaskDetails(
+                        userTaskRun.getId().getWfRunId().getId(),
+                        userTaskRun.getId().getUserTaskGuid(),
+                        tenantId,
+                        userId,
+                        null,
+                        false,
+                        UserTaskFieldset.parse(List.of("status"), UserTaskFieldset.DETAIL_PROPERTIES))
+                .join();
+
+        assertTrue(result.isPresent());
+        assertEquals(UserTaskStatus.ASSIGNED, result.get().getStatus());
+        verify(lhTenantClient, never()).getUserTaskDef(any(UserTaskDefId.class));
+    }
+
+    @Test
+    void getUserTaskDetails_shouldMapNotFoundFromKernelToNotFoundException() {
+        when(lhTenantClient.getUserTaskRun(any(UserTaskRunId.class)))
+                .thenReturn(Futures.immediateFailedFuture(new StatusRuntimeException(Status.NOT_FOUND)));
+
+        CompletableFuture<Optional<DetailedUserTaskRunDTO>> details = asyncUserTaskService.getUserTaskDetails(
+                "some-wf-run-id", "some-guid", tenantId, "my-user-id", null, false);
+
+        assertFailsWith(NotFoundException.class, details);
+    }
+
+    @Test
+    void getTasks_shouldMapInvalidArgumentFromKernelToBadRequest() {
+        when(lhTenantClient.searchUserTaskRun(any(SearchUserTaskRunRequest.class)))
+                .thenReturn(Futures.immediateFailedFuture(new StatusRuntimeException(Status.INVALID_ARGUMENT)));
+
+        CompletableFuture<UserTaskRunListDTO> userTasks =
+                asyncUserTaskService.getTasks(tenantId, "my-user-id", null, null, RESULTS_LIMIT, null, false);
+
+        ResponseStatusException exception = assertFailsWith(ResponseStatusException.class, userTasks);
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
+    @Test
+    void completeUserTask_shouldMapInvalidArgumentFromKernelToBadRequest() {
+        var userId = "my-user-id";
+        UserTaskRun userTaskRun = buildFakeUserTaskRun(userId, UserTaskRunStatus.ASSIGNED);
+        UserTaskDef userTaskDef = UserTaskDef.newBuilder()
+                .setName(userTaskRun.getUserTaskDefId().getName())
+                .build();
+        var request = CompleteUserTaskRequest.builder()
+                .wfRunId(userTaskRun.getId().getWfRunId().getId())
+                .userTaskRunGuid(userTaskRun.getId().getUserTaskGuid())
+                .results(Map.of(
+                        "string-field",
+                        UserTaskVariableValue.builder()
+                                .value("some-value")
+                                .type(UserTaskFieldType.STRING)
+                                .build()))
+                .build();
+
+        when(lhTenantClient.getUserTaskRun(any(UserTaskRunId.class))).thenReturn(Futures.immediateFuture(userTaskRun));
+        when(lhTenantClient.getUserTaskDef(any(UserTaskDefId.class))).thenReturn(Futures.immediateFuture(userTaskDef));
+        when(lhTenantClient.completeUserTaskRun(any(CompleteUserTaskRunRequest.class)))
+                .thenReturn(Futures.immediateFailedFuture(new StatusRuntimeException(Status.INVALID_ARGUMENT)));
+
+        CompletableFuture<Void> completion = asyncUserTaskService.completeUserTask(userId, request, tenantId, false);
+
+        ResponseStatusException exception = assertFailsWith(ResponseStatusException.class, completion);
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
+    @Test
+    void completeUserTask_shouldNotCallKernelCompletionWhenUserTaskIsAlreadyDone() {
+        var userId = "my-user-id";
+        UserTaskRun userTaskRun = buildFakeUserTaskRun(userId, UserTaskRunStatus.DONE);
+        var request = CompleteUserTaskRequest.builder()
+                .wfRunId(userTaskRun.getId().getWfRunId().getId())
+                .userTaskRunGuid(userTaskRun.getId().getUserTaskGuid())
+                .results(Map.of())
+                .build();
+
+        when(lhTenantClient.getUserTaskRun(any(UserTaskRunId.class))).thenReturn(Futures.immediateFuture(userTaskRun));
+
+        CompletableFuture<Void> completion = asyncUserTaskService.completeUserTask(userId, request, tenantId, false);
+
+        ResponseStatusException exception = assertFailsWith(ResponseStatusException.class, completion);
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+        verify(lhTenantClient, never()).completeUserTaskRun(any(CompleteUserTaskRunRequest.class));
+    }
+
+    @Test
+    void assignUserTask_shouldThrowBadRequestWhenNoUserIdNorUserGroupAreReceived() {
+        var request = AssignmentRequest.builder().build();
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> asyncUserTaskService.assignUserTask(request, "some-wf-run-id", "some-guid", tenantId));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verify(lhTenantClient, never()).assignUserTaskRun(any(AssignUserTaskRunRequest.class));
+    }
+
+    @Test
+    void assignUserTask_shouldMapFailedPreconditionFromKernelToPreconditionFailed() {
+        var request = AssignmentRequest.builder().userId("some-user").build();
+
+        when(lhTenantClient.assignUserTaskRun(any(AssignUserTaskRunRequest.class)))
+                .thenReturn(Futures.immediateFailedFuture(new StatusRuntimeException(Status.FAILED_PRECONDITION)));
+
+        CompletableFuture<Void> assignment =
+                asyncUserTaskService.assignUserTask(request, "some-wf-run-id", "some-guid", tenantId);
+
+        ResponseStatusException exception = assertFailsWith(ResponseStatusException.class, assignment);
+        assertEquals(HttpStatus.PRECONDITION_FAILED, exception.getStatusCode());
+    }
+
+    @Test
+    void cancelUserTask_shouldCancelUserTaskWhenItIsNotTerminated() {
+        UserTaskRun userTaskRun = buildFakeUserTaskRun("some-user", UserTaskRunStatus.ASSIGNED);
+
+        when(lhTenantClient.getUserTaskRun(any(UserTaskRunId.class))).thenReturn(Futures.immediateFuture(userTaskRun));
+        when(lhTenantClient.cancelUserTaskRun(any(CancelUserTaskRunRequest.class)))
+                .thenReturn(Futures.immediateFuture(Empty.getDefaultInstance()));
+
+        asyncUserTaskService
+                .cancelUserTask(
+                        userTaskRun.getId().getWfRunId().getId(),
+                        userTaskRun.getId().getUserTaskGuid(),
+                        tenantId)
+                .join();
+
+        verify(lhTenantClient).cancelUserTaskRun(CancelUserTaskRunRequest.newBuilder()
+                .setUserTaskRunId(userTaskRun.getId())
+                .build());
+    }
+
+    @Test
+    void cancelUserTask_shouldApplyTheCancelledUserTaskRunToTheReadModel() {
+        UserTaskRun userTaskRun = buildFakeUserTaskRun("some-user", UserTaskRunStatus.ASSIGNED);
+        UserTaskRun cancelledUserTaskRun =
+                userTaskRun.toBuilder().setStatus(UserTaskRunStatus.CANCELLED).build();
+
+        when(userTaskRunReadModelService.isServing(tenantId)).thenReturn(true);
+        when(lhTenantClient.getUserTaskRun(any(UserTaskRunId.class)))
+                .thenReturn(Futures.immediateFuture(userTaskRun))
+                .thenReturn(Futures.immediateFuture(cancelledUserTaskRun));
+        when(lhTenantClient.cancelUserTaskRun(any(CancelUserTaskRunRequest.class)))
+                .thenReturn(Futures.immediateFuture(Empty.getDefaultInstance()));
+
+        asyncUserTaskService
+                .cancelUserTask(
+                        userTaskRun.getId().getWfRunId().getId(),
+                        userTaskRun.getId().getUserTaskGuid(),
+                        tenantId)
+                .join();
+
+        verify(userTaskRunReadModelService).onUserTaskRunUpdated(tenantId, cancelledUserTaskRun);
+    }
+
+    @Test
+    void claimUserTask_shouldThrowConflictWhenUserTaskIsNotClaimableByNonAdminUser() {
+        UserTaskRun userTaskRun = buildFakeUserTaskRun("some-user", UserTaskRunStatus.ASSIGNED);
+
+        when(lhTenantClient.getUserTaskRun(any(UserTaskRunId.class))).thenReturn(Futures.immediateFuture(userTaskRun));
+
+        CompletableFuture<Void> claim = asyncUserTaskService.claimUserTask(
+                "another-user",
+                Set.of("some-group"),
+                userTaskRun.getId().getWfRunId().getId(),
+                userTaskRun.getId().getUserTaskGuid(),
+                tenantId,
+                false);
+
+        ResponseStatusException exception = assertFailsWith(ResponseStatusException.class, claim);
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+        verify(lhTenantClient, never()).assignUserTaskRun(any(AssignUserTaskRunRequest.class));
+    }
+
+    @Test
+    void claimUserTask_shouldMapNotFoundFromKernelToNotFoundException() {
+        when(lhTenantClient.getUserTaskRun(any(UserTaskRunId.class)))
+                .thenReturn(Futures.immediateFailedFuture(new StatusRuntimeException(Status.NOT_FOUND)));
+
+        CompletableFuture<Void> claim =
+                asyncUserTaskService.claimUserTask("some-user", null, "some-wf-run-id", "some-guid", tenantId, true);
+
+        assertFailsWith(NotFoundException.class, claim);
+    }
+
+    @Test
+    void claimUserTask_shouldOverrideClaimWhenRequestedByAdmin() {
+        UserTaskRun userTaskRun = buildFakeUserTaskRun("some-user", UserTaskRunStatus.ASSIGNED);
+
+        when(lhTenantClient.getUserTaskRun(any(UserTaskRunId.class))).thenReturn(Futures.immediateFuture(userTaskRun));
+        when(lhTenantClient.assignUserTaskRun(any(AssignUserTaskRunRequest.class)))
+                .thenReturn(Futures.immediateFuture(Empty.getDefaultInstance()));
+
+        asyncUserTaskService
+                .claimUserTask(
+                        "admin-user",
+                        null,
+                        userTaskRun.getId().getWfRunId().getId(),
+                        userTaskRun.getId().getUserTaskGuid(),
+                        tenantId,
+                        true)
+                .join();
+
+        verify(lhTenantClient)
+                .assignUserTaskRun(AssignUserTaskRunRequest.newBuilder()
+                        .setUserId("admin-user")
+                        .setUserTaskRunId(userTaskRun.getId())
+                        .setOverrideClaim(true)
+                        .build());
+    }
+
+    @Test
+    void comment_shouldApplyTheCommentedUserTaskRunToTheReadModel() {
+        UserTaskRun commentedUserTaskRun = buildFakeUserTaskRun("some-user", UserTaskRunStatus.ASSIGNED).toBuilder()
+                .addEvents(UserTaskEvent.newBuilder()
+                        .setCommentAdded(UserTaskEvent.UTECommented.newBuilder()
+                                .setUserCommentId(1)
+                                .setUserId("some-user")
+                                .setComment("a comment")))
+                .build();
+        PutCommentRequest request = PutCommentRequest.builder()
+                .wfRunId(commentedUserTaskRun.getId().getWfRunId().getId())
+                .userTaskRunGuid(commentedUserTaskRun.getId().getUserTaskGuid())
+                .comment("a comment")
+                .build();
+
+        when(lhTenantClient.putUserTaskRunComment(any(PutUserTaskRunCommentRequest.class)))
+                .thenReturn(Futures.immediateFuture(commentedUserTaskRun));
+
+        asyncUserTaskService.comment(request, "some-user", tenantId).join();
+
+        verify(userTaskRunReadModelService).onUserTaskRunUpdated(tenantId, commentedUserTaskRun);
+    }
+
+    private static <T extends Throwable> T assertFailsWith(Class<T> expectedType, CompletableFuture<?> future) {
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+
+        return assertInstanceOf(expectedType, exception.getCause());
+    }
+
+    private void mockSearchResults(
+            ArgumentMatcher<SearchUserTaskRunRequest> sourceMatcher, UserTaskRun... userTaskRuns) {
+        var searchResults = UserTaskRunIdList.newBuilder();
+
+        for (UserTaskRun userTaskRun : userTaskRuns) {
+            searchResults.addResults(userTaskRun.getId());
+            when(lhTenantClient.getUserTaskRun(userTaskRun.getId()))
+                    .thenReturn(Futures.immediateFuture(userTaskRun));
+        }
+
+        when(lhTenantClient.searchUserTaskRun(argThat(request -> request != null && sourceMatcher.matches(request))))
+                .thenReturn(Futures.immediateFuture(searchResults.build()));
+    }
+
+    private static UserTaskRun scheduledAt(UserTaskRun userTaskRun, long epochSeconds) {
+        return userTaskRun.toBuilder()
+                .setScheduledTime(Timestamp.newBuilder().setSeconds(epochSeconds).build())
+                .build();
+    }
+
+    private UserTaskRun buildFakeUserTaskRun(String userId, UserTaskRunStatus status) {
+        return UserTaskRun.newBuilder()
+                .setId(UserTaskRunId.newBuilder()
+                        .setUserTaskGuid(UUID.randomUUID().toString())
+                        .setWfRunId(WfRunId.newBuilder()
+                                .setId(UUID.randomUUID().toString())
+                                .build())
+                        .build())
+                .setUserTaskDefId(UserTaskDefId.newBuilder()
+                        .setName(UUID.randomUUID().toString())
+                        .build())
+                .setUserId(userId)
+                .setStatus(status)
+                .setScheduledTime(Timestamp.newBuilder()
+                        .setSeconds(Instant.now().getEpochSecond())
+                        .build())
+                .build();
+    }
+}
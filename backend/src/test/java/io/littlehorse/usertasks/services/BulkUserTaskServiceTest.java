@@ -0,0 +1,194 @@
+package io.littlehorse.usertasks.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.littlehorse.sdk.common.proto.UserTaskDef;
+import io.littlehorse.usertasks.exceptions.NotFoundException;
+import io.littlehorse.usertasks.models.common.UserTaskVariableValue;
+import io.littlehorse.usertasks.models.requests.AssignmentRequest;
+import io.littlehorse.usertasks.models.requests.CompleteUserTaskRequest;
+import io.littlehorse.usertasks.models.requests.bulk_requests.BulkCompleteUserTaskRequest;
+import io.littlehorse.usertasks.models.requests.bulk_requests.UserTaskRunReference;
+import io.littlehorse.usertasks.models.responses.BulkOperationItemResultDTO;
+import io.littlehorse.usertasks.models.responses.BulkOperationResultDTO;
+import io.littlehorse.usertasks.util.enums.UserTaskFieldType;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class BulkUserTaskServiceTest {
+    private static final int MAX_PARALLELISM = 2;
+    private static final int MAX_ITEMS = 5;
+    private final AsyncUserTaskService asyncUserTaskService = mock();
+    private final String tenantId = "my-tenant-id";
+
+    private final BulkUserTaskService bulkUserTaskService =
+            new BulkUserTaskService(asyncUserTaskService, MAX_PARALLELISM, MAX_ITEMS);
+
+    @Test
+    void cancelUserTasks_shouldThrowBadRequestWhenNoUserTasksAreReceived() {
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class, () -> bulkUserTaskService.cancelUserTasks(List.of(), tenantId));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(asyncUserTaskService);
+    }
+
+    @Test
+    void cancelUserTasks_shouldThrowBadRequestWhenTooManyUserTasksAreReceived() {
+        List<UserTaskRunReference> userTasks = buildUserTaskReferences(MAX_ITEMS + 1);
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class, () -> bulkUserTaskService.cancelUserTasks(userTasks, tenantId));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(asyncUserTaskService);
+    }
+
+    @Test
+    void cancelUserTasks_shouldOperateOnlyOnceOnDuplicatedUserTasks() {
+        UserTaskRunReference userTask = buildUserTaskReference();
+
+        when(asyncUserTaskService.cancelUserTask(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        BulkOperationResultDTO result =
+                bulkUserTaskService.cancelUserTasks(List.of(userTask, userTask, userTask), tenantId);
+
+        assertEquals(1, result.getResults().size());
+        assertEquals(1, result.getSucceeded());
+        verify(asyncUserTaskService).cancelUserTask(userTask.getWfRunId(), userTask.getUserTaskRunGuid(), tenantId);
+    }
+
+    @Test
+    void assignUserTasks_shouldReportPerItemResultsInReceivedOrder() {
+        List<UserTaskRunReference> userTasks = buildUserTaskReferences(3);
+        var assignment = AssignmentRequest.builder().userId("some-user").build();
+
+        when(asyncUserTaskService.assignUserTask(eq(assignment), anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(asyncUserTaskService.assignUserTask(
+                        assignment, userTasks.get(1).getWfRunId(), userTasks.get(1).getUserTaskRunGuid(), tenantId))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Kernel precondition")));
+
+        BulkOperationResultDTO result = bulkUserTaskService.assignUserTasks(userTasks, assignment, tenantId);
+
+        assertEquals(2, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+
+        List<BulkOperationItemResultDTO> results = result.getResults();
+        assertEquals(userTasks.get(0).getWfRunId(), results.get(0).getWfRunId());
+        assertTrue(results.get(0).isSucceeded());
+
+        assertEquals(userTasks.get(1).getWfRunId(), results.get(1).getWfRunId());
+        assertFalse(results.get(1).isSucceeded());
+        assertEquals(HttpStatus.PRECONDITION_FAILED.value(), results.get(1).getStatus());
+        assertEquals("Kernel precondition", results.get(1).getMessage());
+
+        assertTrue(results.get(2).isSucceeded());
+    }
+
+    @Test
+    void claimUserTasksAsAdmin_shouldReportFailuresThrownBeforeTheKernelIsCalled() {
+        UserTaskRunReference userTask = buildUserTaskReference();
+
+        when(asyncUserTaskService.claimUserTask(
+                        anyString(), any(), anyString(), anyString(), anyString(), anyBoolean()))
+                .thenThrow(new NotFoundException("Could not find UserTaskRun!"));
+
+        BulkOperationResultDTO result =
+                bulkUserTaskService.claimUserTasksAsAdmin("admin-user", List.of(userTask), tenantId);
+
+        assertEquals(0, result.getSucceeded());
+        assertEquals(HttpStatus.NOT_FOUND.value(), result.getResults().getFirst().getStatus());
+        verify(asyncUserTaskService)
+                .claimUserTask(
+                        "admin-user", null, userTask.getWfRunId(), userTask.getUserTaskRunGuid(), tenantId, true);
+    }
+
+    @Test
+    void cancelUserTasks_shouldNeverExceedTheConfiguredParallelism() {
+        List<UserTaskRunReference> userTasks = buildUserTaskReferences(MAX_ITEMS);
+        List<CompletableFuture<Void>> dispatched = new CopyOnWriteArrayList<>();
+        AtomicInteger maxObservedInFlight = new AtomicInteger();
+
+        when(asyncUserTaskService.cancelUserTask(anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    CompletableFuture<Void> pending = new CompletableFuture<>();
+                    dispatched.add(pending);
+
+                    int inFlight = (int) dispatched.stream()
+                            .filter(future -> !future.isDone())
+                            .count();
+                    maxObservedInFlight.accumulateAndGet(inFlight, Math::max);
+
+                    CompletableFuture.delayedExecutor(20, TimeUnit.MILLISECONDS)
+                            .execute(() -> pending.complete(null));
+
+                    return pending;
+                });
+
+        BulkOperationResultDTO result = bulkUserTaskService.cancelUserTasks(userTasks, tenantId);
+
+        assertEquals(MAX_ITEMS, result.getSucceeded());
+        assertEquals(MAX_ITEMS, dispatched.size());
+        assertTrue(maxObservedInFlight.get() <= MAX_PARALLELISM);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void completeUserTasks_shouldFetchEachUserTaskDefOnlyOnce() {
+        List<UserTaskRunReference> userTasks = buildUserTaskReferences(3);
+        var request = BulkCompleteUserTaskRequest.builder()
+                .userTasks(userTasks)
+                .results(Map.of(
+                        "approved",
+                        UserTaskVariableValue.builder()
+                                .value(true)
+                                .type(UserTaskFieldType.BOOLEAN)
+                                .build()))
+                .build();
+        UserTaskDef userTaskDef = UserTaskDef.newBuilder().setName("approve-invoice").build();
+
+        when(asyncUserTaskService.getLatestUserTaskDef(tenantId, "approve-invoice"))
+                .thenReturn(CompletableFuture.completedFuture(userTaskDef));
+        when(asyncUserTaskService.completeUserTask(
+                        eq("some-user"), any(CompleteUserTaskRequest.class), eq(tenantId), eq(false), any()))
+                .thenAnswer(invocation -> {
+                    Function<String, CompletableFuture<UserTaskDef>> userTaskDefLoader = invocation.getArgument(4);
+
+                    return userTaskDefLoader.apply("approve-invoice").thenAccept(ignored -> {});
+                });
+
+        BulkOperationResultDTO result = bulkUserTaskService.completeUserTasks("some-user", request, tenantId, false);
+
+        assertEquals(3, result.getSucceeded());
+        verify(asyncUserTaskService).getLatestUserTaskDef(tenantId, "approve-invoice");
+    }
+
+    private List<UserTaskRunReference> buildUserTaskReferences(int amount) {
+        return IntStream.range(0, amount).mapToObj(i -> buildUserTaskReference()).toList();
+    }
+
+    private UserTaskRunReference buildUserTaskReference() {
+        return UserTaskRunReference.builder()
+                .wfRunId(UUID.randomUUID().toString())
+                .userTaskRunGuid(UUID.randomUUID().toString())
+                .build();
+    }
+}
@@ -0,0 +1,231 @@
+package io.littlehorse.usertasks.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.google.protobuf.Timestamp;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.littlehorse.sdk.common.proto.AssignUserTaskRunRequest;
+import io.littlehorse.sdk.common.proto.LittleHorseGrpc;
+import io.littlehorse.sdk.common.proto.SearchUserTaskRunRequest;
+import io.littlehorse.sdk.common.proto.UserTaskDefId;
+import io.littlehorse.sdk.common.proto.UserTaskRun;
+import io.littlehorse.sdk.common.proto.UserTaskRunId;
+import io.littlehorse.sdk.common.proto.UserTaskRunIdList;
+import io.littlehorse.sdk.common.proto.UserTaskRunStatus;
+import io.littlehorse.sdk.common.proto.WfRunId;
+import io.littlehorse.usertasks.models.responses.SimpleUserTaskRunDTO;
+import io.littlehorse.usertasks.read_model.UserTaskRunReadModelService;
+import io.littlehorse.usertasks.util.enums.UserTaskStatus;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class ClaimQueueServiceTest {
+    private static final String USER_GROUP = "call-center";
+    private static final Duration REFRESH_INTERVAL = Duration.ofSeconds(30);
+    private final LittleHorseGrpc.LittleHorseBlockingStub lhTenantClient = mock();
+    private final UserTaskRunReadModelService userTaskRunReadModelService = mock();
+    private final Clock clock = mock();
+    private final String tenantId = "my-tenant-id";
+    private final String userId = "some-user";
+    private final Set<String> userGroups = Set.of(USER_GROUP);
+
+    private final ClaimQueueService claimQueueService = new ClaimQueueService(
+            Map.of(tenantId, lhTenantClient), userTaskRunReadModelService, 10, REFRESH_INTERVAL, clock);
+
+    @BeforeEach
+    void init() {
+        when(clock.millis()).thenReturn(REFRESH_INTERVAL.toMillis());
+    }
+
+    @Test
+    void claimNextUserTask_shouldThrowForbiddenWhenUserDoesNotBelongToTheUserGroup() {
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> claimQueueService.claimNextUserTask(userId, Set.of("other-group"), USER_GROUP, tenantId));
+
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+        verifyNoInteractions(lhTenantClient);
+    }
+
+    @Test
+    void claimNextUserTask_shouldClaimTheOldestUnassignedUserTask() {
+        UserTaskRun oldest = buildUnassignedUserTaskRun();
+        UserTaskRun newest = buildUnassignedUserTaskRun();
+
+        whenSearchingReturn(oldest.getId(), newest.getId());
+        when(lhTenantClient.getUserTaskRun(oldest.getId())).thenReturn(oldest);
+
+        Optional<SimpleUserTaskRunDTO> claimed =
+                claimQueueService.claimNextUserTask(userId, userGroups, USER_GROUP, tenantId);
+
+        assertTrue(claimed.isPresent());
+        assertEquals(oldest.getId().getUserTaskGuid(), claimed.get().getId());
+        assertEquals(UserTaskStatus.ASSIGNED, claimed.get().getStatus());
+        assertEquals(userId, claimed.get().getUser().getId());
+
+        ArgumentCaptor<SearchUserTaskRunRequest> searchCaptor = ArgumentCaptor.forClass(SearchUserTaskRunRequest.class);
+        verify(lhTenantClient).searchUserTaskRun(searchCaptor.capture());
+        assertEquals(USER_GROUP, searchCaptor.getValue().getUserGroup());
+        assertEquals(UserTaskRunStatus.UNASSIGNED, searchCaptor.getValue().getStatus());
+
+        ArgumentCaptor<AssignUserTaskRunRequest> assignCaptor = ArgumentCaptor.forClass(AssignUserTaskRunRequest.class);
+        verify(lhTenantClient).assignUserTaskRun(assignCaptor.capture());
+        assertEquals(userId, assignCaptor.getValue().getUserId());
+        assertFalse(assignCaptor.getValue().getOverrideClaim());
+        verify(lhTenantClient, never()).getUserTaskRun(newest.getId());
+        verify(userTaskRunReadModelService).onUserTaskRunChanged(tenantId, oldest.getId());
+    }
+
+    @Test
+    void claimNextUserTask_shouldHandOutDifferentUserTasksWithoutSearchingAgain() {
+        UserTaskRun first = buildUnassignedUserTaskRun();
+        UserTaskRun second = buildUnassignedUserTaskRun();
+
+        whenSearchingReturn(first.getId(), second.getId());
+        when(lhTenantClient.getUserTaskRun(first.getId())).thenReturn(first);
+        when(lhTenantClient.getUserTaskRun(second.getId())).thenReturn(second);
+
+        var firstClaim = claimQueueService.claimNextUserTask("first-user", userGroups, USER_GROUP, tenantId);
+        var secondClaim = claimQueueService.claimNextUserTask("second-user", userGroups, USER_GROUP, tenantId);
+
+        assertEquals(first.getId().getUserTaskGuid(), firstClaim.orElseThrow().getId());
+        assertEquals(second.getId().getUserTaskGuid(), secondClaim.orElseThrow().getId());
+        verify(lhTenantClient, times(1)).searchUserTaskRun(any());
+    }
+
+    @Test
+    void claimNextUserTask_shouldSkipCandidatesThatWereClaimedSomewhereElse() {
+        UserTaskRun alreadyAssigned = buildUnassignedUserTaskRun().toBuilder()
+                .setStatus(UserTaskRunStatus.ASSIGNED)
+                .setUserId("someone-else")
+                .build();
+        UserTaskRun lostInKernel = buildUnassignedUserTaskRun();
+        UserTaskRun available = buildUnassignedUserTaskRun();
+
+        whenSearchingReturn(alreadyAssigned.getId(), lostInKernel.getId(), available.getId());
+        when(lhTenantClient.getUserTaskRun(alreadyAssigned.getId())).thenReturn(alreadyAssigned);
+        when(lhTenantClient.getUserTaskRun(lostInKernel.getId())).thenReturn(lostInKernel);
+        when(lhTenantClient.getUserTaskRun(available.getId())).thenReturn(available);
+        when(lhTenantClient.assignUserTaskRun(
+                        argThat(request -> request.getUserTaskRunId().equals(lostInKernel.getId()))))
+                .thenThrow(new StatusRuntimeException(Status.FAILED_PRECONDITION));
+
+        Optional<SimpleUserTaskRunDTO> claimed =
+                claimQueueService.claimNextUserTask(userId, userGroups, USER_GROUP, tenantId);
+
+        assertEquals(available.getId().getUserTaskGuid(), claimed.orElseThrow().getId());
+        verify(lhTenantClient, times(2)).assignUserTaskRun(any());
+    }
+
+    @Test
+    void claimNextUserTask_shouldReturnEmptyWhenThereIsNothingLeftToClaim() {
+        whenSearchingReturn();
+
+        Optional<SimpleUserTaskRunDTO> claimed =
+                claimQueueService.claimNextUserTask(userId, userGroups, USER_GROUP, tenantId);
+
+        assertTrue(claimed.isEmpty());
+        assertEquals(0, claimQueueService.queuedCandidatesCount(tenantId, USER_GROUP));
+        verify(lhTenantClient, times(1)).searchUserTaskRun(any());
+        verify(lhTenantClient, never()).assignUserTaskRun(any());
+    }
+
+    @Test
+    void claimNextUserTask_shouldRefillTheQueueOnceItGetsStale() {
+        UserTaskRun first = buildUnassignedUserTaskRun();
+        UserTaskRun second = buildUnassignedUserTaskRun();
+
+        whenSearchingReturn(first.getId(), second.getId());
+        when(lhTenantClient.getUserTaskRun(first.getId())).thenReturn(first);
+        when(lhTenantClient.getUserTaskRun(second.getId())).thenReturn(second);
+
+        claimQueueService.claimNextUserTask(userId, userGroups, USER_GROUP, tenantId);
+        when(clock.millis()).thenReturn(REFRESH_INTERVAL.multipliedBy(2).toMillis());
+        claimQueueService.claimNextUserTask(userId, userGroups, USER_GROUP, tenantId);
+
+        verify(lhTenantClient, times(2)).searchUserTaskRun(any());
+    }
+
+    @Test
+    void claimNextUserTask_shouldNotBlockOtherClaimersWhileTalkingToTheKernel() {
+        UserTaskRun first = buildUnassignedUserTaskRun();
+        UserTaskRun second = buildUnassignedUserTaskRun();
+
+        whenSearchingReturn(first.getId(), second.getId());
+        when(lhTenantClient.getUserTaskRun(second.getId())).thenReturn(second);
+        when(lhTenantClient.getUserTaskRun(first.getId())).thenAnswer(invocation -> {
+            // A claimer of the same UserGroup gets the next candidate while this one is still fetching the first
+            Optional<SimpleUserTaskRunDTO> concurrentClaim = CompletableFuture.supplyAsync(() ->
+                            claimQueueService.claimNextUserTask("other-user", userGroups, USER_GROUP, tenantId))
+                    .get(5, TimeUnit.SECONDS);
+            assertEquals(second.getId().getUserTaskGuid(), concurrentClaim.orElseThrow().getId());
+
+            return first;
+        });
+
+        Optional<SimpleUserTaskRunDTO> claimed =
+                claimQueueService.claimNextUserTask(userId, userGroups, USER_GROUP, tenantId);
+
+        assertEquals(first.getId().getUserTaskGuid(), claimed.orElseThrow().getId());
+        verify(lhTenantClient, times(1)).searchUserTaskRun(any());
+    }
+
+    @Test
+    void claimNextUserTask_shouldPutCandidateBackWhenAssigningFailsUnexpectedly() {
+        UserTaskRun candidate = buildUnassignedUserTaskRun();
+
+        whenSearchingReturn(candidate.getId());
+        when(lhTenantClient.getUserTaskRun(candidate.getId())).thenReturn(candidate);
+        when(lhTenantClient.assignUserTaskRun(any()))
+                .thenThrow(new StatusRuntimeException(Status.UNAVAILABLE))
+                .thenReturn(null);
+
+        assertThrows(
+                StatusRuntimeException.class,
+                () -> claimQueueService.claimNextUserTask(userId, userGroups, USER_GROUP, tenantId));
+        assertEquals(1, claimQueueService.queuedCandidatesCount(tenantId, USER_GROUP));
+
+        Optional<SimpleUserTaskRunDTO> claimed =
+                claimQueueService.claimNextUserTask(userId, userGroups, USER_GROUP, tenantId);
+
+        assertEquals(candidate.getId().getUserTaskGuid(), claimed.orElseThrow().getId());
+        verify(lhTenantClient, times(1)).searchUserTaskRun(any());
+    }
+
+    private void whenSearchingReturn(UserTaskRunId... userTaskRunIds) {
+        when(lhTenantClient.searchUserTaskRun(any()))
+                .thenReturn(UserTaskRunIdList.newBuilder()
+                        .addAllResults(List.of(userTaskRunIds))
+                        .build());
+    }
+
+    private UserTaskRun buildUnassignedUserTaskRun() {
+        return UserTaskRun.newBuilder()
+                .setId(UserTaskRunId.newBuilder()
+                        .setUserTaskGuid(UUID.randomUUID().toString())
+                        .setWfRunId(WfRunId.newBuilder()
+                                .setId(UUID.randomUUID().toString())
+                                .build())
+                        .build())
+                .setUserTaskDefId(UserTaskDefId.newBuilder().setName("answer-call").build())
+                .setUserGroup(USER_GROUP)
+                .setStatus(UserTaskRunStatus.UNASSIGNED)
+                .setScheduledTime(Timestamp.newBuilder().setSeconds(1L).build())
+                .build();
+    }
+}
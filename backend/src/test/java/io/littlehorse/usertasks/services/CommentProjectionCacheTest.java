@@ -0,0 +1,85 @@
+package io.littlehorse.usertasks.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.littlehorse.sdk.common.proto.UserTaskEvent;
+import io.littlehorse.sdk.common.proto.UserTaskRun;
+import io.littlehorse.sdk.common.proto.UserTaskRunId;
+import io.littlehorse.sdk.common.proto.WfRunId;
+import io.littlehorse.usertasks.models.responses.AuditEventDTO;
+import io.littlehorse.usertasks.models.responses.CommentListDTO;
+import io.littlehorse.usertasks.util.enums.UserTaskEventType;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class CommentProjectionCacheTest {
+    private final CommentProjectionCache commentProjectionCache = new CommentProjectionCache(100);
+    private final String tenantId = "my-tenant-id";
+
+    @Test
+    void projectionOf_shouldApplyOnlyTheEventsAddedSinceTheLastProjection() {
+        UserTaskRun userTaskRun = UserTaskRun.newBuilder()
+                .setId(UserTaskRunId.newBuilder()
+                        .setWfRunId(WfRunId.newBuilder().setId("my-wf-run"))
+                        .setUserTaskGuid("my-guid"))
+                .addEvents(commentAdded(1, "anne", "first"))
+                .addEvents(commentAdded(2, "bob", "second"))
+                .build();
+
+        CommentProjectionCache.CommentProjection projection =
+                commentProjectionCache.projectionOf(tenantId, userTaskRun);
+        AuditEventDTO firstComment = projection.page(null, null).getComments().getFirst();
+
+        UserTaskRun updatedUserTaskRun = userTaskRun.toBuilder()
+                .addEvents(UserTaskEvent.newBuilder()
+                        .setCommentEdited(UserTaskEvent.UTECommented.newBuilder()
+                                .setUserCommentId(2)
+                                .setUserId("bob")
+                                .setComment("second, edited")))
+                .addEvents(commentAdded(3, "carl", "third"))
+                .build();
+        CommentProjectionCache.CommentProjection updatedProjection =
+                commentProjectionCache.projectionOf(tenantId, updatedUserTaskRun);
+        List<AuditEventDTO> comments = updatedProjection.page(null, null).getComments();
+
+        assertSame(projection, updatedProjection);
+        assertEquals(3, comments.size());
+        // Comments without new events keep the AuditEventDTO that was converted the first time
+        assertSame(firstComment, comments.getFirst());
+        assertEquals(UserTaskEventType.COMMENT_EDITED, comments.get(1).getType());
+        assertEquals(Optional.of("carl"), updatedProjection.authorOf(3));
+        assertTrue(updatedProjection.authorOf(4).isEmpty());
+    }
+
+    @Test
+    void page_shouldResumeAfterTheCursorOfThePreviousPage() {
+        UserTaskRun userTaskRun = UserTaskRun.newBuilder()
+                .setId(UserTaskRunId.newBuilder()
+                        .setWfRunId(WfRunId.newBuilder().setId("my-wf-run"))
+                        .setUserTaskGuid("my-guid"))
+                .addEvents(commentAdded(1, "anne", "first"))
+                .addEvents(commentAdded(2, "anne", "second"))
+                .addEvents(commentAdded(3, "anne", "third"))
+                .build();
+        CommentProjectionCache.CommentProjection projection =
+                commentProjectionCache.projectionOf(tenantId, userTaskRun);
+
+        CommentListDTO firstPage = projection.page(null, 2);
+        CommentListDTO lastPage = projection.page(Integer.valueOf(firstPage.getNextCursor()), 2);
+
+        assertEquals(2, firstPage.getComments().size());
+        assertEquals("2", firstPage.getNextCursor());
+        assertEquals(1, lastPage.getComments().size());
+        assertNull(lastPage.getNextCursor());
+    }
+
+    private static UserTaskEvent commentAdded(int commentId, String userId, String comment) {
+        return UserTaskEvent.newBuilder()
+                .setCommentAdded(UserTaskEvent.UTECommented.newBuilder()
+                        .setUserCommentId(commentId)
+                        .setUserId(userId)
+                        .setComment(comment))
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package io.littlehorse.usertasks.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.littlehorse.usertasks.configurations.CustomIdentityProviderProperties;
+import io.littlehorse.usertasks.configurations.IdentityProviderConfigProperties;
+import io.littlehorse.usertasks.idp_adapters.IStandardIdentityProviderAdapter;
+import io.littlehorse.usertasks.idp_adapters.IdentityProviderVendor;
+import io.littlehorse.usertasks.models.common.UserGroupDTO;
+import io.littlehorse.usertasks.models.responses.UserGroupListDTO;
+import io.littlehorse.usertasks.util.enums.CustomUserIdClaim;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PrincipalServiceTest {
+    private static final String ISSUER = "http://localhost:8888/realms/default";
+    private static final long TOKEN_EXPIRATION_SECONDS = 1_000L;
+
+    private final IdentityProviderConfigProperties identityProviderConfigProperties = mock();
+    private final IStandardIdentityProviderAdapter identityProviderHandler = mock();
+    private final Clock clock = mock();
+    private final CustomIdentityProviderProperties properties = new CustomIdentityProviderProperties(
+            URI.create(ISSUER),
+            "preferred_username",
+            CustomUserIdClaim.EMAIL,
+            IdentityProviderVendor.KEYCLOAK,
+            "some-keycloak",
+            "default",
+            Set.of("user-tasks-bridge-client"),
+            "azp",
+            List.of());
+
+    private final PrincipalService principalService =
+            new PrincipalService(identityProviderConfigProperties, 2, Duration.ofHours(1), clock);
+
+    @BeforeEach
+    void init() {
+        when(clock.millis()).thenReturn(Duration.ofSeconds(TOKEN_EXPIRATION_SECONDS - 60).toMillis());
+        when(identityProviderConfigProperties.findOp(ISSUER, "default")).thenReturn(Optional.of(properties));
+        when(identityProviderConfigProperties.getIdentityProviderHandler(
+                        any(CustomIdentityProviderProperties.class), eq(false)))
+                .thenReturn(identityProviderHandler);
+        when(identityProviderHandler.getMyUserGroups(anyMap()))
+                .thenReturn(new UserGroupListDTO(Set.of(UserGroupDTO.builder()
+                        .id("some-group-id")
+                        .name("call-center")
+                        .build())));
+    }
+
+    @Test
+    void resolvePrincipal_shouldReadTheTenantAndTheConfiguredUserIdClaim() throws JsonProcessingException {
+        PrincipalService.Principal principal = principalService.resolvePrincipal(buildToken("someone@somedomain.com"));
+
+        assertEquals("default", principal.tenantId());
+        assertEquals("someone@somedomain.com", principal.userId());
+        assertEquals(properties, principal.identityProviderProperties());
+        assertEquals("some-subject", principal.subject());
+        assertEquals("someone", principal.username());
+    }
+
+    @Test
+    void resolveUserGroupNames_shouldOnlyResolveOnceWhileTheTokenIsValid() throws JsonProcessingException {
+        String accessToken = buildToken("someone@somedomain.com");
+
+        principalService.resolvePrincipal(accessToken);
+        Set<String> firstUserGroups = principalService.resolveUserGroupNames(accessToken);
+        Set<String> secondUserGroups = principalService.resolveUserGroupNames(accessToken);
+
+        assertEquals(Set.of("call-center"), firstUserGroups);
+        assertEquals(firstUserGroups, secondUserGroups);
+        verify(identityProviderConfigProperties, times(1)).findOp(ISSUER, "default");
+        verify(identityProviderHandler, times(1)).getMyUserGroups(anyMap());
+    }
+
+    @Test
+    void resolvePrincipal_shouldResolveAgainOnceTheTokenExpires() throws JsonProcessingException {
+        String accessToken = buildToken("someone@somedomain.com");
+
+        principalService.resolvePrincipal(accessToken);
+        when(clock.millis()).thenReturn(Duration.ofSeconds(TOKEN_EXPIRATION_SECONDS).toMillis());
+        principalService.resolvePrincipal(accessToken);
+
+        verify(identityProviderConfigProperties, times(2)).findOp(ISSUER, "default");
+    }
+
+    @Test
+    void resolvePrincipal_shouldEvictTheLeastRecentlyUsedPrincipalsWhenTheCacheIsFull()
+            throws JsonProcessingException {
+        String firstToken = buildToken("first@somedomain.com");
+
+        principalService.resolvePrincipal(firstToken);
+        principalService.resolvePrincipal(buildToken("second@somedomain.com"));
+        principalService.resolvePrincipal(buildToken("third@somedomain.com"));
+        principalService.resolvePrincipal(firstToken);
+
+        assertEquals(2, principalService.cachedPrincipalsCount());
+        verify(identityProviderConfigProperties, times(4)).findOp(ISSUER, "default");
+    }
+
+    private static String buildToken(String email) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String payload = "{\"exp\":" + TOKEN_EXPIRATION_SECONDS + ",\"iss\":\"" + ISSUER + "\",\"email\":\"" + email
+                + "\",\"sub\":\"some-subject\",\"preferred_username\":\"someone\",\"azp\":\"user-tasks-bridge-client\""
+                + ",\"allowed_tenant\":\"default\"}";
+
+        return encoder.encodeToString("{\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".signature";
+    }
+}
@@ -25,6 +25,7 @@ import java.net.URI;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -189,7 +190,7 @@ class TenantServiceTest {
                 getCustomIdentityProviderPropertiesWithOkta(fakeUri, configuredTenant);
 
         when(lhTenantClient.getTenant(any(TenantId.class))).thenReturn(Tenant.getDefaultInstance());
-        when(identityProviderConfigProperties.getOps()).thenReturn(List.of(properties));
+        when(identityProviderConfigProperties.findOp(any(), any())).thenReturn(Optional.of(properties));
 
         ResponseStatusException responseStatusException = assertThrows(
                 ResponseStatusException.class,
@@ -214,13 +215,13 @@ class TenantServiceTest {
         CustomIdentityProviderProperties properties =
                 getCustomIdentityProviderPropertiesWithOkta(fakeUri, configuredTenant);
 
-        when(identityProviderConfigProperties.getOps()).thenReturn(List.of(properties));
+        when(identityProviderConfigProperties.findOpsByTenant(configuredTenant)).thenReturn(List.of(properties));
 
         IdentityProviderListDTO providerConfigs = tenantService.getTenantIdentityProviderConfig(requestedTenant);
 
         assertTrue(providerConfigs.getProviders().isEmpty());
 
-        verify(identityProviderConfigProperties).getOps();
+        verify(identityProviderConfigProperties).findOpsByTenant(requestedTenant);
     }
 
     @Test
@@ -231,7 +232,7 @@ class TenantServiceTest {
         CustomIdentityProviderProperties properties =
                 getCustomIdentityProviderPropertiesWithKeycloak(fakeUri, configuredTenant);
 
-        when(identityProviderConfigProperties.getOps()).thenReturn(List.of(properties));
+        when(identityProviderConfigProperties.findOpsByTenant(requestedTenant)).thenReturn(List.of(properties));
 
         IdentityProviderListDTO providerConfigs = tenantService.getTenantIdentityProviderConfig(requestedTenant);
 
@@ -245,7 +246,7 @@ class TenantServiceTest {
                 IdentityProviderVendor.KEYCLOAK,
                 foundProvidersConfig.iterator().next().getVendor());
 
-        verify(identityProviderConfigProperties).getOps();
+        verify(identityProviderConfigProperties).findOpsByTenant(requestedTenant);
     }
 
     @Test
@@ -258,7 +259,7 @@ class TenantServiceTest {
         CustomIdentityProviderProperties properties =
                 getCustomIdentityProviderPropertiesWithOkta(fakeUri, configuredTenant);
 
-        when(identityProviderConfigProperties.getOps()).thenReturn(List.of(properties));
+        when(identityProviderConfigProperties.findOpsByTenant(requestedTenant)).thenReturn(List.of(properties));
 
         IdentityProviderListDTO providerConfigs = tenantService.getTenantIdentityProviderConfig(requestedTenant);
 
@@ -273,7 +274,7 @@ class TenantServiceTest {
         assertFalse(foundProvidersConfig.isEmpty());
         assertEquals(expectedTotalProviderConfigsCount, foundProvidersConfig.size());
 
-        verify(identityProviderConfigProperties).getOps();
+        verify(identityProviderConfigProperties).findOpsByTenant(requestedTenant);
     }
 
     @Test
@@ -289,7 +290,8 @@ class TenantServiceTest {
         CustomIdentityProviderProperties properties2 =
                 getCustomIdentityProviderPropertiesWithKeycloak(fakeKeycloakUri, configuredTenant);
 
-        when(identityProviderConfigProperties.getOps()).thenReturn(List.of(properties1, properties2));
+        when(identityProviderConfigProperties.findOpsByTenant(requestedTenant))
+                .thenReturn(List.of(properties1, properties2));
 
         IdentityProviderListDTO providerConfigs = tenantService.getTenantIdentityProviderConfig(requestedTenant);
 
@@ -314,7 +316,7 @@ class TenantServiceTest {
                                 && StringUtils.equalsIgnoreCase(keycloakIssuerURL, providerConfig.getIssuer()))
                         .count());
 
-        verify(identityProviderConfigProperties).getOps();
+        verify(identityProviderConfigProperties).findOpsByTenant(requestedTenant);
     }
 
     private CustomIdentityProviderProperties getCustomIdentityProviderPropertiesWithOkta(
@@ -16,13 +16,18 @@ import io.littlehorse.usertasks.exceptions.NotFoundException;
 import io.littlehorse.usertasks.models.common.UserTaskVariableValue;
 import io.littlehorse.usertasks.models.requests.AssignmentRequest;
 import io.littlehorse.usertasks.models.requests.CompleteUserTaskRequest;
+import io.littlehorse.usertasks.models.requests.UserTaskFieldset;
 import io.littlehorse.usertasks.models.requests.UserTaskRequestFilter;
+import io.littlehorse.usertasks.models.responses.AuditEventPage;
 import io.littlehorse.usertasks.models.responses.SimpleUserTaskRunDTO;
 import io.littlehorse.usertasks.models.responses.UserTaskDefListDTO;
 import io.littlehorse.usertasks.models.responses.UserTaskFieldDTO;
 import io.littlehorse.usertasks.models.responses.UserTaskRunListDTO;
+import io.littlehorse.usertasks.read_model.UserTaskRunReadModelService;
 import io.littlehorse.usertasks.util.DateUtil;
+import io.littlehorse.usertasks.util.enums.UserTaskEventType;
 import io.littlehorse.usertasks.util.enums.UserTaskFieldType;
+import io.littlehorse.usertasks.util.enums.UserTaskRunProperty;
 import io.littlehorse.usertasks.util.enums.UserTaskStatus;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -43,7 +48,10 @@ class UserTaskServiceTest {
     private final LittleHorseGrpc.LittleHorseBlockingStub lhTenantClient = mock();
     private final String tenantId = "my-tenant-id";
 
-    private final UserTaskService userTaskService = new UserTaskService(lhClients);
+    private final UserTaskRunReadModelService userTaskRunReadModelService = mock();
+
+    private final UserTaskService userTaskService =
+            new UserTaskService(lhClients, userTaskRunReadModelService, new CommentProjectionCache(100));
 
     @BeforeEach
     void init() {
@@ -1417,6 +1425,7 @@ class UserTaskServiceTest {
         assertTrue(actualServerRequest.hasUserId());
         assertEquals(assignedUserId, actualServerRequest.getUserId());
         assertFalse(actualServerRequest.hasUserGroup());
+        verify(userTaskRunReadModelService).onUserTaskRunChanged(tenantId, actualServerRequest.getUserTaskRunId());
     }
 
     @Test
@@ -2184,6 +2193,155 @@ class UserTaskServiceTest {
         verify(lhTenantClient, never()).assignUserTaskRun(any(AssignUserTaskRunRequest.class));
     }
 
+    @Test
+    void getUserTaskEvents_shouldPageThroughTheEventsOfTheRequestedTypesOldestFirst() {
+        var wfRunId = "some-existing-wf-run-id";
+        var userTaskRun = buildFakeUserTaskRun("first-user", wfRunId).toBuilder()
+                .addEvents(assignedEvent("first-user"))
+                .addEvents(UserTaskEvent.newBuilder()
+                        .setCommentAdded(UserTaskEvent.UTECommented.newBuilder()
+                                .setUserCommentId(1)
+                                .setUserId("first-user")
+                                .setComment("a comment")))
+                .addEvents(assignedEvent("second-user"))
+                .addEvents(assignedEvent("third-user"))
+                .build();
+
+        when(lhTenantClient.getUserTaskRun(any(UserTaskRunId.class))).thenReturn(userTaskRun);
+
+        AuditEventPage firstPage = userTaskService.getUserTaskEvents(
+                wfRunId, buildStringGuid(), tenantId, Set.of(UserTaskEventType.TASK_ASSIGNED), 2, null);
+        AuditEventPage lastPage = userTaskService.getUserTaskEvents(
+                wfRunId,
+                buildStringGuid(),
+                tenantId,
+                Set.of(UserTaskEventType.TASK_ASSIGNED),
+                2,
+                firstPage.getNextCursor());
+
+        assertEquals(
+                List.of("first-user", "second-user"),
+                firstPage.getServerEvents().stream()
+                        .map(event -> event.getAssigned().getNewUserId())
+                        .toList());
+        assertEquals("3", firstPage.getNextCursor());
+        assertEquals(1, lastPage.getServerEvents().size());
+        assertNull(lastPage.getNextCursor());
+    }
+
+    @Test
+    void getUserTaskEvents_shouldThrowBadRequestWhenCursorIsInvalid() {
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> userTaskService.getUserTaskEvents(
+                        "some-wf-run-id", buildStringGuid(), tenantId, Set.of(), 10, "not-a-cursor"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(lhTenantClient);
+    }
+
+    @Test
+    void getUserTaskDetails_shouldNotIncludeEventsForAdminsWhenTheyAreNotRequested() {
+        var wfRunId = "some-existing-wf-run-id";
+        var userTaskRun = buildFakeUserTaskRun("some-user", wfRunId).toBuilder()
+                .addEvents(assignedEvent("some-user"))
+                .build();
+
+        when(lhTenantClient.getUserTaskRun(any(UserTaskRunId.class))).thenReturn(userTaskRun);
+        when(lhTenantClient.getUserTaskDef(any(UserTaskDefId.class)))
+                .thenReturn(buildFakeUserTaskDef(userTaskRun.getUserTaskDefId().getName()));
+
+        var result = userTaskService.getUserTaskDetails(
+                wfRunId,
+                buildStringGuid(),
+                tenantId,
+                null,
+                null,
+                true,
+                UserTaskFieldset.ALL.without(UserTaskRunProperty.EVENTS));
+
+        assertTrue(result.isPresent());
+        assertNull(result.get().getEvents());
+    }
+
+    @Test
+    void getUserTaskDetails_shouldKeepIdenticalEventsInTheOrderInWhichTheyHappened() {
+        var wfRunId = "some-existing-wf-run-id";
+        var userTaskRun = buildFakeUserTaskRun("some-user", wfRunId).toBuilder()
+                .addEvents(assignedEvent("some-user"))
+                .addEvents(assignedEvent("some-user"))
+                .addEvents(assignedEvent("another-user"))
+                .build();
+
+        when(lhTenantClient.getUserTaskRun(any(UserTaskRunId.class))).thenReturn(userTaskRun);
+
+        var result = userTaskService.getUserTaskDetails(
+                wfRunId,
+                buildStringGuid(),
+                tenantId,
+                null,
+                null,
+                true,
+                UserTaskFieldset.parse(List.of("events"), UserTaskFieldset.ADMIN_DETAIL_PROPERTIES));
+
+        assertTrue(result.isPresent());
+        assertEquals(3, result.get().getEvents().size());
+        assertEquals(result.get().getEvents().get(0), result.get().getEvents().get(1));
+        assertNotEquals(result.get().getEvents().get(1), result.get().getEvents().get(2));
+    }
+
+    @Test
+    void getTasks_shouldNotFetchUserTaskRunsWhenOnlyIdsAreRequested() {
+        var wfRunId = UUID.randomUUID().toString();
+        var userTaskRunId = buildFakeUserTaskRunId(wfRunId);
+
+        when(lhTenantClient.searchUserTaskRun(any(SearchUserTaskRunRequest.class)))
+                .thenReturn(UserTaskRunIdList.newBuilder()
+                        .addResults(userTaskRunId)
+                        .build());
+
+        UserTaskRunListDTO response = userTaskService.getTasks(
+                tenantId, null, null, null, RESULTS_LIMIT, null, true, UserTaskFieldset.IDS_ONLY);
+
+        assertEquals(
+                Set.of(SimpleUserTaskRunDTO.builder()
+                        .id(userTaskRunId.getUserTaskGuid())
+                        .wfRunId(wfRunId)
+                        .build()),
+                response.getUserTasks());
+        verify(lhTenantClient, never()).getUserTaskRun(any(UserTaskRunId.class));
+    }
+
+    @Test
+    void getUserTaskDetails_shouldNotFetchUserTaskDefWhenItsFieldsAreNotRequested() {
+        var userId = "some-user";
+        var wfRunId = "some-existing-wf-run-id";
+        var userTaskRun = buildFakeUserTaskRun(userId, wfRunId);
+
+        when(lhTenantClient.getUserTaskRun(any(UserTaskRunId.class))).thenReturn(userTaskRun);
+
+        var result = userTaskService.getUserTaskDetails(
+                wfRunId,
+                buildStringGuid(),
+                tenantId,
+                userId,
+                null,
+                false,
+                UserTaskFieldset.parse(List.of("status"), UserTaskFieldset.DETAIL_PROPERTIES));
+
+        assertTrue(result.isPresent());
+        assertEquals(UserTaskStatus.ASSIGNED, result.get().getStatus());
+        assertNull(result.get().getUser());
+        assertNull(result.get().getFields());
+        verify(lhTenantClient, never()).getUserTaskDef(any(UserTaskDefId.class));
+    }
+
+    private static UserTaskEvent assignedEvent(String newUserId) {
+        return UserTaskEvent.newBuilder()
+                .setAssigned(UserTaskEvent.UTEAssigned.newBuilder().setNewUserId(newUserId))
+                .build();
+    }
+
     private static String buildStringGuid() {
         return UUID.randomUUID().toString().replace("-", "");
     }
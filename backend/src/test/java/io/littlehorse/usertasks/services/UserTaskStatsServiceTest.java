@@ -0,0 +1,187 @@
+package io.littlehorse.usertasks.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.google.protobuf.ByteString;
+import io.littlehorse.sdk.common.proto.LittleHorseGrpc;
+import io.littlehorse.sdk.common.proto.SearchUserTaskRunRequest;
+import io.littlehorse.sdk.common.proto.UserTaskDefId;
+import io.littlehorse.sdk.common.proto.UserTaskDefIdList;
+import io.littlehorse.sdk.common.proto.UserTaskRunId;
+import io.littlehorse.sdk.common.proto.UserTaskRunIdList;
+import io.littlehorse.sdk.common.proto.UserTaskRunStatus;
+import io.littlehorse.sdk.common.proto.WfRunId;
+import io.littlehorse.usertasks.models.responses.UserTaskStatsDTO;
+import io.littlehorse.usertasks.read_model.UserTaskRunCounts;
+import io.littlehorse.usertasks.read_model.UserTaskRunReadModelService;
+import io.littlehorse.usertasks.util.enums.UserTaskStatus;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UserTaskStatsServiceTest {
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(10);
+    private final LittleHorseGrpc.LittleHorseBlockingStub lhTenantClient = mock();
+    private final UserTaskRunReadModelService userTaskRunReadModelService = mock();
+    private final Clock clock = mock();
+    private final String tenantId = "my-tenant-id";
+
+    private final UserTaskStatsService userTaskStatsService = new UserTaskStatsService(
+            Map.of(tenantId, lhTenantClient), userTaskRunReadModelService, 2, MAX_STALENESS, clock);
+
+    @BeforeEach
+    void init() {
+        when(clock.millis()).thenReturn(0L);
+        when(userTaskRunReadModelService.counts(tenantId)).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void getStats_shouldCountIdOnlySearchPagesWhenReadModelIsNotAvailable() {
+        mockKernelSearches();
+
+        UserTaskStatsDTO stats = userTaskStatsService.getStats(tenantId);
+
+        assertEquals(4, stats.getTotal());
+        assertEquals(
+                Map.of(
+                        UserTaskStatus.UNASSIGNED,
+                        3L,
+                        UserTaskStatus.ASSIGNED,
+                        1L,
+                        UserTaskStatus.DONE,
+                        0L,
+                        UserTaskStatus.CANCELLED,
+                        0L),
+                stats.getCountsByStatus());
+        assertEquals(Map.of("approve", 4L), stats.getCountsByUserTaskDefName());
+        assertNull(stats.getCountsByUserGroup());
+        verify(lhTenantClient, never()).getUserTaskRun(any());
+    }
+
+    @Test
+    void getStats_shouldServeCachedCountsUntilTheyAreTooStale() {
+        mockKernelSearches();
+
+        userTaskStatsService.getStats(tenantId);
+        when(clock.millis()).thenReturn(MAX_STALENESS.toMillis());
+        userTaskStatsService.getStats(tenantId);
+
+        verify(lhTenantClient, times(1)).searchUserTaskDef(any());
+
+        when(clock.millis()).thenReturn(MAX_STALENESS.toMillis() + 1);
+        userTaskStatsService.getStats(tenantId);
+
+        verify(lhTenantClient, times(2)).searchUserTaskDef(any());
+    }
+
+    @Test
+    void getStats_shouldShareOneRecountBetweenConcurrentCallers() throws Exception {
+        mockKernelSearches();
+        CountDownLatch recountStarted = new CountDownLatch(1);
+        CountDownLatch releaseRecount = new CountDownLatch(1);
+
+        when(lhTenantClient.searchUserTaskDef(any())).thenAnswer(invocation -> {
+            recountStarted.countDown();
+            releaseRecount.await();
+            return userTaskDefs();
+        });
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(2)) {
+            Future<UserTaskStatsDTO> firstCaller = callers.submit(() -> userTaskStatsService.getStats(tenantId));
+            assertTrue(recountStarted.await(5, TimeUnit.SECONDS));
+            Future<UserTaskStatsDTO> secondCaller = callers.submit(() -> userTaskStatsService.getStats(tenantId));
+
+            releaseRecount.countDown();
+
+            assertSame(firstCaller.get(5, TimeUnit.SECONDS), secondCaller.get(5, TimeUnit.SECONDS));
+        }
+
+        verify(lhTenantClient, times(1)).searchUserTaskDef(any());
+    }
+
+    @Test
+    void refreshAll_shouldOnlyRecountTenantsWhoseCountsWereReadSinceTheLastCount() {
+        mockKernelSearches();
+
+        userTaskStatsService.getStats(tenantId);
+        when(clock.millis()).thenReturn(1L);
+        userTaskStatsService.refreshAll();
+
+        verify(lhTenantClient, timeout(5000).times(2)).searchUserTaskDef(any());
+
+        when(clock.millis()).thenReturn(2L);
+        userTaskStatsService.refreshAll();
+
+        verify(lhTenantClient, after(200).times(2)).searchUserTaskDef(any());
+    }
+
+    @Test
+    void getStats_shouldUseReadModelCountsWhenAvailable() {
+        when(userTaskRunReadModelService.counts(tenantId))
+                .thenReturn(Optional.of(new UserTaskRunCounts(
+                        2,
+                        Map.of(UserTaskStatus.ASSIGNED, 2L),
+                        Map.of("approve", 2L),
+                        Map.of("sales", 1L))));
+
+        UserTaskStatsDTO stats = userTaskStatsService.getStats(tenantId);
+
+        assertEquals(2, stats.getTotal());
+        assertEquals(Map.of("sales", 1L), stats.getCountsByUserGroup());
+        verifyNoInteractions(lhTenantClient);
+    }
+
+    private void mockKernelSearches() {
+        ByteString secondPage = ByteString.copyFromUtf8("second-page");
+
+        when(lhTenantClient.searchUserTaskRun(any())).thenAnswer(invocation -> {
+            SearchUserTaskRunRequest request = invocation.getArgument(0);
+
+            if (request.hasStatus() && request.getStatus() == UserTaskRunStatus.UNASSIGNED) {
+                return request.hasBookmark() ? idList(1) : idList(2).toBuilder().setBookmark(secondPage).build();
+            }
+
+            if (request.hasStatus() && request.getStatus() == UserTaskRunStatus.ASSIGNED) {
+                return idList(1);
+            }
+
+            if (request.hasUserTaskDefName() && request.getUserTaskDefName().equals("approve")) {
+                return request.hasBookmark() ? idList(2) : idList(2).toBuilder().setBookmark(secondPage).build();
+            }
+
+            return idList(0);
+        });
+        when(lhTenantClient.searchUserTaskDef(any())).thenReturn(userTaskDefs());
+    }
+
+    private static UserTaskDefIdList userTaskDefs() {
+        return UserTaskDefIdList.newBuilder()
+                .addResults(UserTaskDefId.newBuilder().setName("approve").setVersion(0))
+                .addResults(UserTaskDefId.newBuilder().setName("approve").setVersion(1))
+                .addResults(UserTaskDefId.newBuilder().setName("review").setVersion(0))
+                .build();
+    }
+
+    private static UserTaskRunIdList idList(int size) {
+        var idList = UserTaskRunIdList.newBuilder();
+
+        for (int i = 0; i < size; i++) {
+            idList.addResults(UserTaskRunId.newBuilder()
+                    .setWfRunId(WfRunId.newBuilder().setId(UUID.randomUUID().toString()))
+                    .setUserTaskGuid(UUID.randomUUID().toString()));
+        }
+
+        return idList.build();
+    }
+}
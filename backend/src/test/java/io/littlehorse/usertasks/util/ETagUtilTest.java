@@ -0,0 +1,100 @@
+package io.littlehorse.usertasks.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.littlehorse.sdk.common.proto.UserTaskEvent;
+import io.littlehorse.sdk.common.proto.UserTaskRun;
+import io.littlehorse.sdk.common.proto.UserTaskRunId;
+import io.littlehorse.sdk.common.proto.UserTaskRunStatus;
+import io.littlehorse.sdk.common.proto.WfRunId;
+import io.littlehorse.usertasks.models.common.UserDTO;
+import io.littlehorse.usertasks.models.common.UserGroupDTO;
+import io.littlehorse.usertasks.models.requests.UserTaskFieldset;
+import io.littlehorse.usertasks.models.responses.SimpleUserTaskRunDTO;
+import io.littlehorse.usertasks.models.responses.UserTaskRunListDTO;
+import io.littlehorse.usertasks.util.enums.UserTaskRunProperty;
+import io.littlehorse.usertasks.util.enums.UserTaskStatus;
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ETagUtilTest {
+    private final UserTaskRun userTaskRun = UserTaskRun.newBuilder()
+            .setId(UserTaskRunId.newBuilder()
+                    .setWfRunId(WfRunId.newBuilder().setId("some-wf-run-id"))
+                    .setUserTaskGuid("some-guid"))
+            .setStatus(UserTaskRunStatus.ASSIGNED)
+            .setUserId("some-user")
+            .build();
+
+    @Test
+    void weakETagOf_shouldOnlyChangeWhenTheUserTaskRunOrTheRequestedPropertiesChange() {
+        String etag = ETagUtil.weakETagOf(userTaskRun, UserTaskFieldset.ALL);
+
+        assertTrue(etag.startsWith("W/\"") && etag.endsWith("\""));
+        assertEquals(etag, ETagUtil.weakETagOf(userTaskRun.toBuilder().build(), UserTaskFieldset.ALL));
+        assertNotEquals(
+                etag,
+                ETagUtil.weakETagOf(
+                        userTaskRun.toBuilder()
+                                .addEvents(UserTaskEvent.getDefaultInstance())
+                                .build(),
+                        UserTaskFieldset.ALL));
+        assertNotEquals(
+                etag,
+                ETagUtil.weakETagOf(
+                        userTaskRun.toBuilder().setUserId("another-user").build(), UserTaskFieldset.ALL));
+        assertNotEquals(
+                etag,
+                ETagUtil.weakETagOf(userTaskRun, UserTaskFieldset.ALL.without(UserTaskRunProperty.EVENTS)));
+    }
+
+    @Test
+    void weakETagOf_shouldIgnoreTheOrderOfTheUserTaskRunsButNotTheirStatus() {
+        SimpleUserTaskRunDTO first = buildUserTaskRun("first-guid", UserTaskStatus.ASSIGNED);
+        SimpleUserTaskRunDTO second = buildUserTaskRun("second-guid", UserTaskStatus.UNASSIGNED);
+
+        String etag = ETagUtil.weakETagOf(buildPage(List.of(first, second)));
+
+        assertTrue(etag.startsWith("W/\""));
+        assertEquals(etag, ETagUtil.weakETagOf(buildPage(List.of(second, first))));
+        assertNotEquals(
+                etag,
+                ETagUtil.weakETagOf(
+                        buildPage(List.of(first, buildUserTaskRun("second-guid", UserTaskStatus.ASSIGNED)))));
+    }
+
+    @Test
+    void weakETagOf_shouldChangeWhenTheAssignmentOfAUserTaskRunChanges() {
+        SimpleUserTaskRunDTO assigned = buildUserTaskRun("some-guid", UserTaskStatus.ASSIGNED);
+        assigned.setUser(UserDTO.builder().id("some-user").build());
+        assigned.setUserGroup(UserGroupDTO.builder().id("some-group").build());
+        SimpleUserTaskRunDTO reassigned = buildUserTaskRun("some-guid", UserTaskStatus.ASSIGNED);
+        reassigned.setUser(UserDTO.builder().id("another-user").build());
+        reassigned.setUserGroup(UserGroupDTO.builder().id("some-group").build());
+        SimpleUserTaskRunDTO regrouped = buildUserTaskRun("some-guid", UserTaskStatus.ASSIGNED);
+        regrouped.setUser(UserDTO.builder().id("some-user").build());
+        regrouped.setUserGroup(UserGroupDTO.builder().name("another-group").build());
+
+        String etag = ETagUtil.weakETagOf(buildPage(List.of(assigned)));
+
+        assertNotEquals(etag, ETagUtil.weakETagOf(buildPage(List.of(reassigned))));
+        assertNotEquals(etag, ETagUtil.weakETagOf(buildPage(List.of(regrouped))));
+    }
+
+    private static SimpleUserTaskRunDTO buildUserTaskRun(String guid, UserTaskStatus status) {
+        return SimpleUserTaskRunDTO.builder()
+                .id(guid)
+                .wfRunId("some-wf-run-id")
+                .status(status)
+                .build();
+    }
+
+    private static UserTaskRunListDTO buildPage(List<SimpleUserTaskRunDTO> userTasks) {
+        return UserTaskRunListDTO.builder()
+                .userTasks(new LinkedHashSet<>(userTasks))
+                .build();
+    }
+}
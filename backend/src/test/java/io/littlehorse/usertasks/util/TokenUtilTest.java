@@ -0,0 +1,63 @@
+package io.littlehorse.usertasks.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class TokenUtilTest {
+    private static final String PAYLOAD = "{\"exp\":1733869165,\"iss\":\"http://localhost:8888/realms/default\","
+            + "\"realm_access\":{\"roles\":[\"offline_access\",\"lh-user-tasks-admin\"]},\"sub\":\"some-user-id\","
+            + "\"azp\":\"user-tasks-bridge-client\",\"email_verified\":true,\"allowed_tenant\":\"default\"}";
+
+    private final String accessToken = buildToken(PAYLOAD);
+
+    @Test
+    void getTokenClaims_shouldReturnTheRequestedClaimsWithTheSameValuesAsTheFullClaimsMap()
+            throws JsonProcessingException {
+        Map<String, Object> allClaims = TokenUtil.getTokenClaims(accessToken);
+        Set<String> requestedClaims = Set.of("iss", "exp", "realm_access", "email_verified", "allowed_tenant");
+
+        Map<String, Object> foundClaims = TokenUtil.getTokenClaims(accessToken, requestedClaims);
+
+        assertEquals(requestedClaims, foundClaims.keySet());
+        requestedClaims.forEach(claim -> assertEquals(allClaims.get(claim), foundClaims.get(claim)));
+    }
+
+    @Test
+    void getTokenClaims_shouldLeaveOutRequestedClaimsThatAreNotInTheToken() throws JsonProcessingException {
+        Map<String, Object> foundClaims = TokenUtil.getTokenClaims(accessToken, Set.of("sub", "preferred_username"));
+
+        assertEquals("some-user-id", foundClaims.get("sub"));
+        assertFalse(foundClaims.containsKey("preferred_username"));
+    }
+
+    @Test
+    void getTokenClaim_shouldReturnNullWhenTheClaimIsNotInTheToken() throws JsonProcessingException {
+        assertEquals("user-tasks-bridge-client", TokenUtil.getTokenClaim(accessToken, "azp"));
+        assertNull(TokenUtil.getTokenClaim(accessToken, "email"));
+    }
+
+    @Test
+    void getTokenClaims_shouldThrowExceptionWhenPayloadIsNotAJsonObject() {
+        String tokenWithInvalidPayload = buildToken("[\"not-an-object\"]");
+
+        assertThrows(
+                JsonProcessingException.class,
+                () -> TokenUtil.getTokenClaims(tokenWithInvalidPayload, Set.of("iss")));
+    }
+
+    private static String buildToken(String payload) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+        return encoder.encodeToString("{\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".signature";
+    }
+}